@@ -0,0 +1,8 @@
+package com.aiservice.domain.event;
+
+public record ProductPostCountersChangedEvent(
+	String postId,
+	Long likedCount,
+	Long viewCount,
+	Long counterVersion) {
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.aiservice.application.RagService;
 import com.aiservice.application.command.CreateProductVectorCommand;
+import com.aiservice.domain.event.ProductPostCountersChangedEvent;
 import com.aiservice.domain.event.ProductPostDeletedEvent;
 import com.aiservice.domain.event.ProductPostUpsertedEvent;
 
@@ -52,4 +53,12 @@ public class ProductCommandEventListener {
 			log.error("상품 벡터 삭제 실패: {}", event.postId(), e);
 		}
 	}
+
+	/**
+	 * 좋아요/조회수 변경은 벡터에 영향 없음
+	 */
+	@KafkaHandler
+	public void handleProductCountersChanged(@Payload ProductPostCountersChangedEvent event) {
+		log.debug("ProductPostCountersChangedEvent 무시: {}", event.postId());
+	}
 }
@@ -0,0 +1,14 @@
+package com.common.event.productPost;
+
+/**
+ * 좋아요/조회수만 변경된 상품 이벤트 (검색 인덱스에 두 필드만 부분 업데이트)
+ * - 변경량이 아니라 발행 시점의 DB 값이므로 여러 번 반영되어도 결과 동일
+ * - counterVersion은 두 값과 같은 행에서 읽은 버전 (좋아요/조회수 UPDATE마다 증가), 검색 인덱스는 더 큰 버전만 반영
+ */
+public record ProductPostCountersChangedEvent(
+	String postId,
+	Long likedCount,
+	Long viewCount,
+	Long counterVersion
+) {
+}
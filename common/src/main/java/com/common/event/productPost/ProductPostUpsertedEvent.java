@@ -19,6 +19,7 @@ public record ProductPostUpsertedEvent(
 	Long price,
 	Long likedCount,
 	Long viewCount,
+	Long counterVersion,
 	String status,
 	String tradeStatus,
 	String deleteStatus,
@@ -12,6 +12,7 @@ public enum ProductPostExceptionCode {
     TOO_MANY_IMAGES(400, "이미지는 최대 10개까지 등록 가능합니다."),
 	FAVORITE_ALREADY_EXISTS(400, "이미 좋아요한 글입니다."),
 	INVALID_PRICE_RANGE(400, "최소 가격은 최대 가격보다 클 수 없습니다."),
+	INVALID_SEARCH_CURSOR(400, "검색 커서가 올바르지 않거나 만료되었습니다. 처음부터 다시 조회해주세요."),
 
     // ===== 401 Unauthorized =====
     UNAUTHORIZED(401, "로그인된 회원만 이용 가능합니다."),
@@ -31,6 +32,7 @@ public enum ProductPostExceptionCode {
     // ===== 409 Conflict =====
     ALREADY_DELETED(409, "이미 삭제된 상품입니다."),
     CANNOT_UPDATE_SOLDOUT(409, "판매 완료된 상품은 수정할 수 없습니다."),
+    REINDEX_IN_PROGRESS(409, "상품 검색 인덱스 재색인이 이미 진행 중입니다."),
 
     // ==== 503 Service_Unavailable ====
     EXTERNAL_API_ERROR(503, "외부 서비스와의 통신 중 오류가 발생했습니다");
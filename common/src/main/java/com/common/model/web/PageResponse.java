@@ -1,10 +1,21 @@
 package com.common.model.web;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 페이지 응답 DTO
+ * - totalCount: 전체 건수 표시값, 상한까지만 센 경우 "10000+" 형태 (건수를 제공하지 않는 API는 응답에서 생략)
+ */
 public record PageResponse<T>(
         int pageNum,
         int totalPages,
         int pageSize,
         boolean hasNext,
-        T contents
+        T contents,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String totalCount
 ) {
-}
\ No newline at end of file
+    public PageResponse(int pageNum, int totalPages, int pageSize, boolean hasNext, T contents) {
+        this(pageNum, totalPages, pageSize, hasNext, contents, null);
+    }
+}
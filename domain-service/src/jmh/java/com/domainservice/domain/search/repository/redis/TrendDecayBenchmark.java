@@ -0,0 +1,140 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.domainservice.domain.search.configuration.RedisLuaConfiguration;
+
+/**
+ * 실시간 트렌드 ZSET 감쇠 스크립트 배치 1회 실행 시간 비교 (결과가 같은지는 TrendDecayScriptTest에서 확인)
+ * - eager: update_zset_with_decay.lua (배치마다 전체 멤버 재계산)
+ * - lazy : update_zset_with_lazy_decay.lua (변경된 검색어만 갱신)
+ * - 실행: ./gradlew jmh -Pjmh.includes=TrendDecayBenchmark
+ *   (로컬 Redis 필요, 접속 대상은 -Predis.host / -Predis.port로 변경, includes 없이 실행하면 다른 벤치마크도 함께 실행됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrendDecayBenchmark {
+
+	private static final String EAGER_KEY = "search:benchmark:eager";
+	private static final String LAZY_KEY = "search:benchmark:lazy";
+	private static final String LAZY_EPOCH_KEY = LAZY_KEY + ":epoch";
+
+	private static final double TAU_MILLIS = 20 * 60 * 1000.0;
+	// 호출마다 감쇠가 누적되어 멤버가 epsilon 아래로 사라지지 않도록 배치 간격을 짧게 둠 (감쇠 비용은 간격과 무관)
+	private static final long INTERVAL_MILLIS = 1000L;
+	private static final double EPSILON = 0.01;
+	private static final int CHANGED_PER_BATCH = 1_000;
+	private static final int PREPARED_BATCHES = 64;
+
+	@Param({"10000", "100000"})
+	private int memberCount;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisScript<Long> updateZSetWithDecayScript;
+	private RedisScript<Long> updateZSetWithLazyDecayScript;
+
+	private List<List<String>> batches;
+	private int nextBatch;
+	private long simulatedNow;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		connectionFactory = new LettuceConnectionFactory(
+			System.getProperty("redis.host", "localhost"),
+			Integer.getInteger("redis.port", 6379)
+		);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+
+		RedisLuaConfiguration redisLuaConfiguration = new RedisLuaConfiguration();
+		updateZSetWithDecayScript = redisLuaConfiguration.updateZSetWithDecayScript();
+		updateZSetWithLazyDecayScript = redisLuaConfiguration.updateZSetWithLazyDecayScript();
+
+		// 측정 구간에서 난수/문자열 생성 비용을 빼기 위해 증가분을 미리 만들어 순환 사용
+		Random random = new Random(42L);
+		batches = new ArrayList<>(PREPARED_BATCHES);
+		for (int batch = 0; batch < PREPARED_BATCHES; batch++) {
+			List<String> increments = new ArrayList<>(CHANGED_PER_BATCH * 2);
+			for (int i = 0; i < CHANGED_PER_BATCH; i++) {
+				increments.add("keyword-" + random.nextInt(memberCount));
+				increments.add(String.valueOf(1 + random.nextInt(50)));
+			}
+			batches.add(increments);
+		}
+	}
+
+	// iteration마다 같은 크기의 ZSET에서 시작
+	@Setup(Level.Iteration)
+	public void resetZSets() {
+		redisTemplate.delete(List.of(EAGER_KEY, LAZY_KEY, LAZY_EPOCH_KEY));
+		seed(EAGER_KEY);
+		seed(LAZY_KEY);
+		simulatedNow = System.currentTimeMillis();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		redisTemplate.delete(List.of(EAGER_KEY, LAZY_KEY, LAZY_EPOCH_KEY));
+		connectionFactory.destroy();
+	}
+
+	@Benchmark
+	public Long eagerDecay() {
+		List<String> args = new ArrayList<>(List.of(
+			String.valueOf(TAU_MILLIS), String.valueOf(INTERVAL_MILLIS), String.valueOf(EPSILON)));
+		args.addAll(nextIncrements());
+		return redisTemplate.execute(updateZSetWithDecayScript, List.of(EAGER_KEY), args.toArray());
+	}
+
+	@Benchmark
+	public Long lazyDecay() {
+		simulatedNow += INTERVAL_MILLIS;
+		List<String> args = new ArrayList<>(List.of(
+			String.valueOf(TAU_MILLIS), String.valueOf(simulatedNow), String.valueOf(EPSILON), "20.0"));
+		args.addAll(nextIncrements());
+		return redisTemplate.execute(updateZSetWithLazyDecayScript, List.of(LAZY_KEY, LAZY_EPOCH_KEY), args.toArray());
+	}
+
+	private List<String> nextIncrements() {
+		List<String> increments = batches.get(nextBatch);
+		nextBatch = (nextBatch + 1) % PREPARED_BATCHES;
+		return increments;
+	}
+
+	private void seed(String key) {
+		Set<TypedTuple<String>> tuples = new HashSet<>();
+		for (int i = 0; i < memberCount; i++) {
+			tuples.add(TypedTuple.of("keyword-" + i, 1.0 + (i % 100)));
+		}
+		redisTemplate.opsForZSet().add(key, tuples);
+	}
+}
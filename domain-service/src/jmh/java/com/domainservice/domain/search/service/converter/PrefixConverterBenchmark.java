@@ -0,0 +1,83 @@
+package com.domainservice.domain.search.service.converter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * PrefixConverter 변환 성능 비교 (기존 HashMap 구현 vs 테이블 기반 구현)
+ * - 실행: ./gradlew jmh -Pjmh.includes=PrefixConverterBenchmark
+ *   (includes 없이 실행하면 로컬 Redis가 필요한 TrendDecayBenchmark도 함께 실행됨)
+ * - 입력: 자동완성 prefix와 비슷한 길이(2 ~ 8자)의 임의 한글/영문 혼합 문자열
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefixConverterBenchmark {
+
+	private static final int INPUT_COUNT = 1024;
+
+	private String[] koreanWords;
+	private String[] qwertyInputs;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42L);
+		koreanWords = new String[INPUT_COUNT];
+		qwertyInputs = new String[INPUT_COUNT];
+
+		for (int n = 0; n < INPUT_COUNT; n++) {
+			StringBuilder word = new StringBuilder();
+			int length = 2 + random.nextInt(7);
+			for (int i = 0; i < length; i++) {
+				word.append(random.nextInt(10) == 0
+					? (char)('a' + random.nextInt(26))
+					: (char)(0xAC00 + random.nextInt(11_172)));
+			}
+			koreanWords[n] = word.toString();
+			qwertyInputs[n] = PrefixConverter.convertToQwertyInput(koreanWords[n]);
+		}
+	}
+
+	@Benchmark
+	public void legacyToQwerty(Blackhole blackhole) {
+		for (String word : koreanWords) {
+			blackhole.consume(LegacyPrefixConverter.convertToQwertyInput(word));
+		}
+	}
+
+	@Benchmark
+	public void tableToQwerty(Blackhole blackhole) {
+		for (String word : koreanWords) {
+			blackhole.consume(PrefixConverter.convertToQwertyInput(word));
+		}
+	}
+
+	@Benchmark
+	public void legacyToKorean(Blackhole blackhole) {
+		for (String input : qwertyInputs) {
+			blackhole.consume(LegacyPrefixConverter.convertToKoreanWord(input));
+		}
+	}
+
+	@Benchmark
+	public void tableToKorean(Blackhole blackhole) {
+		for (String input : qwertyInputs) {
+			blackhole.consume(PrefixConverter.convertToKoreanWord(input));
+		}
+	}
+}
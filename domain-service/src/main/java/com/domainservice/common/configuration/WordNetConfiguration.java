@@ -2,6 +2,7 @@ package com.domainservice.common.configuration;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import net.sf.extjwnl.JWNLException;
 import net.sf.extjwnl.dictionary.Dictionary;
@@ -9,6 +10,8 @@ import net.sf.extjwnl.dictionary.Dictionary;
 @Configuration
 public class WordNetConfiguration {
 
+	// 영단어 사전 스냅샷이 없을 때만 로드 (PrefixAnalyzer 참고)
+	@Lazy
 	@Bean
 	public Dictionary wordNetDictionary() throws JWNLException {
 		return Dictionary.getDefaultResourceInstance();
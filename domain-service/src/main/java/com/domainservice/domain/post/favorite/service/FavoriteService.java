@@ -16,6 +16,7 @@ import com.domainservice.domain.post.favorite.model.dto.FavoriteProductResponse;
 import com.domainservice.domain.post.favorite.model.dto.FavoriteStatusResponse;
 import com.domainservice.domain.post.favorite.model.entity.FavoriteProduct;
 import com.domainservice.domain.post.favorite.repository.FavoriteRepository;
+import com.domainservice.domain.post.kafka.handler.ProductPostCounterEventBuffer;
 import com.domainservice.domain.post.post.exception.ProductPostException;
 import com.domainservice.domain.post.post.model.entity.ProductPost;
 import com.domainservice.domain.post.post.repository.ProductPostRepository;
@@ -32,6 +33,7 @@ public class FavoriteService {
 
 	private final FavoriteRepository favoriteRepository;
 	private final ProductPostRepository productPostRepository;
+	private final ProductPostCounterEventBuffer counterEventBuffer;
 
 	/**
 	 * 관심 상품을 등록합니다.
@@ -67,6 +69,7 @@ public class FavoriteService {
 		 * (현재 로직에서는 반환값에 조회해왔던 productPost의 likedCount를 사용하지 않아 문제 없습니다.)
 		*/
 		productPostRepository.incrementLikedCount(productPostId);
+		counterEventBuffer.markChanged(productPostId); // 검색 인덱스에는 좋아요 수만 부분 업데이트
 
 		return new FavoritePostResponse(true, productPostId);
 
@@ -91,6 +94,7 @@ public class FavoriteService {
 		favoriteRepository.delete(target);
 
 		productPostRepository.decrementLikedCount(productPostId);
+		counterEventBuffer.markChanged(productPostId);
 
 		return new FavoritePostResponse(false, productPostId);
 
@@ -0,0 +1,100 @@
+package com.domainservice.domain.post.kafka.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.domainservice.domain.post.post.repository.ProductPostRepository;
+import com.domainservice.domain.post.post.repository.ProductPostRepository.ProductPostCounters;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요/조회수 변경을 짧은 주기로 모아서 카운터 이벤트로 발행
+ * - 주기 동안 변경된 상품 id만 모아두고, 발행 시점에 두 값만 한 번에 조회 (상품 1개에 조회가 몰려도 주기당 이벤트 1개)
+ * - 트랜잭션 안에서 변경되면 commit 후에 기록 → 발행 시점에 commit 전 값을 읽지 않음
+ * - 서버가 종료되면 아직 발행하지 않은 변경은 다음 변경/재색인 때 반영
+ */
+@Slf4j
+@Component
+public class ProductPostCounterEventBuffer {
+
+	private final Set<String> changedIds = ConcurrentHashMap.newKeySet();
+
+	private final ProductPostRepository productPostRepository;
+	private final ProductPostEventProducer eventProducer;
+	private final int batchSize;
+
+	public ProductPostCounterEventBuffer(
+		ProductPostRepository productPostRepository,
+		ProductPostEventProducer eventProducer,
+		@Value("${custom.product-post.counter.batch-size:500}") int batchSize
+	) {
+		this.productPostRepository = productPostRepository;
+		this.eventProducer = eventProducer;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 좋아요/조회수가 변경된 상품 기록
+	 */
+	public void markChanged(String postId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			changedIds.add(postId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				changedIds.add(postId);
+			}
+		});
+	}
+
+	/**
+	 * 모아둔 상품의 현재 좋아요/조회수를 이벤트로 발행
+	 */
+	@Scheduled(fixedDelayString = "${custom.product-post.counter.flush-interval-ms:1000}")
+	public void flush() {
+		while (!changedIds.isEmpty()) {
+			List<String> ids = drain();
+			try {
+				for (ProductPostCounters counters : productPostRepository.findCountersByIdIn(ids)) {
+					eventProducer.sendCountersChangedEvent(new ProductPostCountersChangedEvent(
+						counters.getId(),
+						counters.getLikedCount().longValue(),
+						counters.getViewCount().longValue(),
+						counters.getCounterVersion()
+					));
+				}
+			} catch (Exception e) {
+				// 다음 주기에 다시 발행
+				changedIds.addAll(ids);
+				log.warn("상품 카운터 이벤트 발행 실패 - count: {}", ids.size(), e);
+				return;
+			}
+		}
+	}
+
+	private List<String> drain() {
+		List<String> ids = new ArrayList<>(batchSize);
+		for (String id : changedIds) {
+			if (ids.size() >= batchSize) {
+				break;
+			}
+			if (changedIds.remove(id)) {
+				ids.add(id);
+			}
+		}
+		return ids;
+	}
+}
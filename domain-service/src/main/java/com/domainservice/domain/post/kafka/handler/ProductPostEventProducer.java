@@ -1,6 +1,7 @@
 package com.domainservice.domain.post.kafka.handler;
 
 import com.common.event.productPost.EventType;
+import com.common.event.productPost.ProductPostCountersChangedEvent;
 import com.common.event.productPost.ProductPostDeletedEvent;
 import com.common.event.productPost.ProductPostUpsertedEvent;
 import com.domainservice.domain.post.category.model.entity.Category;
@@ -56,6 +57,15 @@ public class ProductPostEventProducer {
 		kafkaTemplate.send(eventTopicName, event.id(), event);
 	}
 
+	/**
+	 * 좋아요/조회수 변경 이벤트를 Kafka로 발행 (상품 전체를 다시 조회하지 않음)
+	 */
+	public void sendCountersChangedEvent(ProductPostCountersChangedEvent event) {
+
+		kafkaTemplate.send(eventTopicName, event.postId(), event);
+
+	}
+
 	/**
 	 * Delete 이벤트를 Kafka로 발행
 	 */
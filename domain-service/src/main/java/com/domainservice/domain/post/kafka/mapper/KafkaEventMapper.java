@@ -26,6 +26,7 @@ public class KafkaEventMapper {
 			.price(productPost.getPrice().longValue())
 			.likedCount(productPost.getLikedCount().longValue())
 			.viewCount(productPost.getViewCount().longValue())
+			.counterVersion(productPost.getCounterVersion())
 			.status(productPost.getStatus().name())
 			.tradeStatus(productPost.getTradeStatus().name())
 			.deleteStatus(productPost.getDeleteStatus().name())
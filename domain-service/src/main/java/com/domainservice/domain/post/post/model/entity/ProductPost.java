@@ -76,6 +76,10 @@ public class ProductPost extends BaseEntity {
 	@Column(name = "liked_count", nullable = false)
 	private Integer likedCount;
 
+	// 좋아요/조회수 UPDATE마다 1씩 증가 (검색 인덱스가 늦게 도착한 이전 카운터 이벤트를 무시하는 기준)
+	@Column(name = "counter_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private Long counterVersion;
+
 	@Builder
 	public ProductPost(String userId, String categoryId,
 		String title, String name, Integer price, String description,
@@ -90,6 +94,7 @@ public class ProductPost extends BaseEntity {
 		this.tradeStatus = tradeStatus != null ? tradeStatus : TradeStatus.SELLING;
 		this.viewCount = 0;
 		this.likedCount = 0;
+		this.counterVersion = 0L;
 	}
 
     /*
@@ -1,5 +1,6 @@
 package com.domainservice.domain.post.post.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,7 +29,7 @@ public interface ProductPostRepository extends JpaRepository<ProductPost, String
 	@Modifying(clearAutomatically = false)
 	@Query("""
 		UPDATE ProductPost p
-		SET p.likedCount = p.likedCount + 1
+		SET p.likedCount = p.likedCount + 1, p.counterVersion = p.counterVersion + 1
 		WHERE p.id = :productPostId
 		""")
 	void incrementLikedCount(@Param("productPostId") String productPostId);
@@ -40,7 +41,7 @@ public interface ProductPostRepository extends JpaRepository<ProductPost, String
 	@Modifying(clearAutomatically = false)
 	@Query("""
 		UPDATE ProductPost p
-		SET p.likedCount = p.likedCount - 1
+		SET p.likedCount = p.likedCount - 1, p.counterVersion = p.counterVersion + 1
 		WHERE p.id = :productPostId
 		""")
 	void decrementLikedCount(@Param("productPostId") String productPostId);
@@ -48,8 +49,29 @@ public interface ProductPostRepository extends JpaRepository<ProductPost, String
 	@Modifying(clearAutomatically = false)
 	@Query("""
 		UPDATE ProductPost p
-		SET p.viewCount = p.viewCount + 1
+		SET p.viewCount = p.viewCount + 1, p.counterVersion = p.counterVersion + 1
 		WHERE p.id = :productPostId
 		""")
 	void incrementViewCount(@Param("productPostId") String productPostId);
+
+	/**
+	 * 좋아요/조회수와 카운터 버전을 같은 행에서 조회 (검색 인덱스 카운터 부분 업데이트용)
+	 */
+	@Query("""
+		SELECT p.id AS id, p.likedCount AS likedCount, p.viewCount AS viewCount, p.counterVersion AS counterVersion
+		FROM ProductPost p
+		WHERE p.id IN :ids
+		""")
+	List<ProductPostCounters> findCountersByIdIn(@Param("ids") Collection<String> ids);
+
+	interface ProductPostCounters {
+
+		String getId();
+
+		Integer getLikedCount();
+
+		Integer getViewCount();
+
+		Long getCounterVersion();
+	}
 }
\ No newline at end of file
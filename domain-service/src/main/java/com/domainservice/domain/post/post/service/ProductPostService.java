@@ -25,6 +25,7 @@ import com.domainservice.domain.asset.image.domain.entity.Image;
 import com.domainservice.domain.asset.image.domain.entity.ImageTarget;
 import com.domainservice.domain.post.category.model.entity.Category;
 import com.domainservice.domain.post.category.repository.CategoryRepository;
+import com.domainservice.domain.post.kafka.handler.ProductPostCounterEventBuffer;
 import com.domainservice.domain.post.kafka.handler.ProductPostEventProducer;
 import com.domainservice.domain.post.post.exception.ProductPostException;
 import com.domainservice.domain.post.post.mapper.ProductPostMapper;
@@ -50,6 +51,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductPostService {
 
 	private final ProductPostEventProducer eventProducer;
+	private final ProductPostCounterEventBuffer counterEventBuffer;
 
 	private final UserFeignClient userFeignClient;
 
@@ -191,6 +193,7 @@ public class ProductPostService {
 		}
 
 		productPostRepository.incrementViewCount(postId); // @Modifying을 통해 DB에 조회수 증가를 적용하기 (조회수 정합성 관리)
+		counterEventBuffer.markChanged(postId); // 검색 인덱스에는 조회수만 부분 업데이트
 		productPost.incrementViewCount(); // db에는 조회수 증가가 적용되었으나 entity의 값은 변경되지 않음, dto로 반환 시 값을 맞춰주기 위해 증가
 
 		String categoryName = categoryRepository.findById(productPost.getCategoryId())
@@ -0,0 +1,96 @@
+package com.domainservice.domain.search.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 비로그인 검색자 식별용 클라이언트 IP 확인
+ * - 직접 연결한 상대(remoteAddr)가 신뢰하는 proxy(gateway)일 때만 X-Forwarded-For를 사용
+ * - X-Forwarded-For는 오른쪽부터 확인해서 신뢰하는 proxy가 아닌 첫 번째 값을 사용
+ *   (gateway가 마지막에 추가한 값이 실제 연결한 클라이언트, 왼쪽 값은 클라이언트가 임의로 보낼 수 있음)
+ * - 신뢰하는 proxy는 IP 또는 IPv4 CIDR (예: 10.0.0.0/8)
+ */
+@Component
+public class ClientIpResolver {
+
+	private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+	private final List<String> trustedProxies;
+
+	public ClientIpResolver(@Value("${custom.search.trusted-proxies:}") List<String> trustedProxies) {
+		this.trustedProxies = trustedProxies.stream()
+			.map(String::strip)
+			.filter(proxy -> !proxy.isEmpty())
+			.toList();
+	}
+
+	public String resolve(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		String forwardedFor = request.getHeader(FORWARDED_FOR);
+		if (!isTrusted(remoteAddr) || forwardedFor == null || forwardedFor.isBlank()) {
+			return remoteAddr;
+		}
+
+		String[] hops = forwardedFor.split(",");
+		String client = remoteAddr;
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].strip();
+			if (hop.isEmpty()) {
+				continue;
+			}
+			client = hop;
+			if (!isTrusted(hop)) {
+				return hop;
+			}
+		}
+		// 모든 값이 신뢰하는 proxy면 가장 왼쪽 값
+		return client;
+	}
+
+	private boolean isTrusted(String address) {
+		for (String proxy : trustedProxies) {
+			if (proxy.contains("/") ? matchesCidr(address, proxy) : proxy.equals(address)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean matchesCidr(String address, String cidr) {
+		int slash = cidr.indexOf('/');
+		long network = toIpv4(cidr.substring(0, slash));
+		long target = toIpv4(address);
+		if (network < 0 || target < 0) {
+			return false;
+		}
+
+		int prefixLength = Integer.parseInt(cidr.substring(slash + 1));
+		long mask = prefixLength == 0 ? 0 : (0xFFFFFFFFL << (32 - prefixLength)) & 0xFFFFFFFFL;
+		return (network & mask) == (target & mask);
+	}
+
+	// IPv4 문자열을 숫자로 변환 (IPv4가 아니면 -1)
+	private static long toIpv4(String address) {
+		String[] octets = address.split("\\.", -1);
+		if (octets.length != 4) {
+			return -1;
+		}
+
+		long value = 0;
+		for (String octet : octets) {
+			if (octet.isEmpty() || octet.length() > 3 || !octet.chars().allMatch(Character::isDigit)) {
+				return -1;
+			}
+			int number = Integer.parseInt(octet);
+			if (number > 255) {
+				return -1;
+			}
+			value = (value << 8) | number;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,42 @@
+package com.domainservice.domain.search.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.common.model.web.BaseResponse;
+import com.domainservice.domain.search.model.entity.dto.response.ReindexStartResponse;
+import com.domainservice.domain.search.service.reindex.ProductPostReindexService;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Hidden // swagger 비노출
+@RestController
+@RequestMapping("/api/admin/search/product-posts")
+@RequiredArgsConstructor
+public class ProductPostIndexAdminController {
+
+	private final ProductPostReindexService productPostReindexService;
+
+	/**
+	 * 상품 검색 인덱스 무중단 전체 재색인 시작
+	 * - 새 버전 인덱스에 적재 후 product-posts alias 교체, 진행 중 들어온 상품 변경도 반영
+	 * - 재색인은 백그라운드에서 진행되므로 바로 202 응답 (이미 진행 중이면 409)
+	 */
+	@PostMapping("/reindex")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public BaseResponse<ReindexStartResponse> reindex() {
+		log.info("상품 전체 재색인 요청");
+
+		String indexName = productPostReindexService.startReindex();
+
+		return new BaseResponse<>(
+			new ReindexStartResponse(indexName),
+			"%s 인덱스로 재색인을 시작했습니다.".formatted(indexName));
+	}
+}
@@ -13,10 +13,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.common.model.web.PageResponse;
 import com.domainservice.common.configuration.springDoc.HidePageableSort;
 import com.domainservice.domain.search.docs.post.GetDailyRecommendationApiDocs;
+import com.domainservice.domain.search.docs.post.GetDidYouMeanApiDocs;
 import com.domainservice.domain.search.docs.post.GetSellerProductsApiDocs;
 import com.domainservice.domain.search.docs.post.GetSimilarProductsApiDocs;
+import com.domainservice.domain.search.docs.post.GlobalCursorSearchApiDocs;
 import com.domainservice.domain.search.docs.post.GlobalSearchApiDocs;
 import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+import com.domainservice.domain.search.model.entity.dto.response.CursorPageResponse;
+import com.domainservice.domain.search.model.entity.dto.response.DidYouMeanResponse;
 import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
 import com.domainservice.domain.search.service.search.GlobalSearchService;
 import com.domainservice.domain.search.service.search.RecommendationService;
@@ -56,6 +60,37 @@ public class ProductPostSearchController {
 		return globalSearchService.search(searchParams, pageable);
 	}
 
+	/**
+	 * 통합 검색 API (커서 기반, 무한 스크롤용)
+	 * - 검색 조건은 통합 검색 API와 동일, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+	 *
+	 * @param searchParams 검색 파라미터
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+	 * @param size 페이지 크기, 24(default)
+	 * @return 검색 결과와 다음 페이지 커서
+	 */
+	@GlobalCursorSearchApiDocs
+	@GetMapping("/cursor")
+	public CursorPageResponse<List<ProductPostSearchResponse>> searchByCursor(
+		@Valid postSearchParams searchParams,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "24") int size
+	) {
+		return globalSearchService.searchByCursor(searchParams, cursor, size);
+	}
+
+	/**
+	 * 검색어 오타 교정 API ("이것을 찾으셨나요?")
+	 *
+	 * @param q 입력한 검색어
+	 * @return 교정된 검색어 (없으면 null)
+	 */
+	@GetDidYouMeanApiDocs
+	@GetMapping("/did-you-mean")
+	public DidYouMeanResponse getDidYouMean(@RequestParam String q) {
+		return globalSearchService.getDidYouMean(q);
+	}
+
 	/**
 	 * 비슷한 상품 추천 API
 	 * - 현재 상품과 유사한 상품 추천
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.common.model.web.BaseResponse;
 import com.domainservice.domain.search.docs.GetAutoCompletionApiDocs;
 import com.domainservice.domain.search.docs.word.GetDailyPopularSearchWordsApiDocs;
+import com.domainservice.domain.search.docs.word.GetRisingSearchWordsApiDocs;
 import com.domainservice.domain.search.docs.word.GetTrendSearchWordsApiDocs;
 import com.domainservice.domain.search.docs.word.SaveSearchWordApiDocs;
 import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
@@ -24,6 +25,7 @@ import com.domainservice.domain.search.service.dto.request.Prefix;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "Search Word", description = "elasticSearch를 통한 검색어 추천 관련 API")
@@ -34,6 +36,7 @@ public class SearchController {
 
 	private final SearchWordElasticService searchWordElasticService;
 	private final SearchWordRedisService searchWordRedisService;
+	private final ClientIpResolver clientIpResolver;
 
 	/**
 	 * 검색어 자동완성 api
@@ -62,6 +65,7 @@ public class SearchController {
 	 * 검색어 저장 -> Redis에 저장
 	 * @param searchWord
 	 * @param userId
+	 * @param request 비로그인 사용자의 IP 확인용
 	 * @return
 	 */
 	@SaveSearchWordApiDocs
@@ -69,10 +73,11 @@ public class SearchController {
 	@ResponseStatus(HttpStatus.CREATED)
 	public BaseResponse<Void> addSearchWord(
 		@RequestBody String searchWord,
-		@RequestHeader(value = "X-REQUEST-ID", required = false) String userId
+		@RequestHeader(value = "X-REQUEST-ID", required = false) String userId,
+		HttpServletRequest request
 	) {
 
-		searchWordRedisService.saveSearchWord(searchWord, userId);
+		searchWordRedisService.saveSearchWord(searchWord, userId, clientIpResolver.resolve(request));
 		return new BaseResponse<>(
 			null,
 			"검색어 저장 완료"
@@ -105,6 +110,21 @@ public class SearchController {
 		);
 	}
 
+	/**
+	 * 급상승 검색어 조회.
+	 * @return
+	 */
+	@GetRisingSearchWordsApiDocs
+	@GetMapping("/rising")
+	@ResponseStatus(HttpStatus.OK)
+	public BaseResponse<List<SearchWordResponse>> getRisingWordList() {
+		List<SearchWordResponse> response = searchWordRedisService.getRisingWordList();
+		return new BaseResponse<>(
+			response,
+			""
+		);
+	}
+
 	/**
 	 * 검색어 저장 test api
 	 * @param userId
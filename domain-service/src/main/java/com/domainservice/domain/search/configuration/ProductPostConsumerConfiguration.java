@@ -0,0 +1,116 @@
+package com.domainservice.domain.search.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+/**
+ * 상품 이벤트(product-post-events) batch 소비 설정
+ * - poll 한 번에 최대 max-poll-records 개를 받아서 상품 id 별로 합친 뒤 bulk 요청 1회로 색인
+ * - bulk가 성공한 뒤에만 acknowledge() → offset commit
+ * - 예외가 발생하면 batch 전체를 backoff 후 다시 처리 (마지막 상태로 덮어쓰므로 여러 번 반영돼도 결과 동일)
+ * - retry-max-elapsed-ms 동안 계속 실패하면 batch의 이벤트를 {topic}.DLT로 보내고 commit (partition이 계속 막히지 않도록)
+ */
+@Configuration
+public class ProductPostConsumerConfiguration {
+
+	@Value("${spring.kafka.bootstrap-servers}")
+	private String bootstrapServers;
+
+	@Value("${spring.kafka.consumer.group-id}")
+	private String groupId;
+
+	@Value("${custom.search.product-index.max-poll-records:500}")
+	private int maxPollRecords;
+
+	@Value("${custom.search.product-index.retry-initial-interval-ms:1000}")
+	private long retryInitialIntervalMillis;
+
+	@Value("${custom.search.product-index.retry-max-interval-ms:30000}")
+	private long retryMaxIntervalMillis;
+
+	@Value("${custom.search.product-index.retry-max-elapsed-ms:600000}")
+	private long retryMaxElapsedMillis;
+
+	@Value("${custom.product-post.topic.event}")
+	private String productPostEventTopicName;
+
+	@Value("${custom.config.topic-partitions}")
+	private int topicPartitions;
+
+	@Value("${custom.config.topic-replications}")
+	private int topicReplicationFactors;
+
+	/**
+	 * 재시도를 넘긴 상품 이벤트 토픽 (DeadLetterPublishingRecoverer 기본 규칙: 같은 partition 번호로 발행)
+	 */
+	@Bean
+	public NewTopic productPostEventDeadLetterTopic() {
+		return TopicBuilder
+			.name(productPostEventTopicName + ".DLT")
+			.partitions(topicPartitions)
+			.replicas(topicReplicationFactors)
+			.build();
+	}
+
+	@Bean
+	public ConsumerFactory<String, Object> productPostBatchConsumerFactory() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // acknowledge() 수동 호출
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+		// 역직렬화에 실패한 이벤트는 value가 null로 전달됨 → batch 전체가 막히지 않도록 건너뜀
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+		props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+		props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+		// upsert/delete 이벤트가 같은 토픽으로 들어오므로 type header로 이벤트 타입 구분
+		props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+		props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, true);
+
+		return new DefaultKafkaConsumerFactory<>(props);
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, Object> productPostBatchListenerContainerFactory(
+		KafkaTemplate<String, Object> kafkaTemplate) {
+		ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(productPostBatchConsumerFactory());
+		factory.setBatchListener(true);
+
+		// acknowledge() 메서드를 호출한 즉시 커밋
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+		// Elasticsearch 장애 시 offset을 넘기지 않고 backoff 간격을 늘려가며 재시도, 최대 시간을 넘기면 DLT로 보내고 commit
+		ExponentialBackOff backOff = new ExponentialBackOff(retryInitialIntervalMillis, 2.0);
+		backOff.setMaxInterval(retryMaxIntervalMillis);
+		backOff.setMaxElapsedTime(retryMaxElapsedMillis);
+		factory.setCommonErrorHandler(new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate), backOff));
+
+		// Micrometer Observation을 통한 트레이스 전파
+		factory.getContainerProperties().setObservationEnabled(true);
+
+		return factory;
+	}
+}
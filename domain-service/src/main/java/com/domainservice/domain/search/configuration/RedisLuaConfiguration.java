@@ -1,5 +1,7 @@
 package com.domainservice.domain.search.configuration;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -16,4 +18,54 @@ public class RedisLuaConfiguration {
 		script.setResultType(Long.class);
 		return script;
 	}
+
+	@Bean
+	public RedisScript<Long> updateZSetWithLazyDecayScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/update_zset_with_lazy_decay.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> drainCountBucketsScript() {
+		DefaultRedisScript<List> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/drain_count_buckets.lua"));
+		script.setResultType(List.class);
+		return script;
+	}
+
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> drainReachCountsScript() {
+		DefaultRedisScript<List> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/drain_reach_counts.lua"));
+		script.setResultType(List.class);
+		return script;
+	}
+
+	@Bean
+	public RedisScript<Long> updateRisingStatsScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/update_rising_stats.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	@Bean
+	public RedisScript<Long> markSimilarProductsStaleScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/mark_similar_products_stale.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	@Bean
+	public RedisScript<Long> finishReindexScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/finish_reindex.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
 }
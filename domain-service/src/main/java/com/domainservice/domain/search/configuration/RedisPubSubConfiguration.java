@@ -0,0 +1,24 @@
+package com.domainservice.domain.search.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.domainservice.domain.search.service.autocomplete.AutoCompleteIndexManager;
+
+@Configuration
+public class RedisPubSubConfiguration {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		AutoCompleteIndexManager autoCompleteIndexManager
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(autoCompleteIndexManager, new ChannelTopic(AutoCompleteIndexManager.DELTA_CHANNEL));
+		return container;
+	}
+}
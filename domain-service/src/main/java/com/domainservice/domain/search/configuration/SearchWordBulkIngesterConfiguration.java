@@ -0,0 +1,76 @@
+package com.domainservice.domain.search.configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * search-words 인덱스 bulk ingester 설정
+ * - 작업 수(max-operations) 또는 요청 크기(max-size-bytes)가 임계치에 도달하면 자동 flush
+ * - 동시에 진행 중인 bulk 요청이 max-concurrent-requests 개면 add()가 대기 (backpressure)
+ * - flush-interval 마다 남아있는 작업도 전송
+ * - context: 문서 ID(originValue), 실패한 항목 로그용
+ */
+@Slf4j
+@Configuration
+public class SearchWordBulkIngesterConfiguration {
+
+	@Bean(destroyMethod = "close")
+	public BulkIngester<String> searchWordBulkIngester(
+		ElasticsearchClient elasticsearchClient,
+		@Value("${custom.search.elasticsearch.bulk.max-operations:1000}") int maxOperations,
+		@Value("${custom.search.elasticsearch.bulk.max-size-bytes:5242880}") long maxSizeBytes,
+		@Value("${custom.search.elasticsearch.bulk.max-concurrent-requests:2}") int maxConcurrentRequests,
+		@Value("${custom.search.elasticsearch.bulk.flush-interval-ms:1000}") long flushIntervalMillis
+	) {
+		return BulkIngester.of(b -> b
+			.client(elasticsearchClient)
+			.maxOperations(maxOperations)
+			.maxSize(maxSizeBytes)
+			.maxConcurrentRequests(maxConcurrentRequests)
+			.flushInterval(flushIntervalMillis, TimeUnit.MILLISECONDS)
+			.listener(new SearchWordBulkListener())
+		);
+	}
+
+	private static class SearchWordBulkListener implements BulkListener<String> {
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request, List<String> contexts) {
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<String> contexts, BulkResponse response) {
+			if (!response.errors()) {
+				log.debug("search-words bulk 완료 - id: {}, operations: {}", executionId, contexts.size());
+				return;
+			}
+
+			// 항목 단위 실패: 나머지 항목은 반영된 상태이므로 실패한 검색어만 기록 (다음 배치에서 다시 누적됨)
+			List<BulkResponseItem> items = response.items();
+			for (int i = 0; i < items.size(); i++) {
+				BulkResponseItem item = items.get(i);
+				if (item.error() != null) {
+					log.warn("search-words bulk 항목 실패 - word: {}, reason: {}",
+						i < contexts.size() ? contexts.get(i) : item.id(), item.error().reason());
+				}
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<String> contexts, Throwable failure) {
+			log.error("search-words bulk 요청 실패 - id: {}, operations: {}", executionId, contexts.size(), failure);
+		}
+	}
+}
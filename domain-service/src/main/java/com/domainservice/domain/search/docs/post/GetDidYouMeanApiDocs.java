@@ -0,0 +1,70 @@
+package com.domainservice.domain.search.docs.post;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import com.common.model.web.ErrorResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+	summary = "검색어 오타 교정 (이것을 찾으셨나요?)",
+	description = """
+        입력한 검색어와 가장 가까운 인기 검색어를 조회하는 API입니다.
+        
+        - 인메모리 오타 교정 인덱스(SymSpell)에서 편집 거리 1~2 이내 검색어 조회
+        - 한글은 키보드 입력값(QWERTY) 기준으로 거리 계산 (ex. `아이펀` → `아이폰`)
+        - 입력한 검색어가 이미 존재하거나 후보가 없으면 `suggestion`은 null
+        """
+)
+@ApiResponses({
+	@ApiResponse(
+		responseCode = "200",
+		description = "조회 성공",
+		content = @Content(
+			examples = {
+				@ExampleObject(
+					name = "교정 후보 있음",
+					value = """
+						{
+						  "query": "아이펀",
+						  "suggestion": "아이폰"
+						}
+						"""
+				),
+				@ExampleObject(
+					name = "교정 후보 없음",
+					value = """
+						{
+						  "query": "아이폰",
+						  "suggestion": null
+						}
+						"""
+				)
+			}
+		)
+	),
+	@ApiResponse(
+		responseCode = "500",
+		description = "서버 내부 오류",
+		content = @Content(
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(
+				value = """
+					{
+					    "code": 500,
+					    "message": "서버 내부 오류가 발생했습니다."
+					}
+					"""
+			)
+		)
+	)
+})
+public @interface GetDidYouMeanApiDocs {
+}
@@ -0,0 +1,107 @@
+package com.domainservice.domain.search.docs.post;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import com.common.model.web.ErrorResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+	summary = "상품 게시글 통합 검색 (커서 기반)",
+	description = """
+        무한 스크롤용 상품 게시글 통합 검색 API입니다.
+        
+        - 검색 조건(q, category, 가격, 태그, 상태, 정렬)은 통합 검색 API와 동일
+        
+        - 첫 페이지는 `cursor` 없이 요청하고, 다음 페이지는 응답의 `nextCursor`를 `cursor`로 전달
+        
+        - 페이지가 깊어져도 응답 속도가 일정하며, 스크롤 도중 상품이 추가/삭제되어도 중복이나 누락 없이 조회
+        
+        - 마지막 페이지면 `hasNext`는 false, `nextCursor`는 null
+        
+        - 커서는 마지막 요청 후 1분 동안 유효하며, 만료되었거나 다른 검색 조건에 사용하면 400 응답
+        """
+)
+@ApiResponses({
+	@ApiResponse(
+		responseCode = "200",
+		description = "검색 성공",
+		content = @Content(
+			examples = {
+				@ExampleObject(
+					name = "다음 페이지 있음",
+					value = """
+						{
+						  "pageSize": 24,
+						  "hasNext": true,
+						  "nextCursor": "AQAAAAB7ABdGbmx...",
+						  "contents": [
+						    {
+						      "id": "post-uuid-1234",
+						      "title": "아이폰 15 Pro 팝니다",
+						      "price": 1200000,
+						      "likedCount": 45,
+						      "viewCount": 320,
+						      "tradeStatus": "SELLING",
+						      "primaryImageUrl": "https://s3.bucket/image1.jpg",
+						      "updatedAt": "2024-01-15T10:30:00"
+						    }
+						  ]
+						}
+						"""
+				),
+				@ExampleObject(
+					name = "마지막 페이지",
+					value = """
+						{
+						  "pageSize": 24,
+						  "hasNext": false,
+						  "nextCursor": null,
+						  "contents": []
+						}
+						"""
+				)
+			}
+		)
+	),
+	@ApiResponse(
+		responseCode = "400",
+		description = "잘못된 요청",
+		content = @Content(
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(
+				name = "커서 만료 또는 형식 오류",
+				value = """
+					{
+					    "code": 400,
+					    "message": "검색 커서가 올바르지 않거나 만료되었습니다. 처음부터 다시 조회해주세요."
+					}
+					"""
+			)
+		)
+	),
+	@ApiResponse(
+		responseCode = "500",
+		description = "서버 내부 오류",
+		content = @Content(
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(
+				value = """
+					{
+					    "code": 500,
+					    "message": "서버 내부 오류가 발생했습니다."
+					}
+					"""
+			)
+		)
+	)
+})
+public @interface GlobalCursorSearchApiDocs {
+}
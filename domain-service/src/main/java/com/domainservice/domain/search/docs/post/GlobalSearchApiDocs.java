@@ -25,6 +25,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
         
         - **페이징**: `page`, `size` 파라미터 지원
         
+        - **전체 건수**: `totalCount`는 10,000건까지만 정확히 계산하고, 넘으면 `10000+` 형태로 응답
+        
         - **다양한 정렬**: 관련도순, 인기순, 가격순, 최신순 지원
         
         ### 검색 예시
@@ -52,6 +54,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 						  "totalPages": 3,
 						  "pageSize": 24,
 						  "hasNext": true,
+						  "totalCount": "62",
 						  "contents": [
 						    {
 						      "id": "post-uuid-1234",
@@ -96,6 +99,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 						  "totalPages": 0,
 						  "pageSize": 24,
 						  "hasNext": false,
+						  "totalCount": "0",
 						  "contents": []
 						}
 						"""
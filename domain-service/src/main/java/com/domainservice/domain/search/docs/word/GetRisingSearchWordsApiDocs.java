@@ -0,0 +1,81 @@
+package com.domainservice.domain.search.docs.word;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import com.common.model.web.ErrorResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+	summary = "급상승 검색어 TOP 10",
+	description = """
+        최근 5분 동안 평소보다 검색이 급증한 검색어 상위 10개를 조회하는 API입니다.
+        
+        - 검색어별 5분 단위 검색 횟수의 지수 가중 평균/분산(EWMA)을 유지
+        - 이번 5분 검색 횟수가 평균 대비 얼마나 튀었는지(z-score) 순서대로 최대 10개 반환
+        - 각 검색어의 QWERTY 변환값도 함께 제공
+        """
+)
+@ApiResponses({
+	@ApiResponse(
+		responseCode = "200",
+		description = "조회 성공",
+		content = @Content(
+			examples = {
+				@ExampleObject(
+					name = "급상승 검색어",
+					description = "z-score 기준 상위 검색어",
+					value = """
+						{
+						  "data": [
+						    {
+						      "word": "아이폰 17",
+						      "qwertyInput": "dkdlvhs 17"
+						    },
+						    {
+						      "word": "갤럭시 S25",
+						      "qwertyInput": "rofjrtl S25"
+						    }
+						  ],
+						  "message": ""
+						}
+						"""
+				),
+				@ExampleObject(
+					name = "검색어 없음",
+					description = "급상승 검색어가 없는 경우",
+					value = """
+						{
+						  "data": [],
+						  "message": ""
+						}
+						"""
+				)
+			}
+		)
+	),
+	@ApiResponse(
+		responseCode = "500",
+		description = "서버 내부 오류",
+		content = @Content(
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(
+				value = """
+					{
+					    "code": 500,
+					    "message": "서버 내부 오류가 발생했습니다."
+					}
+					"""
+			)
+		)
+	)
+})
+public @interface GetRisingSearchWordsApiDocs {
+}
@@ -7,11 +7,14 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
 
 import com.common.event.productPost.ProductPostUpsertedEvent;
 import com.common.model.web.PageResponse;
 import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.model.entity.dto.response.CursorPageResponse;
 import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
 
 public class SearchMapper {
 
@@ -44,12 +47,14 @@ public class SearchMapper {
 			.userId(event.userId())
 			.name(event.name())
 			.title(event.title())
+			.titleChoseong(PrefixConverter.extractChoseong(event.title()))
 			.price(event.price())
 			.categoryName(event.categoryName())
 			.description(event.description())
 			.tags(event.tags())
 			.likedCount(event.likedCount())
 			.viewCount(event.viewCount())
+			.counterVersion(event.counterVersion())
 			.status(event.status())
 			.tradeStatus(event.tradeStatus())
 			.deleteStatus(event.deleteStatus())
@@ -62,15 +67,34 @@ public class SearchMapper {
 	public static PageResponse<List<ProductPostSearchResponse>> toPageResponse(
 		SearchHits<ProductPostDocumentEntity> searchHits, Pageable pageable) {
 
+		// track_total_hits 상한에 도달하면 totalHits는 상한값이고 relation은 GREATER_THAN_OR_EQUAL_TO
 		long totalHits = searchHits.getTotalHits();
 		int totalPages = (int)Math.ceil((double)totalHits / pageable.getPageSize());
+		String totalCount = searchHits.getTotalHitsRelation() == TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO
+			? totalHits + "+"
+			: String.valueOf(totalHits);
 
 		return new PageResponse<>(
 			pageable.getPageNumber(),
 			totalPages,
 			pageable.getPageSize(),
 			pageable.getPageNumber() < totalPages - 1,
-			SearchMapper.toSearchResponseList(searchHits)
+			SearchMapper.toSearchResponseList(searchHits),
+			totalCount
+		);
+	}
+
+	public static CursorPageResponse<List<ProductPostSearchResponse>> toCursorPageResponse(
+		List<SearchHit<ProductPostDocumentEntity>> searchHits, int pageSize, String nextCursor) {
+
+		return new CursorPageResponse<>(
+			pageSize,
+			nextCursor != null,
+			nextCursor,
+			searchHits.stream()
+				.map(SearchHit::getContent)
+				.map(SearchMapper::toSearchResponse)
+				.toList()
 		);
 	}
 
@@ -27,6 +27,7 @@ import lombok.NoArgsConstructor;
 public class ProductPostDocumentEntity {
 
 	@Id
+	@Field(type = FieldType.Keyword) // 커서 조회 시 정렬 tie-break에 사용
 	private String id;
 
 	@Field(name = "user_id", type = FieldType.Keyword)
@@ -56,6 +57,14 @@ public class ProductPostDocumentEntity {
 	})
 	private String title;
 
+	@MultiField(
+		// 제목 초성을 단어 단위 edge ngram으로 색인, 자음만 입력한 검색어(ex. ㅇㅇㅍ)를 term 조회로 처리
+		mainField = @Field(name = "title_choseong", type = FieldType.Text, analyzer = "edge_ngram_analyzer", searchAnalyzer = "keyword"), otherFields = {
+		@InnerField(suffix = "compact", type = FieldType.Text, analyzer = "choseong_analyzer", searchAnalyzer = "keyword")
+		// 공백을 제거한 전체 초성 edge ngram (ex. ㅇㅇㅍㅍㄹ)
+	})
+	private String titleChoseong;
+
 	// HTML 태그 제거를 지원하는 커스텀 analyzer를 적용하여, 상품 설명에 포함된 HTML을 제거한 순수 텍스트만 색인
 	@MultiField(mainField = @Field(type = FieldType.Text, analyzer = "nori_html_analyzer", searchAnalyzer = "nori_synonym_analyzer"), otherFields = {
 		@InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer")
@@ -81,6 +90,10 @@ public class ProductPostDocumentEntity {
 	@Field(name = "view_count", type = FieldType.Long)
 	private Long viewCount;
 
+	// 좋아요/조회수를 읽은 DB 행의 카운터 버전 (이보다 작거나 같은 버전의 카운터 이벤트는 반영하지 않음)
+	@Field(name = "counter_version", type = FieldType.Long)
+	private Long counterVersion;
+
 	@Field(type = FieldType.Keyword)
 	private String status;
 
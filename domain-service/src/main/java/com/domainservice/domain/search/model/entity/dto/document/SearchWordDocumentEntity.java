@@ -1,6 +1,7 @@
 package com.domainservice.domain.search.model.entity.dto.document;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 import org.springframework.data.annotation.Id;
@@ -11,7 +12,6 @@ import org.springframework.data.elasticsearch.annotations.InnerField;
 import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.Setting;
 
-import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
 import com.domainservice.domain.search.service.converter.PrefixConverter;
 
 import lombok.Builder;
@@ -41,6 +41,10 @@ public class SearchWordDocumentEntity {
 	)
 	private String qwertyInput;
 
+	// 초성 (ex. 아이폰 → ㅇㅇㅍ), 공백 제거 후 edge ngram 색인 → 자음만 입력하면 term 조회
+	@Field(type = FieldType.Text, analyzer = "choseong_analyzer", searchAnalyzer = "keyword")
+	private String choseong;
+
 	@Field(
 		name = "created_at",
 		type = FieldType.Date,
@@ -55,27 +59,37 @@ public class SearchWordDocumentEntity {
 	)
 	private LocalDate recentSearchedAt;
 
+	// 누적 검색 횟수 (자동완성 순위 신호)
+	@Field(name = "search_count", type = FieldType.Long)
+	private Long searchCount;
+
 	@Builder
-	private SearchWordDocumentEntity(String originValue, String qwertyInput, LocalDate recentSearchedAt,
-		LocalDate createdAt) {
+	private SearchWordDocumentEntity(String originValue, String qwertyInput, String choseong,
+		LocalDate recentSearchedAt, LocalDate createdAt, Long searchCount) {
 		this.originValue = originValue;
 		this.qwertyInput = qwertyInput;
+		this.choseong = choseong;
 		this.recentSearchedAt = recentSearchedAt;
 		this.createdAt = createdAt;
+		this.searchCount = searchCount;
 	}
 
+	/**
+	 * 배치 동안 집계된 검색어 1개당 document 1개 생성
+	 * @param word 검색어 (문서 ID)
+	 * @param searchCount 배치 동안 검색된 횟수
+	 * @param lastSearchedAt 배치 동안 마지막으로 검색된 시각
+	 */
 	public static SearchWordDocumentEntity createDocumentEntity(
-		SearchWordLog log
+		String word, long searchCount, LocalDateTime lastSearchedAt
 	) {
-		String originValue = log.getWord();
-		LocalDate createdAt = (log.getCreatedAt() != null
-			? log.getCreatedAt()
-			: log.getSearchedAt()).toLocalDate();
 		return SearchWordDocumentEntity.builder()
-			.originValue(originValue)
-			.qwertyInput(PrefixConverter.convertToQwertyInput(originValue))
-			.createdAt(createdAt)
-			.recentSearchedAt(log.getSearchedAt().toLocalDate())
+			.originValue(word)
+			.qwertyInput(PrefixConverter.convertToQwertyInput(word))
+			.choseong(PrefixConverter.extractChoseong(word))
+			.createdAt(lastSearchedAt.toLocalDate())
+			.recentSearchedAt(lastSearchedAt.toLocalDate())
+			.searchCount(searchCount)
 			.build();
 	}
 
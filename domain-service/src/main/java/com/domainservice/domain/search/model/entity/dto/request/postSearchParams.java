@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.service.converter.SearchQueryNormalizer;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
@@ -70,6 +71,7 @@ public record postSearchParams(
 	String sort
 ) {
 	public postSearchParams {
+		if (q != null) q = SearchQueryNormalizer.normalize(q);
 		if (minPrice == null) minPrice = 0L;
 		if (maxPrice == null) maxPrice = 100_000_000L;
 		if (status == null) status = "ALL";
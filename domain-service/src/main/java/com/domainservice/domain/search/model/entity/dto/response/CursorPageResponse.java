@@ -0,0 +1,16 @@
+package com.domainservice.domain.search.model.entity.dto.response;
+
+/**
+ * 커서 기반(무한 스크롤) 검색 응답 DTO
+ * @param pageSize 요청한 페이지 크기
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ * @param contents 검색 결과
+ */
+public record CursorPageResponse<T>(
+	int pageSize,
+	boolean hasNext,
+	String nextCursor,
+	T contents
+) {
+}
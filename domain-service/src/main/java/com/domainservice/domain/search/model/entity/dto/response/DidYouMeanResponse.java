@@ -0,0 +1,12 @@
+package com.domainservice.domain.search.model.entity.dto.response;
+
+/**
+ * "이것을 찾으셨나요?" 응답 DTO
+ * @param query 입력한 검색어
+ * @param suggestion 교정된 검색어 (교정할 필요가 없거나 후보가 없으면 null)
+ */
+public record DidYouMeanResponse(
+	String query,
+	String suggestion
+) {
+}
@@ -0,0 +1,10 @@
+package com.domainservice.domain.search.model.entity.dto.response;
+
+/**
+ * 상품 전체 재색인 시작 DTO (재색인은 백그라운드에서 진행, 완료/실패는 서버 로그로 확인)
+ * @param indexName 재색인 대상 새 인덱스 (완료되면 alias가 이 인덱스를 가리킴)
+ */
+public record ReindexStartResponse(
+	String indexName
+) {
+}
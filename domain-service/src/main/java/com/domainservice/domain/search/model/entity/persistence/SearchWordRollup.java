@@ -0,0 +1,63 @@
+package com.domainservice.domain.search.model.entity.persistence;
+
+import java.time.LocalDateTime;
+
+import com.common.model.persistence.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 검색어 분 단위 집계 로그
+ * - 검색 1회당 1 row(search_word_logs) 대신 (검색어, 분) 조합당 1 row에 검색 횟수를 누적
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "search_word_rollups",
+	uniqueConstraints = { // (word, bucket_minute) 조합은 Unique, ON DUPLICATE KEY UPDATE로 카운트 누적
+		@UniqueConstraint(
+			name = "uk_search_word_rollup_word_minute",
+			columnNames = {"word", "bucket_minute"}
+		)
+	},
+	indexes = { // 기간 조회 및 보관 기간 지난 row 삭제용
+		@Index(name = "idx_search_word_rollup_minute", columnList = "bucket_minute")
+	}
+)
+public class SearchWordRollup extends BaseEntity {
+
+	@Column(nullable = false)
+	private String word;
+
+	@Column(name = "bucket_minute", nullable = false)
+	private LocalDateTime bucketMinute;
+
+	@Column(name = "search_count", nullable = false)
+	private long searchCount;
+
+	@Builder
+	private SearchWordRollup(String word, LocalDateTime bucketMinute, long searchCount) {
+		this.word = word;
+		this.bucketMinute = bucketMinute;
+		this.searchCount = searchCount;
+	}
+
+	public static SearchWordRollup create(String keyword, LocalDateTime bucketMinute, long searchCount) {
+		return SearchWordRollup.builder()
+			.word(keyword)
+			.bucketMinute(bucketMinute.withSecond(0).withNano(0))
+			.searchCount(searchCount)
+			.build();
+	}
+}
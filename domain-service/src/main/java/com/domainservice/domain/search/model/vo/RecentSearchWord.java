@@ -0,0 +1,12 @@
+package com.domainservice.domain.search.model.vo;
+
+/**
+ * 유저 최근 검색어
+ * @param value 검색어
+ * @param searchedAt 마지막으로 검색한 시각 (epoch millis)
+ */
+public record RecentSearchWord(
+	String value,
+	long searchedAt
+) {
+}
@@ -0,0 +1,35 @@
+package com.domainservice.domain.search.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+
+/**
+ * product-posts 인덱스 bulk 쓰기
+ * - 색인(전체 문서 교체), 좋아요/조회수 부분 업데이트, 삭제를 bulk 요청 1회로 처리하고, 항목 단위 결과를 재시도 가능 여부로 분류
+ */
+public interface ProductPostBulkRepository {
+
+	/**
+	 * @param succeededIds 반영된 상품 id (삭제/부분 업데이트 대상 문서가 없는 경우 포함)
+	 * @param retryableIds 일시적인 오류(429, 5xx)로 실패한 상품 id → 다시 처리하면 반영 가능
+	 * @param failedIds 문서 자체의 오류(mapping 등)로 실패한 상품 id → 다시 처리해도 실패
+	 */
+	record BulkWriteResult(Set<String> succeededIds, Set<String> retryableIds, Set<String> failedIds) {
+	}
+
+	/**
+	 * 서비스 중인 인덱스(product-posts alias)에 쓰기
+	 * @param counters 좋아요/조회수만 바뀐 상품 → 두 필드만 _update (분석 대상 text 필드는 다시 색인하지 않음)
+	 */
+	BulkWriteResult bulkWrite(Collection<ProductPostDocumentEntity> documents,
+		Collection<ProductPostCountersChangedEvent> counters, Collection<String> deletedIds);
+
+	/**
+	 * 지정한 인덱스에 쓰기 (재색인 중인 새 인덱스)
+	 */
+	BulkWriteResult bulkWrite(String indexName, Collection<ProductPostDocumentEntity> documents,
+		Collection<String> deletedIds);
+}
@@ -0,0 +1,30 @@
+package com.domainservice.domain.search.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.common.event.productPost.ProductPostUpsertedEvent;
+
+/**
+ * 재색인용 상품 원본(MySQL) 조회
+ * - 삭제되지 않은 상품만 조회하고, 결과는 상품 upsert 이벤트와 같은 형태로 반환 (SearchMapper로 문서 변환)
+ */
+public interface ProductPostSourceRepository {
+
+	/**
+	 * id 순서로 sliceSize 번째마다의 상품 id (병렬 재색인 구간 경계)
+	 */
+	List<String> findSliceBoundaries(int sliceSize);
+
+	/**
+	 * (afterId, toId] 구간에서 id 순서로 limit 개 조회
+	 * @param afterId 이전 페이지 마지막 id (처음이면 빈 문자열)
+	 * @param toId 구간 마지막 id (마지막 구간이면 null)
+	 */
+	List<ProductPostUpsertedEvent> findPage(String afterId, String toId, int limit);
+
+	/**
+	 * 주어진 id의 현재 상태 조회 (삭제되었거나 없는 상품은 결과에서 빠짐)
+	 */
+	List<ProductPostUpsertedEvent> findAllByIds(Collection<String> ids);
+}
@@ -1,10 +1,15 @@
 package com.domainservice.domain.search.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
+import com.domainservice.domain.search.model.entity.persistence.SearchWordRollup;
 
 public interface SearchWordLogCommandRepository {
 
-	List<SearchWordLog> insertAll(List<SearchWordLog> logs);
+	List<SearchWordRollup> upsertRollups(List<SearchWordRollup> rollups);
+
+	int deleteRawLogsBefore(LocalDateTime threshold, int chunkSize);
+
+	int deleteRollupsBefore(LocalDateTime threshold, int chunkSize);
 }
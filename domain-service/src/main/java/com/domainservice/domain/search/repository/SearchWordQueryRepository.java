@@ -1,6 +1,7 @@
 package com.domainservice.domain.search.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import com.domainservice.domain.search.model.entity.dto.document.SearchWordDocumentEntity;
 
@@ -10,5 +11,12 @@ public interface SearchWordQueryRepository {
 
 	 List<SearchWordDocumentEntity> findAllByOriginValue(String koreanWord);
 
+	 List<SearchWordDocumentEntity> findAutoCompletion(String originValue, String convertedKorean, String qwertyInput,
+		 int limit);
+
+	 List<SearchWordDocumentEntity> findAllByChoseong(String choseong, int limit);
+
 	 void upsertByOriginValue(List<SearchWordDocumentEntity> searchWordDocumentEntities);
+
+	 Map<String, Long> findTopSearchCounts(int limit);
 }
@@ -0,0 +1,155 @@
+package com.domainservice.domain.search.repository.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Repository;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductPostBulkRepositoryImpl implements ProductPostBulkRepository {
+
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int NOT_FOUND = 404;
+	private static final int RETRY_ON_CONFLICT = 3;
+
+	// 문서의 counter_version보다 큰 버전만 반영 (늦게 도착한 이전 카운터 이벤트로 덮어쓰지 않음)
+	private static final String COUNTERS_SCRIPT = """
+		if (params.counter_version != null && ctx._source.counter_version != null
+			&& ctx._source.counter_version >= params.counter_version) {
+			ctx.op = 'noop';
+		} else {
+			if (params.liked_count != null) {
+				ctx._source.liked_count = params.liked_count;
+			}
+			if (params.view_count != null) {
+				ctx._source.view_count = params.view_count;
+			}
+			if (params.counter_version != null) {
+				ctx._source.counter_version = params.counter_version;
+			}
+		}
+		""";
+
+	private final ElasticsearchClient elasticsearchClient;
+	private final ElasticsearchOperations elasticsearchOperations;
+
+	@Override
+	public BulkWriteResult bulkWrite(Collection<ProductPostDocumentEntity> documents,
+		Collection<ProductPostCountersChangedEvent> counters, Collection<String> deletedIds) {
+		String indexName = elasticsearchOperations.getIndexCoordinatesFor(ProductPostDocumentEntity.class)
+			.getIndexName();
+		return write(indexName, documents, counters, deletedIds);
+	}
+
+	@Override
+	public BulkWriteResult bulkWrite(String indexName, Collection<ProductPostDocumentEntity> documents,
+		Collection<String> deletedIds) {
+		return write(indexName, documents, List.of(), deletedIds);
+	}
+
+	private BulkWriteResult write(String indexName, Collection<ProductPostDocumentEntity> documents,
+		Collection<ProductPostCountersChangedEvent> counters, Collection<String> deletedIds) {
+
+		// repository.save()와 같은 필드명/형식으로 저장되도록 Spring Data 매핑으로 변환
+		ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+
+		List<BulkOperation> operations = new ArrayList<>(documents.size() + counters.size() + deletedIds.size());
+		for (ProductPostDocumentEntity document : documents) {
+			Document source = converter.mapObject(document);
+			operations.add(BulkOperation.of(op -> op
+				.index(index -> index.index(indexName).id(document.getId()).document(source))));
+		}
+		for (ProductPostCountersChangedEvent changed : counters) {
+			if (changed.likedCount() == null && changed.viewCount() == null) {
+				continue;
+			}
+			Map<String, JsonData> params = toCountersParams(changed);
+			operations.add(BulkOperation.of(op -> op
+				.update(update -> update.index(indexName).id(changed.postId()).retryOnConflict(RETRY_ON_CONFLICT)
+					.action(action -> action
+						.script(Script.of(script -> script
+							.lang("painless")
+							.source(COUNTERS_SCRIPT)
+							.params(params)
+						))
+					))));
+		}
+		for (String id : deletedIds) {
+			operations.add(BulkOperation.of(op -> op
+				.delete(delete -> delete.index(indexName).id(id))));
+		}
+
+		if (operations.isEmpty()) {
+			return new BulkWriteResult(Set.of(), Set.of(), Set.of());
+		}
+
+		BulkResponse response;
+		try {
+			response = elasticsearchClient.bulk(bulk -> bulk.operations(operations));
+		} catch (IOException e) {
+			throw new UncheckedIOException("product-posts bulk 요청 실패", e);
+		}
+
+		Set<String> succeededIds = new HashSet<>();
+		Set<String> retryableIds = new HashSet<>();
+		Set<String> failedIds = new HashSet<>();
+
+		for (BulkResponseItem item : response.items()) {
+			if (item.error() == null) {
+				succeededIds.add(item.id());
+			} else if (item.operationType() != OperationType.Index && item.status() == NOT_FOUND) {
+				// 이미 삭제되었거나 아직 색인되지 않은 문서 (색인될 때 현재 좋아요/조회수가 함께 반영됨)
+				succeededIds.add(item.id());
+			} else if (item.status() == TOO_MANY_REQUESTS || item.status() >= 500) {
+				retryableIds.add(item.id());
+			} else {
+				failedIds.add(item.id());
+				log.error("product-posts bulk 항목 실패 - id: {}, operation: {}, status: {}, reason: {}",
+					item.id(), item.operationType(), item.status(), item.error().reason());
+			}
+		}
+
+		return new BulkWriteResult(succeededIds, retryableIds, failedIds);
+	}
+
+	// 부분 업데이트 script 파라미터 (ProductPostDocumentEntity의 @Field name과 같아야 함, 값이 없으면 파라미터도 생략)
+	private static Map<String, JsonData> toCountersParams(ProductPostCountersChangedEvent changed) {
+		Map<String, JsonData> params = new HashMap<>();
+		if (changed.likedCount() != null) {
+			params.put("liked_count", JsonData.of(changed.likedCount()));
+		}
+		if (changed.viewCount() != null) {
+			params.put("view_count", JsonData.of(changed.viewCount()));
+		}
+		if (changed.counterVersion() != null) {
+			params.put("counter_version", JsonData.of(changed.counterVersion()));
+		}
+		return params;
+	}
+}
@@ -0,0 +1,138 @@
+package com.domainservice.domain.search.repository.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.common.event.productPost.EventType;
+import com.common.event.productPost.ProductPostUpsertedEvent;
+import com.domainservice.domain.search.repository.ProductPostSourceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductPostSourceRepositoryImpl implements ProductPostSourceRepository {
+
+	// 대표 이미지는 행마다 서브쿼리를 실행하지 않고 join 한 번으로 조회 (대표 이미지가 여러 개면 첫 행만 사용)
+	private static final String SELECT_PRODUCT = """
+		SELECT
+			p.id, p.user_id, p.title, p.name, p.price, p.description,
+			p.status, p.trade_status, p.view_count, p.liked_count, p.counter_version,
+			p.delete_status, p.created_at, p.updated_at,
+			c.name AS category_name,
+			img.s3_url AS primary_image_url
+		FROM product_post p
+		LEFT JOIN category c ON p.category_id = c.id
+		LEFT JOIN product_post_images ppi ON ppi.product_post_id = p.id AND ppi.is_primary = true
+		LEFT JOIN images img ON ppi.image_id = img.id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<String> findSliceBoundaries(int sliceSize) {
+		// (id 인덱스만 읽는) keyset 쿼리로 sliceSize 번째 id를 차례로 찾음
+		String sql = """
+			SELECT p.id FROM product_post p
+			WHERE p.delete_status = 'N' AND p.id > ?
+			ORDER BY p.id
+			LIMIT 1 OFFSET ?
+			""";
+
+		List<String> boundaries = new ArrayList<>();
+		String after = "";
+		while (true) {
+			List<String> found = jdbcTemplate.queryForList(sql, String.class, after, sliceSize - 1);
+			if (found.isEmpty()) {
+				return boundaries;
+			}
+			after = found.getFirst();
+			boundaries.add(after);
+		}
+	}
+
+	@Override
+	public List<ProductPostUpsertedEvent> findPage(String afterId, String toId, int limit) {
+		// 대표 이미지 join으로 행이 늘어날 수 있으므로 상품 id를 먼저 자른 뒤 join
+		String idSql = toId == null
+			? "SELECT p.id FROM product_post p WHERE p.delete_status = 'N' AND p.id > ? ORDER BY p.id LIMIT ?"
+			: "SELECT p.id FROM product_post p WHERE p.delete_status = 'N' AND p.id > ? AND p.id <= ? ORDER BY p.id LIMIT ?";
+
+		List<String> ids = toId == null
+			? jdbcTemplate.queryForList(idSql, String.class, afterId, limit)
+			: jdbcTemplate.queryForList(idSql, String.class, afterId, toId, limit);
+
+		return findAllByIds(ids);
+	}
+
+	@Override
+	public List<ProductPostUpsertedEvent> findAllByIds(Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+		Object[] params = ids.toArray();
+
+		Map<String, ProductPostUpsertedEvent.ProductPostUpsertedEventBuilder> products = new LinkedHashMap<>();
+		jdbcTemplate.query(
+			SELECT_PRODUCT + "WHERE p.delete_status = 'N' AND p.id IN (" + in + ") ORDER BY p.id",
+			rs -> {
+				products.putIfAbsent(rs.getString("id"), toEventBuilder(rs));
+			},
+			params);
+
+		Map<String, List<String>> tags = findTags(in, params);
+
+		return products.entrySet().stream()
+			.map(entry -> entry.getValue()
+				.tags(tags.getOrDefault(entry.getKey(), new ArrayList<>()))
+				.build())
+			.toList();
+	}
+
+	private Map<String, List<String>> findTags(String in, Object[] params) {
+		Map<String, List<String>> tags = new HashMap<>();
+		jdbcTemplate.query(
+			"SELECT ppt.product_post_id, t.name FROM product_post_tag ppt "
+				+ "JOIN tag t ON ppt.tag_id = t.id WHERE ppt.product_post_id IN (" + in + ")",
+			rs -> {
+				tags.computeIfAbsent(rs.getString("product_post_id"), k -> new ArrayList<>()).add(rs.getString("name"));
+			},
+			params);
+		return tags;
+	}
+
+	private static ProductPostUpsertedEvent.ProductPostUpsertedEventBuilder toEventBuilder(ResultSet rs)
+		throws SQLException {
+		return ProductPostUpsertedEvent.builder()
+			.id(rs.getString("id"))
+			.userId(rs.getString("user_id"))
+			.categoryName(rs.getString("category_name"))
+			.title(rs.getString("title"))
+			.name(rs.getString("name"))
+			.price(rs.getLong("price"))
+			.description(rs.getString("description"))
+			.status(rs.getString("status"))
+			.tradeStatus(rs.getString("trade_status"))
+			.viewCount(rs.getLong("view_count"))
+			.likedCount(rs.getLong("liked_count"))
+			.counterVersion(rs.getLong("counter_version"))
+			.deleteStatus(rs.getString("delete_status"))
+			.createdAt(rs.getObject("created_at", LocalDateTime.class))
+			.updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+			.primaryImageUrl(rs.getString("primary_image_url"))
+			.eventType(EventType.UPDATE);
+	}
+}
@@ -1,14 +1,14 @@
 package com.domainservice.domain.search.repository.impl;
 
 import java.sql.Timestamp;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import com.common.model.persistence.BaseEntity;
-import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
+import com.domainservice.domain.search.model.entity.persistence.SearchWordRollup;
 import com.domainservice.domain.search.repository.SearchWordLogCommandRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -20,26 +20,60 @@ import lombok.extern.slf4j.Slf4j;
 public class SearchWordLogCommandRepositoryImpl implements SearchWordLogCommandRepository {
 
 	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * (검색어, 분) 단위 집계 row bulk upsert
+	 * - 같은 (word, bucket_minute) row가 이미 있으면 search_count에 누적
+	 * - rewriteBatchedStatements=true 설정으로 multi-row INSERT 한 번으로 전송됨
+	 */
 	@Override
-	public List<SearchWordLog> insertAll(List<SearchWordLog> logs) {
+	public List<SearchWordRollup> upsertRollups(List<SearchWordRollup> rollups) {
 		String sql = """
-			INSERT INTO search_word_logs(id, searched_at, word, created_at, updated_at, delete_status)
-			VALUES (?, ?, ?, ?, ?, 'N')
+			INSERT INTO search_word_rollups(id, word, bucket_minute, search_count, created_at, updated_at, delete_status)
+			VALUES (?, ?, ?, ?, ?, ?, 'N')
+			ON DUPLICATE KEY UPDATE search_count = search_count + ?, updated_at = ?
 			""".trim();
-		int[][] result = jdbcTemplate.batchUpdate(sql, logs, logs.size(),
-			(ps, log) -> {
-				String generatedId = BaseEntity.createEntityId();
-
-				ps.setString(1, generatedId);
-				Timestamp searchedAt = Timestamp.valueOf(log.getSearchedAt());
-				ps.setTimestamp(2, searchedAt);
-				ps.setString(3, log.getWord());
-				ps.setTimestamp(4, searchedAt);
-				ps.setTimestamp(5, searchedAt);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		int[][] result = jdbcTemplate.batchUpdate(sql, rollups, rollups.size(),
+			(ps, rollup) -> {
+				ps.setString(1, BaseEntity.createEntityId());
+				ps.setString(2, rollup.getWord());
+				ps.setTimestamp(3, Timestamp.valueOf(rollup.getBucketMinute()));
+				ps.setLong(4, rollup.getSearchCount());
+				ps.setTimestamp(5, now);
+				ps.setTimestamp(6, now);
+				ps.setLong(7, rollup.getSearchCount());
+				ps.setTimestamp(8, now);
 			}
 		);
 
-		log.info("Batch update results = {}", Arrays.deepToString(result));
-		return logs;
+		log.info("Rollup upsert - rows: {}, batches: {}", rollups.size(), result.length);
+		return rollups;
+	}
+
+	/**
+	 * 보관 기간이 지난 검색 1회 단위 원본 로그 삭제
+	 * - 한 번에 chunkSize 개씩 지워서 긴 트랜잭션/락을 피함
+	 * @return 이번 호출에서 삭제된 row 수
+	 */
+	@Override
+	public int deleteRawLogsBefore(LocalDateTime threshold, int chunkSize) {
+		return jdbcTemplate.update(
+			"DELETE FROM search_word_logs WHERE searched_at < ? LIMIT ?",
+			Timestamp.valueOf(threshold), chunkSize
+		);
+	}
+
+	/**
+	 * 보관 기간이 지난 분 단위 집계 로그 삭제
+	 * @return 이번 호출에서 삭제된 row 수
+	 */
+	@Override
+	public int deleteRollupsBefore(LocalDateTime threshold, int chunkSize) {
+		return jdbcTemplate.update(
+			"DELETE FROM search_word_rollups WHERE bucket_minute < ? LIMIT ?",
+			Timestamp.valueOf(threshold), chunkSize
+		);
 	}
 }
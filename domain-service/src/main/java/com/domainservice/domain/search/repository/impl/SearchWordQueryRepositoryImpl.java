@@ -1,104 +1,310 @@
 package com.domainservice.domain.search.repository.impl;
 
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 import com.domainservice.domain.search.model.entity.dto.document.SearchWordDocumentEntity;
 import com.domainservice.domain.search.repository.SearchWordQueryRepository;
 
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._types.FieldType;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldValueFactorModifier;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.FuzzyQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.PrefixQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class SearchWordQueryRepositoryImpl implements SearchWordQueryRepository {
 
+	private static final String INDEX_NAME = "search-words";
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+
+	// 자동완성 clause 별 가중치: 입력 그대로의 prefix > 변환된 한글/QWERTY prefix > 오타 허용(fuzzy)
+	private static final float ORIGIN_PREFIX_BOOST = 4.0f;
+	private static final float CONVERTED_PREFIX_BOOST = 3.0f;
+	private static final float QWERTY_PREFIX_BOOST = 3.0f;
+	private static final float QWERTY_FUZZY_BOOST = 1.0f;
+
+	// 기존 문서: search_count 누적 + recent_searched_at은 더 최근 날짜로만 갱신 + 초성이 없는 기존 문서는 채움 (나머지 필드는 그대로 유지)
+	private static final String UPSERT_SCRIPT = """
+		if (ctx._source.search_count == null) {
+			ctx._source.search_count = params.search_count;
+		} else {
+			ctx._source.search_count += params.search_count;
+		}
+		if (ctx._source.choseong == null) {
+			ctx._source.choseong = params.choseong;
+		}
+		if (ctx._source.recent_searched_at == null
+			|| ctx._source.recent_searched_at.compareTo(params.recent_searched_at) < 0) {
+			ctx._source.recent_searched_at = params.recent_searched_at;
+		}
+		""";
+
 	private final ElasticsearchOperations operations;
+	private final BulkIngester<String> searchWordBulkIngester;
+
+	// 오타 보정용 fuzzy clause 사용 여부 (기본: 인메모리 오타 교정으로 대체하고 사용 안 함)
+	@Value("${custom.search.spelling.es-fuzzy-enabled:false}")
+	private boolean fuzzyEnabled;
 
 	@Override
 	public List<SearchWordDocumentEntity> findAllByQwertyInput(String prefix) {
 
-		Query query = BoolQuery.of(b -> b
+		BoolQuery.Builder bool = new BoolQuery.Builder()
 			.should(
 				PrefixQuery.of(p -> p
 					.field("qwertyInput")
 					.value(prefix)
 				)._toQuery()
-			)
-			.should(
+			);
+
+		if (fuzzyEnabled) {
+			bool.should(
 				FuzzyQuery.of(f -> f
 					.field("qwertyInput.raw")
 					.value(prefix)
 					.fuzziness("AUTO")
 					.prefixLength(Math.min(prefix.length(), 2))
 				)._toQuery()
-			)
-		)._toQuery();
+			);
+		}
+
+		Query query = bool.build()._toQuery();
 
-		return executeSearch(query);
+		return executeSearch(withSearchCountBoost(query));
 	}
 
 	@Override
 	public List<SearchWordDocumentEntity> findAllByOriginValue(String koreanWord) {
 
-		Query query = BoolQuery.of(b -> b
+		BoolQuery.Builder bool = new BoolQuery.Builder()
 			.should(
 				PrefixQuery.of(p -> p
 					.field("originValue.nori")
 					.value(koreanWord)
 				)._toQuery()
-			)
-			.should(
+			);
+
+		if (fuzzyEnabled) {
+			bool.should(
 				FuzzyQuery.of(f -> f
 					.field("originValue.raw")
 					.value(koreanWord)
 					.fuzziness("AUTO")
 					.prefixLength(Math.min(koreanWord.length(), 2))
 				)._toQuery()
-			)
+			);
+		}
+
+		Query query = bool.build()._toQuery();
+
+		return executeSearch(withSearchCountBoost(query));
+	}
+
+	/**
+	 * 자동완성 후보 조회 (Elasticsearch 1회 요청)
+	 * - 원문 / 변환된 한글 / QWERTY 입력값 clause를 하나의 bool should로 묶고 clause 별 boost로 순위 차등
+	 * - 오타 보정은 인메모리 오타 교정(SpellingCorrector)이 담당, es-fuzzy-enabled일 때만 qwertyInput.raw fuzzy 추가
+	 * - 같은 문서가 여러 clause에 매칭되면 점수만 합산되므로 결과에 중복이 없음
+	 * @param originValue 입력한 그대로의 검색어
+	 * @param convertedKorean QWERTY 입력값을 한글로 변환한 값 (원문과 같으면 생략)
+	 * @param qwertyInput 입력값을 QWERTY로 변환한 값
+	 * @param limit 최대 결과 수
+	 */
+	@Override
+	public List<SearchWordDocumentEntity> findAutoCompletion(String originValue, String convertedKorean,
+		String qwertyInput, int limit) {
+
+		BoolQuery.Builder bool = new BoolQuery.Builder().minimumShouldMatch("1");
+
+		if (StringUtils.hasText(originValue)) {
+			bool.should(PrefixQuery.of(p -> p
+				.field("originValue.nori")
+				.value(originValue)
+				.boost(ORIGIN_PREFIX_BOOST)
+				.queryName("origin_prefix")
+			)._toQuery());
+		}
+
+		if (StringUtils.hasText(convertedKorean) && !convertedKorean.equals(originValue)) {
+			bool.should(PrefixQuery.of(p -> p
+				.field("originValue.nori")
+				.value(convertedKorean)
+				.boost(CONVERTED_PREFIX_BOOST)
+				.queryName("converted_prefix")
+			)._toQuery());
+		}
+
+		if (StringUtils.hasText(qwertyInput)) {
+			bool.should(PrefixQuery.of(p -> p
+				.field("qwertyInput")
+				.value(qwertyInput)
+				.boost(QWERTY_PREFIX_BOOST)
+				.queryName("qwerty_prefix")
+			)._toQuery());
+
+			if (fuzzyEnabled) {
+				bool.should(FuzzyQuery.of(f -> f
+					.field("qwertyInput.raw")
+					.value(qwertyInput)
+					.fuzziness("AUTO")
+					.prefixLength(Math.min(qwertyInput.length(), 2))
+					.boost(QWERTY_FUZZY_BOOST)
+					.queryName("qwerty_fuzzy")
+				)._toQuery());
+			}
+		}
+
+		return executeSearch(withSearchCountBoost(bool.build()._toQuery()), limit);
+	}
+
+	/**
+	 * 초성 자동완성 조회 (ex. ㅇㅇㅍ → 아이폰, 아이패드 프로)
+	 * - choseong 필드는 색인할 때 공백 제거 + edge ngram으로 저장되므로 입력값 그대로 term 1회 조회
+	 * - fuzzy / 변환 clause 없이 search_count 순으로만 정렬
+	 * @param choseong 자음만으로 이루어진 입력값 (공백 제거)
+	 * @param limit 최대 결과 수
+	 */
+	@Override
+	public List<SearchWordDocumentEntity> findAllByChoseong(String choseong, int limit) {
+
+		Query query = TermQuery.of(t -> t
+			.field("choseong")
+			.value(choseong)
 		)._toQuery();
 
-		return executeSearch(query);
+		return executeSearch(withSearchCountBoost(query), limit);
 	}
 
 	/**
 	 * @description originValue 기준으로 upsert 처리
-	 * Document에 originValue가 있으면 update 없으면 insert
+	 * Document에 originValue가 있으면 search_count, recent_searched_at만 부분 갱신(script) 없으면 insert
+	 * - 호출하는 쪽에서 originValue 당 1개로 합쳐서 전달 (같은 _id에 대한 중복 작업 방지)
+	 * - bulk ingester가 크기/용량 기준으로 나눠서 전송하며, 진행 중인 요청이 많으면 대기
 	 * @param searchWordDocumentEntities
 	 */
 	@Override
 	public void upsertByOriginValue(List<SearchWordDocumentEntity> searchWordDocumentEntities) {
 
-		List<IndexQuery> indexQueries = searchWordDocumentEntities.stream()
-			.map(entity ->
-				IndexQuery.builder()
-					.withId(entity.getOriginValue())   // originValue를 문서 ID로 사용
-					.withObject(entity)                // 전체 document 저장
-					.build()
+		for (SearchWordDocumentEntity entity : searchWordDocumentEntities) {
+			BulkOperation operation = BulkOperation.of(op -> op
+				.update(u -> u
+					.index(INDEX_NAME)
+					.id(entity.getOriginValue())   // originValue를 문서 ID로 사용
+					.action(a -> a
+						.script(Script.of(sc -> sc
+							.lang("painless")
+							.source(UPSERT_SCRIPT)
+							.params(Map.of(
+								"search_count", JsonData.of(entity.getSearchCount()),
+								"choseong", JsonData.of(entity.getChoseong()),
+								"recent_searched_at", JsonData.of(entity.getRecentSearchedAt().format(DATE_FORMAT))
+							))
+						))
+						.upsert(toSource(entity))  // 문서가 없을 때만 전체 document 저장
+					)
+				)
+			);
+
+			searchWordBulkIngester.add(operation, entity.getOriginValue());
+		}
+
+		// 배치 끝에 남은 작업 전송 (임계치 미만으로 남은 작업이 flush-interval까지 기다리지 않도록)
+		searchWordBulkIngester.flush();
+	}
+
+	/**
+	 * search_count 내림차순 상위 limit 개 검색어 조회 (자동완성 인메모리 인덱스 적재용)
+	 * - max_result_window 제한 없이 읽기 위해 scroll 사용, originValue와 search_count만 조회
+	 * @return {검색어, 누적 검색 횟수} (search_count 내림차순)
+	 */
+	@Override
+	public Map<String, Long> findTopSearchCounts(int limit) {
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(q -> q.matchAll(m -> m))
+			.withSort(s -> s.field(f -> f
+				.field("search_count")
+				.order(SortOrder.Desc)
+				.unmappedType(FieldType.Long)
+			))
+			.withSourceFilter(new FetchSourceFilterBuilder()
+				.withIncludes("originValue", "search_count")
+				.build())
+			.withPageable(PageRequest.of(0, 1000))
+			.build();
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		try (SearchHitsIterator<SearchWordDocumentEntity> hits =
+				 operations.searchForStream(query, SearchWordDocumentEntity.class)) {
+			while (hits.hasNext() && counts.size() < limit) {
+				SearchWordDocumentEntity document = hits.next().getContent();
+				Long searchCount = document.getSearchCount();
+				counts.put(document.getOriginValue(), searchCount == null ? 0L : searchCount);
+			}
+		}
+		return counts;
+	}
+
+	// 검색 점수 x log(2 + search_count): 같은 매칭이면 많이 검색된 검색어가 상위, 검색 횟수가 없어도 점수 유지
+	private Query withSearchCountBoost(Query query) {
+		return FunctionScoreQuery.of(f -> f
+			.query(query)
+			.functions(fn -> fn
+				.fieldValueFactor(v -> v
+					.field("search_count")
+					.modifier(FieldValueFactorModifier.Log2p)
+					.missing(0.0)
+				)
 			)
-			.toList();
+			.boostMode(FunctionBoostMode.Multiply)
+		)._toQuery();
+	}
 
-		// indexName = "search-words"
-		operations.bulkIndex(
-			indexQueries,
-			IndexCoordinates.of("search-words")
-		);
+	// upsert용 원본 document (ES 필드명 기준)
+	private Map<String, Object> toSource(SearchWordDocumentEntity entity) {
+		Map<String, Object> source = new HashMap<>();
+		source.put("originValue", entity.getOriginValue());
+		source.put("qwertyInput", entity.getQwertyInput());
+		source.put("choseong", entity.getChoseong());
+		source.put("created_at", entity.getCreatedAt().format(DATE_FORMAT));
+		source.put("recent_searched_at", entity.getRecentSearchedAt().format(DATE_FORMAT));
+		source.put("search_count", entity.getSearchCount());
+		return source;
 	}
 
 	private List<SearchWordDocumentEntity> executeSearch(Query query) {
+		return executeSearch(query, 10);
+	}
+
+	private List<SearchWordDocumentEntity> executeSearch(Query query, int maxResults) {
 		NativeQuery searchQuery = NativeQuery.builder()
 			.withQuery(query)
-			.withMaxResults(10)
+			.withMaxResults(maxResults)
 			.build();
 
 		SearchHits<SearchWordDocumentEntity> searchHits = operations.search(
@@ -0,0 +1,132 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.RankedProduct;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오늘의 추천 상품 순위 저장소
+ * - 카테고리별(전체는 ALL) ZSET: {prefix}{카테고리} -> (상품 id, 점수)
+ * - 새 순위는 임시 key에 모두 쓴 뒤 RENAME으로 교체 → 조회 중에는 이전 순위 또는 새 순위 중 하나만 보임
+ * - 순위 계산이 멈추면 ttl 후 key가 사라지고, 조회는 Elasticsearch function_score 쿼리로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyBestProductRedisRepository {
+
+	private static final String RANKING_KEY_PREFIX = "search:product:daily-best:";
+	private static final String CATEGORY_INDEX_KEY = "search:product:daily-best-categories";
+	private static final String TEMP_KEY_SUFFIX = ":tmp";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 순위 목록 한 페이지
+	 * @param ids 순위 순서의 상품 id
+	 * @param total 순위 목록 전체 크기
+	 */
+	public record RankedPage(List<String> ids, long total) {
+	}
+
+	/**
+	 * 모든 카테고리 순위를 새 순위로 교체하고, 새 순위에 없는 카테고리 key는 삭제
+	 * @param rankings {카테고리 key, 순위 순서의 상품 목록}
+	 * @param ttl 순위 유지 시간 (갱신 주기보다 충분히 길게)
+	 */
+	public void replaceAll(Map<String, List<RankedProduct>> rankings, Duration ttl) {
+		Set<String> previous = redisTemplate.opsForSet().members(CATEGORY_INDEX_KEY);
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			rankings.forEach((category, ranked) -> {
+				if (ranked.isEmpty()) {
+					return;
+				}
+				byte[] key = serializer.serialize(RANKING_KEY_PREFIX + category);
+				byte[] tempKey = serializer.serialize(RANKING_KEY_PREFIX + category + TEMP_KEY_SUFFIX);
+
+				Set<Tuple> tuples = new HashSet<>(ranked.size() * 2);
+				for (RankedProduct product : ranked) {
+					tuples.add(new DefaultTuple(serializer.serialize(product.id()), (double)product.score()));
+				}
+
+				connection.keyCommands().del(tempKey);
+				connection.zSetCommands().zAdd(tempKey, tuples);
+				connection.keyCommands().expire(tempKey, ttl.toSeconds());
+				connection.keyCommands().rename(tempKey, key);
+			});
+
+			// 카테고리 목록 교체
+			byte[] indexKey = serializer.serialize(CATEGORY_INDEX_KEY);
+			byte[] tempIndexKey = serializer.serialize(CATEGORY_INDEX_KEY + TEMP_KEY_SUFFIX);
+			byte[][] categories = rankings.entrySet().stream()
+				.filter(entry -> !entry.getValue().isEmpty())
+				.map(entry -> serializer.serialize(entry.getKey()))
+				.toArray(byte[][]::new);
+
+			connection.keyCommands().del(tempIndexKey);
+			if (categories.length > 0) {
+				connection.setCommands().sAdd(tempIndexKey, categories);
+				connection.keyCommands().expire(tempIndexKey, ttl.toSeconds());
+				connection.keyCommands().rename(tempIndexKey, indexKey);
+			} else {
+				connection.keyCommands().del(indexKey);
+			}
+			return null;
+		});
+
+		// 더 이상 순위가 없는 카테고리 삭제
+		if (previous != null) {
+			List<String> staleKeys = new ArrayList<>();
+			for (String category : previous) {
+				List<RankedProduct> ranked = rankings.get(category);
+				if (ranked == null || ranked.isEmpty()) {
+					staleKeys.add(RANKING_KEY_PREFIX + category);
+				}
+			}
+			if (!staleKeys.isEmpty()) {
+				redisTemplate.delete(staleKeys);
+			}
+		}
+	}
+
+	/**
+	 * 순위 목록에서 한 페이지 조회
+	 * @return 순위 목록이 없으면(계산 전 또는 만료) empty
+	 */
+	public Optional<RankedPage> findPage(String category, long offset, int size) {
+		String key = RANKING_KEY_PREFIX + category;
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+			byte[] rawKey = serializer.serialize(key);
+			connection.zSetCommands().zCard(rawKey);
+			connection.zSetCommands().zRevRange(rawKey, offset, offset + size - 1);
+			return null;
+		});
+
+		Long total = (Long)results.get(0);
+		if (total == null || total == 0) {
+			return Optional.empty();
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<String> ids = (Set<String>)results.get(1);
+		return Optional.of(new RankedPage(ids != null ? List.copyOf(ids) : List.of(), total));
+	}
+}
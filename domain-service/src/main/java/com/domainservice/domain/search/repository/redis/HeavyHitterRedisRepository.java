@@ -0,0 +1,60 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * replica 별 Count-Min Sketch를 Redis에서 병합하기 위한 저장소
+ * - 주기(period) 단위 hash: {prefix}{period} -> (셀 index, count)
+ * - 각 replica가 자기 sketch의 셀 값을 HINCRBY로 더하면 셀 단위 합산 = sketch 병합
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeavyHitterRedisRepository {
+
+	private static final String SKETCH_KEY_PREFIX = "search:heavy-hitter:cms:";
+	private static final Duration SKETCH_TTL = Duration.ofHours(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 해당 주기의 전역 sketch에 로컬 sketch 셀 값 합산 (0인 셀은 전송하지 않음)
+	 */
+	public void mergeSketch(long period, long[] cells) {
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] key = serializer.serialize(SKETCH_KEY_PREFIX + period);
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int i = 0; i < cells.length; i++) {
+				if (cells[i] != 0) {
+					connection.hashCommands().hIncrBy(key, serializer.serialize(String.valueOf(i)), cells[i]);
+				}
+			}
+			connection.keyCommands().expire(key, SKETCH_TTL.toSeconds());
+			return null;
+		});
+	}
+
+	/**
+	 * 해당 주기에 모든 replica가 병합한 전역 sketch 셀 조회
+	 */
+	public long[] findSketch(long period, int size) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(SKETCH_KEY_PREFIX + period);
+
+		long[] cells = new long[size];
+		entries.forEach((index, count) -> {
+			int i = Integer.parseInt((String)index);
+			if (i >= 0 && i < size) {
+				cells[i] = Long.parseLong((String)count);
+			}
+		});
+		return cells;
+	}
+}
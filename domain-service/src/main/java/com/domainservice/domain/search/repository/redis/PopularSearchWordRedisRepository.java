@@ -2,22 +2,24 @@ package com.domainservice.domain.search.repository.redis;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.springframework.data.redis.core.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
-import com.domainservice.domain.search.model.vo.SearchWord;
 import com.domainservice.domain.search.service.converter.PrefixConverter;
-import com.domainservice.domain.search.service.dto.vo.DailyPopularWordLog;
 import com.domainservice.domain.search.service.dto.vo.KeywordLog;
 import com.domainservice.domain.search.util.TimeUtils;
 
@@ -31,101 +33,122 @@ public class PopularSearchWordRedisRepository {
 
 	private final RedisTemplate<String, String> redisTemplate; //<String, >
 	private final RedisScript<Long> updateZSetWithDecayScript;
-	private static final String DAILY_POPULAR_PREFIX = "search:popular:daily:";
-	private static final String SEARCHED_AT_KEY_PREFIX = "search:trend:searchedAt:";
+	private final RedisScript<Long> updateZSetWithLazyDecayScript;
+	@SuppressWarnings("rawtypes")
+	private final RedisScript<List> drainCountBucketsScript;
+	@SuppressWarnings("rawtypes")
+	private final RedisScript<List> drainReachCountsScript;
+
+	// 분 단위 버킷: {prefix}{yyyyMMddHHmm} -> hash(검색어, count), 인덱스 ZSET으로 버킷 목록 관리
+	private static final String TREND_BUCKET_PREFIX = "search:trend:bucket:";
+	private static final String TREND_BUCKET_INDEX_KEY = "search:trend:buckets";
+	private static final String DAILY_BUCKET_PREFIX = "search:popular:daily:bucket:";
+	private static final String DAILY_BUCKET_INDEX_KEY = "search:popular:daily:buckets";
+
+	// 검색어별 고유 검색자 HyperLogLog: {prefix}{검색어} (키당 최대 12KB, 카디널리티가 낮으면 sparse 인코딩으로 더 작음)
+	private static final String TREND_REACH_PREFIX = "search:trend:reach:";
+	private static final String DAILY_REACH_PREFIX = "search:popular:daily:reach:";
 
 	private static final String TREND_ZSET_KEY = "search:trend:zset";
 	private static final String DAILY_ZSET_KEY = "search:daily:zset";		//일간 인기 검색어
+	private static final String EPOCH_KEY_SUFFIX = ":epoch";				//lazy decay 기준 시각
 
+	// 트렌드/일간 ZSET 최대 보관 개수 (heavy-hitter 후보 수 이상으로는 늘어나지 않도록 상한 유지)
+	private static final long MAX_ZSET_SIZE = 1000;
+
+	// lazy decay 재정규화 임계 지수: 저장 점수가 exp(20) ≈ 4.8억 배를 넘기 전에 기준 시각 이동
+	private static final double RENORMALIZE_EXPONENT = 20.0;
+
+	// true: 기준 시각 기반 lazy decay (변경된 검색어만 갱신), false: 배치마다 전체 멤버 감쇠
+	@Value("${custom.search.decay.lazy-enabled:true}")
+	private boolean lazyDecayEnabled;
+
+	// true: 검색 횟수 대신 고유 검색자 수(HyperLogLog)로 순위 계산, false: 검색 횟수 기준
+	@Value("${custom.search.ranking.unique-searcher-enabled:false}")
+	private boolean uniqueSearcherRankingEnabled;
 
 
 	/**
-	 * 검색어 발생 시 Redis에 4가지 이벤트 기록
-	 * 1. 모든 키워드 목록 보관
-	 * 2. 실시간 트렌드 계산용 5분 카운트 증가
-	 * 3. 실시간 트렌드 계산용 마지막에 검색된 시간 저장
-	 * 4. 일간 인기 키워드 증가
+	 * 인메모리 집계기(SearchWordCountAggregator)가 모아둔 검색어별 카운트를 Redis에 반영
+	 * - flush 시각이 속한 분 단위 버킷(hash)에 HINCRBY, 버킷 인덱스(ZSET)에 해당 분 등록
+	 * - 검색어 수만큼의 명령을 하나의 pipeline으로 전송 (round trip 1회)
+	 * 1. 실시간 트렌드 계산용 버킷 카운트 증가
+	 * 2. 일간 인기 키워드 버킷 카운트 증가
+	 * 3. (고유 검색자 모드) 검색어별 HyperLogLog에 검색자 PFADD
+	 * @param counts {검색어, flush 주기 동안 검색된 횟수}
+	 * @param searchers {검색어, flush 주기 동안 검색한 검색자 식별자}
+	 * @param flushedAt flush 시각
 	 */
-	public void save(SearchWord word) {
-		String keyword = word.value();
-
-		// 1) 키워드 - 시간 리스트
-		LocalDateTime now = LocalDateTime.now();
-		String timeKey = TimeUtils.convertDateTimeToString(now);
-		String searchedAtKey = SEARCHED_AT_KEY_PREFIX + keyword;
-		redisTemplate.opsForList()
-			.leftPush(searchedAtKey, timeKey);
-
-		// 2) 일간 인기 키워드 Count 증가
-		String dailyKey = DAILY_POPULAR_PREFIX +  keyword;
-		redisTemplate.opsForList().leftPush(dailyKey, timeKey);
-		redisTemplate.expire(dailyKey, Duration.ofHours(2).plusMinutes(10));
+	public void incrementSearchCounts(Map<String, Long> counts, Map<String, Set<String>> searchers,
+		LocalDateTime flushedAt) {
+		String minute = TimeUtils.convertDateTimeToMinuteKey(flushedAt);
+		double minuteScore = Double.parseDouble(minute);
+
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] trendBucketKey = serializer.serialize(TREND_BUCKET_PREFIX + minute);
+		byte[] dailyBucketKey = serializer.serialize(DAILY_BUCKET_PREFIX + minute);
+		byte[] minuteMember = serializer.serialize(minute);
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			counts.forEach((keyword, count) -> {
+				byte[] field = serializer.serialize(keyword);
+				connection.hashCommands().hIncrBy(trendBucketKey, field, count);
+				connection.hashCommands().hIncrBy(dailyBucketKey, field, count);
+
+				Set<String> keywordSearchers = searchers.get(keyword);
+				if (uniqueSearcherRankingEnabled && keywordSearchers != null && !keywordSearchers.isEmpty()) {
+					byte[][] values = keywordSearchers.stream()
+						.map(serializer::serialize)
+						.toArray(byte[][]::new);
+					byte[] trendReachKey = serializer.serialize(TREND_REACH_PREFIX + keyword);
+					byte[] dailyReachKey = serializer.serialize(DAILY_REACH_PREFIX + keyword);
+
+					connection.hyperLogLogCommands().pfAdd(trendReachKey, values);
+					connection.hyperLogLogCommands().pfAdd(dailyReachKey, values);
+					connection.keyCommands().expire(trendReachKey, Duration.ofHours(1).toSeconds());
+					connection.keyCommands().expire(dailyReachKey, Duration.ofHours(3).toSeconds());
+				}
+			});
+
+			// drain되지 못한 버킷이 남지 않도록 만료시간 지정 (drain 주기보다 충분히 길게)
+			connection.keyCommands().expire(trendBucketKey, Duration.ofHours(1).toSeconds());
+			connection.keyCommands().expire(dailyBucketKey, Duration.ofHours(3).toSeconds());
+
+			// 버킷 인덱스 등록 (이미 drain된 분에 늦게 도착한 카운트도 다시 등록되어 다음 drain에서 반영됨)
+			connection.zSetCommands().zAdd(serializer.serialize(TREND_BUCKET_INDEX_KEY), minuteScore, minuteMember);
+			connection.zSetCommands().zAdd(serializer.serialize(DAILY_BUCKET_INDEX_KEY), minuteScore, minuteMember);
+			return null;
+		});
 	}
 
 
 	/**
 	 * 실시간 인기 검색어 로그 조회하기(업데이트용)
-	 * scheduler 사용예정
-	 * @return
+	 * - 현재 시각까지 쌓인 분 단위 버킷을 Lua 스크립트로 한 번에 읽고 삭제
+	 * @return 검색어 + 분 단위 검색 횟수 목록
 	 */
 	public List<KeywordLog> findRealTimeTrendWordLog() {
-		Set<String> searchedAtKeys = getKeysByPattern(SEARCHED_AT_KEY_PREFIX +"*");
-
-		return searchedAtKeys.stream()
-			.map(key -> {
-				List<String> timestamps = redisTemplate.opsForList().range(key, 0, -1);
-				redisTemplate.delete(key);
-
-				String keyword = key.replace(SEARCHED_AT_KEY_PREFIX, ""); // trend:searchedAt:keyword
-
-				List<LocalDateTime> searchedAtList = timestamps.stream()
-					.map(TimeUtils::convertFromStringToDateTime)
-					.toList();
-
-				return new KeywordLog(
-					keyword,
-					searchedAtList,
-					null
-				);
-			})
-			.toList();
+		return drainBuckets(TREND_BUCKET_INDEX_KEY, TREND_BUCKET_PREFIX, LocalDateTime.now(), null);
 	}
 
-	/**
-	 * 실시간 인기 검색어 리스트 업데이트
-	 * (5분 마다 진행)
-	 */
 	/**
 	 * 실시간 인기 검색어 리스트 업데이트 (5분 마다)
 	 *  - Lua 스크립트로:
-	 *    1) 기존 점수 감쇠
+	 *    1) 기존 점수 감쇠 (lazy 모드에서는 기준 시각 스케일로 대체)
 	 *    2) 이번 5분 동안의 count를 ZINCRBY로 반영
+	 *  - 고유 검색자 모드에서는 count 대신 5분 동안의 고유 검색자 수를 반영
 	 */
 	public void updateRealTimeTrendWord(List<KeywordLog> wordList) {
 		double tauMillis = 20 * 60 * 1000.0;   // 20분
 		double intervalMillis = 5 * 60 * 1000.0; // 5분 배치
 		double epsilon = 0.01;
 
-		// ARGV 구성: [tauMillis, intervalMillis, epsilon, keyword1, count1, keyword2, count2, ...]
-		List<String> args = new java.util.ArrayList<>();
-		args.add(String.valueOf(tauMillis));
-		args.add(String.valueOf(intervalMillis));
-		args.add(String.valueOf(epsilon));
-
-		for (KeywordLog keywordLog : wordList) {
-			long currentCount = keywordLog.searchedAt().size();
-			if (currentCount <= 0) continue;
+		Map<String, Long> counts = sumCountsByKeyword(wordList);
+		Map<String, Long> increments = uniqueSearcherRankingEnabled
+			? drainReachCounts(TREND_REACH_PREFIX, counts.keySet())
+			: counts;
 
-			args.add(keywordLog.keyword());
-			args.add(String.valueOf(currentCount));
-		}
-
-		// KEYS: [TREND_ZSET_KEY]
-		redisTemplate.execute(
-			updateZSetWithDecayScript,
-			List.of(TREND_ZSET_KEY),
-			args.toArray()
-		);
+		applyIncrementsWithDecay(TREND_ZSET_KEY, tauMillis, intervalMillis, epsilon, increments);
 	}
 
 
@@ -163,52 +186,43 @@ public class PopularSearchWordRedisRepository {
 	 * @return
 	 */
 	public List<KeywordLog> findDailyPopularWordListLog() {
-		Set<String> keys = getKeysByPattern(DAILY_POPULAR_PREFIX + "*");
-
-		return keys.stream().map(key -> { 					//search:popular:daily:단어
-			String keyword = key.replace(DAILY_POPULAR_PREFIX, "");
-
-			List<LocalDateTime> searchedAtList = redisTemplate.opsForList().range(key, 0, -1).stream()
-				.map(TimeUtils::convertFromStringToDateTime)
-				.toList();
-
-			redisTemplate.delete(key);
-
-			return new KeywordLog(
-				keyword,
-				searchedAtList,
-				TimeUtils.getCurrentBatchExecutionTime()
-			);
-		}).toList();
+		LocalDateTime batchedAt = TimeUtils.getCurrentBatchExecutionTime();
+		return drainBuckets(DAILY_BUCKET_INDEX_KEY, DAILY_BUCKET_PREFIX, LocalDateTime.now(), batchedAt);
 	}
 
-	private Set<String> getKeysByPattern(String keyPattern) {
-		Set<String> keys = new HashSet<>();
-		ScanOptions scanOptions = ScanOptions.scanOptions()
-			.match(keyPattern)    // trend:count:5m:*
-			.build();
+	/**
+	 * 분 단위 버킷 drain
+	 * - 인덱스 조회 → 버킷 HGETALL → DEL → 인덱스 정리를 Lua 스크립트 하나로 원자적으로 수행
+	 * - 키 SCAN 없이 버킷 수에 비례하는 작업만 수행하며, 읽기와 삭제 사이에 들어온 검색어가 유실되지 않음
+	 */
+	@SuppressWarnings("unchecked")
+	private List<KeywordLog> drainBuckets(String indexKey, String bucketPrefix, LocalDateTime until,
+		LocalDateTime batchedAt) {
+		List<Object> drained = redisTemplate.execute(
+			drainCountBucketsScript,
+			List.of(indexKey),
+			bucketPrefix,
+			TimeUtils.convertDateTimeToMinuteKey(until)
+		);
 
-		try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-			while (cursor.hasNext()) {
-				keys.add(cursor.next());
-			}
+		if (drained == null || drained.isEmpty()) {
+			return List.of();
 		}
 
-		return keys;
-	}
-
-	/**
-	 * 일간 인기 검색어 점수 감쇠 (2시간 배치에서 호출)
-	 */
-	public void decayDailyPopularScores() {
-		double tauMillis = 6 * 60 * 60 * 1000.0;  // 6시간 정도로 서서히 죽이기
-		double intervalMillis = 2 * 60 * 60 * 1000.0; // 2시간 배치
-		double epsilon = 0.1;                      // 일간은 좀 더 크게 잡아도 됨
+		// [minute, keyword, count, minute, keyword, count, ...]
+		List<KeywordLog> logs = new ArrayList<>(drained.size() / 3);
+		for (int i = 0; i + 2 < drained.size(); i += 3) {
+			logs.add(new KeywordLog(
+				(String)drained.get(i + 1),
+				Long.parseLong((String)drained.get(i + 2)),
+				TimeUtils.convertFromMinuteKeyToDateTime((String)drained.get(i)),
+				batchedAt
+			));
+		}
 
-		applyDecayToZSet(DAILY_ZSET_KEY, tauMillis, intervalMillis, epsilon);
+		return logs;
 	}
 
-
 	/**
 	 * 일간 인기 검색어 리스트 반환
 	 * @return
@@ -219,76 +233,134 @@ public class PopularSearchWordRedisRepository {
 
 	/**
 	 * 일간 인기 검색어 리스트를 Redis에 update
+	 * - 증가율 가중치 = 이번 2시간 검색 횟수 / EWMA 기대 검색 횟수 (0.3 ~ 2.0), 기대값이 없으면 신규 검색어로 보고 1.2
+	 * - 고유 검색자 모드에서는 가중치를 고유 검색자 수에 곱해서 반영
 	 * @param currentLogs {검색어, 검색 시간 로그들, 배치가 실행된 시각}
-	 * @param previousLogMap {검색어, 이전 스케줄러에서 집계된 검색 횟수(2시간 단위), 마지막으로 검색된 시간}
+	 * @param expectedCounts {검색어, 급상승 감지기(EWMA)가 추정한 2시간 기대 검색 횟수}
 	 */
-	public void updateDailyPopularWordList(List<KeywordLog> currentLogs, Map<String, DailyPopularWordLog> previousLogMap) {
+	public void updateDailyPopularWordList(List<KeywordLog> currentLogs, Map<String, Double> expectedCounts) {
 		double tauMillis = 6 * 60 * 60 * 1000.0;     // 6h
 		double intervalMillis = 2 * 60 * 60 * 1000.0; // 2h batch
 		double epsilon = 0.1;
 
-		List<String> args = new java.util.ArrayList<>();
-		args.add(String.valueOf(tauMillis));
-		args.add(String.valueOf(intervalMillis));
-		args.add(String.valueOf(epsilon));
+		Map<String, Long> currentCounts = sumCountsByKeyword(currentLogs);
+		Map<String, Long> reachCounts = uniqueSearcherRankingEnabled
+			? drainReachCounts(DAILY_REACH_PREFIX, currentCounts.keySet())
+			: currentCounts;
 
-		for (KeywordLog log : currentLogs) {
-			long currCount = log.searchedAt().size();
+		Map<String, Long> increments = new LinkedHashMap<>();
+		for (Map.Entry<String, Long> entry : currentCounts.entrySet()) {
+			String keyword = entry.getKey();
+			long currCount = entry.getValue();
 			if (currCount <= 0) continue;
 
-			DailyPopularWordLog prev = previousLogMap.get(log.keyword());
-			long prevCount = prev == null ? 0 : prev.searchedCount();
+			double expectedCount = expectedCounts.getOrDefault(keyword, 0.0);
 
 			double weight;
-			if (prevCount == 0) {
+			if (expectedCount < 1.0) {
 				weight = 1.2;
 			} else {
-				double rate = (double) currCount / prevCount;
+				double rate = currCount / expectedCount;
 				weight = Math.max(0.3, Math.min(2.0, rate));
 			}
 
-			long adjusted = Math.round(currCount * weight);
-
-			args.add(log.keyword());
-			args.add(String.valueOf(adjusted));
+			long base = reachCounts.getOrDefault(keyword, 0L);
+			increments.put(keyword, Math.round(base * weight));
 		}
 
-		redisTemplate.execute(
-			updateZSetWithDecayScript,
-			java.util.List.of(DAILY_ZSET_KEY),
-			args.toArray()
-		);
+		applyIncrementsWithDecay(DAILY_ZSET_KEY, tauMillis, intervalMillis, epsilon, increments);
 	}
 
-	private void applyDecayToZSet(String zsetKey,
-		double tauMillis,       // 감쇠 시간 상수
-		double intervalMillis,  // 배치 주기
-		double epsilon) {       // 너무 작으면 지울 임계값
-		double decayFactor = Math.exp(-intervalMillis / tauMillis);
+	/**
+	 * 감쇠 + 증가분 반영
+	 * - lazy 모드: 점수를 기준 시각(epoch) 스케일로 저장하고 증가분에 exp((now - epoch) / tau)를 곱해서 ZINCRBY
+	 *   → 변경된 검색어만 갱신, epsilon 미만 정리는 ZREMRANGEBYSCORE 한 번, 전체 재정규화는 가끔씩만 수행
+	 * - eager 모드: 배치마다 전체 멤버 점수를 exp(-interval / tau)로 감쇠 후 증가분 반영
+	 * @param zsetKey 점수 ZSET 키
+	 * @param tauMillis 감쇠 시간 상수
+	 * @param intervalMillis 배치 주기 (eager 모드에서만 사용)
+	 * @param epsilon 실제 점수가 이 값보다 작으면 제거
+	 * @param increments {검색어, 증가분}
+	 */
+	private void applyIncrementsWithDecay(String zsetKey, double tauMillis, double intervalMillis, double epsilon,
+		Map<String, Long> increments) {
+		List<String> args = new ArrayList<>();
+
+		if (lazyDecayEnabled) {
+			// ARGV 구성: [tauMillis, nowMillis, epsilon, renormalizeExponent, keyword1, count1, ...]
+			args.add(String.valueOf(tauMillis));
+			args.add(String.valueOf(System.currentTimeMillis()));
+			args.add(String.valueOf(epsilon));
+			args.add(String.valueOf(RENORMALIZE_EXPONENT));
+		} else {
+			// ARGV 구성: [tauMillis, intervalMillis, epsilon, keyword1, count1, keyword2, count2, ...]
+			args.add(String.valueOf(tauMillis));
+			args.add(String.valueOf(intervalMillis));
+			args.add(String.valueOf(epsilon));
+		}
+
+		increments.forEach((keyword, count) -> {
+			if (count <= 0) return;
+
+			args.add(keyword);
+			args.add(String.valueOf(count));
+		});
 
-		Set<ZSetOperations.TypedTuple<String>> existing =
-			redisTemplate.opsForZSet().rangeWithScores(zsetKey, 0, -1);
+		if (lazyDecayEnabled) {
+			redisTemplate.execute(
+				updateZSetWithLazyDecayScript,
+				List.of(zsetKey, zsetKey + EPOCH_KEY_SUFFIX),
+				args.toArray()
+			);
+		} else {
+			redisTemplate.execute(
+				updateZSetWithDecayScript,
+				List.of(zsetKey),
+				args.toArray()
+			);
+		}
 
-		if (existing == null || existing.isEmpty()) {
-			return;
+		// 점수 하위 멤버 정리: 상위 MAX_ZSET_SIZE 개만 유지
+		redisTemplate.opsForZSet().removeRange(zsetKey, 0, -(MAX_ZSET_SIZE + 1));
+	}
+
+	/**
+	 * 검색어별 고유 검색자 수 조회 후 HyperLogLog 제거
+	 * - PFCOUNT + DEL을 Lua 스크립트 하나로 수행하여 다음 윈도우의 PFADD와 섞이지 않도록 함
+	 * @param reachPrefix HyperLogLog 키 prefix
+	 * @param keywords 이번 윈도우에 카운트가 집계된 검색어
+	 * @return {검색어, 고유 검색자 수}
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Long> drainReachCounts(String reachPrefix, Set<String> keywords) {
+		if (keywords.isEmpty()) {
+			return Map.of();
 		}
 
-		for (ZSetOperations.TypedTuple<String> tuple : existing) {
-			String keyword = tuple.getValue();
-			Double score = tuple.getScore();
-			if (keyword == null || score == null) continue;
+		List<String> orderedKeywords = new ArrayList<>(keywords);
+		List<String> keys = orderedKeywords.stream()
+			.map(keyword -> reachPrefix + keyword)
+			.toList();
 
-			double decayed = score * decayFactor;
+		List<Object> counts = redisTemplate.execute(drainReachCountsScript, keys);
+		if (counts == null) {
+			return Map.of();
+		}
 
-			if (decayed < epsilon) {
-				// 점수가 너무 작으면 제거
-				redisTemplate.opsForZSet().remove(zsetKey, keyword);
-			} else {
-				// 감쇠된 점수로 갱신
-				redisTemplate.opsForZSet().add(zsetKey, keyword, decayed);
-			}
+		Map<String, Long> reach = new HashMap<>(orderedKeywords.size() * 2);
+		for (int i = 0; i < orderedKeywords.size() && i < counts.size(); i++) {
+			reach.put(orderedKeywords.get(i), ((Number)counts.get(i)).longValue());
 		}
+		return reach;
 	}
 
-
+	// 분 단위 버킷으로 나뉘어 있는 검색 횟수를 검색어 기준으로 합산
+	private Map<String, Long> sumCountsByKeyword(List<KeywordLog> logs) {
+		return logs.stream()
+			.collect(Collectors.groupingBy(
+				KeywordLog::keyword,
+				LinkedHashMap::new,
+				Collectors.summingLong(KeywordLog::searchedCount)
+			));
+	}
 }
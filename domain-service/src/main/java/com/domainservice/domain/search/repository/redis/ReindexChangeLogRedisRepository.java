@@ -0,0 +1,78 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 재색인 중 변경된 상품 id 기록
+ * - 재색인 시작 시 active key를 SET NX로 선점 (동시에 하나의 재색인만 실행, 값은 새 인덱스 이름)
+ * - active key가 있는 동안 상품 이벤트 consumer가 변경된 상품 id를 SET에 기록 (모든 replica 공통)
+ * - 재색인은 원본을 모두 읽은 뒤 기록된 id를 꺼내 MySQL 현재 상태로 새 인덱스에 다시 반영
+ * - 종료 시 active key 값이 자신의 인덱스 이름일 때만 삭제 (lock ttl이 지나 시작된 다른 재색인의 lock 보호)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReindexChangeLogRedisRepository {
+
+	private static final String ACTIVE_KEY = "search:reindex:product-posts:active";
+	private static final String CHANGED_KEY = "search:reindex:product-posts:changed";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScript<Long> finishReindexScript;
+
+	/**
+	 * 재색인 시작 (변경 기록 시작)
+	 * @param ttl 재색인이 비정상 종료되어도 기록이 계속 남지 않도록 하는 최대 유지 시간
+	 * @return 다른 재색인이 진행 중이면 false
+	 */
+	public boolean tryStart(String targetIndex, Duration ttl) {
+		Boolean started = redisTemplate.opsForValue().setIfAbsent(ACTIVE_KEY, targetIndex, ttl);
+		if (!Boolean.TRUE.equals(started)) {
+			return false;
+		}
+		redisTemplate.delete(CHANGED_KEY);
+		return true;
+	}
+
+	/**
+	 * 재색인이 진행 중인 동안 active key 유지 시간 연장
+	 */
+	public void extend(Duration ttl) {
+		redisTemplate.expire(ACTIVE_KEY, ttl);
+	}
+
+	/**
+	 * 재색인이 진행 중이면 변경된 상품 id 기록
+	 */
+	public void recordIfActive(Collection<String> ids) {
+		if (ids.isEmpty() || !Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KEY))) {
+			return;
+		}
+		redisTemplate.opsForSet().add(CHANGED_KEY, ids.toArray(String[]::new));
+	}
+
+	/**
+	 * 기록된 상품 id를 최대 count 개 꺼냄 (꺼낸 id는 기록에서 삭제)
+	 */
+	public List<String> drain(int count) {
+		List<String> ids = redisTemplate.opsForSet().pop(CHANGED_KEY, count);
+		return ids != null ? ids : List.of();
+	}
+
+	/**
+	 * 재색인 종료 (변경 기록 중단)
+	 * @param targetIndex tryStart 시 선점한 새 인덱스 이름
+	 * @return active key를 다른 재색인이 가지고 있어서 삭제하지 않았으면 false
+	 */
+	public boolean finish(String targetIndex) {
+		Long finished = redisTemplate.execute(finishReindexScript, List.of(ACTIVE_KEY, CHANGED_KEY), targetIndex);
+		return finished != null && finished == 1L;
+	}
+}
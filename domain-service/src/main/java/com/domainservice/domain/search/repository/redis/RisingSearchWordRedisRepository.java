@@ -0,0 +1,151 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
+import com.domainservice.domain.search.service.dto.vo.KeywordLog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급상승 검색어 감지 저장소
+ * - 검색어별 5분 단위 검색 횟수의 지수 가중 평균(EWMA)/분산을 Redis hash에 유지
+ * - 새 구간의 검색 횟수가 평균보다 얼마나 튀었는지(z-score)로 급상승 검색어 ZSET 구성
+ * - 검색어당 상태는 hash 1개(mean, var, interval), 갱신은 검색어당 O(1)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RisingSearchWordRedisRepository {
+
+	private static final String RISING_ZSET_KEY = "search:rising:zset";
+	private static final String STATS_KEY_PREFIX = "search:rising:stats:";
+
+	// 관측 구간: 실시간 트렌드 배치 주기와 동일
+	private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+	// 하루 동안 검색되지 않은 검색어의 통계는 만료
+	private static final Duration STATS_TTL = Duration.ofDays(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScript<Long> updateRisingStatsScript;
+
+	@Value("${custom.search.rising.alpha:0.1}")
+	private double alpha;
+
+	@Value("${custom.search.rising.z-threshold:3.0}")
+	private double zThreshold;
+
+	@Value("${custom.search.rising.min-count:5}")
+	private long minCount;
+
+	/**
+	 * 이번 구간의 검색 횟수를 관측값으로 반영하고 급상승 검색어 목록 갱신
+	 * @param logs 이번 구간에 drain된 분 단위 검색 로그
+	 */
+	public void observe(List<KeywordLog> logs) {
+		List<String> args = new ArrayList<>();
+
+		// ARGV 구성: [prefix, alpha, interval, zThreshold, minCount, ttl, keyword1, count1, ...]
+		args.add(STATS_KEY_PREFIX);
+		args.add(String.valueOf(alpha));
+		args.add(String.valueOf(currentInterval()));
+		args.add(String.valueOf(zThreshold));
+		args.add(String.valueOf(minCount));
+		args.add(String.valueOf(STATS_TTL.toSeconds()));
+
+		sumCountsByKeyword(logs).forEach((keyword, count) -> {
+			args.add(keyword);
+			args.add(String.valueOf(count));
+		});
+
+		redisTemplate.execute(updateRisingStatsScript, List.of(RISING_ZSET_KEY), args.toArray());
+	}
+
+	/**
+	 * 급상승 검색어 상위 10개 조회 (z-score 내림차순)
+	 */
+	public List<SearchWordResponse> findRisingWordList() {
+		Set<String> keywords = redisTemplate.opsForZSet().reverseRange(RISING_ZSET_KEY, 0, 9);
+
+		if (keywords == null || keywords.isEmpty()) {
+			return List.of();
+		}
+
+		return keywords.stream()
+			.map(keyword -> new SearchWordResponse(keyword, PrefixConverter.convertToQwertyInput(keyword)))
+			.toList();
+	}
+
+	/**
+	 * 검색어별 기대 검색 횟수 조회 (EWMA 평균 x window 안의 구간 수)
+	 * - 마지막 관측 이후 검색되지 않은 구간만큼 평균을 감쇠해서 계산
+	 * - 통계가 없는 검색어는 결과에 포함되지 않음
+	 * @param keywords 조회할 검색어
+	 * @param window 기대 횟수를 계산할 기간
+	 * @return {검색어, 기대 검색 횟수}
+	 */
+	public Map<String, Double> findExpectedCounts(Set<String> keywords, Duration window) {
+		if (keywords.isEmpty()) {
+			return Map.of();
+		}
+
+		List<String> orderedKeywords = new ArrayList<>(keywords);
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] meanField = serializer.serialize("mean");
+		byte[] intervalField = serializer.serialize("interval");
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String keyword : orderedKeywords) {
+				connection.hashCommands().hMGet(serializer.serialize(STATS_KEY_PREFIX + keyword), meanField, intervalField);
+			}
+			return null;
+		}, serializer);
+
+		long now = currentInterval();
+		double intervalsPerWindow = (double)window.toMillis() / INTERVAL.toMillis();
+		Map<String, Double> expected = new HashMap<>(orderedKeywords.size() * 2);
+
+		for (int i = 0; i < orderedKeywords.size() && i < results.size(); i++) {
+			@SuppressWarnings("unchecked")
+			List<String> state = (List<String>)results.get(i);
+			if (state == null || state.get(0) == null || state.get(1) == null) {
+				continue;
+			}
+
+			double mean = Double.parseDouble(state.get(0));
+			long missed = Math.max(0, now - Long.parseLong(state.get(1)) - 1);
+			expected.put(orderedKeywords.get(i), mean * Math.pow(1 - alpha, missed) * intervalsPerWindow);
+		}
+
+		return expected;
+	}
+
+	// cron이 정각(0, 5, 10분 ...)에 실행되므로 반올림하여 실행 지연이 있어도 같은 구간 번호를 사용
+	private long currentInterval() {
+		return Math.round((double)System.currentTimeMillis() / INTERVAL.toMillis());
+	}
+
+	private Map<String, Long> sumCountsByKeyword(List<KeywordLog> logs) {
+		return logs.stream()
+			.collect(Collectors.groupingBy(
+				KeywordLog::keyword,
+				LinkedHashMap::new,
+				Collectors.summingLong(KeywordLog::searchedCount)
+			));
+	}
+}
@@ -0,0 +1,34 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러 실행 lease 저장소
+ * - 같은 스케줄이 모든 replica에서 동시에 실행되므로, 실행 윈도우 단위로 SET NX 선점한 replica만 작업 수행
+ * - 윈도우별 키를 사용하고 작업이 끝나도 삭제하지 않음 → 늦게 실행된 replica가 같은 윈도우를 다시 처리하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRedisRepository {
+
+	private static final String LEASE_KEY_PREFIX = "search:scheduler:lease:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 실행 윈도우 lease 선점
+	 * @param leaseName 작업 + 윈도우 식별자 (ex. realtime:202511141205)
+	 * @param owner lease를 선점한 인스턴스 식별자
+	 * @param ttl lease 유지 시간
+	 * @return 선점에 성공하면 true
+	 */
+	public boolean tryAcquire(String leaseName, String owner, Duration ttl) {
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + leaseName, owner, ttl);
+		return Boolean.TRUE.equals(acquired);
+	}
+}
@@ -1,11 +1,17 @@
 package com.domainservice.domain.search.repository.redis;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import com.domainservice.domain.search.model.vo.RecentSearchWord;
 import com.domainservice.domain.search.model.vo.SearchWord;
 
 import lombok.RequiredArgsConstructor;
@@ -17,19 +23,31 @@ public class SearchLogRedisRepository {
 	private final RedisTemplate<String, String> redisTemplate;
 	private static final String USER_SEARCH_PREFIX = "search:user:";
 
+	// 유저별로 보관하는 최근 검색어 최대 개수 (개인화 자동완성 후보)
+	private static final int MAX_HISTORY_SIZE = 100;
+
 	/**
 	 * 유저별 최근 검색어 저장 (ZSET — timestamp score)
+	 * - 추가, 오래된 검색어 정리, 만료 갱신을 pipeline 1번으로 전송
 	 */
 	public void save(SearchWord word, String userKey) {
-		String userSearchKey = USER_SEARCH_PREFIX + userKey;
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] userSearchKey = serializer.serialize(USER_SEARCH_PREFIX + userKey);
+		byte[] value = serializer.serialize(word.value());
 
 		// 검색 순간 timestamp (millis)
 		double score = Instant.now().toEpochMilli();
 
-		redisTemplate.opsForZSet().add(userSearchKey, word.value(), score);
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.zSetCommands().zAdd(userSearchKey, score, value);
+
+			// 오래된 검색어부터 정리해서 최근 MAX_HISTORY_SIZE 개만 유지
+			connection.zSetCommands().zRemRange(userSearchKey, 0, -(MAX_HISTORY_SIZE + 1));
 
-		// 만료일 30일
-		redisTemplate.expire(userSearchKey, java.time.Duration.ofDays(30));
+			// 만료일 30일
+			connection.keyCommands().expire(userSearchKey, Duration.ofDays(30).toSeconds());
+			return null;
+		});
 	}
 
 	/**
@@ -48,4 +66,22 @@ public class SearchLogRedisRepository {
 			.map(SearchWord::new)
 			.toList();
 	}
+
+	/**
+	 * 유저 최근 검색어를 검색 시각과 함께 limit 개 조회 (가장 최근순, 개인화 자동완성용)
+	 */
+	public List<RecentSearchWord> findRecentWithSearchedAt(String userKey, int limit) {
+		Set<ZSetOperations.TypedTuple<String>> results = redisTemplate
+			.opsForZSet()
+			.reverseRangeWithScores(USER_SEARCH_PREFIX + userKey, 0, limit - 1);
+
+		if (results == null) {
+			return List.of();
+		}
+
+		return results.stream()
+			.filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+			.map(tuple -> new RecentSearchWord(tuple.getValue(), tuple.getScore().longValue()))
+			.toList();
+	}
 }
@@ -0,0 +1,46 @@
+package com.domainservice.domain.search.repository.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 결과 캐시 버전 저장소
+ * - 상품이 색인/삭제될 때마다 전체 버전과 해당 카테고리 버전을 1씩 증가
+ * - 검색 결과 캐시 key에 버전을 포함하므로, 버전이 바뀌면 모든 replica의 이전 캐시가 더 이상 조회되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchResultVersionRedisRepository {
+
+	private static final String GLOBAL_VERSION_KEY = "search:result:version";
+	private static final String CATEGORY_VERSION_KEY_PREFIX = "search:result:version:category:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 현재 버전 조회
+	 * @param category 카테고리 필터가 없으면 null → 전체 버전
+	 */
+	public long findVersion(String category) {
+		String version = redisTemplate.opsForValue().get(keyOf(category));
+		return version != null ? Long.parseLong(version) : 0L;
+	}
+
+	/**
+	 * 전체 버전 + 카테고리 버전 증가
+	 * @param category 카테고리를 알 수 없으면 null → 전체 버전만 증가
+	 */
+	public void bump(String category) {
+		redisTemplate.opsForValue().increment(GLOBAL_VERSION_KEY);
+		if (StringUtils.hasText(category)) {
+			redisTemplate.opsForValue().increment(keyOf(category));
+		}
+	}
+
+	private String keyOf(String category) {
+		return StringUtils.hasText(category) ? CATEGORY_VERSION_KEY_PREFIX + category : GLOBAL_VERSION_KEY;
+	}
+}
@@ -0,0 +1,123 @@
+package com.domainservice.domain.search.repository.redis;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유사 상품 목록 저장소
+ * - 상품별 STRING: {prefix}{상품 id} -> "{계산 시각(ms)}:{id},{id},..." (유사도 순서, 목록 전체를 한 번에 조회/교체)
+ * - 역참조 SET: {ref prefix}{상품 id} -> 이 상품을 유사 상품 목록에 포함한 상품 id
+ *   → 상품이 변경/삭제되면 이 상품이 포함된 목록을 찾아서 다시 계산
+ *   → 역참조는 조회해도 지우지 않고, 목록을 다시 계산할 때 목록에서 빠진 상품의 역참조만 제거
+ */
+@Repository
+@RequiredArgsConstructor
+public class SimilarProductRedisRepository {
+
+	private static final String SIMILAR_KEY_PREFIX = "search:product:similar:";
+	private static final String REFERENCE_KEY_PREFIX = "search:product:similar-ref:";
+
+	private static final char TIMESTAMP_DELIMITER = ':';
+	private static final String ID_DELIMITER = ",";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScript<Long> markSimilarProductsStaleScript;
+
+	/**
+	 * 유사 상품 목록
+	 * @param ids 유사도 순서의 상품 id
+	 * @param computedAt 목록 계산 시각 (epoch millis)
+	 */
+	public record SimilarProducts(List<String> ids, long computedAt) {
+	}
+
+	/**
+	 * 유사 상품 목록 조회
+	 * @return 계산된 적이 없거나 만료되면 empty
+	 */
+	public Optional<SimilarProducts> find(String postId) {
+		String value = redisTemplate.opsForValue().get(SIMILAR_KEY_PREFIX + postId);
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		int delimiter = value.indexOf(TIMESTAMP_DELIMITER);
+		if (delimiter < 0) {
+			return Optional.empty();
+		}
+
+		long computedAt = Long.parseLong(value, 0, delimiter, 10);
+		String ids = value.substring(delimiter + 1);
+		return Optional.of(new SimilarProducts(ids.isEmpty() ? List.of() : Arrays.asList(ids.split(ID_DELIMITER)),
+			computedAt));
+	}
+
+	/**
+	 * 유사 상품 목록 교체 + 목록에 포함된 상품의 역참조 추가, 목록에서 빠진 상품의 역참조 제거
+	 * @param previousIds 교체 전 목록 (없으면 빈 목록)
+	 * @param ttl 목록 유지 시간 (이 시간이 지나면 다시 계산될 때까지 More Like This 쿼리로 조회)
+	 */
+	public void save(String postId, SimilarProducts similarProducts, Collection<String> previousIds, Duration ttl) {
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		String value = similarProducts.computedAt() + String.valueOf(TIMESTAMP_DELIMITER)
+			+ String.join(ID_DELIMITER, similarProducts.ids());
+
+		Set<String> removedIds = new HashSet<>(previousIds);
+		similarProducts.ids().forEach(removedIds::remove);
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			connection.stringCommands().setEx(serializer.serialize(SIMILAR_KEY_PREFIX + postId), ttl.toSeconds(),
+				serializer.serialize(value));
+
+			byte[] member = serializer.serialize(postId);
+			for (String id : similarProducts.ids()) {
+				byte[] referenceKey = serializer.serialize(REFERENCE_KEY_PREFIX + id);
+				connection.setCommands().sAdd(referenceKey, member);
+				connection.keyCommands().expire(referenceKey, ttl.toSeconds());
+			}
+			for (String id : removedIds) {
+				connection.setCommands().sRem(serializer.serialize(REFERENCE_KEY_PREFIX + id), member);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * 이 상품을 유사 상품 목록에 포함한 상품 id 조회 (역참조는 유지)
+	 */
+	public Set<String> findReferrers(String postId) {
+		Set<String> referrers = redisTemplate.opsForSet().members(REFERENCE_KEY_PREFIX + postId);
+		return referrers != null ? referrers : Set.of();
+	}
+
+	/**
+	 * 목록은 유지한 채 다음 조회 때 다시 계산되도록 표시
+	 */
+	public void markStale(Collection<String> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+		List<String> keys = postIds.stream().map(postId -> SIMILAR_KEY_PREFIX + postId).toList();
+		redisTemplate.execute(markSimilarProductsStaleScript, keys);
+	}
+
+	/**
+	 * 상품 삭제 시 유사 상품 목록과 역참조 삭제
+	 */
+	public void delete(String postId) {
+		redisTemplate.delete(List.of(SIMILAR_KEY_PREFIX + postId, REFERENCE_KEY_PREFIX + postId));
+	}
+}
@@ -0,0 +1,62 @@
+package com.domainservice.domain.search.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.repository.redis.SchedulerLeaseRedisRepository;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRankingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘의 추천 상품 순위 갱신
+ * - 윈도우마다 lease를 선점한 replica 하나만 순위를 계산해서 Redis에 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyBestRankingScheduler {
+
+	private static final DateTimeFormatter WINDOW_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+	// 갱신 주기보다 길게 유지해서 같은 윈도우를 다른 replica가 다시 실행하지 않도록 함
+	private static final Duration WINDOW_LEASE_TTL = Duration.ofMinutes(30);
+
+	private static final String STAGE_METRIC = "search.scheduler.stage";
+
+	private final DailyBestRankingService dailyBestRankingService;
+	private final SchedulerLeaseRedisRepository schedulerLeaseRedisRepository;
+	private final MeterRegistry meterRegistry;
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	/**
+	 * 10분 마다 오늘의 추천 상품 순위 재계산 (최근 72시간 기준이므로 주기 사이에 순위가 크게 바뀌지 않음)
+	 */
+	@Scheduled(cron = "${custom.search.daily-best.refresh-cron:0 */10 * * * *}")
+	public void refreshDailyBestRanking() {
+		String windowKey = LocalDateTime.now().format(WINDOW_FORMAT);
+		if (!schedulerLeaseRedisRepository.tryAcquire("daily-best:" + windowKey, instanceId, WINDOW_LEASE_TTL)) {
+			return;
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			dailyBestRankingService.refresh();
+		} catch (Exception e) {
+			outcome = "failure";
+			log.error("Error during refreshDailyBestRanking - window: {}", windowKey, e);
+		} finally {
+			sample.stop(meterRegistry.timer(STAGE_METRIC, "stage", "daily-best", "outcome", outcome));
+		}
+	}
+}
@@ -1,112 +1,215 @@
 package com.domainservice.domain.search.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
+import com.domainservice.domain.search.model.entity.persistence.SearchWordRollup;
+import com.domainservice.domain.search.repository.redis.SchedulerLeaseRedisRepository;
 import com.domainservice.domain.search.service.SearchWordSchedulerService;
-import com.domainservice.domain.search.service.dto.vo.DailyPopularWordLog;
 import com.domainservice.domain.search.service.dto.vo.KeywordLog;
-import com.domainservice.domain.search.service.kafka.producer.SearchWordEventProducer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 검색어 배치 파이프라인
+ * - 5분 윈도우마다 lease를 선점한 replica 하나만 실행 (replica 수와 무관하게 Redis/DB 작업량 일정)
+ * - stage 간 의존관계를 CompletableFuture로 연결하여 선행 stage가 실제로 끝난 뒤에만 다음 stage 실행
+ *   drain ─┬─ trend ──┬─ (2시간 정각) daily
+ *          ├─ rising ─┘
+ *          └─ database ── elasticsearch
+ * - stage 별 실행 시간/결과를 search.scheduler.stage 메트릭으로 기록, stage 묶음마다 deadline 적용
+ *   (deadline이 지나면 아직 시작하지 않은 stage는 건너뛰고, 실행 중인 stage는 끝날 때까지 다음 윈도우를 시작하지 않음)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SearchWordScheduler {
 
-	private final ReentrantLock lock = new ReentrantLock();
-	private final Condition realtimeDone = lock.newCondition();
+	private static final DateTimeFormatter WINDOW_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-	private boolean realtimeSynced = false;
+	// 윈도우(5분)보다 충분히 길게 유지해서 시계가 어긋난 replica가 같은 윈도우를 다시 선점하지 못하도록 함
+	private static final Duration WINDOW_LEASE_TTL = Duration.ofMinutes(30);
+	private static final Duration PURGE_LEASE_TTL = Duration.ofDays(1);
+
+	private static final String STAGE_METRIC = "search.scheduler.stage";
 
 	private final SearchWordSchedulerService batchService;
+	private final SchedulerLeaseRedisRepository schedulerLeaseRedisRepository;
+	private final MeterRegistry meterRegistry;
 	private final Executor batchExecutor;
 
+	private final String instanceId = UUID.randomUUID().toString();
+
+	// 이 인스턴스에서 실행 중인 파이프라인의 실제 stage 작업 (모든 stage가 끝나기 전에는 다음 윈도우를 선점하지 않음)
+	private final AtomicReference<CompletableFuture<Void>> inFlight =
+		new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+	@Value("${custom.search.scheduler.realtime-deadline-ms:240000}")
+	private long realtimeDeadlineMillis;
+
+	@Value("${custom.search.scheduler.daily-deadline-ms:240000}")
+	private long dailyDeadlineMillis;
+
 	/**
-	 * 5분 마다 trendScore를 다시 계산 해서 실시간 인기 검색어를 업데이트. + DB최신화
+	 * 5분 마다 실시간 인기/급상승 검색어 업데이트 + DB, Elasticsearch 최신화
+	 * 2시간 정각(0시, 2시, ..., 22시) 윈도우에서는 실시간 stage 완료 후 일간 인기 검색어까지 업데이트
 	 */
 	@Scheduled(cron = "0 */5 * * * *")
-	public void syncRealTimeTrends() {
-		lock.lock();
-		LocalDateTime now = LocalDateTime.now();
-		try {
-			List<KeywordLog> logs = batchService.getRealTimeTrendWordLogList();
-
-			CompletableFuture<Void> updateTrendFuture =
-				CompletableFuture.runAsync(() ->
-						batchService.updateRealtimeTrendWordList(logs),
-					batchExecutor
-				).thenAccept(result -> log.info("실시간 트렌드 검색어 업데이트 완료"));
-
-			//saveLogsToDataBase() 결과로 받아온 데이터를 upsertLogsToElasticsearch()에 넘겨줌
-			CompletableFuture<Void> saveDBAndElasticFuture =
-			    CompletableFuture.supplyAsync(() ->
-			            batchService.saveLogsToDataBase(logs),
-			        batchExecutor
-			    ).thenAcceptAsync(savedLogs -> {
-			        log.info("DB 저장 완료");
-
-			        //Elasticsearch에 데이터 추가 upsert로 일괄 추가. ElasticOperation으로 처리
-					if(!savedLogs.isEmpty()) {
-			        	batchService.upsertLogsToElasticsearch(savedLogs);
-					}
-			    }, batchExecutor).thenAccept(result -> log.info("Elasticsearch upsert 완료"));
-
-			CompletableFuture.allOf(updateTrendFuture, saveDBAndElasticFuture)
-				.exceptionally(ex -> {
-					log.error("Error during syncRealTimeTrends", ex);
-					return null;
-				});
-
-			realtimeSynced = true;             // A 완료 표시
-			realtimeDone.signalAll();          // B 깨우기
-		} finally {
-			//2시, 4시, 6시, ..., 22시 정각이 아니면
-			if(!(now.getHour() % 2 == 0 && now.getMinute() == 0)) {
-				realtimeSynced = false;
-			}
+	public void runSearchWordPipeline() {
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+		LocalDateTime window = now.withMinute(now.getMinute() / 5 * 5);
+		String windowKey = window.format(WINDOW_FORMAT);
+
+		if (!inFlight.get().isDone()) {
+			log.warn("이전 검색어 파이프라인이 아직 실행 중 - window: {} 건너뜀", windowKey);
+			return;
+		}
+
+		if (!schedulerLeaseRedisRepository.tryAcquire("realtime:" + windowKey, instanceId, WINDOW_LEASE_TTL)) {
+			log.debug("다른 인스턴스가 검색어 파이프라인 실행 중 - window: {}", windowKey);
+			return;
+		}
+
+		boolean dailyWindow = window.getHour() % 2 == 0 && window.getMinute() == 0;
+
+		// deadline이 지나면 true → 이후에 시작하려는 stage는 실행하지 않고 실패 처리 (실행 중인 stage는 중단하지 않음)
+		AtomicBoolean realtimeExpired = new AtomicBoolean();
+		AtomicBoolean dailyExpired = new AtomicBoolean();
+
+		CompletableFuture<List<KeywordLog>> drain = CompletableFuture.supplyAsync(() ->
+			measure("drain", realtimeExpired, batchService::getRealTimeTrendWordLogList), batchExecutor);
+
+		CompletableFuture<Void> trend = drain.thenAcceptAsync(logs ->
+			measure("trend", realtimeExpired, () -> batchService.updateRealtimeTrendWordList(logs)), batchExecutor);
+
+		CompletableFuture<Void> rising = drain.thenAcceptAsync(logs ->
+			measure("rising", realtimeExpired, () -> batchService.updateRisingWordList(logs)), batchExecutor);
+
+		//saveLogsToDataBase() 결과로 받아온 데이터를 upsertLogsToElasticsearch()에 넘겨줌
+		CompletableFuture<Void> persist = drain
+			.thenApplyAsync(logs -> measure("database", realtimeExpired, () -> batchService.saveLogsToDataBase(logs)),
+				batchExecutor)
+			.thenAcceptAsync(savedLogs -> measure("elasticsearch", realtimeExpired, () -> upsertIfPresent(savedLogs)),
+				batchExecutor);
+
+		// 일간 인기 검색어는 급상승 감지기의 EWMA 기대값을 사용하므로 trend/rising 완료 후에만 실행
+		CompletableFuture<Void> realtime = CompletableFuture.allOf(trend, rising);
 
-			lock.unlock();
+		CompletableFuture<Void> daily = dailyWindow
+			? realtime.thenRunAsync(() -> measure("daily", dailyExpired, this::updateDailyPopular), batchExecutor)
+			: realtime;
+
+		// 모든 stage 작업이 실제로 끝나야 완료 (각 stage는 선행 stage가 끝난 뒤에만 시작하므로 실행 중인 작업이 남지 않음)
+		CompletableFuture<Void> pipeline = CompletableFuture.allOf(daily, persist)
+			.whenComplete((result, ex) -> {
+				if (ex != null) {
+					log.error("Error during searchWordPipeline - window: {}", windowKey, ex);
+				} else {
+					log.info("검색어 파이프라인 완료 - window: {}, daily: {}", windowKey, dailyWindow);
+				}
+			});
+
+		expireAfter(CompletableFuture.allOf(realtime, persist), realtimeDeadlineMillis, realtimeExpired, windowKey);
+		if (dailyWindow) {
+			expireAfter(daily, realtimeDeadlineMillis + dailyDeadlineMillis, dailyExpired, windowKey);
 		}
 
+		inFlight.set(pipeline);
+	}
+
+	// deadline까지 끝나지 않으면 아직 시작하지 않은 stage를 건너뛰도록 표시
+	private void expireAfter(CompletableFuture<?> stages, long deadlineMillis, AtomicBoolean expired,
+		String windowKey) {
+		CompletableFuture.delayedExecutor(deadlineMillis, TimeUnit.MILLISECONDS).execute(() -> {
+			if (!stages.isDone()) {
+				expired.set(true);
+				log.warn("검색어 파이프라인 deadline 초과 - 남은 stage 건너뜀, window: {}, deadline: {}ms",
+					windowKey, deadlineMillis);
+			}
+		});
 	}
 
 	/**
-	 * 0시부터 2시간마다 일간 인기 검색어 업데이트 + Elasticsearch
+	 * 매일 새벽 4시 30분 보관 기간이 지난 검색 로그 삭제
 	 */
-	@Scheduled(cron = "0 0 */2 * * *")
-	// @Scheduled(cron = "0 */5 * * * *")	//테스트용
-	public void updateDailyPopularAndElasticsearch() {
-		lock.lock();
+	@Scheduled(cron = "0 30 4 * * *")
+	public void purgeExpiredSearchLogs() {
+		String dayKey = LocalDateTime.now().format(DAY_FORMAT);
+		if (!schedulerLeaseRedisRepository.tryAcquire("purge:" + dayKey, instanceId, PURGE_LEASE_TTL)) {
+			return;
+		}
 
 		try {
-			while (!realtimeSynced) {
-				realtimeDone.await();        // A가 signal할 때까지 무제한 대기
-			}
+			measure("purge", batchService::purgeExpiredLogs);
+		} catch (Exception e) {
+			log.error("Error during purgeExpiredSearchLogs", e);
+		}
+	}
 
-			log.info("A 완료됨 → B 작업 시작");
+	private void updateDailyPopular() {
+		List<KeywordLog> keywordCountLogList = batchService.getDailyPopularRedisLog();
+		batchService.updateDailyPopularWordList(keywordCountLogList);
+	}
 
-			List<KeywordLog> keywordCountLogList = batchService.getDailyPopularRedisLog();
-			Map<String, DailyPopularWordLog> previousLogMap = batchService.getPreviousDailyPopularDBLog();
+	private void upsertIfPresent(List<SearchWordRollup> savedLogs) {
+		//Elasticsearch에 데이터 추가 upsert로 일괄 추가. ElasticOperation으로 처리
+		if (!savedLogs.isEmpty()) {
+			batchService.upsertLogsToElasticsearch(savedLogs);
+		}
+	}
 
-			batchService.updateDailyPopularWordList(keywordCountLogList, previousLogMap);
+	private void measure(String stage, Runnable task) {
+		measure(stage, () -> {
+			task.run();
+			return null;
+		});
+	}
 
+	private void measure(String stage, AtomicBoolean expired, Runnable task) {
+		measure(stage, expired, () -> {
+			task.run();
+			return null;
+		});
+	}
 
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
+	private <T> T measure(String stage, AtomicBoolean expired, Supplier<T> task) {
+		if (expired.get()) {
+			meterRegistry.counter(STAGE_METRIC + ".skipped", "stage", stage).increment();
+			throw new CancellationException("deadline 초과로 stage 건너뜀 - stage: " + stage);
+		}
+		return measure(stage, task);
+	}
+
+	// stage 실행 시간을 stage, outcome 태그와 함께 기록
+	private <T> T measure(String stage, Supplier<T> task) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			return task.get();
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			throw e;
 		} finally {
-			lock.unlock();
+			sample.stop(meterRegistry.timer(STAGE_METRIC, "stage", stage, "outcome", outcome));
 		}
 	}
-}
\ No newline at end of file
+}
@@ -21,4 +21,34 @@ public class AsyncConfiguration {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 유사 상품 목록 계산용 (상품 이벤트/조회 요청 스레드에서 More Like This 쿼리를 실행하지 않도록 분리)
+	 * - 대기열이 가득 차면 작업을 거부하고, 호출 측에서 다음 조회/이벤트 때 다시 예약
+	 */
+	@Bean(name = "similarProductExecutor")
+	public Executor similarProductExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(1000);
+		executor.setThreadNamePrefix("similar-product-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 상품 전체 재색인용 (관리자 요청 스레드에서 재색인을 실행하지 않도록 분리)
+	 * - 재색인 lock으로 동시에 하나만 실행되므로 스레드 1개
+	 */
+	@Bean(name = "reindexExecutor")
+	public Executor reindexExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("product-post-reindex-");
+		executor.initialize();
+		return executor;
+	}
 }
@@ -2,7 +2,9 @@ package com.domainservice.domain.search.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,11 +12,16 @@ import org.springframework.util.StringUtils;
 
 import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
 import com.domainservice.domain.search.service.converter.PrefixConverter;
+import com.domainservice.domain.search.service.converter.SearchQueryNormalizer;
 import com.domainservice.domain.search.service.dto.request.Prefix;
 import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
 import com.domainservice.domain.search.model.entity.dto.document.SearchWordDocumentEntity;
 import com.domainservice.domain.search.repository.SearchWordRepository;
 import com.domainservice.domain.search.service.analyzer.PrefixAnalyzer;
+import com.domainservice.domain.search.service.autocomplete.AutoCompleteIndexManager;
+import com.domainservice.domain.search.service.autocomplete.PersonalizedAutoCompleter;
+import com.domainservice.domain.search.service.spelling.SpellingCorrector;
+import com.domainservice.domain.search.service.spelling.SymSpellIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,16 +31,27 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SearchWordElasticService {
 
+	// 자동완성에 사용하는 오타 교정 후보 수
+	private static final int CORRECTION_CANDIDATES = 3;
+
 	private final PrefixAnalyzer prefixAnalyzer;
 
 	private final SearchWordRedisService searchWordRedisService;
 
 	private final SearchWordRepository searchWordRepository;
 
+	private final AutoCompleteIndexManager autoCompleteIndexManager;
+
+	private final PersonalizedAutoCompleter personalizedAutoCompleter;
+
+	private final SpellingCorrector spellingCorrector;
+
 	/**
 	 * 검색어를 받음
 	 * 	검색어가 없으면? -> 최근에 내가 검색한 목록들 조회.
 	 * 	검색어가 한글이면? -> qwertyInput으로 변환 후 qwertyInput으로 조회 + 한글로 조회
+	 * 	검색어가 자음만이면? (ex. ㅇㅇㅍ) -> 초성 필드 term 조회만 수행 (fuzzy / 변환 조회 생략)
+	 * 	오타가 있으면? -> 인메모리 오타 교정(SymSpell) 후보로 자동완성 재조회
 	 * 	검색어가 영어면?
 	 * 	 1. 사전에 있는 단어면? -> 한글로 번역 작업?
 	 *   2. 사전에 없는 단어면? -> qwertyInput이므로, qwertyInput으로 조회 (+ 유사도가 높은 한글 단어로 재조회)
@@ -41,7 +59,6 @@ public class SearchWordElasticService {
 	 * TODO:
 	 *  1. 영어로 입력하면 영어자체로도 같이 반환할수 있도록 전환 예정(데이터셋이 많이 필요할듯)
 	 *    DocumentEntity의 koreanWord -> originalWord로 전환해서 리팩토링 예정
-	 *  2. 자음만 입력해도 결과 반환할수 있도록 수정
 	 * @param prefix
 	 * @param userId
 	 * @return
@@ -50,11 +67,15 @@ public class SearchWordElasticService {
 	public List<SearchWordResponse> getAutoCompletionWordList(Prefix prefix, String userId) {
 		List<SearchWordResponse> responseList = new ArrayList<>();
 
-		String originValue = prefix.value() != null ? prefix.value().trim() : "";
-		String qwertyValue = prefix.getQwertyInput() != null ? prefix.getQwertyInput().trim() : "";
+		// 자동완성 입력은 QWERTY 대소문자(쌍자음)를 구분해야 하므로 대소문자는 유지하고 정규화
+		String originValue = SearchQueryNormalizer.normalizeKeepingCase(prefix.value());
+		String qwertyValue = PrefixConverter.convertToQwertyInput(originValue);
+
+		// 사전에 있는 영단어나 영단어를 입력하는 중인 값은 한글을 영타로 입력한 값이 아니므로 한글 변환/오타 교정 대상에서 제외
+		boolean englishWord = prefixAnalyzer.isEnglishInput(originValue);
 
 		// qwerty → korean 변환 (dkssud → 안녕)
-		String convertedKorean = StringUtils.hasText(qwertyValue)
+		String convertedKorean = StringUtils.hasText(qwertyValue) && !englishWord
 			? PrefixConverter.convertToKoreanWord(qwertyValue)
 			: "";
 
@@ -68,35 +89,33 @@ public class SearchWordElasticService {
 				: searchWordRedisService.getTrendWordList();
 		}
 
-		List<SearchWordDocumentEntity> candidates = new ArrayList<>();
-
-		// 2. originValue / 변환된 한글 / qwerty 입력을 모두 기준으로 검색
-		if (StringUtils.hasText(originValue)) {
-			candidates.addAll(searchWordRepository.findAllByOriginValue(originValue));
+		// 2. 유저 최근 검색어(로컬 캐시) + 인메모리 prefix 인덱스 우선 조회, 결과가 없을 때만 Elasticsearch 조회
+		List<SearchWordResponse> localResults = personalizedAutoCompleter.suggest(userId, originValue, qwertyValue, 20);
+		if (!localResults.isEmpty()) {
+			log.info("auto-complete local result size = {}", localResults.size());
+			return localResults;
 		}
 
-		if (StringUtils.hasText(convertedKorean) && !convertedKorean.equals(originValue)) {
-			candidates.addAll(searchWordRepository.findAllByOriginValue(convertedKorean));
-		}
+		// 3. 자음만 입력한 경우 초성 필드로 바로 조회
+		if (PrefixConverter.isChoseongOnly(originValue)) {
+			searchWordRepository.findAllByChoseong(StringUtils.trimAllWhitespace(originValue), 20).stream()
+				.map(SearchWordResponse::from)
+				.forEach(responseList::add);
 
-		// 3. qwerty 변환값이 존재하면 qwerty 기반 검색도 병행
-		if (StringUtils.hasText(qwertyValue)) {
-			candidates.addAll(searchWordRepository.findAllByQwertyInput(qwertyValue));
+			log.info("auto-complete choseong result size = {}", responseList.size());
+			return responseList;
 		}
 
-		// 4. 그래도 비어있으면 → qwerty 단건 매칭 후 originValue 재시도 (영문 오타 케이스)
-		if (candidates.isEmpty() && StringUtils.hasText(qwertyValue)) {
-			searchWordRepository.findByQwertyInput(qwertyValue)
-				.map(SearchWordDocumentEntity::getOriginValue)
-				.ifPresent(origin ->
-					candidates.addAll(searchWordRepository.findAllByOriginValue(origin))
-				);
+		// 4. 오타 교정 후보(편집 거리 1~2)로 인메모리 인덱스 재조회 (ex. dkdlvjs(아이펀) → 아이폰), 영단어는 교정하지 않음
+		List<SearchWordResponse> correctedResults = englishWord ? List.of() : suggestCorrected(originValue, 20);
+		if (!correctedResults.isEmpty()) {
+			log.info("auto-complete corrected result size = {}", correctedResults.size());
+			return correctedResults;
 		}
 
-		// 5. 중복 제거 + 응답 변환
-		candidates.stream()
-			.distinct()
-			.limit(20)
+		// 5. 그래도 없으면 원문 / 변환된 한글 / qwerty 입력을 하나의 요청으로 조회
+		//    (clause 별 가중치로 순위를 매기고, 중복 제거 + 최대 20개까지 Elasticsearch에서 처리)
+		searchWordRepository.findAutoCompletion(originValue, convertedKorean, qwertyValue, 20).stream()
 			.map(SearchWordResponse::from)
 			.forEach(responseList::add);
 
@@ -104,6 +123,22 @@ public class SearchWordElasticService {
 		return responseList;
 	}
 
+	// 교정된 검색어를 prefix로 인메모리 인덱스 조회, 교정 거리가 가까운 후보 결과부터 중복 없이 limit 개
+	private List<SearchWordResponse> suggestCorrected(String originValue, int limit) {
+		Map<String, SearchWordResponse> merged = new LinkedHashMap<>();
+
+		for (SymSpellIndex.Correction correction : spellingCorrector.correct(originValue, CORRECTION_CANDIDATES)) {
+			String word = correction.word();
+			autoCompleteIndexManager.suggest(word, PrefixConverter.convertToQwertyInput(word), limit)
+				.forEach(response -> merged.putIfAbsent(response.word(), response));
+			if (merged.size() >= limit) {
+				break;
+			}
+		}
+
+		return merged.values().stream().limit(limit).toList();
+	}
+
 	private List<SearchWordResponse> getRecentSearchKeywords(String userId) {
 		return searchWordRedisService.getRecentSearchWordList(userId);
 	}
@@ -8,8 +8,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
 import com.domainservice.domain.search.model.vo.SearchWord;
 import com.domainservice.domain.search.repository.redis.PopularSearchWordRedisRepository;
+import com.domainservice.domain.search.repository.redis.RisingSearchWordRedisRepository;
 import com.domainservice.domain.search.repository.redis.SearchLogRedisRepository;
+import com.domainservice.domain.search.service.aggregator.SearchWordCountAggregator;
+import com.domainservice.domain.search.service.autocomplete.PersonalizedAutoCompleter;
 import com.domainservice.domain.search.service.converter.PrefixConverter;
+import com.domainservice.domain.search.service.converter.SearchQueryNormalizer;
 import com.domainservice.domain.search.service.kafka.producer.SearchWordEventProducer;
 import com.domainservice.domain.search.util.SearchWordDummyDataFileReader;
 
@@ -23,6 +27,9 @@ public class SearchWordRedisService {
 
 	private final SearchLogRedisRepository searchLogRedisRepository;
 	private final PopularSearchWordRedisRepository popularRedisRepository;
+	private final RisingSearchWordRedisRepository risingRedisRepository;
+	private final SearchWordCountAggregator searchWordCountAggregator;
+	private final PersonalizedAutoCompleter personalizedAutoCompleter;
 	private final SearchWordDummyDataFileReader searchWordDummyDataFileReader;
 
 	@Transactional(readOnly = true)
@@ -45,28 +52,53 @@ public class SearchWordRedisService {
 		return popularRedisRepository.findDailyPopularWord();
 	}
 
+	@Transactional(readOnly = true)
+	public List<SearchWordResponse> getRisingWordList() {
+		return risingRedisRepository.findRisingWordList();
+	}
+
 	/**
 	 * 검색창에 입력한 단어 or 자동완성으로 나온 단어 선택 후 검색 결과 화면에서 보여지는 단어 저장하는 메서드.
 	 * @param word 검색창에 입력한 단어
 	 * @param userId user PK
+	 * @param clientIp 요청 IP (비로그인 사용자의 중복 검색 판별용)
 	 */
 	@Transactional
-	public void saveSearchWord(String word, String userId) {
-		SearchWord searchWord = new SearchWord(word);
+	public void saveSearchWord(String word, String userId, String clientIp) {
+		// 공백/전각/자모 분리/대소문자만 다른 검색어가 각각 따로 저장, 집계되지 않도록 정규화한 값만 사용
+		String normalized = SearchQueryNormalizer.normalize(word);
+		if (normalized.isEmpty()) {
+			return;
+		}
+		SearchWord searchWord = new SearchWord(normalized);
 
 		if(userId != null) {
 			searchLogRedisRepository.save(searchWord, userId);
-			searchWordEventProducer.publishSearchWordEventToAi(word, userId);
+			personalizedAutoCompleter.record(userId, searchWord.value());
+			searchWordEventProducer.publishSearchWordEventToAi(searchWord.value(), userId);
 		}
 
-		popularRedisRepository.save(searchWord);
+		searchWordCountAggregator.increment(searchWord.value(), resolveSearcherId(userId, clientIp));
 	}
 
 	public void saveSearchWordForTest() {
 		List<String> list = searchWordDummyDataFileReader.readSearchWordFromFile(40000);
 		for (String word : list) {
-			SearchWord searchWord = new SearchWord(word);
-			popularRedisRepository.save(searchWord);
+			String normalized = SearchQueryNormalizer.normalize(word);
+			if (!normalized.isEmpty()) {
+				searchWordCountAggregator.increment(normalized, null);
+			}
+		}
+	}
+
+	// 고유 검색자 식별자: 로그인 사용자는 userId, 비로그인 사용자는 IP
+	private String resolveSearcherId(String userId, String clientIp) {
+		if (userId != null && !userId.isBlank()) {
+			return "user:" + userId;
+		}
+		if (clientIp != null && !clientIp.isBlank()) {
+			return "ip:" + clientIp;
 		}
+		return null;
 	}
 }
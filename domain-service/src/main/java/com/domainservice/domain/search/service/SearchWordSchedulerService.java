@@ -1,36 +1,51 @@
 package com.domainservice.domain.search.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import org.springframework.transaction.annotation.Transactional;
 
 import com.common.annotation.TimeTrace;
 import com.domainservice.domain.search.model.entity.dto.document.SearchWordDocumentEntity;
-import com.domainservice.domain.search.model.entity.persistence.SearchWordLog;
+import com.domainservice.domain.search.model.entity.persistence.SearchWordRollup;
 import com.domainservice.domain.search.repository.SearchWordLogCommandRepository;
 import com.domainservice.domain.search.repository.SearchWordRepository;
-import com.domainservice.domain.search.repository.jpa.SearchWordLogQueryRepository;
 
 import com.domainservice.domain.search.repository.redis.PopularSearchWordRedisRepository;
-import com.domainservice.domain.search.service.dto.vo.DailyPopularWordLog;
+import com.domainservice.domain.search.repository.redis.RisingSearchWordRedisRepository;
+import com.domainservice.domain.search.service.autocomplete.AutoCompleteIndexManager;
 import com.domainservice.domain.search.service.dto.vo.KeywordLog;
-import com.domainservice.domain.search.util.TimeUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SearchWordSchedulerService {
 
 	private final PopularSearchWordRedisRepository popularWordRedisRepository;
-	private final SearchWordLogQueryRepository searchWordLogQueryRepository;
+	private final RisingSearchWordRedisRepository risingWordRedisRepository;
 	private final SearchWordLogCommandRepository searchWordLogCommandRepository;
 
 	private final SearchWordRepository searchWordRepository;
+	private final AutoCompleteIndexManager autoCompleteIndexManager;
+
+	@Value("${custom.search.retention.raw-log-days:7}")
+	private long rawLogRetentionDays;
+
+	@Value("${custom.search.retention.rollup-days:90}")
+	private long rollupRetentionDays;
+
+	@Value("${custom.search.retention.chunk-size:10000}")
+	private int retentionChunkSize;
 
 	/**
 	 * 실시간 인기 검색어 조회
@@ -50,6 +65,15 @@ public class SearchWordSchedulerService {
 		popularWordRedisRepository.updateRealTimeTrendWord(log);
 	}
 
+	/**
+	 * 5분 구간 검색 횟수로 검색어별 EWMA 평균/분산 갱신 + 급상승 검색어 목록 최신화
+	 * @param log
+	 */
+	@TimeTrace
+	public void updateRisingWordList(List<KeywordLog> log) {
+		risingWordRedisRepository.observe(log);
+	}
+
 	/**
 	 * Redis에 저장된 일간 인기 검색어 log 목록 조회
 	 * @return
@@ -60,55 +84,102 @@ public class SearchWordSchedulerService {
 	}
 
 	/**
-	 * DB에 저장된 검색 로그 조회(현재 ~ 2시간 전)
-	 * @return
+	 * 일간 인기 검색어 목록 최신화
+	 * - 증가율 기준값은 DB 로그 집계 대신 급상승 감지기의 EWMA 평균(2시간 기대 검색 횟수)을 사용
+	 * @param logList
 	 */
-	@Transactional(readOnly = true)
-	public Map<String, DailyPopularWordLog> getPreviousDailyPopularDBLog() {
-		//2시간 전에 저장된 로그 조회
-		LocalDateTime lastBatchedAt = TimeUtils.getLastBatchExecutionTime();
-		return searchWordLogQueryRepository.findDailyLogs(lastBatchedAt);
-	}
-
 	@TimeTrace
 	@Transactional
-	public void updateDailyPopularWordList(List<KeywordLog> logList, Map<String, DailyPopularWordLog> previousLogMap) {
-		popularWordRedisRepository.updateDailyPopularWordList(logList, previousLogMap);
+	public void updateDailyPopularWordList(List<KeywordLog> logList) {
+		Map<String, Double> expectedCounts = risingWordRedisRepository.findExpectedCounts(
+			logList.stream().map(KeywordLog::keyword).collect(Collectors.toSet()),
+			Duration.ofHours(2)
+		);
+
+		popularWordRedisRepository.updateDailyPopularWordList(logList, expectedCounts);
 	}
 
 	/**
-	 * DB에 검색 로그 저장 - bulk-insert 적용
+	 * DB에 검색 로그 저장 - (검색어, 분) 단위 집계 row bulk upsert
+	 * - 검색 1회당 1 row가 아닌 (검색어, 분)당 1 row에 검색 횟수를 누적
 	 * @param keywordLogs
 	 */
 	@TimeTrace
 	@Transactional
-	public List<SearchWordLog> saveLogsToDataBase(List<KeywordLog> keywordLogs) {
-		//Bulk-Insert 적용 예정
-		List<SearchWordLog> allLogs =
+	public List<SearchWordRollup> saveLogsToDataBase(List<KeywordLog> keywordLogs) {
+		List<SearchWordRollup> rollups =
 			keywordLogs.stream()
-				.flatMap(keywordLog ->
-					keywordLog.searchedAt().stream()
-						.map(searchedAt ->
-							SearchWordLog.create(keywordLog.keyword(), searchedAt)
-						)
-				)
+				.filter(keywordLog -> keywordLog.searchedCount() > 0)
+				.map(keywordLog -> SearchWordRollup.create(
+					keywordLog.keyword(),
+					keywordLog.searchedAt(),
+					keywordLog.searchedCount()
+				))
 				.toList();
 
-		// Bulk insert 1번
-		return searchWordLogCommandRepository.insertAll(allLogs);
+		if (rollups.isEmpty()) {
+			return rollups;
+		}
+
+		// Bulk upsert 1번
+		return searchWordLogCommandRepository.upsertRollups(rollups);
+	}
+
+	/**
+	 * 보관 기간이 지난 검색 로그 삭제
+	 * - 검색 1회 단위 원본 로그(search_word_logs): raw-log-days 이전
+	 * - 분 단위 집계 로그(search_word_rollups): rollup-days 이전
+	 * - chunk 단위로 반복 삭제하여 한 번에 긴 락을 잡지 않도록 함
+	 */
+	@TimeTrace
+	public void purgeExpiredLogs() {
+		LocalDateTime now = LocalDateTime.now();
+
+		long rawDeleted = deleteInChunks(threshold ->
+			searchWordLogCommandRepository.deleteRawLogsBefore(threshold, retentionChunkSize),
+			now.minusDays(rawLogRetentionDays));
+		long rollupDeleted = deleteInChunks(threshold ->
+			searchWordLogCommandRepository.deleteRollupsBefore(threshold, retentionChunkSize),
+			now.minusDays(rollupRetentionDays));
+
+		log.info("검색 로그 보관 기간 정리 완료 - raw: {}, rollup: {}", rawDeleted, rollupDeleted);
+	}
+
+	private long deleteInChunks(ToIntFunction<LocalDateTime> deleteChunk, LocalDateTime threshold) {
+		long total = 0;
+		int deleted;
+		do {
+			deleted = deleteChunk.applyAsInt(threshold);
+			total += deleted;
+		} while (deleted >= retentionChunkSize);
+		return total;
 	}
 
 	/**
 	 * SearchWordDocumentEntity의 originValue를 기준으로 데이터가 존재하면 update 없으면 insert하는 메서드
+	 * - 분 단위 집계 로그를 검색어 기준으로 합쳐서 검색어 1개당 작업 1개만 전송
+	 * - 같은 증가분을 자동완성 인메모리 인덱스에도 전파
 	 * @param savedLogs
 	 */
 	@TimeTrace
-	@Transactional
-	public void upsertLogsToElasticsearch(List<SearchWordLog> savedLogs) {
-		searchWordRepository.upsertByOriginValue(
-			savedLogs.stream()
-				.map(SearchWordDocumentEntity::createDocumentEntity)
-				.toList()
-		);
+	public void upsertLogsToElasticsearch(List<SearchWordRollup> savedLogs) {
+		Map<String, List<SearchWordRollup>> rollupsByWord = savedLogs.stream()
+			.collect(Collectors.groupingBy(SearchWordRollup::getWord));
+
+		List<SearchWordDocumentEntity> documents = rollupsByWord.entrySet().stream()
+			.map(entry -> SearchWordDocumentEntity.createDocumentEntity(
+				entry.getKey(),
+				entry.getValue().stream().mapToLong(SearchWordRollup::getSearchCount).sum(),
+				entry.getValue().stream().map(SearchWordRollup::getBucketMinute).max(LocalDateTime::compareTo).orElseThrow()
+			))
+			.toList();
+
+		searchWordRepository.upsertByOriginValue(documents);
+
+		autoCompleteIndexManager.publishDelta(documents.stream()
+			.collect(Collectors.toMap(
+				SearchWordDocumentEntity::getOriginValue,
+				SearchWordDocumentEntity::getSearchCount
+			)));
 	}
 }
@@ -0,0 +1,130 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch
+ * - depth x width 크기의 고정 메모리로 검색어별 빈도를 근사 (항상 실제 값 이상으로 추정)
+ * - 같은 크기의 sketch끼리는 셀 단위 합산으로 병합 가능 (replica 간 Redis 병합에 사용)
+ * - 오차 epsilon, 실패 확률 delta: width = ceil(e / epsilon), depth = ceil(ln(1 / delta))
+ *   → 추정치 <= 실제 빈도 + epsilon * 전체 빈도 합 (확률 1 - delta 이상)
+ * - thread-safe 하지 않으므로 호출하는 쪽에서 동기화 필요
+ */
+public class CountMinSketch {
+
+	private final int depth;
+	private final int width;
+	private final long[] cells;
+
+	public CountMinSketch(int depth, int width) {
+		if (depth <= 0 || width <= 0) {
+			throw new IllegalArgumentException("depth, width는 1 이상이어야 합니다.");
+		}
+		this.depth = depth;
+		this.width = width;
+		this.cells = new long[depth * width];
+	}
+
+	/**
+	 * 허용 오차 epsilon(전체 빈도 합 대비 비율)에 필요한 width
+	 */
+	public static int widthFor(double epsilon) {
+		if (!(epsilon > 0 && epsilon < 1)) {
+			throw new IllegalArgumentException("epsilon은 0보다 크고 1보다 작아야 합니다.");
+		}
+		return (int)Math.ceil(Math.E / epsilon);
+	}
+
+	/**
+	 * 추정치가 오차 범위를 벗어날 확률 delta에 필요한 depth
+	 */
+	public static int depthFor(double delta) {
+		if (!(delta > 0 && delta < 1)) {
+			throw new IllegalArgumentException("delta는 0보다 크고 1보다 작아야 합니다.");
+		}
+		return (int)Math.ceil(Math.log(1 / delta));
+	}
+
+	public static CountMinSketch fromCells(int depth, int width, long[] cells) {
+		CountMinSketch sketch = new CountMinSketch(depth, width);
+		System.arraycopy(cells, 0, sketch.cells, 0, Math.min(cells.length, sketch.cells.length));
+		return sketch;
+	}
+
+	public void add(String key, long count) {
+		long hash = hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+
+		for (int row = 0; row < depth; row++) {
+			cells[row * width + index(h1, h2, row)] += count;
+		}
+	}
+
+	public long estimate(String key) {
+		long hash = hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+
+		long min = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			min = Math.min(min, cells[row * width + index(h1, h2, row)]);
+		}
+		return min;
+	}
+
+	public void merge(CountMinSketch other) {
+		if (other.depth != depth || other.width != width) {
+			throw new IllegalArgumentException("크기가 다른 sketch는 병합할 수 없습니다.");
+		}
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] += other.cells[i];
+		}
+	}
+
+	/**
+	 * 모든 셀을 절반으로 감쇠 (오래된 빈도가 계속 남아있지 않도록 주기적으로 호출)
+	 */
+	public void halve() {
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] >>= 1;
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(cells, 0L);
+	}
+
+	public long[] cells() {
+		return cells.clone();
+	}
+
+	public int depth() {
+		return depth;
+	}
+
+	public int width() {
+		return width;
+	}
+
+	// Kirsch-Mitzenmacher: 두 개의 해시로 row 별 독립 해시를 흉내냄
+	private int index(int h1, int h2, int row) {
+		int combined = h1 + row * h2;
+		return (combined & Integer.MAX_VALUE) % width;
+	}
+
+	// FNV-1a 64bit + murmur3 fmix64, 상/하위 32비트를 두 개의 해시로 사용
+	private static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h ^= key.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
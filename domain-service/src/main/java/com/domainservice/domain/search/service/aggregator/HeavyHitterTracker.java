@@ -0,0 +1,103 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.repository.redis.HeavyHitterRedisRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 heavy-hitter 판별기 (Count-Min Sketch + Space-Saving)
+ * - Count-Min Sketch: 모든 검색어의 빈도를 고정 메모리로 근사
+ * - Space-Saving: 상위 capacity 개 후보 검색어만 추적
+ * - 후보에 들어온 검색어만 Redis 버킷/ZSET, DB, Elasticsearch로 전달되어 long-tail 검색어로 인한 메모리 증가를 막음
+ * - 주기마다 로컬 sketch를 Redis에서 병합하고, 병합된 전역 sketch를 후보 교체 판단에 함께 사용
+ * - sketch 크기는 epsilon/delta 설정으로 계산 (Redis에서 셀 단위로 합치므로 모든 replica가 같은 값을 사용해야 함)
+ */
+@Slf4j
+@Component
+public class HeavyHitterTracker {
+
+	private final HeavyHitterRedisRepository heavyHitterRedisRepository;
+	private final long agingIntervalMillis;
+	private final int sketchDepth;
+	private final int sketchWidth;
+
+	private final CountMinSketch localSketch;		// 감쇠되는 로컬 누적 빈도
+	private final CountMinSketch pendingSketch;		// Redis 병합 대기 증가분
+	private CountMinSketch globalSketch;			// 직전 주기 전역 빈도
+	private final SpaceSavingTopK topK;
+
+	public HeavyHitterTracker(
+		HeavyHitterRedisRepository heavyHitterRedisRepository,
+		@Value("${custom.search.heavy-hitter.capacity:1000}") int capacity,
+		@Value("${custom.search.heavy-hitter.aging-interval-ms:300000}") long agingIntervalMillis,
+		@Value("${custom.search.heavy-hitter.epsilon:0.001}") double epsilon,
+		@Value("${custom.search.heavy-hitter.delta:0.02}") double delta
+	) {
+		this.heavyHitterRedisRepository = heavyHitterRedisRepository;
+		this.agingIntervalMillis = agingIntervalMillis;
+		this.sketchDepth = CountMinSketch.depthFor(delta);
+		this.sketchWidth = CountMinSketch.widthFor(epsilon);
+		this.localSketch = new CountMinSketch(sketchDepth, sketchWidth);
+		this.pendingSketch = new CountMinSketch(sketchDepth, sketchWidth);
+		this.globalSketch = new CountMinSketch(sketchDepth, sketchWidth);
+		this.topK = new SpaceSavingTopK(capacity);
+	}
+
+	/**
+	 * flush 주기 동안 집계된 검색어 카운트를 반영하고, 후보(top-K)에 포함된 검색어만 반환
+	 * @param counts {검색어, 검색 횟수}
+	 * @return {후보 검색어, 검색 횟수}
+	 */
+	public synchronized Map<String, Long> offer(Map<String, Long> counts) {
+		Map<String, Long> candidates = new HashMap<>();
+
+		counts.forEach((keyword, count) -> {
+			localSketch.add(keyword, count);
+			pendingSketch.add(keyword, count);
+
+			long estimate = Math.max(localSketch.estimate(keyword), globalSketch.estimate(keyword));
+			if (topK.offer(keyword, count, estimate)) {
+				candidates.put(keyword, count);
+			}
+		});
+
+		return candidates;
+	}
+
+	/**
+	 * 주기마다 실행
+	 * 1. 이번 주기 증가분 sketch를 Redis 전역 sketch에 병합
+	 * 2. 모든 replica의 병합이 끝난 직전 주기 전역 sketch를 조회해서 후보 교체 판단에 사용
+	 * 3. 로컬 sketch / top-K 카운트 절반 감쇠
+	 */
+	@Scheduled(fixedRateString = "${custom.search.heavy-hitter.aging-interval-ms:300000}")
+	public void rotate() {
+		long[] pendingCells;
+		synchronized (this) {
+			pendingCells = pendingSketch.cells();
+			pendingSketch.clear();
+			localSketch.halve();
+			topK.halve();
+		}
+
+		long closedPeriod = System.currentTimeMillis() / agingIntervalMillis - 1;
+		try {
+			heavyHitterRedisRepository.mergeSketch(closedPeriod, pendingCells);
+
+			long[] globalCells = heavyHitterRedisRepository.findSketch(closedPeriod - 1, sketchDepth * sketchWidth);
+			CountMinSketch merged = CountMinSketch.fromCells(sketchDepth, sketchWidth, globalCells);
+			synchronized (this) {
+				globalSketch = merged;
+			}
+		} catch (Exception e) {
+			log.error("heavy-hitter sketch 병합 실패 - period: {}", closedPeriod, e);
+		}
+	}
+}
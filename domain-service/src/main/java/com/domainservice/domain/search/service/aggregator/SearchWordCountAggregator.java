@@ -0,0 +1,205 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.repository.redis.PopularSearchWordRedisRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 카운트 인메모리 집계기
+ * - 검색 요청마다 Redis에 쓰지 않고, JVM 안에서 검색어별 횟수만 누적
+ * - 일정 주기(flush-interval)마다 누적된 횟수를 한 번의 pipeline으로 Redis에 반영
+ * - heavy-hitter 후보(HeavyHitterTracker)에 포함된 검색어만 Redis로 전달
+ * - Redis 부하가 "검색 횟수"가 아닌 "주기당 서로 다른 검색어 수"에 비례하게 됨
+ * - 고유 검색자 순위(unique-searcher-enabled)를 사용하면 같은 검색자가 dedupe-window 안에 같은 검색어를 반복 검색해도
+ *   한 번만 카운트 (반복 검색으로 순위 부풀리기 방지), 사용하지 않으면 모든 검색을 그대로 카운트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchWordCountAggregator {
+
+	private final PopularSearchWordRedisRepository popularSearchWordRedisRepository;
+	private final HeavyHitterTracker heavyHitterTracker;
+
+	// ConcurrentHashMap(버킷 단위 락) + LongAdder(셀 단위 striping)로 요청 스레드 간 경합 최소화
+	private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+	// 맵에서 뺀 adder를 잠시 보관 (빼기 직전에 adder를 얻은 요청 스레드의 늦은 증가분을 이후 flush에서 회수)
+	private static final long RETIRED_RETENTION_MILLIS = 60_000L;
+
+	private record RetiredCounter(String keyword, LongAdder adder, long retiredAt) {
+	}
+
+	private final List<RetiredCounter> retired = new ArrayList<>();
+
+	// flush 주기 동안 검색어별 검색자 식별자 (고유 검색자 HyperLogLog 반영용)
+	private final ConcurrentHashMap<String, Set<String>> searchers = new ConcurrentHashMap<>();
+
+	// Redis 반영에 실패한 후보 카운트/검색자, 다음 flush에서 sketch(offer)를 거치지 않고 그대로 재전송 (flush 스레드에서만 접근)
+	private Map<String, Long> retryCounts = new HashMap<>();
+	private Map<String, Set<String>> retrySearchers = new HashMap<>();
+
+	// {검색자 + 검색어, 마지막으로 카운트된 시각(ms)}, flush 마다 window가 지난 항목 정리
+	private final ConcurrentHashMap<String, Long> recentSearches = new ConcurrentHashMap<>();
+
+	@Value("${custom.search.aggregator.dedupe-window-ms:60000}")
+	private long dedupeWindowMillis;
+
+	// PopularSearchWordRedisRepository와 같은 설정, 검색 횟수 순위(기본)에서는 반복 검색도 카운트
+	@Value("${custom.search.ranking.unique-searcher-enabled:false}")
+	private boolean uniqueSearcherRankingEnabled;
+
+	/**
+	 * 검색어 1회 카운트
+	 * @param keyword 검색어
+	 * @param searcherId 검색자 식별자 (로그인 사용자는 userId, 비로그인은 IP), null이거나 고유 검색자 순위를 사용하지 않으면
+	 *                   중복 제거 없이 카운트
+	 */
+	public void increment(String keyword, String searcherId) {
+		if (keyword == null || keyword.isBlank()) {
+			return;
+		}
+
+		String normalized = keyword.strip();
+		if (uniqueSearcherRankingEnabled && searcherId != null && isDuplicate(searcherId, normalized)) {
+			return;
+		}
+
+		counters.computeIfAbsent(normalized, k -> new LongAdder()).increment();
+
+		if (searcherId != null) {
+			searchers.computeIfAbsent(normalized, k -> ConcurrentHashMap.newKeySet()).add(searcherId);
+		}
+	}
+
+	/**
+	 * 누적된 카운트를 Redis로 flush
+	 * - 한 주기 동안 카운트가 0인 검색어는 맵에서 제거하여 long-tail 검색어가 메모리에 쌓이지 않도록 함
+	 * - heavy-hitter 후보가 아닌 검색어는 sketch에만 반영되고 Redis로 전달되지 않음
+	 * - Redis 반영에 실패하면 후보 카운트를 재시도 맵에 보관해서 다음 주기에 함께 전송
+	 *   (이미 sketch/top-K에 반영된 카운트이므로 counters로 되돌려서 offer를 다시 거치면 두 번 집계됨)
+	 */
+	@Scheduled(fixedDelayString = "${custom.search.aggregator.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		evictExpiredSearches();
+
+		Map<String, Long> snapshot = drain();
+		Map<String, Set<String>> searcherSnapshot = drainSearchers();
+
+		Map<String, Long> candidates = retryCounts;
+		Map<String, Set<String>> candidateSearchers = retrySearchers;
+		retryCounts = new HashMap<>();
+		retrySearchers = new HashMap<>();
+
+		if (!snapshot.isEmpty()) {
+			heavyHitterTracker.offer(snapshot).forEach((keyword, count) -> candidates.merge(keyword, count, Long::sum));
+			searcherSnapshot.forEach((keyword, keywordSearchers) ->
+				candidateSearchers.computeIfAbsent(keyword, k -> new HashSet<>()).addAll(keywordSearchers));
+		}
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		try {
+			popularSearchWordRedisRepository.incrementSearchCounts(candidates, candidateSearchers, LocalDateTime.now());
+		} catch (Exception e) {
+			log.error("검색어 카운트 flush 실패 - 다음 주기에 재시도, size: {}", candidates.size(), e);
+			retryCounts = candidates;
+			candidates.keySet().forEach(keyword -> {
+				Set<String> keywordSearchers = candidateSearchers.get(keyword);
+				if (keywordSearchers != null) {
+					retrySearchers.put(keyword, keywordSearchers);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 애플리케이션 종료 시 남아있는 카운트 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 누적 카운트를 꺼냄
+	 * - adder는 맵에 둔 채로 sumThenReset (셀 단위 getAndSet이라 동시에 들어온 증가분은 이번 또는 다음 주기에 포함)
+	 * - 이번 주기에 증가가 없던 adder만 맵에서 빼고, 뺀 adder는 RETIRED_RETENTION_MILLIS 동안 flush마다 다시 회수
+	 *   (adder를 얻은 뒤 increment() 전에 멈춰 있던 요청 스레드의 증가분도 유실되지 않음)
+	 */
+	private Map<String, Long> drain() {
+		long now = System.currentTimeMillis();
+		Map<String, Long> snapshot = new HashMap<>();
+
+		for (RetiredCounter counter : retired) {
+			long late = counter.adder().sumThenReset();
+			if (late > 0) {
+				snapshot.merge(counter.keyword(), late, Long::sum);
+			}
+		}
+		retired.removeIf(counter -> now - counter.retiredAt() >= RETIRED_RETENTION_MILLIS);
+
+		counters.forEach((keyword, adder) -> {
+			long count = adder.sumThenReset();
+
+			if (count > 0) {
+				snapshot.merge(keyword, count, Long::sum);
+			} else if (counters.remove(keyword, adder)) {
+				retired.add(new RetiredCounter(keyword, adder, now));
+			}
+		});
+
+		return snapshot;
+	}
+
+	private Map<String, Set<String>> drainSearchers() {
+		Map<String, Set<String>> snapshot = new HashMap<>();
+
+		for (String keyword : searchers.keySet()) {
+			Set<String> keywordSearchers = searchers.remove(keyword);
+			if (keywordSearchers != null && !keywordSearchers.isEmpty()) {
+				snapshot.put(keyword, keywordSearchers);
+			}
+		}
+
+		return snapshot;
+	}
+
+	// window 안에 같은 검색자가 같은 검색어를 이미 검색했으면 true, 아니면 현재 시각을 기록하고 false
+	private boolean isDuplicate(String searcherId, String keyword) {
+		long now = System.currentTimeMillis();
+		boolean[] duplicate = {false};
+
+		recentSearches.compute(searcherId + '\u0000' + keyword, (key, countedAt) -> {
+			if (countedAt != null && now - countedAt < dedupeWindowMillis) {
+				duplicate[0] = true;
+				return countedAt;
+			}
+			return now;
+		});
+
+		return duplicate[0];
+	}
+
+	private void evictExpiredSearches() {
+		long now = System.currentTimeMillis();
+		recentSearches.values().removeIf(countedAt -> now - countedAt >= dedupeWindowMillis);
+	}
+}
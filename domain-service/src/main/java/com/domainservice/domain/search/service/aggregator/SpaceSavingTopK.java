@@ -0,0 +1,119 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving top-K
+ * - 최대 capacity 개의 검색어만 추적하여 메모리를 고정
+ * - 꽉 찬 상태에서 새 검색어가 들어오면 최소 카운터를 교체 (count = min + delta, error = min)
+ * - admissionEstimate를 함께 받아서, 추정 빈도가 최소 카운터보다 큰 경우에만 교체 (long-tail 검색어 유입 차단)
+ * - thread-safe 하지 않으므로 호출하는 쪽에서 동기화 필요
+ */
+public class SpaceSavingTopK {
+
+	private final int capacity;
+	private final Map<String, Counter> counters;
+	private final TreeSet<Counter> ordered;
+
+	public SpaceSavingTopK(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+		}
+		this.capacity = capacity;
+		this.counters = new HashMap<>(capacity * 2);
+		this.ordered = new TreeSet<>(
+			Comparator.comparingLong(Counter::count).thenComparing(Counter::key)
+		);
+	}
+
+	/**
+	 * 검색어 카운트 반영
+	 * @param key 검색어
+	 * @param delta 증가분
+	 * @param admissionEstimate 신규 검색어 교체 여부 판단용 추정 빈도 (Count-Min Sketch 추정치)
+	 * @return 반영 후 top-K에 포함되어 있으면 true
+	 */
+	public boolean offer(String key, long delta, long admissionEstimate) {
+		Counter current = counters.get(key);
+		if (current != null) {
+			replace(current, new Counter(key, current.count() + delta, current.error()));
+			return true;
+		}
+
+		if (counters.size() < capacity) {
+			put(new Counter(key, delta, 0));
+			return true;
+		}
+
+		Counter min = ordered.first();
+		if (admissionEstimate <= min.count()) {
+			return false;
+		}
+
+		ordered.pollFirst();
+		counters.remove(min.key());
+		put(new Counter(key, min.count() + delta, min.count()));
+		return true;
+	}
+
+	public boolean contains(String key) {
+		return counters.containsKey(key);
+	}
+
+	/**
+	 * 카운트 내림차순 상위 limit개 반환
+	 */
+	public List<Counter> top(int limit) {
+		List<Counter> result = new ArrayList<>(Math.min(limit, ordered.size()));
+		for (Counter counter : ordered.descendingSet()) {
+			if (result.size() >= limit) {
+				break;
+			}
+			result.add(counter);
+		}
+		return result;
+	}
+
+	/**
+	 * 모든 카운트를 절반으로 감쇠, 0이 된 검색어는 제거
+	 */
+	public void halve() {
+		List<Counter> snapshot = new ArrayList<>(ordered);
+		ordered.clear();
+		counters.clear();
+
+		for (Counter counter : snapshot) {
+			long count = counter.count() >> 1;
+			if (count > 0) {
+				put(new Counter(counter.key(), count, counter.error() >> 1));
+			}
+		}
+	}
+
+	public int size() {
+		return counters.size();
+	}
+
+	private void replace(Counter before, Counter after) {
+		ordered.remove(before);
+		put(after);
+	}
+
+	private void put(Counter counter) {
+		counters.put(counter.key(), counter);
+		ordered.add(counter);
+	}
+
+	/**
+	 * @param key 검색어
+	 * @param count 추정 카운트 (실제 값 이상)
+	 * @param error 최대 과대 추정치 (count - error 이상은 보장)
+	 */
+	public record Counter(String key, long count, long error) {
+	}
+}
@@ -0,0 +1,291 @@
+package com.domainservice.domain.search.service.analyzer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * 영단어 사전 스냅샷 (memory-mapped, 읽기 전용)
+ * - WordNet lemma 중 영문 소문자로만 이루어진 단어를 정렬해서 하나의 파일로 저장하고, 시작할 때 mmap으로 연결
+ * - 단어 존재 여부: open addressing 해시 테이블(slot → 단어 index)로 O(1) 조회
+ * - prefix 여부: 모든 단어의 prefix를 넣은 bloom filter로 조회 (false positive 있음, false negative 없음)
+ * - 조회 중 객체 생성 없이 입력 문자를 mmap된 byte와 바로 비교
+ *
+ * 파일 구조 (big endian)
+ * [magic][version][wordCount][slotCount][bloomLongs][dataLength]
+ * [offsets: int * (wordCount + 1)][slots: int * slotCount][bloom: long * bloomLongs][data: ASCII bytes]
+ */
+public final class EnglishLexicon {
+
+	private static final int MAGIC = 0x4C455831;	// "LEX1"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = Integer.BYTES * 6;
+
+	private static final int BLOOM_BITS_PER_PREFIX = 10;
+	private static final int BLOOM_HASHES = 7;
+	private static final int MAX_WORD_LENGTH = 64;
+
+	private static final EnglishLexicon EMPTY = new EnglishLexicon(build(new TreeSet<>()));
+
+	private final ByteBuffer buffer;
+	private final int wordCount;
+	private final int slotMask;
+	private final long bloomBits;
+	private final int offsetsStart;
+	private final int slotsStart;
+	private final int bloomStart;
+	private final int dataStart;
+
+	private EnglishLexicon(ByteBuffer buffer) {
+		if (buffer.capacity() < HEADER_BYTES
+			|| buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+			throw new IllegalArgumentException("영단어 사전 스냅샷 형식이 올바르지 않습니다.");
+		}
+
+		this.buffer = buffer;
+		this.wordCount = buffer.getInt(Integer.BYTES * 2);
+		int slotCount = buffer.getInt(Integer.BYTES * 3);
+		int bloomLongs = buffer.getInt(Integer.BYTES * 4);
+		int dataLength = buffer.getInt(Integer.BYTES * 5);
+
+		this.slotMask = slotCount - 1;
+		this.bloomBits = (long)bloomLongs * Long.SIZE;
+		this.offsetsStart = HEADER_BYTES;
+		this.slotsStart = offsetsStart + Integer.BYTES * (wordCount + 1);
+		this.bloomStart = slotsStart + Integer.BYTES * slotCount;
+		this.dataStart = bloomStart + Long.BYTES * bloomLongs;
+
+		// 쓰다 만 파일/깨진 파일은 조회 중 범위 밖을 읽지 않도록 열 때 거부
+		if (!isConsistent(buffer, wordCount, slotCount, bloomLongs, dataLength)) {
+			throw new IllegalArgumentException("영단어 사전 스냅샷이 손상되었습니다.");
+		}
+	}
+
+	private static boolean isConsistent(ByteBuffer buffer, int wordCount, int slotCount, int bloomLongs,
+		int dataLength) {
+		if (wordCount < 0 || slotCount <= 0 || Integer.bitCount(slotCount) != 1 || slotCount <= wordCount
+			|| bloomLongs <= 0 || dataLength < 0) {
+			return false;
+		}
+
+		long expectedBytes = HEADER_BYTES + (long)Integer.BYTES * (wordCount + 1) + (long)Integer.BYTES * slotCount
+			+ (long)Long.BYTES * bloomLongs + dataLength;
+		if (buffer.capacity() != expectedBytes) {
+			return false;
+		}
+		return buffer.getInt(HEADER_BYTES + Integer.BYTES * wordCount) == dataLength;
+	}
+
+	public static EnglishLexicon empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * 스냅샷 파일을 읽기 전용으로 mmap
+	 */
+	public static EnglishLexicon open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new EnglishLexicon(mapped);
+		}
+	}
+
+	/**
+	 * 단어 목록으로 스냅샷 파일 생성 (임시 파일에 쓴 뒤 이동 → 다른 인스턴스가 쓰다 만 파일을 읽지 않음)
+	 * - 영문 소문자(a-z)로만 이루어진 단어만 저장, 대문자는 소문자로 변환
+	 */
+	public static void write(Collection<String> words, Path path) throws IOException {
+		TreeSet<String> normalized = new TreeSet<>();
+		for (String word : words) {
+			String lower = word.toLowerCase();
+			if (isLowerAlphabet(lower)) {
+				normalized.add(lower);
+			}
+		}
+
+		ByteBuffer snapshot = build(normalized);
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+			while (snapshot.hasRemaining()) {
+				channel.write(snapshot);
+			}
+			channel.force(true);
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * 사전에 있는 단어인지 확인 (대소문자 무시)
+	 */
+	public boolean contains(CharSequence value) {
+		int length = value.length();
+		if (wordCount == 0 || length == 0 || length > MAX_WORD_LENGTH) {
+			return false;
+		}
+
+		int hash = hash(value, length);
+		if (hash == -1) {
+			return false;	// 영문자가 아닌 문자 포함
+		}
+
+		for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+			int entry = buffer.getInt(slotsStart + Integer.BYTES * slot);
+			if (entry == 0) {
+				return false;
+			}
+			if (matches(entry - 1, value, length)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 사전에 이 값으로 시작하는 단어가 있을 수 있는지 확인 (bloom filter, 대소문자 무시)
+	 * - false면 확실히 영단어 prefix가 아님 → 한글을 영타로 입력한 값으로 판단 가능
+	 */
+	public boolean mightBePrefix(CharSequence value) {
+		int length = value.length();
+		if (wordCount == 0 || length == 0 || length > MAX_WORD_LENGTH) {
+			return false;
+		}
+
+		int hash = hash(value, length);
+		if (hash == -1) {
+			return false;
+		}
+
+		int second = mix(hash);
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			long bit = Integer.toUnsignedLong(hash + i * second) % bloomBits;
+			long word = buffer.getLong(bloomStart + Long.BYTES * (int)(bit >>> 6));
+			if ((word & (1L << (bit & 63))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int size() {
+		return wordCount;
+	}
+
+	private boolean matches(int index, CharSequence value, int length) {
+		int start = buffer.getInt(offsetsStart + Integer.BYTES * index);
+		int end = buffer.getInt(offsetsStart + Integer.BYTES * (index + 1));
+		if (end - start != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (buffer.get(dataStart + start + i) != toLower(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static ByteBuffer build(TreeSet<String> words) {
+		int wordCount = words.size();
+		int slotCount = Integer.highestOneBit(Math.max(1, wordCount) * 2 - 1) << 1;	// load factor 0.5 이하
+
+		// prefix 개수 기준으로 bloom filter 크기 결정
+		TreeSet<String> prefixes = new TreeSet<>();
+		int dataLength = 0;
+		for (String word : words) {
+			dataLength += word.length();
+			for (int i = 1; i <= word.length(); i++) {
+				prefixes.add(word.substring(0, i));
+			}
+		}
+		int bloomLongs = Math.max(1, (prefixes.size() * BLOOM_BITS_PER_PREFIX + Long.SIZE - 1) / Long.SIZE);
+		long bloomBits = (long)bloomLongs * Long.SIZE;
+
+		int offsetsStart = HEADER_BYTES;
+		int slotsStart = offsetsStart + Integer.BYTES * (wordCount + 1);
+		int bloomStart = slotsStart + Integer.BYTES * slotCount;
+		int dataStart = bloomStart + Long.BYTES * bloomLongs;
+
+		ByteBuffer buffer = ByteBuffer.allocate(dataStart + dataLength);
+		buffer.putInt(0, MAGIC)
+			.putInt(Integer.BYTES, VERSION)
+			.putInt(Integer.BYTES * 2, wordCount)
+			.putInt(Integer.BYTES * 3, slotCount)
+			.putInt(Integer.BYTES * 4, bloomLongs)
+			.putInt(Integer.BYTES * 5, dataLength);
+
+		int index = 0;
+		int offset = 0;
+		int slotMask = slotCount - 1;
+		for (String word : words) {
+			buffer.putInt(offsetsStart + Integer.BYTES * index, offset);
+			buffer.put(dataStart + offset, word.getBytes(StandardCharsets.US_ASCII));
+			offset += word.length();
+
+			int slot = hash(word, word.length()) & slotMask;
+			while (buffer.getInt(slotsStart + Integer.BYTES * slot) != 0) {
+				slot = (slot + 1) & slotMask;
+			}
+			buffer.putInt(slotsStart + Integer.BYTES * slot, index + 1);	// 0은 빈 slot
+			index++;
+		}
+		buffer.putInt(offsetsStart + Integer.BYTES * wordCount, offset);
+
+		for (String prefix : prefixes) {
+			int hash = hash(prefix, prefix.length());
+			int second = mix(hash);
+			for (int i = 0; i < BLOOM_HASHES; i++) {
+				long bit = Integer.toUnsignedLong(hash + i * second) % bloomBits;
+				int position = bloomStart + Long.BYTES * (int)(bit >>> 6);
+				buffer.putLong(position, buffer.getLong(position) | (1L << (bit & 63)));
+			}
+		}
+
+		return buffer.rewind();
+	}
+
+	// FNV-1a (소문자 기준), 영문자가 아닌 문자가 있으면 -1
+	private static int hash(CharSequence value, int length) {
+		int hash = 0x811C9DC5;
+		for (int i = 0; i < length; i++) {
+			byte ch = toLower(value.charAt(i));
+			if (ch < 'a' || ch > 'z') {
+				return -1;
+			}
+			hash = (hash ^ ch) * 0x01000193;
+		}
+		return hash == -1 ? 0 : hash;
+	}
+
+	// bloom filter double hashing용 두 번째 hash (홀수로 만들어 모든 bit를 순회)
+	private static int mix(int hash) {
+		int h = hash * 0x9E3779B9;
+		return (h ^ (h >>> 16)) | 1;
+	}
+
+	private static byte toLower(char ch) {
+		return (byte)(ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch > 0x7F ? 0 : ch);
+	}
+
+	private static boolean isLowerAlphabet(String word) {
+		if (word.isEmpty() || word.length() > MAX_WORD_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < word.length(); i++) {
+			char ch = word.charAt(i);
+			if (ch < 'a' || ch > 'z') {
+				return false;
+			}
+		}
+		return true;
+	}
+}
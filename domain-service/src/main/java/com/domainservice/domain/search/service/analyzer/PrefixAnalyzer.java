@@ -1,27 +1,104 @@
 package com.domainservice.domain.search.service.analyzer;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
 import net.sf.extjwnl.dictionary.Dictionary;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * QWERTY 입력값이 영단어(또는 입력 중인 영단어 prefix)인지 판별 (자동완성에서 영단어를 한글 자판 오타로 교정/변환하지 않도록 사용)
+ * - 요청 스레드에서 extjwnl(파일 기반 사전)을 조회하지 않고, 미리 만든 EnglishLexicon 스냅샷(mmap)만 조회
+ * - 스냅샷이 없으면 최초 기동 시 1회만 WordNet에서 lemma를 뽑아 파일로 저장 (이후 기동은 extjwnl 사전을 로드하지 않음)
+ * - 스냅샷이 손상되었으면 WordNet에서 다시 만들고, 다시 만들 수 없으면 기동 실패
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class PrefixAnalyzer {
 
-	private final Dictionary dictionary;
+	// 기존 조회 대상과 동일하게 명사, 부사 lemma만 사용
+	private static final POS[] LEXICON_POS = {POS.NOUN, POS.ADVERB};
+
+	// 짧은 입력은 한글 자판 입력과 사전의 약어가 겹치는 경우가 많아 영단어로 보지 않음 (ex. rk → 가)
+	private static final int MIN_WORD_LENGTH = 4;
+
+	// 3글자 이하 prefix는 한글 1~2음절 자판 입력(rkt → 갓)과 대부분 겹치고, bloom filter false positive도 있어서 판단하지 않음
+	private static final int MIN_PREFIX_LENGTH = 4;
 
+	private final EnglishLexicon lexicon;
+
+	public PrefixAnalyzer(
+		ObjectProvider<Dictionary> dictionaryProvider,
+		@Value("${custom.search.lexicon.snapshot-path:${custom.search.data-dir:./data/search}/english-lexicon-wn31.bin}")
+		Path snapshotPath
+	) {
+		this.lexicon = loadLexicon(dictionaryProvider, snapshotPath);
+	}
+
+	/**
+	 * 해당 영단어가 사전에 있는지 (MIN_WORD_LENGTH 보다 짧은 입력은 false)
+	 */
 	public boolean existsInDictionary(String value) {
-		//해당 영단어가 사전에 있는지
+		return value != null && value.length() >= MIN_WORD_LENGTH && lexicon.contains(value);
+	}
+
+	/**
+	 * 입력 중인 값이 영단어의 앞부분일 가능성이 높은지 (ex. keyb → keyboard)
+	 * - bloom filter 조회라서 false positive가 있으므로 MIN_PREFIX_LENGTH 보다 짧은 입력은 false
+	 */
+	public boolean isLikelyEnglishPrefix(String value) {
+		return value != null && value.length() >= MIN_PREFIX_LENGTH && lexicon.mightBePrefix(value);
+	}
+
+	/**
+	 * 영단어이거나 영단어를 입력하는 중인 값인지 (한글을 영타로 입력한 값이 아님)
+	 */
+	public boolean isEnglishInput(String value) {
+		return existsInDictionary(value) || isLikelyEnglishPrefix(value);
+	}
+
+	private EnglishLexicon loadLexicon(ObjectProvider<Dictionary> dictionaryProvider, Path snapshotPath) {
+		if (Files.exists(snapshotPath)) {
+			try {
+				EnglishLexicon loaded = EnglishLexicon.open(snapshotPath);
+				log.info("영단어 사전 스냅샷 로드 - path: {}, size: {}", snapshotPath, loaded.size());
+				return loaded;
+			} catch (IOException | RuntimeException e) {
+				log.warn("영단어 사전 스냅샷 손상 - WordNet에서 다시 생성, path: {}", snapshotPath, e);
+			}
+		}
+
 		try {
-			// WordNet의 명사, 동사, 형용사, 부사 카테고리 모두에서 검색
-			return dictionary.getIndexWord(net.sf.extjwnl.data.POS.NOUN, value) != null ||
-				dictionary.getIndexWord(net.sf.extjwnl.data.POS.ADVERB, value) != null;
-		} catch (JWNLException e) {
-			// 예외 발생 시 기본적으로 false 반환 (로그를 남길 수도 있음)
-			return false;
+			EnglishLexicon.write(extractLemmas(dictionaryProvider.getObject()), snapshotPath);
+			EnglishLexicon built = EnglishLexicon.open(snapshotPath);
+			log.info("영단어 사전 스냅샷 생성 - path: {}, size: {}", snapshotPath, built.size());
+			return built;
+		} catch (IOException | JWNLException | RuntimeException e) {
+			// 빈 사전으로 시작하면 영단어 판별이 조용히 꺼지므로 기동 실패로 알림
+			throw new IllegalStateException("영단어 사전 스냅샷 생성 실패 - path: " + snapshotPath, e);
+		}
+	}
+
+	private List<String> extractLemmas(Dictionary dictionary) throws JWNLException {
+		List<String> lemmas = new ArrayList<>();
+		for (POS pos : LEXICON_POS) {
+			Iterator<IndexWord> words = dictionary.getIndexWordIterator(pos);
+			while (words.hasNext()) {
+				lemmas.add(words.next().getLemma());
+			}
 		}
+		return lemmas;
 	}
 }
@@ -0,0 +1,358 @@
+package com.domainservice.domain.search.service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
+
+/**
+ * 자동완성용 불변 prefix 인덱스
+ * - 검색어 1개당 key 최대 3개(원문 소문자, QWERTY 입력값, 공백을 제거한 초성)를 정렬된 배열에 보관
+ * - prefix에 해당하는 key 구간은 이분 탐색으로 찾고, 구간 안의 상위 인기 검색어는
+ *   weight 최대값 위치를 저장한 segment tree에서 구간 분할 + 우선순위 큐로 limit 개만 꺼냄
+ *   → 조회 비용이 구간 크기와 무관하게 O(log n + limit log limit)
+ * - 생성 후 변경하지 않으므로 여러 스레드에서 잠금 없이 조회 가능 (갱신은 update로 만든 새 인덱스로 교체)
+ */
+public final class AutoCompleteIndex {
+
+	private static final int KEYS_PER_ENTRY = 3;
+
+	private static final AutoCompleteIndex EMPTY = new AutoCompleteIndex(
+		new String[0], new String[0], new long[0], new String[0], new int[0], Map.of());
+
+	private final String[] words;		// entry id -> 검색어
+	private final String[] qwertyInputs;	// entry id -> QWERTY 입력값
+	private final long[] weights;		// entry id -> 인기도(누적 검색 횟수)
+	private final Map<String, Integer> entryIds;	// 검색어 -> entry id
+
+	private final String[] keys;		// 정렬된 key
+	private final int[] keyEntries;		// key 위치 -> entry id
+	private final int[] entryKeys;		// entry id * KEYS_PER_ENTRY -> key 위치 (없으면 -1)
+	private final int[] tree;			// segment tree: 구간에서 weight가 가장 큰 key 위치
+	private final int leafOffset;
+
+	private AutoCompleteIndex(String[] words, String[] qwertyInputs, long[] weights, String[] keys, int[] keyEntries,
+		Map<String, Integer> entryIds) {
+		this.words = words;
+		this.qwertyInputs = qwertyInputs;
+		this.weights = weights;
+		this.entryIds = entryIds;
+		this.keys = keys;
+		this.keyEntries = keyEntries;
+
+		this.entryKeys = new int[words.length * KEYS_PER_ENTRY];
+		Arrays.fill(entryKeys, -1);
+		for (int position = 0; position < keys.length; position++) {
+			int slot = keyEntries[position] * KEYS_PER_ENTRY;
+			while (entryKeys[slot] >= 0) {
+				slot++;
+			}
+			entryKeys[slot] = position;
+		}
+
+		int offset = 1;
+		while (offset < Math.max(1, keys.length)) {
+			offset <<= 1;
+		}
+		this.leafOffset = offset;
+		this.tree = new int[offset * 2];
+		Arrays.fill(tree, -1);
+		for (int i = 0; i < keys.length; i++) {
+			tree[offset + i] = i;
+		}
+		for (int node = offset - 1; node > 0; node--) {
+			tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+		}
+	}
+
+	// 검색어/key 구성은 그대로 두고 weight만 바꾼 복사본 (weights, tree만 새로 할당)
+	private AutoCompleteIndex(AutoCompleteIndex source) {
+		this.words = source.words;
+		this.qwertyInputs = source.qwertyInputs;
+		this.weights = source.weights.clone();
+		this.entryIds = source.entryIds;
+		this.keys = source.keys;
+		this.keyEntries = source.keyEntries;
+		this.entryKeys = source.entryKeys;
+		this.tree = source.tree.clone();
+		this.leafOffset = source.leafOffset;
+	}
+
+	public static AutoCompleteIndex empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @param popularity {검색어, 인기도}
+	 */
+	public static AutoCompleteIndex build(Map<String, Long> popularity) {
+		return EMPTY.update(popularity, Set.of());
+	}
+
+	/**
+	 * 일부 검색어만 바꾼 새 인덱스 생성 (이 인덱스는 변경하지 않음)
+	 * - 기존 검색어의 인기도만 바뀌면: weights/tree 배열 복사 O(n) + 바뀐 key마다 segment tree 갱신 O(log n)
+	 * - 검색어가 추가/삭제되면: 새 검색어의 key만 변환/정렬한 뒤 기존 정렬 배열과 병합 O(n + m log m)
+	 *   (전체 검색어의 QWERTY/초성 변환과 전체 key 정렬은 하지 않음)
+	 * @param popularity {추가하거나 인기도를 바꿀 검색어, 새 인기도}
+	 * @param removedWords 제거할 검색어 (popularity에 같이 있으면 제거)
+	 */
+	public AutoCompleteIndex update(Map<String, Long> popularity, Set<String> removedWords) {
+		boolean structural = removedWords.stream().anyMatch(entryIds::containsKey)
+			|| popularity.keySet().stream().anyMatch(word -> !entryIds.containsKey(word) && !removedWords.contains(word));
+		if (structural) {
+			return merge(popularity, removedWords);
+		}
+		if (popularity.isEmpty()) {
+			return this;
+		}
+
+		AutoCompleteIndex updated = new AutoCompleteIndex(this);
+		popularity.forEach((word, weight) -> {
+			Integer entry = entryIds.get(word);
+			if (entry != null) {
+				updated.updateWeight(entry, weight);
+			}
+		});
+		return updated;
+	}
+
+	/**
+	 * 원문 prefix 또는 QWERTY prefix로 시작하는 검색어를 인기도 내림차순으로 limit 개 조회
+	 * - 같은 검색어가 두 key 모두에 걸리면 한 번만 반환
+	 * @param originPrefix 입력한 그대로의 prefix (ex. 아이ㅍ, iphone, ㅇㅇㅍ)
+	 * @param qwertyPrefix QWERTY로 변환한 prefix (ex. dldlv)
+	 */
+	public List<SearchWordResponse> suggest(String originPrefix, String qwertyPrefix, int limit) {
+		PriorityQueue<int[]> ranges = new PriorityQueue<>(
+			Comparator.comparingLong((int[] range) -> weights[keyEntries[range[2]]]).reversed()
+		);
+
+		offerPrefixRange(ranges, originPrefix == null ? null : originPrefix.toLowerCase(Locale.ROOT));
+		offerPrefixRange(ranges, qwertyPrefix);
+
+		List<SearchWordResponse> result = new ArrayList<>(limit);
+		BitSet selected = new BitSet(words.length);
+
+		while (!ranges.isEmpty() && result.size() < limit) {
+			int[] range = ranges.poll();
+			int best = range[2];
+			int entry = keyEntries[best];
+
+			if (!selected.get(entry)) {
+				selected.set(entry);
+				result.add(new SearchWordResponse(words[entry], qwertyInputs[entry]));
+			}
+
+			offerRange(ranges, range[0], best);
+			offerRange(ranges, best + 1, range[1]);
+		}
+
+		return result;
+	}
+
+	public int size() {
+		return words.length;
+	}
+
+	public boolean contains(String word) {
+		return entryIds.containsKey(word);
+	}
+
+	/**
+	 * 검색어 인기도 (인덱스에 없으면 0)
+	 */
+	public long weightOf(String word) {
+		Integer entry = entryIds.get(word);
+		return entry == null ? 0L : weights[entry];
+	}
+
+	/**
+	 * 모든 검색어와 인기도 순회 (정렬되지 않음)
+	 */
+	public void forEach(ObjLongConsumer<String> action) {
+		for (int entry = 0; entry < words.length; entry++) {
+			action.accept(words[entry], weights[entry]);
+		}
+	}
+
+	/**
+	 * 인덱스 안에서 가장 큰 인기도 (개인화 점수 정규화용)
+	 */
+	public long maxWeight() {
+		return keys.length == 0 ? 0L : weights[keyEntries[tree[1]]];
+	}
+
+	// 새 인덱스를 만드는 중에만 호출 (교체 전이라 다른 스레드에 보이지 않음)
+	private void updateWeight(int entry, long weight) {
+		weights[entry] = weight;
+		for (int slot = entry * KEYS_PER_ENTRY; slot < (entry + 1) * KEYS_PER_ENTRY && entryKeys[slot] >= 0; slot++) {
+			for (int node = (entryKeys[slot] + leafOffset) >> 1; node > 0; node >>= 1) {
+				tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+			}
+		}
+	}
+
+	private AutoCompleteIndex merge(Map<String, Long> popularity, Set<String> removedWords) {
+		// 남는 기존 검색어에 새 entry id를 앞에서부터 부여하고, 새 검색어는 뒤에 추가
+		int[] remap = new int[words.length];
+		int retained = 0;
+		for (int entry = 0; entry < words.length; entry++) {
+			remap[entry] = removedWords.contains(words[entry]) ? -1 : retained++;
+		}
+
+		List<String> addedWords = popularity.keySet().stream()
+			.filter(word -> !entryIds.containsKey(word) && !removedWords.contains(word))
+			.toList();
+
+		int entryCount = retained + addedWords.size();
+		String[] mergedWords = new String[entryCount];
+		String[] mergedQwertyInputs = new String[entryCount];
+		long[] mergedWeights = new long[entryCount];
+		Map<String, Integer> mergedEntryIds = new HashMap<>(entryCount * 4 / 3 + 1);
+
+		for (int entry = 0; entry < words.length; entry++) {
+			int target = remap[entry];
+			if (target < 0) {
+				continue;
+			}
+			mergedWords[target] = words[entry];
+			mergedQwertyInputs[target] = qwertyInputs[entry];
+			mergedWeights[target] = popularity.getOrDefault(words[entry], weights[entry]);
+			mergedEntryIds.put(words[entry], target);
+		}
+
+		List<String> addedKeys = new ArrayList<>(addedWords.size() * KEYS_PER_ENTRY);
+		List<Integer> addedKeyEntries = new ArrayList<>(addedWords.size() * KEYS_PER_ENTRY);
+		int entry = retained;
+		for (String word : addedWords) {
+			String qwertyInput = PrefixConverter.convertToQwertyInput(word);
+			mergedWords[entry] = word;
+			mergedQwertyInputs[entry] = qwertyInput;
+			mergedWeights[entry] = popularity.get(word);
+			mergedEntryIds.put(word, entry);
+			addKeys(addedKeys, addedKeyEntries, entry, word, qwertyInput);
+			entry++;
+		}
+
+		Integer[] order = new Integer[addedKeys.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(addedKeys::get));
+
+		// 이미 정렬된 기존 key(삭제된 검색어 제외)와 새 key를 병합
+		int retainedKeys = 0;
+		for (int keyEntry : keyEntries) {
+			if (remap[keyEntry] >= 0) {
+				retainedKeys++;
+			}
+		}
+		String[] mergedKeys = new String[retainedKeys + order.length];
+		int[] mergedKeyEntries = new int[mergedKeys.length];
+
+		int existing = 0;
+		int added = 0;
+		for (int position = 0; position < mergedKeys.length; position++) {
+			while (existing < keys.length && remap[keyEntries[existing]] < 0) {
+				existing++;
+			}
+			boolean takeExisting = existing < keys.length
+				&& (added == order.length || keys[existing].compareTo(addedKeys.get(order[added])) <= 0);
+			if (takeExisting) {
+				mergedKeys[position] = keys[existing];
+				mergedKeyEntries[position] = remap[keyEntries[existing]];
+				existing++;
+			} else {
+				mergedKeys[position] = addedKeys.get(order[added]);
+				mergedKeyEntries[position] = addedKeyEntries.get(order[added]);
+				added++;
+			}
+		}
+
+		return new AutoCompleteIndex(mergedWords, mergedQwertyInputs, mergedWeights, mergedKeys, mergedKeyEntries,
+			mergedEntryIds);
+	}
+
+	private static void addKeys(List<String> keyList, List<Integer> keyEntryList, int entry, String word,
+		String qwertyInput) {
+		String originKey = word.toLowerCase(Locale.ROOT);
+		keyList.add(originKey);
+		keyEntryList.add(entry);
+		if (qwertyInput != null && !qwertyInput.equals(originKey)) {
+			keyList.add(qwertyInput);
+			keyEntryList.add(entry);
+		}
+
+		// 초성 key: 자음만 입력한 prefix(ex. ㅇㅇㅍ)도 원문 prefix로 같은 구간 탐색
+		String choseongKey = PrefixConverter.extractChoseong(word).replace(" ", "");
+		if (!choseongKey.isEmpty() && !choseongKey.equals(originKey) && !choseongKey.equals(qwertyInput)) {
+			keyList.add(choseongKey);
+			keyEntryList.add(entry);
+		}
+	}
+
+	private void offerPrefixRange(PriorityQueue<int[]> ranges, String prefix) {
+		if (prefix == null || prefix.isEmpty()) {
+			return;
+		}
+		int from = lowerBound(prefix);
+		int to = lowerBound(prefix + Character.MAX_VALUE);
+		offerRange(ranges, from, to);
+	}
+
+	// [from, to) 구간의 최대 weight 위치와 함께 큐에 추가
+	private void offerRange(PriorityQueue<int[]> ranges, int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		ranges.add(new int[] {from, to, argMax(from, to)});
+	}
+
+	private int argMax(int from, int to) {
+		int best = -1;
+		for (int left = from + leafOffset, right = to + leafOffset; left < right; left >>= 1, right >>= 1) {
+			if ((left & 1) == 1) {
+				best = better(best, tree[left++]);
+			}
+			if ((right & 1) == 1) {
+				best = better(best, tree[--right]);
+			}
+		}
+		return best;
+	}
+
+	private int better(int a, int b) {
+		if (a < 0) {
+			return b;
+		}
+		if (b < 0) {
+			return a;
+		}
+		return weights[keyEntries[a]] >= weights[keyEntries[b]] ? a : b;
+	}
+
+	private int lowerBound(String target) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(target) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,175 @@
+package com.domainservice.domain.search.service.autocomplete;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.repository.SearchWordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동완성 인메모리 인덱스 관리
+ * - 검색어별 인기도(누적 검색 횟수)를 AutoCompleteIndex에 보관하고, 변경될 때마다 새 인덱스로 원자적으로 교체
+ * - 스케줄러가 Elasticsearch에 upsert한 검색어 증가분을 Redis pub/sub으로 전파 → 모든 replica가 같은 증가분 반영
+ *   (증가분은 바뀐 검색어만 기존 인덱스에 반영, 전체 재생성은 재적재 때만)
+ * - 주기적으로 Elasticsearch의 search_count 상위 검색어로 전체 재적재 (유실된 메시지, 재시작 보정)
+ */
+@Slf4j
+@Component
+public class AutoCompleteIndexManager implements MessageListener {
+
+	public static final String DELTA_CHANNEL = "search:autocomplete:delta";
+
+	private static final TypeReference<Map<String, Long>> DELTA_TYPE = new TypeReference<>() {
+	};
+
+	private final SearchWordRepository searchWordRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final int maxEntries;
+
+	// updateLock 안에서만 교체
+	private final AtomicReference<AutoCompleteIndex> index = new AtomicReference<>(AutoCompleteIndex.empty());
+	private final Object updateLock = new Object();
+
+	public AutoCompleteIndexManager(
+		SearchWordRepository searchWordRepository,
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${custom.search.autocomplete.max-entries:200000}") int maxEntries
+	) {
+		this.searchWordRepository = searchWordRepository;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * 인메모리 인덱스 조회, 결과가 없으면 빈 리스트 (호출하는 쪽에서 Elasticsearch로 대체)
+	 */
+	public List<SearchWordResponse> suggest(String originPrefix, String qwertyPrefix, int limit) {
+		return index.get().suggest(originPrefix, qwertyPrefix, limit);
+	}
+
+	/**
+	 * 검색어 인기도 (인메모리 인덱스에 없으면 0)
+	 */
+	public long popularityOf(String word) {
+		return index.get().weightOf(word);
+	}
+
+	/**
+	 * 현재 인덱스의 최대 인기도
+	 */
+	public long maxPopularity() {
+		return index.get().maxWeight();
+	}
+
+	/**
+	 * Elasticsearch에 반영된 검색어 증가분을 모든 replica에 전파 (발행한 인스턴스도 구독으로 반영)
+	 * @param deltas {검색어, 이번 배치에서 증가한 검색 횟수}
+	 */
+	public void publishDelta(Map<String, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			redisTemplate.convertAndSend(DELTA_CHANNEL, objectMapper.writeValueAsString(deltas));
+		} catch (JsonProcessingException e) {
+			log.error("자동완성 인덱스 증가분 직렬화 실패 - size: {}", deltas.size(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			applyDelta(objectMapper.readValue(message.getBody(), DELTA_TYPE));
+		} catch (IOException e) {
+			log.error("자동완성 인덱스 증가분 역직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * 증가분을 반영한 새 인덱스로 교체 (바뀐 검색어만 반영, 최대 개수를 넘으면 인기도 하위 검색어 제거)
+	 */
+	public void applyDelta(Map<String, Long> deltas) {
+		synchronized (updateLock) {
+			AutoCompleteIndex current = index.get();
+			Map<String, Long> updated = new HashMap<>(deltas.size() * 4 / 3 + 1);
+			deltas.forEach((word, count) -> updated.put(word, current.weightOf(word) + count));
+
+			Set<String> evicted = selectOverflow(current, updated);
+			index.set(current.update(updated, evicted));
+			log.debug("자동완성 인덱스 증가분 반영 - updated: {}, evicted: {}", updated.size(), evicted.size());
+		}
+	}
+
+	/**
+	 * Elasticsearch search_count 상위 max-entries 개로 전체 재적재 (애플리케이션 시작 시 + 주기적으로)
+	 */
+	@Scheduled(fixedDelayString = "${custom.search.autocomplete.reload-interval-ms:3600000}")
+	public void reload() {
+		try {
+			Map<String, Long> loaded = searchWordRepository.findTopSearchCounts(maxEntries);
+
+			AutoCompleteIndex rebuilt = AutoCompleteIndex.build(loaded);
+			synchronized (updateLock) {
+				index.set(rebuilt);
+			}
+			log.info("자동완성 인덱스 재적재 - size: {}", rebuilt.size());
+		} catch (Exception e) {
+			log.error("자동완성 인덱스 재적재 실패 - 기존 인덱스 유지", e);
+		}
+	}
+
+	// 증가분 반영 후 최대 개수를 넘는 만큼 인기도 하위 검색어 선택 (크기 overflow의 heap, 전체 정렬 없음)
+	private Set<String> selectOverflow(AutoCompleteIndex current, Map<String, Long> updated) {
+		long addedCount = updated.keySet().stream().filter(word -> !current.contains(word)).count();
+		int overflow = (int)(current.size() + addedCount - maxEntries);
+		if (overflow <= 0) {
+			return Set.of();
+		}
+
+		// root가 남은 후보 중 인기도가 가장 높은 검색어 → 더 낮은 검색어가 오면 교체
+		PriorityQueue<Map.Entry<String, Long>> lowest = new PriorityQueue<>(
+			overflow + 1, Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+		current.forEach((word, weight) -> offerLowest(lowest, word, updated.getOrDefault(word, weight), overflow));
+		updated.forEach((word, weight) -> {
+			if (!current.contains(word)) {
+				offerLowest(lowest, word, weight, overflow);
+			}
+		});
+
+		Set<String> evicted = new HashSet<>(overflow * 4 / 3 + 1);
+		lowest.forEach(entry -> evicted.add(entry.getKey()));
+		return evicted;
+	}
+
+	private void offerLowest(PriorityQueue<Map.Entry<String, Long>> lowest, String word, long weight, int overflow) {
+		if (lowest.size() < overflow) {
+			lowest.add(Map.entry(word, weight));
+		} else if (weight < lowest.peek().getValue()) {
+			lowest.poll();
+			lowest.add(Map.entry(word, weight));
+		}
+	}
+}
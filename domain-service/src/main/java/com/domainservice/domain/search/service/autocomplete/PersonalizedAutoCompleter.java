@@ -0,0 +1,187 @@
+package com.domainservice.domain.search.service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.model.vo.RecentSearchWord;
+import com.domainservice.domain.search.repository.redis.SearchLogRedisRepository;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
+import com.domainservice.domain.search.util.BoundedLruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 개인화 자동완성
+ * - 유저 최근 검색어(search:user:<id> ZSET)를 세션 동안 1번만 조회해서 로컬에 캐싱 (cache-ttl 동안 재사용)
+ * - 최근 검색어 중 prefix에 맞는 검색어 + 전역 인메모리 인덱스 후보를 크기 limit의 heap 하나로 병합
+ *   점수 = personal-weight × 0.5^(경과 시간 / half-life) (최근 검색어만) + log(1 + 인기도) / log(1 + 최대 인기도)
+ * - 최근 검색어만으로 limit 개가 채워지면 전역 인덱스는 조회하지 않음
+ * - 이 인스턴스에서 저장한 검색어는 캐시에도 바로 반영 (다른 replica는 cache-ttl 후 반영)
+ */
+@Slf4j
+@Component
+public class PersonalizedAutoCompleter {
+
+	private final SearchLogRedisRepository searchLogRedisRepository;
+	private final AutoCompleteIndexManager autoCompleteIndexManager;
+	private final int historySize;
+	private final long cacheTtlMillis;
+	private final double halfLifeMillis;
+	private final double personalWeight;
+
+	// userId -> 최근 검색어 캐시 (max-cached-users를 넘으면 가장 오래 조회하지 않은 유저부터 제거)
+	private final BoundedLruCache<String, UserHistory> histories;
+
+	public PersonalizedAutoCompleter(
+		SearchLogRedisRepository searchLogRedisRepository,
+		AutoCompleteIndexManager autoCompleteIndexManager,
+		@Value("${custom.search.autocomplete.personal.history-size:50}") int historySize,
+		@Value("${custom.search.autocomplete.personal.cache-ttl-ms:600000}") long cacheTtlMillis,
+		@Value("${custom.search.autocomplete.personal.max-cached-users:10000}") int maxCachedUsers,
+		@Value("${custom.search.autocomplete.personal.recency-half-life-ms:259200000}") long halfLifeMillis,
+		@Value("${custom.search.autocomplete.personal.weight:2.0}") double personalWeight
+	) {
+		this.searchLogRedisRepository = searchLogRedisRepository;
+		this.autoCompleteIndexManager = autoCompleteIndexManager;
+		this.historySize = historySize;
+		this.cacheTtlMillis = cacheTtlMillis;
+		this.histories = new BoundedLruCache<>(maxCachedUsers);
+		this.halfLifeMillis = halfLifeMillis;
+		this.personalWeight = personalWeight;
+	}
+
+	/**
+	 * 최근 검색어와 전역 인기 검색어를 병합한 자동완성 (점수 내림차순 limit 개)
+	 * @param userId 비로그인이면 null → 전역 인덱스만 조회
+	 */
+	public List<SearchWordResponse> suggest(String userId, String originPrefix, String qwertyPrefix, int limit) {
+		long now = System.currentTimeMillis();
+		double popularityScale = Math.log1p(Math.max(1L, autoCompleteIndexManager.maxPopularity()));
+
+		PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Candidate::score));
+		Set<String> personalWords = new HashSet<>();
+
+		if (StringUtils.hasText(userId)) {
+			String originKey = originPrefix.toLowerCase(Locale.ROOT);
+			String choseongKey = PrefixConverter.isChoseongOnly(originPrefix)
+				? StringUtils.trimAllWhitespace(originPrefix)
+				: null;
+
+			for (HistoryEntry entry : loadHistory(userId, now).entries()) {
+				if (!entry.matches(originKey, qwertyPrefix, choseongKey)) {
+					continue;
+				}
+
+				double recency = Math.pow(0.5, Math.max(0L, now - entry.searchedAt()) / halfLifeMillis);
+				double score = personalWeight * recency + popularityScore(entry.response().word(), popularityScale);
+				offer(heap, new Candidate(entry.response(), score), limit);
+				personalWords.add(entry.response().word());
+			}
+		}
+
+		// 최근 검색어로 다 채우지 못한 경우에만 전역 인덱스 조회
+		if (personalWords.size() < limit) {
+			for (SearchWordResponse response : autoCompleteIndexManager.suggest(originPrefix, qwertyPrefix, limit)) {
+				if (!personalWords.contains(response.word())) {
+					offer(heap, new Candidate(response, popularityScore(response.word(), popularityScale)), limit);
+				}
+			}
+		}
+
+		List<SearchWordResponse> result = new ArrayList<>(heap.size());
+		while (!heap.isEmpty()) {
+			result.add(heap.poll().response());
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * 검색어 저장 시 캐시된 최근 검색어에도 반영 (캐시가 없으면 다음 조회 때 Redis에서 읽음)
+	 */
+	public void record(String userId, String word) {
+		long now = System.currentTimeMillis();
+		histories.computeIfPresent(userId, (key, history) -> {
+			List<HistoryEntry> entries = new ArrayList<>(history.entries().size() + 1);
+			entries.add(HistoryEntry.of(new RecentSearchWord(word, now)));
+			history.entries().stream()
+				.filter(entry -> !entry.response().word().equals(word))
+				.limit(historySize - 1L)
+				.forEach(entries::add);
+			return new UserHistory(entries, history.loadedAt());
+		});
+	}
+
+	private UserHistory loadHistory(String userId, long now) {
+		UserHistory cached = histories.get(userId);
+		if (cached != null && now - cached.loadedAt() < cacheTtlMillis) {
+			return cached;
+		}
+
+		List<HistoryEntry> entries;
+		try {
+			entries = searchLogRedisRepository.findRecentWithSearchedAt(userId, historySize).stream()
+				.map(HistoryEntry::of)
+				.toList();
+		} catch (Exception e) {
+			// Redis 장애 시에도 자동완성은 전역 후보로 동작 (빈 목록도 TTL 동안 캐싱해서 재시도 폭주 방지)
+			log.warn("최근 검색어 조회 실패 - userId: {}", userId, e);
+			entries = List.of();
+		}
+
+		UserHistory loaded = new UserHistory(entries, now);
+		histories.put(userId, loaded);
+		return loaded;
+	}
+
+	private double popularityScore(String word, double popularityScale) {
+		return Math.log1p(autoCompleteIndexManager.popularityOf(word)) / popularityScale;
+	}
+
+	// 크기 limit의 min-heap 유지: 가득 차면 가장 낮은 점수보다 높을 때만 교체
+	private void offer(PriorityQueue<Candidate> heap, Candidate candidate, int limit) {
+		if (heap.size() < limit) {
+			heap.add(candidate);
+		} else if (!heap.isEmpty() && heap.peek().score() < candidate.score()) {
+			heap.poll();
+			heap.add(candidate);
+		}
+	}
+
+	private record Candidate(SearchWordResponse response, double score) {
+	}
+
+	private record UserHistory(List<HistoryEntry> entries, long loadedAt) {
+	}
+
+	// 최근 검색어 1개 + prefix 비교용 key (원문 소문자, QWERTY, 공백을 제거한 초성)
+	private record HistoryEntry(SearchWordResponse response, String originKey, String choseongKey, long searchedAt) {
+
+		static HistoryEntry of(RecentSearchWord recent) {
+			String word = recent.value();
+			return new HistoryEntry(
+				new SearchWordResponse(word, PrefixConverter.convertToQwertyInput(word)),
+				word.toLowerCase(Locale.ROOT),
+				PrefixConverter.extractChoseong(word).replace(" ", ""),
+				recent.searchedAt()
+			);
+		}
+
+		boolean matches(String originPrefix, String qwertyPrefix, String choseongPrefix) {
+			return originKey.startsWith(originPrefix)
+				|| (StringUtils.hasText(qwertyPrefix) && response.qwertyInput().startsWith(qwertyPrefix))
+				|| (choseongPrefix != null && choseongKey.startsWith(choseongPrefix));
+		}
+	}
+}
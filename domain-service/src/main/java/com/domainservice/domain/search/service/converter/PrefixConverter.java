@@ -1,15 +1,32 @@
 package com.domainservice.domain.search.service.converter;
 
+import java.util.Arrays;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Arrays;
-
+/**
+ * 한글 <-> 두벌식 QWERTY 입력값 변환
+ * - 한글 → QWERTY: U+AC00 기준 offset으로 초성/중성/종성 index를 계산해서 미리 만든 char 테이블에서 복사
+ * - QWERTY → 한글: ASCII 코드로 index를 바로 찾는 테이블 + 탐욕적(greedy) 자모 상태 머신
+ *   (초성 → 중성(겹모음 우선) → 종성(겹받침 우선, 뒤에 모음이 오면 다음 음절 초성으로 넘김))
+ * - 변환 중 문자 단위 HashMap 조회/substring/startsWith 없이 결과 버퍼 하나만 사용
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PrefixConverter {
 
+	private static final char HANGUL_BASE = 0xAC00;
+	private static final char HANGUL_LAST = 0xD7A3;
+	private static final char JAMO_BASE = 0x3131;		// ㄱ
+	private static final char JAMO_LAST = 0x3163;		// ㅣ
+	private static final char CONSONANT_LAST = 0x314E;	// ㅎ
+
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	// 한글 1글자가 QWERTY로 변환될 때 최대 길이 (초성 1 + 겹모음 2 + 겹받침 2)
+	private static final int MAX_QWERTY_PER_CHAR = 5;
+
 	private static final char[] INITIAL_CONSONANT = {
 		'ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ',
 		'ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'
@@ -27,137 +44,137 @@ public final class PrefixConverter {
 	private static final String[] FINAL_CONSONANT_QWERTY = {
 		"", "r", "R", "rt", "s", "sw", "sg", "e", "f",
 		"fr", "fa", "fq", "ft", "fx", "fv", "fg", "a",
-		"q", "qt", "t", "T", "d", "w", "W", "c", "z",
+		"q", "qt", "t", "T", "d", "w", "c", "z",
 		"x", "v", "g"
 	};
 
-	private static final Map<Character, Integer> CHO_MAP = new HashMap<>();
-	private static final Map<String, Integer> JUNG_MAP = new HashMap<>();
-	private static final Map<String, Integer> JONG_MAP = new HashMap<>();
+	// 호환용 자모(ㄱ ~ ㅣ, U+3131 ~ U+3163) QWERTY 입력값
+	private static final String[] COMPATIBILITY_JAMO_QWERTY = {
+		"r", "R", "rt", "s", "sw", "sg", "e", "E", "f", "fr", "fa", "fq", "ft", "fx", "fv", "fg",
+		"a", "q", "Q", "qt", "t", "T", "d", "w", "W", "c", "z", "x", "v", "g",
+		"k", "o", "i", "O", "j", "p", "u", "P", "h", "hk", "ho", "hl",
+		"y", "n", "nj", "np", "nl", "b", "m", "ml", "l"
+	};
+
+	// 한글 → QWERTY: index → char[]
+	private static final char[][] JUNG_CHARS = toCharTable(MEDIAL_CONSONANT_QWERTY);
+	private static final char[][] JONG_CHARS = toCharTable(FINAL_CONSONANT_QWERTY);
+	private static final char[][] JAMO_CHARS = toCharTable(COMPATIBILITY_JAMO_QWERTY);
 
-	// 길이 순으로 탐색하기 위한 키 배열
-	private static final String[] JUNG_KEYS;
-	private static final String[] JONG_KEYS;
+	// QWERTY → 한글: ASCII 코드(단일 키) 또는 (첫 키 << 7 | 둘째 키)로 index 조회, 없으면 -1
+	private static final int ASCII = 128;
+	private static final int[] CHO_INDEX = new int[ASCII];
+	private static final int[] JUNG_SINGLE = new int[ASCII];
+	private static final int[] JUNG_PAIR = new int[ASCII * ASCII];
+	private static final int[] JONG_SINGLE = new int[ASCII];
+	private static final int[] JONG_PAIR = new int[ASCII * ASCII];
 
 	static {
+		Arrays.fill(CHO_INDEX, -1);
+		Arrays.fill(JUNG_SINGLE, -1);
+		Arrays.fill(JUNG_PAIR, -1);
+		Arrays.fill(JONG_SINGLE, -1);
+		Arrays.fill(JONG_PAIR, -1);
+
 		// 초성 매핑
 		for (int i = 0; i < INITIAL_CONSONANT_QWERTY.length; i++) {
-			CHO_MAP.put(INITIAL_CONSONANT_QWERTY[i], i);
+			CHO_INDEX[INITIAL_CONSONANT_QWERTY[i]] = i;
 		}
 
-		// 중성 매핑
-		for (int i = 0; i < MEDIAL_CONSONANT_QWERTY.length; i++) {
-			JUNG_MAP.put(MEDIAL_CONSONANT_QWERTY[i], i);
-		}
+		// 중성 매핑 (홑모음 / 겹모음)
+		registerKeys(MEDIAL_CONSONANT_QWERTY, JUNG_SINGLE, JUNG_PAIR);
+
+		// 종성 매핑 (홑받침 / 겹받침), ""(받침 없음)은 제외
+		registerKeys(FINAL_CONSONANT_QWERTY, JONG_SINGLE, JONG_PAIR);
+	}
 
-		// 종성 매핑
-		for (int i = 0; i < FINAL_CONSONANT_QWERTY.length; i++) {
-			JONG_MAP.put(FINAL_CONSONANT_QWERTY[i], i);
+	public static String convertToQwertyInput(String text) {
+		int length = text.length();
+		int first = firstConvertibleIndex(text);
+		if (first == length) {
+			return text;	// 변환할 한글이 없으면 그대로 반환
 		}
 
-		// 중성 키: 긴 문자열(두 글자) 우선 탐색
-		JUNG_KEYS = JUNG_MAP.keySet().toArray(new String[0]);
-		Arrays.sort(JUNG_KEYS, (a, b) -> Integer.compare(b.length(), a.length()));
+		char[] buffer = new char[length * MAX_QWERTY_PER_CHAR];
+		text.getChars(0, first, buffer, 0);
+		int size = first;
 
-		// 종성 키: ""(빈 문자열)은 제외하고 긴 문자열 우선
-		JONG_KEYS = JONG_MAP.keySet()
-			.stream()
-			.filter(k -> !k.isEmpty())
-			.sorted((a, b) -> Integer.compare(b.length(), a.length()))
-			.toArray(String[]::new);
-	}
+		for (int i = first; i < length; i++) {
+			char ch = text.charAt(i);
 
-	public static String convertToQwertyInput(String text) {
-		StringBuilder result = new StringBuilder();
-
-		for (char ch : text.toCharArray()) {
-			if (ch >= 0xAC00 && ch <= 0xD7A3) {
-				int unicode = ch - 0xAC00;
-				int cho = unicode / (21 * 28);
-				int jung = (unicode % (21 * 28)) / 28;
-				int jong = unicode % 28;
-
-				result.append(INITIAL_CONSONANT_QWERTY[cho]);
-				result.append(MEDIAL_CONSONANT_QWERTY[jung]);
-				result.append(FINAL_CONSONANT_QWERTY[jong]);
+			if (ch >= HANGUL_BASE && ch <= HANGUL_LAST) {
+				int unicode = ch - HANGUL_BASE;
+				int cho = unicode / (JUNG_COUNT * JONG_COUNT);
+				int jung = (unicode % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT;
+				int jong = unicode % JONG_COUNT;
+
+				buffer[size++] = INITIAL_CONSONANT_QWERTY[cho];
+				size = append(buffer, size, JUNG_CHARS[jung]);
+				size = append(buffer, size, JONG_CHARS[jong]);
+			} else if (ch >= JAMO_BASE && ch <= JAMO_LAST) {
+				// 조합 중인 자모(ex. 아이ㅍ)도 입력한 키 그대로 변환
+				size = append(buffer, size, JAMO_CHARS[ch - JAMO_BASE]);
 			} else {
-				result.append(ch);
+				buffer[size++] = ch;
 			}
 		}
-		return result.toString();
+		return new String(buffer, 0, size);
 	}
 
 	public static String convertToKoreanWord(String input) {
-		StringBuilder result = new StringBuilder();
+		int length = input.length();
+		char[] buffer = new char[length];
+		int size = 0;
 		int i = 0;
 
-		while (i < input.length()) {
+		while (i < length) {
 			// 1. 초성
 			char ch = input.charAt(i);
-			Integer choIdx = CHO_MAP.get(ch);
+			int cho = lookup(CHO_INDEX, ch);
 
-			if (choIdx == null) { // 한글 두벌식 키가 아니면 그대로 출력
-				result.append(ch);
+			if (cho < 0) { // 한글 두벌식 키가 아니면 그대로 출력
+				buffer[size++] = ch;
 				i++;
 				continue;
 			}
-
-			int cho = choIdx;
 			i++;
 
-			// 2. 중성 (긴 키부터 시도: hk, ho, hl, nj, np, nl, ml ...)
-			int jung = -1;
-			for (String key : JUNG_KEYS) {
-				if (input.startsWith(key, i)) {
-					jung = JUNG_MAP.get(key);
-					i += key.length();
-					break;
+			// 2. 중성 (겹모음 우선: hk, ho, hl, nj, np, nl, ml)
+			int jung = lookupPair(JUNG_PAIR, input, i);
+			if (jung >= 0) {
+				i += 2;
+			} else {
+				jung = i < length ? lookup(JUNG_SINGLE, input.charAt(i)) : -1;
+				if (jung >= 0) {
+					i++;
 				}
 			}
 
-			if (jung == -1) {
+			if (jung < 0) {
 				// 모음을 못 찾으면 초성만 단독 출력
-				result.append(INITIAL_CONSONANT[cho]);
+				buffer[size++] = INITIAL_CONSONANT[cho];
 				continue;
 			}
 
-			// 3. 종성 (뒤에 모음이 오면 초성으로 넘기기 위해 lookahead 사용)
+			// 3. 종성 (겹받침 우선, lookahead: 받침 후보 뒤에 모음이 오면 다음 음절의 초성으로 넘김)
 			int jong = 0;
-			for (String key : JONG_KEYS) {
-				if (!input.startsWith(key, i)) {
-					continue;
-				}
-
-				int nextIndex = i + key.length();
-
-				// lookahead: 종성 후보 뒤에 모음이 오면, 이 자음은 다음 음절의 초성으로 쓰는 게 자연스러움
-				boolean hasNextVowel = false;
-				if (nextIndex < input.length()) {
-					for (String jungKey : JUNG_KEYS) {
-						if (input.startsWith(jungKey, nextIndex)) {
-							hasNextVowel = true;
-							break;
-						}
-					}
-				}
-
-				if (hasNextVowel) {
-					// 이 종성 후보는 사용하지 않고, 다음 음절의 초성으로 넘긴다
-					continue;
+			int pair = lookupPair(JONG_PAIR, input, i);
+			if (pair >= 0 && !isVowelAt(input, i + 2)) {
+				jong = pair;
+				i += 2;
+			} else if (i < length) {
+				int single = lookup(JONG_SINGLE, input.charAt(i));
+				if (single >= 0 && !isVowelAt(input, i + 1)) {
+					jong = single;
+					i++;
 				}
-
-				// 종성 확정
-				jong = JONG_MAP.get(key);
-				i = nextIndex;
-				break;
 			}
 
 			// 4. 음절 조합
-			char syllable = (char) (0xAC00 + (cho * 21 * 28) + (jung * 28) + jong);
-			result.append(syllable);
+			buffer[size++] = (char)(HANGUL_BASE + (cho * JUNG_COUNT * JONG_COUNT) + (jung * JONG_COUNT) + jong);
 		}
 
-		return result.toString();
+		return new String(buffer, 0, size);
 	}
 
 	public static boolean isHangeul(String value) {
@@ -165,4 +182,106 @@ public final class PrefixConverter {
 			ch -> (ch >= 0xAC00 && ch <= 0xD7A3) || (ch >= 0x3131 && ch <= 0x318E)
 		);
 	}
+
+	/**
+	 * 초성 추출 (ex. 아이폰 15 프로 → ㅇㅇㅍ 15 ㅍㄹ)
+	 * - 한글 음절은 초성, 자음은 그대로, 영문/숫자는 소문자로 유지
+	 * - 공백/특수문자는 단어 구분용 공백 1개로 합침 (색인할 때 단어 단위 / 전체 이어붙인 값 모두 만들 수 있도록)
+	 */
+	public static String extractChoseong(String text) {
+		if (text == null) {
+			return null;
+		}
+
+		char[] buffer = new char[text.length()];
+		int size = 0;
+		boolean pendingSpace = false;
+
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			char converted;
+
+			if (ch >= HANGUL_BASE && ch <= HANGUL_LAST) {
+				converted = INITIAL_CONSONANT[(ch - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT)];
+			} else if (ch >= JAMO_BASE && ch <= CONSONANT_LAST) {
+				converted = ch;
+			} else if (Character.isLetterOrDigit(ch) && !(ch > CONSONANT_LAST && ch <= JAMO_LAST)) {
+				converted = Character.toLowerCase(ch);
+			} else {
+				pendingSpace = size > 0;	// 모음 단독 입력, 공백, 특수문자
+				continue;
+			}
+
+			if (pendingSpace) {
+				buffer[size++] = ' ';
+				pendingSpace = false;
+			}
+			buffer[size++] = converted;
+		}
+		return new String(buffer, 0, size);
+	}
+
+	/**
+	 * 공백을 제외한 모든 문자가 자음(ㄱ ~ ㅎ)인지 확인 (ex. ㅇㅇㅍ, ㄱㅅ ㅍㄷ)
+	 */
+	public static boolean isChoseongOnly(String value) {
+		if (value == null || value.isBlank()) {
+			return false;
+		}
+		return value.chars().allMatch(
+			ch -> Character.isWhitespace(ch) || (ch >= JAMO_BASE && ch <= CONSONANT_LAST)
+		);
+	}
+
+	private static int firstConvertibleIndex(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if ((ch >= HANGUL_BASE && ch <= HANGUL_LAST) || (ch >= JAMO_BASE && ch <= JAMO_LAST)) {
+				return i;
+			}
+		}
+		return text.length();
+	}
+
+	private static int append(char[] buffer, int size, char[] chars) {
+		System.arraycopy(chars, 0, buffer, size, chars.length);
+		return size + chars.length;
+	}
+
+	private static int lookup(int[] table, char key) {
+		return key < ASCII ? table[key] : -1;
+	}
+
+	private static int lookupPair(int[] table, String input, int index) {
+		if (index + 1 >= input.length()) {
+			return -1;
+		}
+		char first = input.charAt(index);
+		char second = input.charAt(index + 1);
+		return first < ASCII && second < ASCII ? table[first << 7 | second] : -1;
+	}
+
+	// 겹모음 키는 모두 홑모음 키로 시작하므로 홑모음 여부만 확인
+	private static boolean isVowelAt(String input, int index) {
+		return index < input.length() && lookup(JUNG_SINGLE, input.charAt(index)) >= 0;
+	}
+
+	private static void registerKeys(String[] keys, int[] single, int[] pair) {
+		for (int i = 0; i < keys.length; i++) {
+			String key = keys[i];
+			if (key.length() == 1) {
+				single[key.charAt(0)] = i;
+			} else if (key.length() == 2) {
+				pair[key.charAt(0) << 7 | key.charAt(1)] = i;
+			}
+		}
+	}
+
+	private static char[][] toCharTable(String[] values) {
+		char[][] table = new char[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			table[i] = values[i].toCharArray();
+		}
+		return table;
+	}
 }
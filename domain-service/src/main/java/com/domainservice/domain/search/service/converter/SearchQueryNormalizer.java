@@ -0,0 +1,101 @@
+package com.domainservice.domain.search.service.converter;
+
+import java.text.Normalizer;
+
+/**
+ * 검색어 정규화 (검색어 저장/집계, 자동완성, 상품 검색에서 같은 규칙으로 사용)
+ * - "아이폰 ", "아이폰", "ＩＰＨＯＮＥ", 자모 분리(NFD)된 "아이폰"이 서로 다른 Redis key, ZSET member,
+ *   search_word_logs row, ES 문서, 캐시 key가 되지 않도록 하나의 표기로 통일
+ * 정규화 순서
+ * 1. Unicode NFC (자모 분리 입력 → 완성형 음절)
+ * 2. 전각 ASCII(！~～), 전각 공백 → 반각 (NFKC는 호환 자모 ㄱ → ᄀ 등 초성 검색에 필요한 문자까지 바꾸므로 사용하지 않음)
+ * 3. 제어 문자, 서식 문자(zero width space, BOM 등) 제거
+ * 4. 공백류(tab, 줄바꿈, NBSP 등) → 공백 1개로 통일, 앞뒤 공백 제거
+ * 5. 소문자 변환 (normalize만, QWERTY 입력값은 대소문자로 쌍자음을 구분하므로 normalizeKeepingCase 사용)
+ * 6. 최대 MAX_LENGTH 글자(code point 기준)로 자름
+ */
+public final class SearchQueryNormalizer {
+
+	public static final int MAX_LENGTH = 50;
+
+	private static final int FULL_WIDTH_START = 0xFF01;	// ！
+	private static final int FULL_WIDTH_END = 0xFF5E;		// ～
+	private static final int FULL_WIDTH_OFFSET = 0xFEE0;	// ！(0xFF01) - !(0x21)
+
+	private SearchQueryNormalizer() {
+	}
+
+	/**
+	 * 저장/집계/검색용 정규화 (소문자 변환 포함)
+	 * @return null이거나 정규화 후 남는 문자가 없으면 빈 문자열
+	 */
+	public static String normalize(String query) {
+		return normalize(query, true);
+	}
+
+	/**
+	 * 자동완성 입력용 정규화 (대소문자 유지, ex. Rhc → 꽃, rhc → 곷)
+	 */
+	public static String normalizeKeepingCase(String query) {
+		return normalize(query, false);
+	}
+
+	private static String normalize(String query, boolean foldCase) {
+		if (query == null || query.isEmpty()) {
+			return "";
+		}
+
+		String composed = Normalizer.isNormalized(query, Normalizer.Form.NFC)
+			? query
+			: Normalizer.normalize(query, Normalizer.Form.NFC);
+
+		StringBuilder builder = new StringBuilder(Math.min(composed.length(), MAX_LENGTH * 2));
+		int length = 0;
+		boolean pendingSpace = false;
+
+		for (int i = 0; i < composed.length() && length < MAX_LENGTH; ) {
+			int original = composed.codePointAt(i);
+			i += Character.charCount(original);
+			int codePoint = foldWidth(original);
+
+			if (isSpace(codePoint)) {
+				pendingSpace = length > 0;	// 앞 공백은 버리고, 뒤 공백은 다음 문자가 올 때만 추가
+				continue;
+			}
+			if (isIgnorable(codePoint)) {
+				continue;
+			}
+
+			if (pendingSpace) {
+				if (length + 1 >= MAX_LENGTH) {
+					break;
+				}
+				builder.append(' ');
+				length++;
+				pendingSpace = false;
+			}
+			builder.appendCodePoint(foldCase ? Character.toLowerCase(codePoint) : codePoint);
+			length++;
+		}
+
+		return composed.contentEquals(builder) ? composed : builder.toString();
+	}
+
+	private static int foldWidth(int codePoint) {
+		if (codePoint >= FULL_WIDTH_START && codePoint <= FULL_WIDTH_END) {
+			return codePoint - FULL_WIDTH_OFFSET;
+		}
+		return codePoint;
+	}
+
+	// 일반 공백 + 줄바꿈/tab + NBSP, 전각 공백 등 Unicode 공백 문자
+	private static boolean isSpace(int codePoint) {
+		return Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint);
+	}
+
+	// 제어 문자(Cc), 서식 문자(Cf: zero width space, BOM, 방향 표시 등), 짝이 없는 surrogate
+	private static boolean isIgnorable(int codePoint) {
+		int type = Character.getType(codePoint);
+		return type == Character.CONTROL || type == Character.FORMAT || type == Character.SURROGATE;
+	}
+}
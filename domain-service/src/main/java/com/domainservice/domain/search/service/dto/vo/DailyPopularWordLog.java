@@ -1,10 +0,0 @@
-package com.domainservice.domain.search.service.dto.vo;
-
-import java.time.LocalDateTime;
-
-public record DailyPopularWordLog(
-	String word,
-	Long searchedCount,
-	LocalDateTime lastSearchedAt
-) {
-}
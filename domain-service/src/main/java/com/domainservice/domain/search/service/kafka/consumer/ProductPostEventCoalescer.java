@@ -0,0 +1,127 @@
+package com.domainservice.domain.search.service.kafka.consumer;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.common.event.productPost.ProductPostDeletedEvent;
+import com.common.event.productPost.ProductPostUpsertedEvent;
+
+/**
+ * poll 한 번에 받은 상품 이벤트를 상품 id 별 마지막 상태로 합침
+ * - 이벤트 key가 상품 id라서 같은 상품 이벤트는 같은 partition에 순서대로 들어옴 → 마지막 이벤트가 최종 상태
+ * - upsert 후 delete면 delete만, delete 후 upsert면 upsert만 반영
+ * - 카운터 이벤트는 앞선 upsert가 있으면 upsert 문서에 합치고, 없으면 좋아요/조회수만 부분 업데이트 (delete 뒤면 무시)
+ * - 카운터 이벤트는 발행 순서가 뒤바뀔 수 있으므로 도착 순서가 아니라 counterVersion이 큰 값을 남김
+ */
+public final class ProductPostEventCoalescer {
+
+	private ProductPostEventCoalescer() {
+	}
+
+	/**
+	 * 합쳐진 상품 변경
+	 * @param upserts {상품 id, 마지막 upsert 이벤트}
+	 * @param counters {상품 id, 마지막 카운터 이벤트} (upserts, deletedIds에 없는 상품만)
+	 * @param deletedIds 마지막 이벤트가 delete인 상품 id
+	 * @param skipped 상품 이벤트가 아니거나(역직렬화 실패 포함) id가 없어서 건너뛴 이벤트 수
+	 */
+	public record CoalescedEvents(
+		Map<String, ProductPostUpsertedEvent> upserts,
+		Map<String, ProductPostCountersChangedEvent> counters,
+		Set<String> deletedIds,
+		int skipped
+	) {
+
+		public boolean isEmpty() {
+			return upserts.isEmpty() && counters.isEmpty() && deletedIds.isEmpty();
+		}
+
+		/**
+		 * 해당 상품 id를 뺀 변경 (재처리 중인 batch에서 이미 반영된 상품 제외)
+		 */
+		public CoalescedEvents without(Set<String> ids) {
+			if (ids.isEmpty()) {
+				return this;
+			}
+
+			Map<String, ProductPostUpsertedEvent> remainingUpserts = new LinkedHashMap<>(upserts);
+			Map<String, ProductPostCountersChangedEvent> remainingCounters = new LinkedHashMap<>(counters);
+			Set<String> remainingDeletedIds = new LinkedHashSet<>(deletedIds);
+			remainingUpserts.keySet().removeAll(ids);
+			remainingCounters.keySet().removeAll(ids);
+			remainingDeletedIds.removeAll(ids);
+			return new CoalescedEvents(remainingUpserts, remainingCounters, remainingDeletedIds, skipped);
+		}
+	}
+
+	public static CoalescedEvents coalesce(Iterable<?> events) {
+		Map<String, ProductPostUpsertedEvent> upserts = new LinkedHashMap<>();
+		Map<String, ProductPostCountersChangedEvent> counters = new LinkedHashMap<>();
+		Set<String> deletedIds = new LinkedHashSet<>();
+		int skipped = 0;
+
+		for (Object event : events) {
+			switch (event) {
+				case ProductPostUpsertedEvent upserted when upserted.id() != null -> {
+					deletedIds.remove(upserted.id());
+					counters.remove(upserted.id());
+					upserts.put(upserted.id(), upserted);
+				}
+				case ProductPostCountersChangedEvent changed when changed.postId() != null -> {
+					ProductPostUpsertedEvent upserted = upserts.get(changed.postId());
+					if (upserted != null) {
+						if (isNewer(changed.counterVersion(), upserted.counterVersion())) {
+							upserts.put(changed.postId(), withCounters(upserted, changed));
+						}
+					} else if (!deletedIds.contains(changed.postId())) {
+						counters.merge(changed.postId(), changed,
+							(previous, latest) -> isNewer(latest.counterVersion(), previous.counterVersion())
+								? latest
+								: previous);
+					}
+				}
+				case ProductPostDeletedEvent deleted when deleted.postId() != null -> {
+					upserts.remove(deleted.postId());
+					counters.remove(deleted.postId());
+					deletedIds.add(deleted.postId());
+				}
+				case null, default -> skipped++;
+			}
+		}
+
+		return new CoalescedEvents(upserts, counters, deletedIds, skipped);
+	}
+
+	// 버전이 없는 이벤트(버전 도입 전 발행)는 도착 순서대로 반영
+	private static boolean isNewer(Long version, Long current) {
+		return version == null || current == null || version >= current;
+	}
+
+	private static ProductPostUpsertedEvent withCounters(ProductPostUpsertedEvent upserted,
+		ProductPostCountersChangedEvent changed) {
+
+		return ProductPostUpsertedEvent.builder()
+			.id(upserted.id())
+			.userId(upserted.userId())
+			.name(upserted.name())
+			.title(upserted.title())
+			.description(upserted.description())
+			.tags(upserted.tags())
+			.categoryName(upserted.categoryName())
+			.price(upserted.price())
+			.likedCount(changed.likedCount() != null ? changed.likedCount() : upserted.likedCount())
+			.viewCount(changed.viewCount() != null ? changed.viewCount() : upserted.viewCount())
+			.counterVersion(changed.counterVersion() != null ? changed.counterVersion() : upserted.counterVersion())
+			.status(upserted.status())
+			.tradeStatus(upserted.tradeStatus())
+			.deleteStatus(upserted.deleteStatus())
+			.primaryImageUrl(upserted.primaryImageUrl())
+			.createdAt(upserted.createdAt())
+			.updatedAt(upserted.updatedAt())
+			.eventType(upserted.eventType())
+			.build();
+	}
+}
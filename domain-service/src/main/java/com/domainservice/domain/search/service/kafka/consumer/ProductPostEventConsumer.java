@@ -1,15 +1,28 @@
 package com.domainservice.domain.search.service.kafka.consumer;
 
-import org.springframework.kafka.annotation.KafkaHandler;
+import static com.common.exception.vo.ProductPostExceptionCode.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import com.common.event.productPost.ProductPostDeletedEvent;
-import com.common.event.productPost.ProductPostUpsertedEvent;
+import com.domainservice.domain.search.exception.ElasticSearchException;
 import com.domainservice.domain.search.mapper.SearchMapper;
 import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository.BulkWriteResult;
 import com.domainservice.domain.search.repository.ProductPostElasticRepository;
+import com.domainservice.domain.search.repository.redis.ReindexChangeLogRedisRepository;
+import com.domainservice.domain.search.repository.redis.SearchResultVersionRedisRepository;
+import com.domainservice.domain.search.service.kafka.consumer.ProductPostEventCoalescer.CoalescedEvents;
+import com.domainservice.domain.search.service.search.similar.SimilarProductService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,44 +30,172 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@KafkaListener(
-	topics = "${custom.product-post.topic.event}",
-	groupId = "${spring.kafka.consumer.group-id}"
-)
 public class ProductPostEventConsumer {
 
 	private final ProductPostElasticRepository productPostElasticRepository;
+	private final ProductPostBulkRepository productPostBulkRepository;
+	private final SearchResultVersionRedisRepository searchResultVersionRedisRepository;
+	private final SimilarProductService similarProductService;
+	private final ReindexChangeLogRedisRepository reindexChangeLogRedisRepository;
+
+	// 재처리 중인 batch에서 이미 반영(또는 재시도해도 실패)된 상품 id, consumer 스레드별로 직전 실패 batch 1개만 보관
+	private final ThreadLocal<SettledBatch> settledBatch = new ThreadLocal<>();
+
+	private record SettledBatch(String batchKey, Set<String> ids) {
+	}
 
 	/**
-	 * Upsert(CREATE/UPDATE) 이벤트 처리
+	 * Upsert(CREATE/UPDATE), 카운터(좋아요/조회수), Delete 이벤트 batch 처리
+	 * - 상품 id 별 마지막 상태만 bulk 요청 1회로 반영 (거래 상태 변경이 몰려도 상품당 색인 1번)
+	 * - 카운터만 바뀐 상품은 두 필드만 부분 업데이트 (검색 결과 캐시는 무효화하지 않고 ttl 후 반영)
+	 * - 일시적인 오류로 실패한 항목이 있으면 commit 하지 않고 batch 전체를 다시 처리
+	 *   (같은 batch를 다시 받으면 앞에서 반영된 상품은 색인/캐시 무효화/유사 상품 갱신을 다시 하지 않음)
 	 */
-	@KafkaHandler
-	public void handleUpsertEvent(@Payload ProductPostUpsertedEvent event) {
-		try {
+	@KafkaListener(
+		topics = "${custom.product-post.topic.event}",
+		groupId = "${spring.kafka.consumer.group-id}",
+		containerFactory = "productPostBatchListenerContainerFactory"
+	)
+	public void handleEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment ack) {
+
+		String batchKey = batchKey(records);
+		Set<String> settledIds = settledIds(batchKey);
+
+		CoalescedEvents events = ProductPostEventCoalescer.coalesce(records.stream().map(ConsumerRecord::value).toList())
+			.without(settledIds);
+		if (events.skipped() > 0 && settledIds.isEmpty()) {
+			log.warn("처리할 수 없는 상품 이벤트 건너뜀 - count: {}", events.skipped());
+		}
+		if (events.isEmpty()) {
+			settledBatch.remove();
+			ack.acknowledge();
+			return;
+		}
 
-			ProductPostDocumentEntity document = SearchMapper.toDocumentEntity(event);
-			productPostElasticRepository.save(document);
+		// 삭제 이벤트에는 카테고리가 없으므로 삭제 전에 색인된 문서에서 한 번에 조회
+		Map<String, String> deletedCategories = findCategories(events.deletedIds());
+		recordReindexChanges(events);
 
-		} catch (Exception e) {
+		List<ProductPostDocumentEntity> documents = events.upserts().values().stream()
+			.map(SearchMapper::toDocumentEntity)
+			.toList();
+
+		BulkWriteResult result = productPostBulkRepository.bulkWrite(documents, events.counters().values(),
+			events.deletedIds());
+
+		afterWrite(documents, events.deletedIds(), deletedCategories, result.succeededIds());
 
-			log.error("Upsert 이벤트 처리 실패 - ID: {}, Type: {}", event.id(), event.eventType(), e);
+		if (!result.retryableIds().isEmpty()) {
+			Set<String> settled = new HashSet<>(settledIds);
+			settled.addAll(result.succeededIds());
+			settled.addAll(result.failedIds());
+			settledBatch.set(new SettledBatch(batchKey, settled));
 
+			log.warn("상품 색인 일시 실패 - batch 재처리 예정, records: {}, retryable: {}",
+				records.size(), result.retryableIds().size());
+			throw new ElasticSearchException(EXTERNAL_API_ERROR);
 		}
+
+		settledBatch.remove();
+		ack.acknowledge();
+		log.debug("상품 이벤트 batch 처리 - records: {}, upserts: {}, counters: {}, deletes: {}, failed: {}",
+			records.size(), documents.size(), events.counters().size(), events.deletedIds().size(),
+			result.failedIds().size());
+	}
+
+	// 같은 batch를 다시 받은 경우에만 이전 시도에서 반영된 상품 id
+	private Set<String> settledIds(String batchKey) {
+		SettledBatch settled = settledBatch.get();
+		return settled != null && settled.batchKey().equals(batchKey) ? settled.ids() : Set.of();
+	}
+
+	// 첫/마지막 레코드 위치와 레코드 수로 batch 구분
+	private static String batchKey(List<ConsumerRecord<String, Object>> records) {
+		if (records.isEmpty()) {
+			return "";
+		}
+		ConsumerRecord<String, Object> first = records.get(0);
+		ConsumerRecord<String, Object> last = records.get(records.size() - 1);
+		return first.topic() + "-" + first.partition() + "@" + first.offset() + ":"
+			+ last.topic() + "-" + last.partition() + "@" + last.offset() + ":" + records.size();
 	}
 
 	/**
-	 * Delete 이벤트 처리
+	 * 재색인 중이면 변경된 상품 id 기록 → 재색인이 새 인덱스에 다시 반영 (기존 인덱스 쓰기 전에 기록해야 누락 없음)
 	 */
-	@KafkaHandler
-	public void handleDeleteEvent(@Payload ProductPostDeletedEvent event) {
+	private void recordReindexChanges(CoalescedEvents events) {
+		Set<String> changedIds = new HashSet<>(events.upserts().keySet());
+		changedIds.addAll(events.counters().keySet());
+		changedIds.addAll(events.deletedIds());
 		try {
+			reindexChangeLogRedisRepository.recordIfActive(changedIds);
+		} catch (Exception e) {
+			log.warn("재색인 변경 기록 실패 - 진행 중인 재색인에서 누락될 수 있음, count: {}", changedIds.size(), e);
+		}
+	}
 
-			productPostElasticRepository.deleteById(event.postId());
+	private Map<String, String> findCategories(Set<String> deletedIds) {
+		Map<String, String> categories = new HashMap<>();
+		if (deletedIds.isEmpty()) {
+			return categories;
+		}
 
+		try {
+			for (ProductPostDocumentEntity document : productPostElasticRepository.findAllById(deletedIds)) {
+				categories.put(document.getId(), document.getCategoryName());
+			}
 		} catch (Exception e) {
+			log.warn("삭제 상품 카테고리 조회 실패 - 전체 검색 결과 캐시만 무효화", e);
+		}
+		return categories;
+	}
+
+	/**
+	 * 반영된 상품의 검색 결과 캐시 버전 증가 (카테고리 단위로 1번) + 유사 상품 목록 갱신 예약
+	 */
+	private void afterWrite(List<ProductPostDocumentEntity> documents, Set<String> deletedIds,
+		Map<String, String> deletedCategories, Set<String> succeededIds) {
+
+		Set<String> categories = new HashSet<>();
+		for (ProductPostDocumentEntity document : documents) {
+			if (succeededIds.contains(document.getId())) {
+				categories.add(document.getCategoryName());
+				refreshSimilarProducts(document.getId(), false);
+			}
+		}
+		for (String deletedId : deletedIds) {
+			if (succeededIds.contains(deletedId)) {
+				categories.add(deletedCategories.get(deletedId));
+				refreshSimilarProducts(deletedId, true);
+			}
+		}
+
+		categories.forEach(this::invalidateSearchResults);
+	}
 
-			log.error("Delete 이벤트 처리 실패 - ID: {}", event.postId(), e);
+	/**
+	 * 상품 검색 결과 캐시 버전 증가 (실패해도 색인은 완료된 상태이므로 캐시 ttl 후 반영)
+	 */
+	private void invalidateSearchResults(String categoryName) {
+		try {
+			searchResultVersionRedisRepository.bump(categoryName);
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 버전 증가 실패 - category: {}", categoryName, e);
+		}
+	}
 
+	/**
+	 * 유사 상품 목록 갱신 예약 (실패해도 목록 ttl 후 More Like This 쿼리로 조회)
+	 */
+	private void refreshSimilarProducts(String postId, boolean deleted) {
+		try {
+			if (deleted) {
+				similarProductService.onDeleted(postId);
+			} else {
+				similarProductService.onUpserted(postId);
+			}
+		} catch (Exception e) {
+			log.warn("유사 상품 목록 갱신 실패 - ID: {}", postId, e);
 		}
 	}
 
@@ -0,0 +1,163 @@
+package com.domainservice.domain.search.service.reindex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * product-posts 버전 인덱스 관리
+ * - 서비스에서는 항상 product-posts 이름으로 조회/색인하고, 실제 인덱스는 product-posts-v{생성 시각}
+ * - 재색인은 새 버전 인덱스를 만든 뒤 alias를 한 번의 _aliases 요청으로 교체 (조회 중단 없음)
+ * - alias 도입 전에 만들어진 product-posts 실제 인덱스는 교체 요청에서 remove_index로 함께 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPostIndexManager {
+
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final ElasticsearchClient elasticsearchClient;
+	private final ElasticsearchOperations elasticsearchOperations;
+
+	/**
+	 * 서비스 중인 alias 이름 (= @Document indexName)
+	 */
+	public String aliasName() {
+		return elasticsearchOperations.getIndexCoordinatesFor(ProductPostDocumentEntity.class).getIndexName();
+	}
+
+	/**
+	 * 새 버전 인덱스 이름 (product-posts-v{생성 시각})
+	 */
+	public String nextVersionedIndexName() {
+		return aliasName() + "-v" + LocalDateTime.now().format(VERSION_FORMAT);
+	}
+
+	/**
+	 * product-posts-settings.json 분석기 설정 + 엔티티 mapping으로 새 버전 인덱스 생성
+	 * - 대량 적재 중에는 replica 0, refresh 비활성화
+	 */
+	public void createVersionedIndex(String indexName) {
+		IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+
+		Settings settings = indexOps.createSettings(ProductPostDocumentEntity.class);
+		settings.put("number_of_replicas", 0);
+		settings.put("refresh_interval", "-1");
+		Document mapping = indexOps.createMapping(ProductPostDocumentEntity.class);
+
+		indexOps.create(settings, mapping);
+		log.info("상품 재색인 인덱스 생성 - index: {}", indexName);
+	}
+
+	/**
+	 * 적재가 끝난 인덱스를 서비스 설정으로 복구하고 refresh
+	 */
+	public void restoreServingSettings(String indexName, int numberOfReplicas, String refreshInterval) {
+		try {
+			elasticsearchClient.indices().putSettings(put -> put
+				.index(indexName)
+				.settings(settings -> settings
+					.numberOfReplicas(String.valueOf(numberOfReplicas))
+					.refreshInterval(time -> time.time(refreshInterval))
+				)
+			);
+			elasticsearchClient.indices().refresh(refresh -> refresh.index(indexName));
+		} catch (IOException e) {
+			throw new UncheckedIOException("상품 재색인 인덱스 설정 복구 실패 - index: " + indexName, e);
+		}
+	}
+
+	/**
+	 * 현재 alias가 가리키는 인덱스 (alias 도입 전이면 같은 이름의 실제 인덱스)
+	 */
+	public List<String> findServingIndices() {
+		String alias = aliasName();
+		try {
+			if (elasticsearchClient.indices().existsAlias(exists -> exists.name(alias)).value()) {
+				return new ArrayList<>(elasticsearchClient.indices().getAlias(get -> get.name(alias)).result().keySet());
+			}
+			if (elasticsearchClient.indices().exists(exists -> exists.index(alias)).value()) {
+				return List.of(alias);
+			}
+			return List.of();
+		} catch (IOException e) {
+			throw new UncheckedIOException("상품 인덱스 alias 조회 실패", e);
+		}
+	}
+
+	/**
+	 * alias를 새 인덱스로 원자적으로 교체
+	 * @param previousIndices 교체 전 alias가 가리키던 인덱스
+	 */
+	public void swapAlias(String newIndex, List<String> previousIndices) {
+		String alias = aliasName();
+
+		List<Action> actions = new ArrayList<>();
+		for (String previous : previousIndices) {
+			if (previous.equals(alias)) {
+				// alias와 같은 이름의 실제 인덱스는 alias를 붙이기 전에 삭제되어야 함
+				actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(previous))));
+			} else {
+				actions.add(Action.of(action -> action.remove(remove -> remove.index(previous).alias(alias))));
+			}
+		}
+		actions.add(Action.of(action -> action.add(add -> add.index(newIndex).alias(alias).isWriteIndex(true))));
+
+		try {
+			elasticsearchClient.indices().updateAliases(update -> update.actions(actions));
+		} catch (IOException e) {
+			throw new UncheckedIOException("상품 인덱스 alias 교체 실패 - index: " + newIndex, e);
+		}
+		log.info("상품 인덱스 alias 교체 - alias: {}, {} -> {}", alias, previousIndices, newIndex);
+	}
+
+	/**
+	 * 서비스 중인 인덱스와 최근 retainCount 개를 제외한 이전 버전 인덱스 삭제
+	 */
+	public void deleteOldVersions(Set<String> keep, int retainCount) {
+		String pattern = aliasName() + "-v*";
+		try {
+			List<String> versions = elasticsearchClient.indices().get(get -> get.index(pattern)).result().keySet()
+				.stream()
+				.filter(index -> !keep.contains(index))
+				.sorted(Comparator.reverseOrder())
+				.skip(retainCount)
+				.toList();
+
+			for (String index : versions) {
+				elasticsearchClient.indices().delete(delete -> delete.index(index));
+				log.info("이전 상품 인덱스 삭제 - index: {}", index);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("이전 상품 인덱스 삭제 실패", e);
+		}
+	}
+
+	/**
+	 * 실패한 재색인 인덱스 삭제
+	 */
+	public void deleteIndex(String indexName) {
+		elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).delete();
+	}
+}
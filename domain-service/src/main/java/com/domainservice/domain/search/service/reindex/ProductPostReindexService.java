@@ -0,0 +1,282 @@
+package com.domainservice.domain.search.service.reindex;
+
+import static com.common.exception.vo.ProductPostExceptionCode.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.common.event.productPost.ProductPostUpsertedEvent;
+import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.mapper.SearchMapper;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository.BulkWriteResult;
+import com.domainservice.domain.search.repository.ProductPostSourceRepository;
+import com.domainservice.domain.search.repository.redis.ReindexChangeLogRedisRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * product-posts 무중단 전체 재색인
+ * 1. 새 인덱스 이름으로 재색인 lock 선점 + 변경 기록 시작 → 이후 상품 이벤트 consumer가 변경된 상품 id를 Redis에 기록
+ *    (기존 인덱스 색인은 그대로 진행), 이후 작업은 reindexExecutor에서 실행
+ * 2. 새 버전 인덱스 생성 (replica 0, refresh 비활성화)
+ * 3. product_post를 id 구간(slice)으로 나눠 parallelism 개 스레드로 읽고 bulk 적재
+ * 4. 적재 중 기록된 변경 id를 MySQL 현재 상태로 다시 반영 (남은 기록이 replay-threshold 이하가 될 때까지 반복)
+ * 5. replica/refresh 복구 후 alias 교체 → 교체 직전까지 기록된 변경을 한 번 더 반영 후 변경 기록 종료
+ * 실패하면 새 인덱스를 삭제하고 기존 인덱스로 계속 서비스
+ */
+@Slf4j
+@Service
+public class ProductPostReindexService {
+
+	private static final int MAX_ITEM_RETRIES = 3;
+
+	private final ProductPostSourceRepository productPostSourceRepository;
+	private final ProductPostBulkRepository productPostBulkRepository;
+	private final ProductPostIndexManager productPostIndexManager;
+	private final ReindexChangeLogRedisRepository reindexChangeLogRedisRepository;
+	private final Executor reindexExecutor;
+
+	private final int parallelism;
+	private final int sliceSize;
+	private final int batchSize;
+	private final int numberOfReplicas;
+	private final String refreshInterval;
+	private final long lockTtlMillis;
+	private final int replayThreshold;
+	private final int maxReplayRounds;
+	private final int retainPrevious;
+	private final long retryBackoffMillis;
+
+	public ProductPostReindexService(
+		ProductPostSourceRepository productPostSourceRepository,
+		ProductPostBulkRepository productPostBulkRepository,
+		ProductPostIndexManager productPostIndexManager,
+		ReindexChangeLogRedisRepository reindexChangeLogRedisRepository,
+		@Qualifier("reindexExecutor") Executor reindexExecutor,
+		@Value("${custom.search.reindex.parallelism:4}") int parallelism,
+		@Value("${custom.search.reindex.slice-size:50000}") int sliceSize,
+		@Value("${custom.search.reindex.batch-size:1000}") int batchSize,
+		@Value("${custom.search.reindex.number-of-replicas:1}") int numberOfReplicas,
+		@Value("${custom.search.reindex.refresh-interval:1s}") String refreshInterval,
+		@Value("${custom.search.reindex.lock-ttl-ms:3600000}") long lockTtlMillis,
+		@Value("${custom.search.reindex.replay-threshold:1000}") int replayThreshold,
+		@Value("${custom.search.reindex.max-replay-rounds:10}") int maxReplayRounds,
+		@Value("${custom.search.reindex.retain-previous:1}") int retainPrevious,
+		@Value("${custom.search.reindex.retry-backoff-ms:1000}") long retryBackoffMillis
+	) {
+		this.productPostSourceRepository = productPostSourceRepository;
+		this.productPostBulkRepository = productPostBulkRepository;
+		this.productPostIndexManager = productPostIndexManager;
+		this.reindexChangeLogRedisRepository = reindexChangeLogRedisRepository;
+		this.reindexExecutor = reindexExecutor;
+		this.parallelism = parallelism;
+		this.sliceSize = sliceSize;
+		this.batchSize = batchSize;
+		this.numberOfReplicas = numberOfReplicas;
+		this.refreshInterval = refreshInterval;
+		this.lockTtlMillis = lockTtlMillis;
+		this.replayThreshold = replayThreshold;
+		this.maxReplayRounds = maxReplayRounds;
+		this.retainPrevious = retainPrevious;
+		this.retryBackoffMillis = retryBackoffMillis;
+	}
+
+	/**
+	 * 전체 재색인 시작 (lock만 선점하고 재색인은 reindexExecutor에서 실행, 결과는 완료/실패 로그로 확인)
+	 * @return 재색인 대상 새 인덱스 이름
+	 * @throws ElasticSearchException 다른 재색인이 진행 중인 경우
+	 */
+	public String startReindex() {
+		// 인덱스를 만들기 전에 lock을 먼저 선점 (동시 요청은 인덱스 생성 없이 409)
+		String newIndex = productPostIndexManager.nextVersionedIndexName();
+		if (!reindexChangeLogRedisRepository.tryStart(newIndex, Duration.ofMillis(lockTtlMillis))) {
+			throw new ElasticSearchException(REINDEX_IN_PROGRESS);
+		}
+
+		try {
+			reindexExecutor.execute(() -> reindex(newIndex));
+		} catch (RejectedExecutionException e) {
+			reindexChangeLogRedisRepository.finish(newIndex);
+			throw new ElasticSearchException(REINDEX_IN_PROGRESS);
+		}
+		return newIndex;
+	}
+
+	private void reindex(String newIndex) {
+		long startTime = System.currentTimeMillis();
+		Duration lockTtl = Duration.ofMillis(lockTtlMillis);
+
+		boolean swapped = false;
+		try {
+			productPostIndexManager.createVersionedIndex(newIndex);
+			long indexed = loadAll(newIndex, lockTtl);
+
+			// 적재 중 변경된 상품 반영 (alias 교체 직전 남은 기록이 적어질 때까지)
+			long replayed = 0;
+			for (int round = 0; round < maxReplayRounds; round++) {
+				reindexChangeLogRedisRepository.extend(lockTtl);
+				long count = replay(newIndex);
+				replayed += count;
+				if (count <= replayThreshold) {
+					break;
+				}
+			}
+
+			productPostIndexManager.restoreServingSettings(newIndex, numberOfReplicas, refreshInterval);
+
+			List<String> previousIndices = productPostIndexManager.findServingIndices();
+			productPostIndexManager.swapAlias(newIndex, previousIndices);
+			swapped = true;
+
+			// 교체 전 기존 인덱스에만 반영된 변경을 새 인덱스에 반영 (교체 후 이벤트는 consumer가 새 인덱스에 직접 색인)
+			replayed += replay(newIndex);
+			finish(newIndex);
+
+			deleteOldVersions(newIndex);
+
+			long duration = System.currentTimeMillis() - startTime;
+			log.info("상품 재색인 완료 - index: {}, previous: {}, indexed: {}, replayed: {}, {}ms", newIndex,
+				previousIndices, indexed, replayed, duration);
+
+		} catch (RuntimeException e) {
+			finish(newIndex);
+			if (swapped) {
+				// 이미 새 인덱스로 서비스 중이므로 인덱스는 유지 (교체 직전 변경 일부는 다음 이벤트/재색인에서 반영)
+				log.error("상품 재색인 alias 교체 후 변경 반영 실패 - index: {}", newIndex, e);
+			} else {
+				log.error("상품 재색인 실패 - 새 인덱스 삭제 후 기존 인덱스 유지, index: {}", newIndex, e);
+				productPostIndexManager.deleteIndex(newIndex);
+			}
+		}
+	}
+
+	private void finish(String newIndex) {
+		if (!reindexChangeLogRedisRepository.finish(newIndex)) {
+			log.warn("상품 재색인 lock이 만료되어 다른 재색인이 진행 중 - lock 유지, index: {}", newIndex);
+		}
+	}
+
+	// 이전 버전 정리는 실패해도 재색인 결과에 영향 없음 (다음 재색인에서 다시 정리)
+	private void deleteOldVersions(String newIndex) {
+		try {
+			productPostIndexManager.deleteOldVersions(Set.of(newIndex), retainPrevious);
+		} catch (RuntimeException e) {
+			log.warn("이전 상품 인덱스 삭제 실패 - 다음 재색인에서 다시 정리", e);
+		}
+	}
+
+	// id 구간마다 하나의 작업으로 병렬 적재
+	private long loadAll(String newIndex, Duration lockTtl) {
+		List<String> boundaries = productPostSourceRepository.findSliceBoundaries(sliceSize);
+
+		List<String[]> slices = new ArrayList<>(boundaries.size() + 1);
+		String from = "";
+		for (String boundary : boundaries) {
+			slices.add(new String[] {from, boundary});
+			from = boundary;
+		}
+		slices.add(new String[] {from, null});
+
+		AtomicLong indexed = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<CompletableFuture<Void>> futures = slices.stream()
+				.map(slice -> CompletableFuture.runAsync(() -> {
+					indexed.addAndGet(loadSlice(newIndex, slice[0], slice[1]));
+					reindexChangeLogRedisRepository.extend(lockTtl);
+				}, executor))
+				.toList();
+
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException cause ? cause : e;
+		} finally {
+			executor.shutdownNow();
+		}
+
+		log.info("상품 재색인 적재 완료 - index: {}, slices: {}, indexed: {}", newIndex, slices.size(), indexed.get());
+		return indexed.get();
+	}
+
+	// (afterId, toId] 구간을 batch-size 개씩 keyset으로 읽어서 bulk 적재
+	private long loadSlice(String newIndex, String afterId, String toId) {
+		long count = 0;
+		String cursor = afterId;
+		while (true) {
+			List<ProductPostUpsertedEvent> products = productPostSourceRepository.findPage(cursor, toId, batchSize);
+			if (products.isEmpty()) {
+				return count;
+			}
+
+			write(newIndex, products, List.of());
+			count += products.size();
+			cursor = products.getLast().id();
+		}
+	}
+
+	// 기록된 변경 id를 MySQL 현재 상태로 반영 (삭제되었거나 없는 상품은 새 인덱스에서 삭제)
+	private long replay(String newIndex) {
+		long count = 0;
+		while (true) {
+			List<String> ids = reindexChangeLogRedisRepository.drain(batchSize);
+			if (ids.isEmpty()) {
+				return count;
+			}
+
+			List<ProductPostUpsertedEvent> products = productPostSourceRepository.findAllByIds(ids);
+			Set<String> deletedIds = new HashSet<>(ids);
+			products.forEach(product -> deletedIds.remove(product.id()));
+
+			write(newIndex, products, deletedIds);
+			count += ids.size();
+		}
+	}
+
+	// 일시적인 오류로 실패한 항목만 다시 시도, 계속 실패하면 재색인 중단
+	private void write(String newIndex, List<ProductPostUpsertedEvent> products, Collection<String> deletedIds) {
+		List<ProductPostDocumentEntity> documents = products.stream()
+			.map(SearchMapper::toDocumentEntity)
+			.toList();
+		Collection<String> pendingDeletes = deletedIds;
+
+		for (int attempt = 0; ; attempt++) {
+			BulkWriteResult result = productPostBulkRepository.bulkWrite(newIndex, documents, pendingDeletes);
+			if (result.retryableIds().isEmpty()) {
+				return;
+			}
+			if (attempt >= MAX_ITEM_RETRIES) {
+				throw new ElasticSearchException(EXTERNAL_API_ERROR);
+			}
+
+			documents = documents.stream().filter(document -> result.retryableIds().contains(document.getId())).toList();
+			pendingDeletes = pendingDeletes.stream().filter(result.retryableIds()::contains).toList();
+			sleep(retryBackoffMillis * (attempt + 1));
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ElasticSearchException(EXTERNAL_API_ERROR);
+		}
+	}
+}
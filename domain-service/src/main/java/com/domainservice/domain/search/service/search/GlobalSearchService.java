@@ -1,19 +1,32 @@
 package com.domainservice.domain.search.service.search;
 
+import static com.common.exception.vo.ProductPostExceptionCode.*;
+
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.exception.ElasticSearchException;
 import com.domainservice.domain.search.mapper.SearchMapper;
 import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
 import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+import com.domainservice.domain.search.model.entity.dto.response.CursorPageResponse;
+import com.domainservice.domain.search.model.entity.dto.response.DidYouMeanResponse;
 import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.service.converter.SearchQueryNormalizer;
 import com.domainservice.domain.search.service.search.query.GlobalSearchQueryBuilder;
+import com.domainservice.domain.search.service.spelling.SpellingCorrector;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,13 +36,23 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class GlobalSearchService {
 
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final ElasticsearchOperations elasticsearchOperations;
 
 	private final GlobalSearchQueryBuilder globalSearchQueryBuilder;
 
+	private final SpellingCorrector spellingCorrector;
+
+	private final SearchResultCache searchResultCache;
+
+	@Value("${custom.search.cursor.keep-alive-ms:60000}")
+	private long cursorKeepAliveMillis;
+
 	/**
 	 * 상품 통합 검색 요청 메서드
 	 * - 검색어(q), 카테고리, 가격 범위, 태그 등 다양한 필터 조건을 조합하여 상품을 검색
+	 * - 앞쪽 페이지는 짧은 시간 동안 로컬 캐시 결과 재사용 (SearchResultCache)
 	 *
 	 * @param params  검색 조건 DTO (검색어, 카테고리, 최소/최대 가격, 태그 등 포함)
 	 * @param pageable 페이징 정보 (page, size, sort)
@@ -38,6 +61,105 @@ public class GlobalSearchService {
 	public PageResponse<List<ProductPostSearchResponse>> search(
 		postSearchParams params, Pageable pageable) {
 
+		return searchResultCache.getOrLoad(params, pageable, () -> searchFromElasticsearch(params, pageable));
+	}
+
+	/**
+	 * 상품 통합 검색 (커서 기반, 무한 스크롤용)
+	 * - 첫 요청(cursor 없음)에서 point in time을 열고, 이후 요청은 커서의 PIT + search_after로 이어서 조회
+	 * - from/size 페이징과 달리 페이지 깊이와 무관하게 요청당 비용이 일정하고 max_result_window 제한이 없음
+	 * - 마지막 페이지를 응답하면 PIT를 바로 닫음 (중간에 멈춘 스크롤의 PIT는 keep-alive 후 자동 만료)
+	 *
+	 * @param params 검색 조건 DTO (커서를 만든 요청과 같아야 함)
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기 (1 ~ 100)
+	 * @return 검색 결과와 다음 페이지 커서
+	 * @throws ElasticSearchException 커서 형식이 올바르지 않거나, 검색 조건이 다르거나, PIT가 만료된 경우
+	 */
+	public CursorPageResponse<List<ProductPostSearchResponse>> searchByCursor(
+		postSearchParams params, String cursor, int size) {
+
+		int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+		SearchCursor current = StringUtils.hasText(cursor) ? SearchCursor.decode(cursor) : null;
+		if (current != null && current.paramsHash() != SearchCursor.paramsHash(params)) {
+			throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+		}
+
+		Duration keepAlive = Duration.ofMillis(cursorKeepAliveMillis);
+		String pitId = current != null
+			? current.pitId()
+			: elasticsearchOperations.openPointInTime(
+				elasticsearchOperations.getIndexCoordinatesFor(ProductPostDocumentEntity.class), keepAlive);
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		NativeQuery searchQuery = globalSearchQueryBuilder.buildCursor(
+			params, pageSize + 1, new PointInTime(pitId, keepAlive), current != null ? current.searchAfter() : null);
+
+		SearchHits<ProductPostDocumentEntity> searchHits;
+		try {
+			searchHits = elasticsearchOperations.search(searchQuery, ProductPostDocumentEntity.class);
+		} catch (RuntimeException e) {
+			if (current != null && isPointInTimeExpired(e)) {
+				throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+			}
+			closePointInTime(current == null ? pitId : null);	// 이번 요청에서 연 PIT만 정리
+			throw e;
+		}
+
+		List<SearchHit<ProductPostDocumentEntity>> hits = searchHits.getSearchHits();
+		boolean hasNext = hits.size() > pageSize;
+		List<SearchHit<ProductPostDocumentEntity>> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+		// ES가 PIT id를 갱신해서 돌려줄 수 있으므로 응답의 id를 다음 커서에 사용
+		String nextPitId = searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pitId;
+		String nextCursor = null;
+		if (hasNext) {
+			nextCursor = new SearchCursor(nextPitId, page.getLast().getSortValues(),
+				SearchCursor.paramsHash(params)).encode();
+		} else {
+			closePointInTime(nextPitId);
+		}
+
+		return SearchMapper.toCursorPageResponse(page, pageSize, nextCursor);
+	}
+
+	/**
+	 * "이것을 찾으셨나요?" 검색어 조회
+	 * - Elasticsearch fuzzy 쿼리 대신 인메모리 오타 교정 인덱스에서 가장 가까운 인기 검색어 1개 조회
+	 *
+	 * @param query 입력한 검색어
+	 * @return 입력한 검색어와 교정된 검색어 (교정 후보가 없으면 suggestion은 null)
+	 */
+	public DidYouMeanResponse getDidYouMean(String query) {
+		String normalized = SearchQueryNormalizer.normalize(query);
+		String suggestion = StringUtils.hasText(normalized)
+			? spellingCorrector.didYouMean(normalized).orElse(null)
+			: null;
+
+		return new DidYouMeanResponse(normalized, suggestion);
+	}
+
+	// 만료된(또는 이미 닫힌) PIT로 조회하면 404 (search_context_missing_exception)
+	private boolean isPointInTimeExpired(RuntimeException e) {
+		return e instanceof UncategorizedElasticsearchException uncategorized
+			&& Integer.valueOf(404).equals(uncategorized.getStatusCode());
+	}
+
+	// PIT는 keep-alive 후 자동 만료되므로 닫기에 실패해도 응답에는 영향 없음
+	private void closePointInTime(String pitId) {
+		if (pitId == null) {
+			return;
+		}
+		try {
+			elasticsearchOperations.closePointInTime(pitId);
+		} catch (Exception e) {
+			log.warn("point in time 닫기 실패", e);
+		}
+	}
+
+	private PageResponse<List<ProductPostSearchResponse>> searchFromElasticsearch(
+		postSearchParams params, Pageable pageable) {
+
 		NativeQuery searchQuery = globalSearchQueryBuilder.build(params, pageable);
 
 		SearchHits<ProductPostDocumentEntity> searchHits = elasticsearchOperations
@@ -0,0 +1,80 @@
+package com.domainservice.domain.search.service.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.stereotype.Component;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.mapper.SearchMapper;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.service.search.query.ProductListProjection;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 미리 계산된 상품 id 목록(오늘의 추천, 유사 상품)의 한 페이지를 응답으로 변환
+ * - 해당 페이지 id만 multi-get으로 목록 필드만 조회 (검색 쿼리 없음)
+ * - 목록 계산 이후 삭제/판매 완료된 상품은 제외하므로 페이지 크기보다 적게 응답할 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductListLoader {
+
+	private static final String SELLING = "SELLING";
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ProductListProjection productListProjection;
+
+	/**
+	 * @param pageIds 해당 페이지의 상품 id (목록 순서)
+	 * @param total 목록 전체 크기
+	 */
+	public PageResponse<List<ProductPostSearchResponse>> toPageResponse(List<String> pageIds, long total,
+		Pageable pageable) {
+
+		int totalPages = (int)Math.ceil((double)total / pageable.getPageSize());
+
+		return new PageResponse<>(
+			pageable.getPageNumber(),
+			totalPages,
+			pageable.getPageSize(),
+			pageable.getPageNumber() < totalPages - 1,
+			load(pageIds),
+			String.valueOf(total)
+		);
+	}
+
+	// id 순서대로 목록 필드만 조회
+	private List<ProductPostSearchResponse> load(List<String> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		NativeQuery query = productListProjection.applySource(NativeQuery.builder())
+			.withIds(ids)
+			.build();
+
+		Map<String, ProductPostDocumentEntity> documents = new HashMap<>(ids.size() * 2);
+		for (MultiGetItem<ProductPostDocumentEntity> item : elasticsearchOperations.multiGet(query,
+			ProductPostDocumentEntity.class)) {
+			if (item.hasItem()) {
+				documents.put(item.getItem().getId(), item.getItem());
+			}
+		}
+
+		return ids.stream()
+			.map(documents::get)
+			.filter(Objects::nonNull)
+			.filter(document -> SELLING.equals(document.getTradeStatus()))
+			.map(SearchMapper::toSearchResponse)
+			.toList();
+	}
+}
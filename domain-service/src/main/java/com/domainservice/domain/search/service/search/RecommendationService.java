@@ -3,6 +3,7 @@ package com.domainservice.domain.search.service.search;
 import static com.common.exception.vo.ProductPostExceptionCode.*;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
@@ -19,6 +20,8 @@ import com.domainservice.domain.search.repository.ProductPostElasticRepository;
 import com.domainservice.domain.search.service.search.query.DailyProductQueryBuilder;
 import com.domainservice.domain.search.service.search.query.SellerProductQueryBuilder;
 import com.domainservice.domain.search.service.search.query.SimilarProductQueryBuilder;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRankingService;
+import com.domainservice.domain.search.service.search.similar.SimilarProductService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +36,8 @@ public class RecommendationService {
 	private final SimilarProductQueryBuilder similarProductQueryBuilder;
 	private final SellerProductQueryBuilder sellerProductQueryBuilder;
 	private final DailyProductQueryBuilder dailyProductQueryBuilder;
+	private final DailyBestRankingService dailyBestRankingService;
+	private final SimilarProductService similarProductService;
 
 	private final ProductPostElasticRepository productPostElasticRepository;
 
@@ -40,6 +45,7 @@ public class RecommendationService {
 	 * 조회한 상품과 유사한 제품 추천 메서드
 	 *
 	 * 주어진 상품(postId)의 데이터를 분석하여 연관성이 높은 유사 상품 목록을 검색합니다.
+	 * 미리 계산된 유사 상품 목록이 있으면 해당 페이지 상품만 조회하고, 없으면 More Like This 쿼리로 조회합니다.
 	 *
 	 * @param postId   기준이 되는 상품 ID
 	 * @param pageable 페이징 정보 (page, size, sort)
@@ -48,6 +54,13 @@ public class RecommendationService {
 	 */
 	public PageResponse<List<ProductPostSearchResponse>> findSimilarProductList(String postId, Pageable pageable) {
 
+		// 미리 계산된 유사 상품 목록에서 조회
+		Optional<PageResponse<List<ProductPostSearchResponse>>> precomputed =
+			similarProductService.findPage(postId, pageable);
+		if (precomputed.isPresent()) {
+			return precomputed.get();
+		}
+
 		ProductPostDocumentEntity postDocument = getProductOrThrow(postId);
 
 		// 유사 상품 검색을 위한 Native Query 생성
@@ -84,6 +97,7 @@ public class RecommendationService {
 	 *
 	 * 최근 72시간 내 등록된 상품 중 좋아요와 조회수를 종합하여 인기 상품을 조회합니다.
 	 * 카테고리가 지정된 경우 해당 카테고리 내에서만 검색합니다.
+	 * 미리 계산된 순위(Redis)가 있으면 해당 페이지 상품만 조회하고, 없으면 function_score 쿼리로 조회합니다.
 	 *
 	 * @param category 카테고리명 ( default : "all" )
 	 * @param pageable 페이징 정보 (page, size, sort)
@@ -91,6 +105,13 @@ public class RecommendationService {
 	 */
 	public PageResponse<List<ProductPostSearchResponse>> getDailyBestProductList(String category, Pageable pageable) {
 
+		// 미리 계산된 순위에서 조회
+		Optional<PageResponse<List<ProductPostSearchResponse>>> ranked =
+			dailyBestRankingService.findPage(category, pageable);
+		if (ranked.isPresent()) {
+			return ranked.get();
+		}
+
 		// 오늘의 추천 상품 검색을 위한 Native Query 생성
 		NativeQuery dailyBestProductNativeQuery = dailyProductQueryBuilder.build(category, pageable);
 
@@ -0,0 +1,160 @@
+package com.domainservice.domain.search.service.search;
+
+import static com.common.exception.vo.ProductPostExceptionCode.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+
+/**
+ * 상품 검색 커서 (search_after + point in time)
+ * - 클라이언트에는 base64url 문자열로만 전달 (내용은 서버만 해석)
+ * - PIT id: 첫 요청 시점의 색인 상태를 고정해서, 스크롤 도중 색인/삭제가 일어나도 중복/누락 없이 이어서 조회
+ * - searchAfter: 마지막으로 응답한 문서의 정렬 값 (정렬 기준 + 문서 id tie-break)
+ * - paramsHash: 커서를 만든 검색 조건의 SHA-256 앞 8바이트, 다른 검색 조건에 커서를 재사용하면 거부
+ *   (record hashCode는 JVM/버전 간 보장되지 않으므로 인스턴스가 달라도 같은 값이 나오는 정규화 문자열로 계산)
+ *
+ * 인코딩 구조
+ * [version][paramsHash][pitId][value count][(type, value) * count]
+ */
+public record SearchCursor(
+	String pitId,
+	List<Object> searchAfter,
+	long paramsHash
+) {
+
+	// 2: paramsHash int(hashCode) → long(SHA-256), 이전 버전 커서는 거부
+	private static final byte VERSION = 2;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_LONG = 1;
+	private static final byte TYPE_DOUBLE = 2;
+	private static final byte TYPE_STRING = 3;
+	private static final byte TYPE_BOOLEAN = 4;
+
+	public String encode() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(pitId.length() + 64);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeLong(paramsHash);
+			out.writeUTF(pitId);
+			out.writeShort(searchAfter.size());
+			for (Object value : searchAfter) {
+				writeValue(out, value);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 커서 인코딩 실패", e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @throws ElasticSearchException 형식이 올바르지 않은 커서
+	 */
+	public static SearchCursor decode(String cursor) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+			if (in.readByte() != VERSION) {
+				throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+			}
+
+			long paramsHash = in.readLong();
+			String pitId = in.readUTF();
+			int count = in.readUnsignedShort();
+			List<Object> searchAfter = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				searchAfter.add(readValue(in));
+			}
+			if (in.available() > 0) {
+				throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+			}
+			return new SearchCursor(pitId, searchAfter, paramsHash);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+		}
+	}
+
+	/**
+	 * 검색 조건 hash (SHA-256 앞 8바이트)
+	 * - 필드 순서를 고정하고 값마다 길이를 앞에 붙여서 구분자가 포함된 값끼리 섞이지 않게 함
+	 * - 태그는 검색 쿼리와 같이 파싱된 목록 기준 (공백/빈 항목 차이는 같은 조건)
+	 */
+	public static long paramsHash(postSearchParams params) {
+		StringBuilder canonical = new StringBuilder(128);
+		append(canonical, params.q());
+		append(canonical, params.category());
+		append(canonical, String.valueOf(params.minPrice()));
+		append(canonical, String.valueOf(params.maxPrice()));
+		append(canonical, params.hasTags() ? String.join(",", params.getParsedTagList()) : null);
+		append(canonical, params.status());
+		append(canonical, params.tradeStatus());
+		append(canonical, params.sort());
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+			return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+		}
+	}
+
+	// null은 "-", 값은 "길이:값"
+	private static void append(StringBuilder canonical, String value) {
+		if (value == null) {
+			canonical.append('-');
+		} else {
+			canonical.append(value.length()).append(':').append(value);
+		}
+		canonical.append('|');
+	}
+
+	// Elasticsearch 정렬 값은 숫자(long/double), 문자열, boolean, null 중 하나
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		switch (value) {
+			case null -> out.writeByte(TYPE_NULL);
+			case Integer number -> {
+				out.writeByte(TYPE_LONG);
+				out.writeLong(number);
+			}
+			case Long number -> {
+				out.writeByte(TYPE_LONG);
+				out.writeLong(number);
+			}
+			case Number number -> {
+				out.writeByte(TYPE_DOUBLE);
+				out.writeDouble(number.doubleValue());
+			}
+			case Boolean bool -> {
+				out.writeByte(TYPE_BOOLEAN);
+				out.writeBoolean(bool);
+			}
+			default -> {
+				out.writeByte(TYPE_STRING);
+				out.writeUTF(value.toString());
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		return switch (in.readByte()) {
+			case TYPE_NULL -> null;
+			case TYPE_LONG -> in.readLong();
+			case TYPE_DOUBLE -> in.readDouble();
+			case TYPE_BOOLEAN -> in.readBoolean();
+			case TYPE_STRING -> in.readUTF();
+			default -> throw new ElasticSearchException(INVALID_SEARCH_CURSOR);
+		};
+	}
+}
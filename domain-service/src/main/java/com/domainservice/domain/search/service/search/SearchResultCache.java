@@ -0,0 +1,138 @@
+package com.domainservice.domain.search.service.search;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.repository.redis.SearchResultVersionRedisRepository;
+import com.domainservice.domain.search.util.BoundedLruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 통합 검색 결과 로컬 캐시 (앞쪽 페이지만)
+ * - key: 정규화된 검색어와 필터, 정렬, 페이지 + 결과 버전 (카테고리 필터가 있으면 카테고리 버전, 없으면 전체 버전)
+ * - 상품 색인/삭제 시 ProductPostEventConsumer가 Redis 버전을 올리면 이전 버전 캐시는 더 이상 조회되지 않음
+ * - 같은 key를 동시에 요청하면 Elasticsearch는 1번만 조회하고 나머지 요청은 그 결과를 기다림 (single-flight)
+ *   (wait-timeout 안에 결과가 오지 않으면 기다리지 않고 직접 조회, 먼저 시작한 조회가 멈춰도 대기 요청이 묶이지 않음)
+ * - 색인 직후 refresh 전 결과가 새 버전으로 캐싱될 수 있고, 카테고리를 옮긴 상품은 이전 카테고리 버전을 올리지 않으므로
+ *   ttl을 짧게 유지해서 오래된 결과가 남는 시간을 제한
+ * - Redis 장애로 버전을 조회하지 못하면 캐시 없이 바로 검색
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+	private final SearchResultVersionRedisRepository versionRepository;
+	private final boolean enabled;
+	private final long ttlMillis;
+	private final int cachedPages;
+	private final long waitTimeoutMillis;
+
+	// max-entries를 넘으면 가장 오래 조회하지 않은 key부터 제거 (이전 버전 key는 더 이상 조회되지 않으므로 먼저 밀려남)
+	private final BoundedLruCache<CacheKey, CacheEntry> entries;
+
+	public SearchResultCache(
+		SearchResultVersionRedisRepository versionRepository,
+		@Value("${custom.search.result-cache.enabled:true}") boolean enabled,
+		@Value("${custom.search.result-cache.ttl-ms:5000}") long ttlMillis,
+		@Value("${custom.search.result-cache.cached-pages:1}") int cachedPages,
+		@Value("${custom.search.result-cache.max-entries:1000}") int maxEntries,
+		@Value("${custom.search.result-cache.wait-timeout-ms:2000}") long waitTimeoutMillis
+	) {
+		this.versionRepository = versionRepository;
+		this.enabled = enabled;
+		this.ttlMillis = ttlMillis;
+		this.cachedPages = cachedPages;
+		this.entries = new BoundedLruCache<>(maxEntries);
+		this.waitTimeoutMillis = waitTimeoutMillis;
+	}
+
+	/**
+	 * 캐시된 검색 결과 조회, 없거나 만료됐으면 loader로 조회 후 캐싱
+	 * - cached-pages 이후 페이지는 캐싱하지 않음
+	 */
+	public PageResponse<List<ProductPostSearchResponse>> getOrLoad(
+		postSearchParams params,
+		Pageable pageable,
+		Supplier<PageResponse<List<ProductPostSearchResponse>>> loader
+	) {
+		if (!enabled || pageable.getPageNumber() >= cachedPages) {
+			return loader.get();
+		}
+
+		Long version = findVersion(params);
+		if (version == null) {
+			return loader.get();
+		}
+
+		CacheKey key = new CacheKey(params, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), version);
+		long now = System.currentTimeMillis();
+		CompletableFuture<PageResponse<List<ProductPostSearchResponse>>> created = new CompletableFuture<>();
+		CacheEntry entry = entries.compute(key, (k, existing) ->
+			existing != null && now - existing.loadedAt() < ttlMillis ? existing : new CacheEntry(created, now)
+		);
+
+		if (entry.result() != created) {
+			return await(entry.result(), loader);
+		}
+
+		// 이 요청이 로딩 담당
+		try {
+			created.complete(loader.get());
+		} catch (RuntimeException e) {
+			entries.remove(key, entry);		// 실패한 결과는 캐싱하지 않음 (기다리던 요청도 같은 예외)
+			created.completeExceptionally(e);
+			throw e;
+		}
+		return created.join();
+	}
+
+	private Long findVersion(postSearchParams params) {
+		try {
+			return versionRepository.findVersion(params.hasCategory() ? params.category() : null);
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 버전 조회 실패 - 캐시 없이 검색", e);
+			return null;
+		}
+	}
+
+	// 다른 요청이 조회 중인 결과를 최대 wait-timeout 동안 기다리고, 넘으면 캐시 없이 직접 조회
+	private PageResponse<List<ProductPostSearchResponse>> await(
+		CompletableFuture<PageResponse<List<ProductPostSearchResponse>>> result,
+		Supplier<PageResponse<List<ProductPostSearchResponse>>> loader
+	) {
+		try {
+			return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.warn("검색 결과 캐시 대기 시간 초과 - 캐시 없이 검색, waitTimeoutMs: {}", waitTimeoutMillis);
+			return loader.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new CompletionException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	private record CacheKey(postSearchParams params, int page, int size, Sort sort, long version) {
+	}
+
+	private record CacheEntry(CompletableFuture<PageResponse<List<ProductPostSearchResponse>>> result, long loadedAt) {
+	}
+}
@@ -3,8 +3,11 @@ package com.domainservice.domain.search.service.search.query;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.stereotype.Component;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
@@ -15,42 +18,33 @@ import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class DailyProductQueryBuilder {
 
+	private static final SourceFilter CANDIDATE_SOURCE = new FetchSourceFilterBuilder()
+		.withIncludes("id", "category_name", "liked_count", "view_count")
+		.build();
+
+	private final ProductListProjection productListProjection;
+
 	/**
 	 * 오늘의 추천 상품 조회 쿼리 생성
 	 * - FunctionScore를 사용하여 조회수와 좋아요 수를 기준으로 가중치 부여
 	 * - 부여된 가중치를 기준으로 계산된 점수로 내림차순하여 상품을 조회
 	 *
-	 * 점수 계산 공식:
-	 * - 좋아요 점수: sqrt(liked_count) * 5.0
-	 * - 조회수 점수: log(view_count + 1) * 3.0
+	 * 점수 계산 공식 (field_value_factor는 factor를 먼저 곱한 뒤 modifier 적용, log1p는 log10):
+	 * - 좋아요 점수: sqrt(liked_count * 5.0)
+	 * - 조회수 점수: log10(view_count * 3.0 + 1)
 	 * - 최종 점수: 좋아요 점수 + 조회수 점수
-	 * (좋아요에 더 높은 가중치를 부여했음)
+	 * (좋아요에 더 높은 가중치를 부여했음, 같은 계산을 DailyBestRanking에서 미리 수행)
 	 */
 	public NativeQuery build(String category, Pageable pageable) {
 
-		// 필터 조건 리스트
-		List<Query> filterQueries = new ArrayList<>();
-
-		filterQueries.add(Query.of(f -> f.term(t -> t.field("delete_status").value("N"))));
-		filterQueries.add(Query.of(f -> f.term(t -> t.field("trade_status").value("SELLING"))));
-
-		// 최근 72시간 내 등록된 상품
-		filterQueries.add(Query.of(f -> f
-			.range(r -> r.date(d -> d.field("created_at").gte("now-72h")))
-		));
-
-		// 카테고리 필터 (선택)
-		if (!category.equals("ALL")) {
-			filterQueries.add(Query.of(f -> f.term(t -> t.field("category_name.keyword").value(category))));
-		}
-
 		// Bool Query 생성
-		Query boolQuery = Query.of(q -> q.bool(
-			BoolQuery.of(bool -> bool.filter(filterQueries))
-		));
+		Query boolQuery = buildFilterQuery(category);
 
 		// Function Score 함수 정의
 		List<FunctionScore> functions = List.of(
@@ -84,10 +78,46 @@ public class DailyProductQueryBuilder {
 			)
 		));
 
-		// NativeQuery로 변환하여 반환
-		return NativeQuery.builder()
+		// NativeQuery로 변환하여 반환 (목록용 필드만 조회)
+		return productListProjection.apply(NativeQuery.builder())
 			.withQuery(functionScoreQuery)
 			.withPageable(pageable)
 			.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 오늘의 추천 상품 순위 계산 대상 조회 쿼리 생성 (전체 카테고리, 점수 계산 없이 필터만)
+	 * - 순위 계산에 필요한 id, 카테고리, 좋아요 수, 조회수만 조회
+	 */
+	public NativeQuery buildCandidates(int batchSize) {
+		return NativeQuery.builder()
+			.withQuery(buildFilterQuery("ALL"))
+			.withSourceFilter(CANDIDATE_SOURCE)
+			.withPageable(PageRequest.of(0, batchSize))
+			.build();
+	}
+
+	// 삭제되지 않은 판매중 상품 중 최근 72시간 내 등록된 상품 (+ 카테고리)
+	private Query buildFilterQuery(String category) {
+
+		// 필터 조건 리스트
+		List<Query> filterQueries = new ArrayList<>();
+
+		filterQueries.add(Query.of(f -> f.term(t -> t.field("delete_status").value("N"))));
+		filterQueries.add(Query.of(f -> f.term(t -> t.field("trade_status").value("SELLING"))));
+
+		// 최근 72시간 내 등록된 상품
+		filterQueries.add(Query.of(f -> f
+			.range(r -> r.date(d -> d.field("created_at").gte("now-72h")))
+		));
+
+		// 카테고리 필터 (선택)
+		if (!category.equals("ALL")) {
+			filterQueries.add(Query.of(f -> f.term(t -> t.field("category_name.keyword").value(category))));
+		}
+
+		return Query.of(q -> q.bool(
+			BoolQuery.of(bool -> bool.filter(filterQueries))
+		));
+	}
+}
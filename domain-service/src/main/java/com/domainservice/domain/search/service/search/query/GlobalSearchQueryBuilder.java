@@ -7,9 +7,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
@@ -18,9 +22,14 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class GlobalSearchQueryBuilder {
 
+	private final ProductListProjection productListProjection;
+
 	/**
 	 * request로 들어온 검색어 및 필더를 기반으로 통합 검색 쿼리 생성
 	 */
@@ -38,14 +47,37 @@ public class GlobalSearchQueryBuilder {
 			sort
 		);
 
-		// 생성된 boolQuery와 페이지 정보를 NativeQuery로 합쳐서 반환
-		return NativeQuery.builder()
+		// 생성된 boolQuery와 페이지 정보를 NativeQuery로 합쳐서 반환 (목록용 필드만 조회)
+		return productListProjection.apply(NativeQuery.builder())
 			.withQuery(boolQuery)
 			.withPageable(pageableWithSort)
 			.build();
 
 	}
 
+	/**
+	 * 커서 기반(search_after + point in time) 조회 쿼리 생성
+	 * - 정렬 기준 뒤에 문서 id 오름차순을 붙여 정렬 값이 같은 문서도 항상 같은 순서로 조회
+	 * - 조회 비용이 페이지 깊이와 무관하도록 from은 항상 0, 전체 건수는 계산하지 않음
+	 * @param searchAfter 이전 페이지 마지막 문서의 정렬 값 (첫 페이지면 null)
+	 */
+	public NativeQuery buildCursor(postSearchParams params, int size, PointInTime pointInTime, List<Object> searchAfter) {
+
+		Sort sort = createSort(params.sort()).and(Sort.by(Sort.Direction.ASC, "id"));
+
+		NativeQueryBuilder queryBuilder = productListProjection.applySource(NativeQuery.builder())
+			.withQuery(buildBoolQuery(params))
+			.withPageable(PageRequest.of(0, size, sort))
+			.withPointInTime(pointInTime)
+			.withTrackTotalHits(false);
+
+		if (searchAfter != null) {
+			queryBuilder.withSearchAfter(searchAfter);
+		}
+
+		return queryBuilder.build();
+	}
+
 	// Bool Query 생성
 	private Query buildBoolQuery(postSearchParams params) {
 
@@ -54,7 +86,9 @@ public class GlobalSearchQueryBuilder {
 		List<Query> mustQueries = new ArrayList<>();
 
 		// multi_match 쿼리 생성
-		if (params.hasQuery()) {
+		if (params.hasQuery() && PrefixConverter.isChoseongOnly(params.q())) {
+			mustQueries.add(buildChoseongQuery(params.q())); // 자음만 입력했을 때 제목 초성 조회
+		} else if (params.hasQuery()) {
 			mustQueries.add(buildMultiMatchQuery(params.q())); // 검색어가 있을 때 Multi-Match 수행
 		} else {
 			mustQueries.add(Query.of(q -> q.matchAll(m -> m))); // 검색어가 없을 때는 전체 조회 (Match All)
@@ -164,6 +198,20 @@ public class GlobalSearchQueryBuilder {
 		));
 	}
 
+	// 초성 쿼리 생성 (ex. ㅇㅇㅍ → 아이폰 15 프로)
+	// 단어 단위 초성(title_choseong) 또는 공백을 제거한 전체 초성(title_choseong.compact)에 term 조회
+	private Query buildChoseongQuery(String queryString) {
+		String choseong = StringUtils.trimAllWhitespace(queryString);
+
+		return Query.of(queryBuilder -> queryBuilder.bool(
+			BoolQuery.of(boolQueryBuilder -> boolQueryBuilder
+				.should(Query.of(q -> q.term(t -> t.field("title_choseong").value(choseong).boost(2.0f))))
+				.should(Query.of(q -> q.term(t -> t.field("title_choseong.compact").value(choseong))))
+				.minimumShouldMatch("1")
+			)
+		));
+	}
+
 	// 정렬 조건 생성
 	private Sort createSort(String sortBy) {
 		return switch (sortBy) {
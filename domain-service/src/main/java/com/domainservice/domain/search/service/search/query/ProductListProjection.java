@@ -0,0 +1,53 @@
+package com.domainservice.domain.search.service.search.query;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 목록 조회 공통 옵션 (통합 검색, 오늘의 추천, 유사 상품, 판매자 상품)
+ * - _source는 목록 응답(ProductPostSearchResponse)에 필요한 필드만 조회 → 설명 등 긴 필드의 전송/역직렬화 비용 제거
+ * - 전체 건수는 track-total-hits-up-to 건까지만 계산 (넘으면 "N+"로 응답, 페이지 수도 상한 기준)
+ */
+@Component
+public class ProductListProjection {
+
+	private static final SourceFilter LIST_SOURCE = new FetchSourceFilterBuilder()
+		.withIncludes(
+			"id",
+			"title",
+			"price",
+			"liked_count",
+			"view_count",
+			"trade_status",
+			"primary_image_url",
+			"updated_at"
+		)
+		.build();
+
+	private final int trackTotalHitsUpTo;
+
+	public ProductListProjection(
+		@Value("${custom.search.track-total-hits-up-to:10000}") int trackTotalHitsUpTo
+	) {
+		this.trackTotalHitsUpTo = trackTotalHitsUpTo;
+	}
+
+	/**
+	 * 목록용 _source 필터 + 전체 건수 상한 적용
+	 */
+	public NativeQueryBuilder apply(NativeQueryBuilder queryBuilder) {
+		return queryBuilder
+			.withSourceFilter(LIST_SOURCE)
+			.withTrackTotalHitsUpTo(trackTotalHitsUpTo);
+	}
+
+	/**
+	 * 목록용 _source 필터만 적용 (전체 건수를 세지 않는 커서 조회용)
+	 */
+	public NativeQueryBuilder applySource(NativeQueryBuilder queryBuilder) {
+		return queryBuilder.withSourceFilter(LIST_SOURCE);
+	}
+}
@@ -12,9 +12,14 @@ import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class SellerProductQueryBuilder {
 
+	private final ProductListProjection productListProjection;
+
 	/**
 	 * 특정 상품의 판매자가 판매하고 있는 다른 상품 목록 조회 쿼리 생성
 	 */
@@ -36,7 +41,7 @@ public class SellerProductQueryBuilder {
 			)
 		));
 
-		return NativeQuery.builder()
+		return productListProjection.apply(NativeQuery.builder())
 			.withQuery(sellerProductQuery)
 			.withSort(sort -> sort.field(f -> f.field("created_at").order(SortOrder.Desc)))
 			.withPageable(pageable)
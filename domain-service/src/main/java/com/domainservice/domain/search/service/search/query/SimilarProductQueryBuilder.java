@@ -16,9 +16,14 @@ import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class SimilarProductQueryBuilder {
 
+	private final ProductListProjection productListProjection;
+
 	/**
 	 * 유사 상품 검색 쿼리 생성
 	 * - More Like This (기본 유사도) + Should (정확도 보정)
@@ -50,7 +55,7 @@ public class SimilarProductQueryBuilder {
 			)
 		));
 
-		return NativeQuery.builder()
+		return productListProjection.apply(NativeQuery.builder())
 			.withQuery(similarQuery)
 			.withPageable(pageable)
 			.build();
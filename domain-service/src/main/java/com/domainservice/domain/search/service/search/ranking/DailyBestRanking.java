@@ -0,0 +1,103 @@
+package com.domainservice.domain.search.service.search.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 오늘의 추천 상품 순위 계산 (DailyProductQueryBuilder function_score와 같은 점수)
+ * - Elasticsearch field_value_factor는 factor를 곱한 뒤 modifier를 적용하고, log1p는 상용로그(log10)
+ *   → 점수 = sqrt(5 × 좋아요 수) + log10(1 + 3 × 조회수), 값이 없으면 0
+ * - 최종 점수는 Elasticsearch와 같이 float으로 변환해서 비교 (같은 점수는 상품 id 내림차순 → Redis ZREVRANGE 순서와 동일)
+ * - 카테고리별(소문자, category_name.keyword normalizer와 동일) + 전체(ALL) 상위 N개를 크기 N의 heap으로 계산
+ */
+public final class DailyBestRanking {
+
+	public static final String ALL_CATEGORY = "ALL";
+
+	private static final double LIKED_FACTOR = 5.0;
+	private static final double VIEW_FACTOR = 3.0;
+
+	// 점수 내림차순, 같은 점수면 id 내림차순
+	private static final Comparator<RankedProduct> RANK_ORDER = Comparator
+		.comparingDouble(RankedProduct::score).reversed()
+		.thenComparing(RankedProduct::id, Comparator.reverseOrder());
+
+	private DailyBestRanking() {
+	}
+
+	/**
+	 * 순위 계산 대상 상품 (최근 72시간 내 등록, 판매중, 삭제되지 않은 상품)
+	 */
+	public record Candidate(String id, String categoryName, Long likedCount, Long viewCount) {
+	}
+
+	/**
+	 * 순위가 정해진 상품
+	 */
+	public record RankedProduct(String id, float score) {
+	}
+
+	public static float score(Long likedCount, Long viewCount) {
+		double likedScore = Math.sqrt(LIKED_FACTOR * valueOrZero(likedCount));
+		double viewScore = Math.log10(VIEW_FACTOR * valueOrZero(viewCount) + 1);
+		return (float)(likedScore + viewScore);
+	}
+
+	/**
+	 * 카테고리 key (category_name.keyword의 lowercase normalizer와 같은 규칙, 없으면 null)
+	 */
+	public static String categoryKey(String categoryName) {
+		if (categoryName == null || categoryName.isBlank()) {
+			return null;
+		}
+		return categoryName.equals(ALL_CATEGORY) ? ALL_CATEGORY : categoryName.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @return {카테고리 key(전체는 ALL), 점수 내림차순 상위 topN개}
+	 */
+	public static Map<String, List<RankedProduct>> rank(Iterable<Candidate> candidates, int topN) {
+		Map<String, PriorityQueue<RankedProduct>> heaps = new HashMap<>();
+
+		for (Candidate candidate : candidates) {
+			RankedProduct ranked = new RankedProduct(candidate.id(), score(candidate.likedCount(), candidate.viewCount()));
+			offer(heaps.computeIfAbsent(ALL_CATEGORY, key -> newHeap(topN)), ranked, topN);
+
+			String category = categoryKey(candidate.categoryName());
+			if (category != null && !category.equals(ALL_CATEGORY)) {
+				offer(heaps.computeIfAbsent(category, key -> newHeap(topN)), ranked, topN);
+			}
+		}
+
+		Map<String, List<RankedProduct>> rankings = new HashMap<>();
+		heaps.forEach((category, heap) -> {
+			List<RankedProduct> ranked = new ArrayList<>(heap);
+			ranked.sort(RANK_ORDER);
+			rankings.put(category, ranked);
+		});
+		return rankings;
+	}
+
+	// heap의 root가 가장 낮은 순위 → 가득 차면 root보다 순위가 높을 때만 교체
+	private static PriorityQueue<RankedProduct> newHeap(int topN) {
+		return new PriorityQueue<>(topN + 1, RANK_ORDER.reversed());
+	}
+
+	private static void offer(PriorityQueue<RankedProduct> heap, RankedProduct ranked, int topN) {
+		if (heap.size() < topN) {
+			heap.add(ranked);
+		} else if (RANK_ORDER.compare(ranked, heap.peek()) < 0) {
+			heap.poll();
+			heap.add(ranked);
+		}
+	}
+
+	private static long valueOrZero(Long value) {
+		return value != null ? value : 0L;
+	}
+}
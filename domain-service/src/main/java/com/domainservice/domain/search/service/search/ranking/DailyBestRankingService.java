@@ -0,0 +1,121 @@
+package com.domainservice.domain.search.service.search.ranking;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.stereotype.Service;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.repository.redis.DailyBestProductRedisRepository;
+import com.domainservice.domain.search.repository.redis.DailyBestProductRedisRepository.RankedPage;
+import com.domainservice.domain.search.service.search.ProductListLoader;
+import com.domainservice.domain.search.service.search.query.DailyProductQueryBuilder;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.Candidate;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.RankedProduct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘의 추천 상품 순위 미리 계산
+ * - refresh: 대상 상품(필터만, 점수 계산 없음)을 scroll로 읽어 카테고리별/전체 상위 top-n 순위를 계산하고 Redis에 통째로 교체
+ * - findPage: 요청 시에는 Redis 순위에서 해당 페이지 id만 꺼내 목록 필드만 조회 (ProductListLoader)
+ * - 순위가 없거나(계산 전, 만료) top-n 밖의 페이지는 empty → 호출 측에서 기존 function_score 쿼리로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyBestRankingService {
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final DailyProductQueryBuilder dailyProductQueryBuilder;
+	private final ProductListLoader productListLoader;
+	private final DailyBestProductRedisRepository dailyBestProductRedisRepository;
+
+	@Value("${custom.search.daily-best.enabled:true}")
+	private boolean enabled;
+
+	@Value("${custom.search.daily-best.top-n:500}")
+	private int topN;
+
+	@Value("${custom.search.daily-best.ttl-ms:3600000}")
+	private long ttlMillis;
+
+	@Value("${custom.search.daily-best.batch-size:1000}")
+	private int batchSize;
+
+	/**
+	 * 오늘의 추천 상품 순위 재계산 후 Redis에 교체
+	 */
+	public void refresh() {
+		if (!enabled) {
+			return;
+		}
+
+		NativeQuery candidateQuery = dailyProductQueryBuilder.buildCandidates(batchSize);
+
+		Map<String, List<RankedProduct>> rankings;
+		try (SearchHitsIterator<ProductPostDocumentEntity> hits = elasticsearchOperations
+			.searchForStream(candidateQuery, ProductPostDocumentEntity.class)) {
+
+			Stream<Candidate> candidates = hits.stream()
+				.map(SearchHit::getContent)
+				.map(document -> new Candidate(
+					document.getId(),
+					document.getCategoryName(),
+					document.getLikedCount(),
+					document.getViewCount()
+				));
+			rankings = DailyBestRanking.rank(candidates::iterator, topN);
+		}
+
+		dailyBestProductRedisRepository.replaceAll(rankings, Duration.ofMillis(ttlMillis));
+		log.info("오늘의 추천 상품 순위 갱신 - categories: {}, all: {}",
+			rankings.size(), rankings.getOrDefault(DailyBestRanking.ALL_CATEGORY, List.of()).size());
+	}
+
+	/**
+	 * 미리 계산된 순위에서 한 페이지 조회
+	 * @return 순위가 없거나 top-n 밖의 페이지를 요청하면 empty
+	 */
+	public Optional<PageResponse<List<ProductPostSearchResponse>>> findPage(String category, Pageable pageable) {
+		String categoryKey = DailyBestRanking.categoryKey(category);
+		if (!enabled || categoryKey == null) {
+			return Optional.empty();
+		}
+
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+
+		Optional<RankedPage> found;
+		try {
+			found = dailyBestProductRedisRepository.findPage(categoryKey, offset, size);
+		} catch (Exception e) {
+			log.warn("오늘의 추천 상품 순위 조회 실패 - category: {}", category, e);
+			return Optional.empty();
+		}
+		if (found.isEmpty()) {
+			return Optional.empty();
+		}
+
+		RankedPage page = found.get();
+
+		// top-n으로 잘린 순위의 뒤쪽 페이지는 순위 목록만으로 응답할 수 없음
+		if (page.total() >= topN && offset + size > page.total()) {
+			return Optional.empty();
+		}
+
+		return Optional.of(productListLoader.toPageResponse(page.ids(), page.total(), pageable));
+	}
+}
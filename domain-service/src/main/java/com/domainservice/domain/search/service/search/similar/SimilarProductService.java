@@ -0,0 +1,242 @@
+package com.domainservice.domain.search.service.search.similar;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.stereotype.Service;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.repository.ProductPostElasticRepository;
+import com.domainservice.domain.search.repository.redis.SimilarProductRedisRepository;
+import com.domainservice.domain.search.repository.redis.SimilarProductRedisRepository.SimilarProducts;
+import com.domainservice.domain.search.service.search.ProductListLoader;
+import com.domainservice.domain.search.service.search.query.SimilarProductQueryBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유사 상품 목록 미리 계산
+ * - 상품 upsert 이벤트: 해당 상품 + 이 상품을 유사 상품으로 포함한 상품들의 목록을 비동기로 다시 계산
+ * - 상품 delete 이벤트: 해당 상품 목록 삭제 + 이 상품을 포함한 목록 다시 계산
+ * - 조회: 목록이 있으면 해당 페이지 id만 조회, 없으면 top-k 목록을 바로 계산해서 저장 후 응답 (More Like This 쿼리 1번)
+ *
+ * 목록 갱신 정책 (오래된 목록이 응답되는 최대 시간)
+ * - refresh-after-ms가 지난 목록은 그대로 응답하고 백그라운드에서 다시 계산
+ * - ttl-ms가 지나면 목록이 만료되어 More Like This 쿼리로 조회 (새로 등록된 상품이 기존 목록에 들어오는 시점의 상한)
+ * - 같은 상품에 이벤트가 몰려도 min-recompute-interval-ms 안에는 한 번만 다시 계산
+ *   (건너뛴 목록과 neighbor-refresh-limit을 넘는 참조 목록은 stale로 표시 → 다음 조회 때 다시 계산)
+ */
+@Slf4j
+@Service
+public class SimilarProductService {
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final SimilarProductQueryBuilder similarProductQueryBuilder;
+	private final ProductPostElasticRepository productPostElasticRepository;
+	private final SimilarProductRedisRepository similarProductRedisRepository;
+	private final ProductListLoader productListLoader;
+	private final Executor similarProductExecutor;
+
+	// 이 인스턴스에서 계산 중이거나 대기 중인 상품 (같은 상품 중복 계산 방지)
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+	private final boolean enabled;
+	private final int topK;
+	private final long refreshAfterMillis;
+	private final long ttlMillis;
+	private final long minRecomputeIntervalMillis;
+	private final int neighborRefreshLimit;
+
+	public SimilarProductService(
+		ElasticsearchOperations elasticsearchOperations,
+		SimilarProductQueryBuilder similarProductQueryBuilder,
+		ProductPostElasticRepository productPostElasticRepository,
+		SimilarProductRedisRepository similarProductRedisRepository,
+		ProductListLoader productListLoader,
+		@Qualifier("similarProductExecutor") Executor similarProductExecutor,
+		@Value("${custom.search.similar.enabled:true}") boolean enabled,
+		@Value("${custom.search.similar.top-k:60}") int topK,
+		@Value("${custom.search.similar.refresh-after-ms:3600000}") long refreshAfterMillis,
+		@Value("${custom.search.similar.ttl-ms:86400000}") long ttlMillis,
+		@Value("${custom.search.similar.min-recompute-interval-ms:60000}") long minRecomputeIntervalMillis,
+		@Value("${custom.search.similar.neighbor-refresh-limit:20}") int neighborRefreshLimit
+	) {
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.similarProductQueryBuilder = similarProductQueryBuilder;
+		this.productPostElasticRepository = productPostElasticRepository;
+		this.similarProductRedisRepository = similarProductRedisRepository;
+		this.productListLoader = productListLoader;
+		this.similarProductExecutor = similarProductExecutor;
+		this.enabled = enabled;
+		this.topK = topK;
+		this.refreshAfterMillis = refreshAfterMillis;
+		this.ttlMillis = ttlMillis;
+		this.minRecomputeIntervalMillis = minRecomputeIntervalMillis;
+		this.neighborRefreshLimit = neighborRefreshLimit;
+	}
+
+	/**
+	 * 미리 계산된 유사 상품 목록에서 한 페이지 조회
+	 * - 목록이 없으면 top-k 목록을 바로 계산해서 저장 (백그라운드 계산을 따로 예약하지 않음)
+	 * @return 기준 상품이 없거나, 목록 조회/계산에 실패하거나, top-k 밖의 페이지를 요청하면 empty
+	 */
+	public Optional<PageResponse<List<ProductPostSearchResponse>>> findPage(String postId, Pageable pageable) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		Optional<SimilarProducts> found;
+		try {
+			found = similarProductRedisRepository.find(postId);
+		} catch (Exception e) {
+			log.warn("유사 상품 목록 조회 실패 - postId: {}", postId, e);
+			return Optional.empty();
+		}
+
+		SimilarProducts similarProducts;
+		if (found.isPresent()) {
+			similarProducts = found.get();
+			if (System.currentTimeMillis() - similarProducts.computedAt() >= refreshAfterMillis) {
+				scheduleRecompute(postId, refreshAfterMillis);
+			}
+		} else {
+			// 목록이 없으면 호출 측 More Like This 쿼리 대신 여기서 한 번만 계산 (기준 상품이 없으면 empty)
+			try {
+				Optional<SimilarProducts> computed = recompute(postId, 0L);
+				if (computed.isEmpty()) {
+					return Optional.empty();
+				}
+				similarProducts = computed.get();
+			} catch (Exception e) {
+				log.warn("유사 상품 목록 계산 실패 - postId: {}", postId, e);
+				return Optional.empty();
+			}
+		}
+
+		List<String> ids = similarProducts.ids();
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+
+		// top-k로 잘린 목록의 뒤쪽 페이지는 목록만으로 응답할 수 없음
+		if (ids.size() >= topK && offset + size > ids.size()) {
+			return Optional.empty();
+		}
+
+		List<String> pageIds = offset >= ids.size()
+			? List.of()
+			: ids.subList((int)offset, (int)Math.min(offset + size, ids.size()));
+		return Optional.of(productListLoader.toPageResponse(pageIds, ids.size(), pageable));
+	}
+
+	/**
+	 * 상품 생성/수정 이벤트 처리
+	 */
+	public void onUpserted(String postId) {
+		if (!enabled) {
+			return;
+		}
+		scheduleRecompute(postId, minRecomputeIntervalMillis);
+		refreshReferrers(postId);
+	}
+
+	/**
+	 * 상품 삭제 이벤트 처리
+	 */
+	public void onDeleted(String postId) {
+		if (!enabled) {
+			return;
+		}
+		// 역참조를 읽은 뒤에 목록/역참조 삭제
+		refreshReferrers(postId);
+		similarProductRedisRepository.delete(postId);
+	}
+
+	// 이 상품이 포함된 목록을 다시 계산 (상한을 넘는 목록은 stale로 표시해서 다음 조회 시 다시 계산)
+	private void refreshReferrers(String postId) {
+		List<String> overflow = new ArrayList<>();
+		int scheduled = 0;
+		for (String referrer : similarProductRedisRepository.findReferrers(postId)) {
+			if (scheduled < neighborRefreshLimit) {
+				scheduleRecompute(referrer, minRecomputeIntervalMillis);
+				scheduled++;
+			} else {
+				overflow.add(referrer);
+			}
+		}
+		similarProductRedisRepository.markStale(overflow);
+	}
+
+	/**
+	 * 유사 상품 목록 계산 예약 (executor가 가득 차면 건너뜀 → 다음 조회 또는 이벤트에서 다시 예약)
+	 * @param minAgeMillis 기존 목록이 이 시간보다 최근에 계산되었으면 다시 계산하지 않음
+	 */
+	private void scheduleRecompute(String postId, long minAgeMillis) {
+		if (!pending.add(postId)) {
+			return;
+		}
+
+		try {
+			similarProductExecutor.execute(() -> {
+				try {
+					recompute(postId, minAgeMillis);
+				} catch (Exception e) {
+					log.warn("유사 상품 목록 계산 실패 - postId: {}", postId, e);
+				} finally {
+					pending.remove(postId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.remove(postId);
+			log.debug("유사 상품 목록 계산 대기열 초과 - postId: {}", postId);
+		}
+	}
+
+	/**
+	 * @return 계산했거나 최근 목록이라 건너뛴 경우 해당 목록, 기준 상품이 없으면 empty
+	 */
+	private Optional<SimilarProducts> recompute(String postId, long minAgeMillis) {
+		long now = System.currentTimeMillis();
+		Optional<SimilarProducts> existing = minAgeMillis > 0
+			? similarProductRedisRepository.find(postId)
+			: Optional.empty();
+		if (existing.isPresent() && now - existing.get().computedAt() < minAgeMillis) {
+			// 직전 계산 이후의 변경이 빠져 있을 수 있으므로 다음 조회 때 다시 계산
+			similarProductRedisRepository.markStale(List.of(postId));
+			return existing;
+		}
+
+		Optional<ProductPostDocumentEntity> baseProduct = productPostElasticRepository.findById(postId);
+		if (baseProduct.isEmpty()) {
+			similarProductRedisRepository.delete(postId);
+			return Optional.empty();
+		}
+
+		// 조회 시와 같은 More Like This 쿼리로 상위 top-k개 id만 계산
+		NativeQuery similarQuery = similarProductQueryBuilder.build(baseProduct.get(), PageRequest.of(0, topK));
+		List<String> ids = elasticsearchOperations.search(similarQuery, ProductPostDocumentEntity.class)
+			.getSearchHits()
+			.stream()
+			.map(SearchHit::getId)
+			.toList();
+
+		List<String> previousIds = existing.map(SimilarProducts::ids).orElse(List.of());
+		SimilarProducts computed = new SimilarProducts(ids, now);
+		similarProductRedisRepository.save(postId, computed, previousIds, Duration.ofMillis(ttlMillis));
+		return Optional.of(computed);
+	}
+}
@@ -0,0 +1,77 @@
+package com.domainservice.domain.search.service.spelling;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.domainservice.domain.search.repository.SearchWordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 오타 교정 (인메모리 SymSpell 인덱스 관리)
+ * - Elasticsearch fuzzy 쿼리 대신 search-words 상위 검색어로 만든 SymSpellIndex에서 교정 후보 조회
+ * - 자동완성(인메모리 인덱스에 결과가 없을 때)과 상품 통합 검색 "이것을 찾으셨나요?"에서 사용
+ * - replica 별로 주기적으로 전체 재생성 후 원자적으로 교체
+ */
+@Slf4j
+@Component
+public class SpellingCorrector {
+
+	private final SearchWordRepository searchWordRepository;
+	private final int maxEntries;
+	private final int maxEditDistance;
+	private final int prefixLength;
+
+	private final AtomicReference<SymSpellIndex> index = new AtomicReference<>(SymSpellIndex.empty());
+
+	public SpellingCorrector(
+		SearchWordRepository searchWordRepository,
+		@Value("${custom.search.spelling.max-entries:100000}") int maxEntries,
+		@Value("${custom.search.spelling.max-edit-distance:2}") int maxEditDistance,
+		@Value("${custom.search.spelling.prefix-length:7}") int prefixLength
+	) {
+		this.searchWordRepository = searchWordRepository;
+		this.maxEntries = maxEntries;
+		this.maxEditDistance = maxEditDistance;
+		this.prefixLength = prefixLength;
+	}
+
+	/**
+	 * 입력값과 가까운 검색어를 (편집 거리 오름차순, 인기도 내림차순)으로 limit 개 조회
+	 */
+	public List<SymSpellIndex.Correction> correct(String input, int limit) {
+		return index.get().lookup(input, limit);
+	}
+
+	/**
+	 * "이것을 찾으셨나요?" 후보: 입력값과 같은 검색어가 없을 때만 가장 가까운 검색어 1개
+	 */
+	public Optional<String> didYouMean(String input) {
+		List<SymSpellIndex.Correction> corrections = correct(input, 1);
+		if (corrections.isEmpty() || corrections.getFirst().distance() == 0) {
+			return Optional.empty();
+		}
+		return Optional.of(corrections.getFirst().word());
+	}
+
+	/**
+	 * Elasticsearch search_count 상위 max-entries 개로 인덱스 재생성 (애플리케이션 시작 시 + 주기적으로)
+	 */
+	@Scheduled(fixedDelayString = "${custom.search.spelling.refresh-interval-ms:3600000}")
+	public void refresh() {
+		try {
+			Map<String, Long> vocabulary = searchWordRepository.findTopSearchCounts(maxEntries);
+			SymSpellIndex rebuilt = SymSpellIndex.build(vocabulary, maxEditDistance, prefixLength);
+			index.set(rebuilt);
+			log.info("오타 교정 인덱스 교체 - size: {}", rebuilt.size());
+		} catch (Exception e) {
+			log.error("오타 교정 인덱스 재생성 실패 - 기존 인덱스 유지", e);
+		}
+	}
+}
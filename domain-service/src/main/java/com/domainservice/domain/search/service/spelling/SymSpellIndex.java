@@ -0,0 +1,237 @@
+package com.domainservice.domain.search.service.spelling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.domainservice.domain.search.service.converter.PrefixConverter;
+
+/**
+ * 검색어 오타 교정용 불변 symmetric delete(SymSpell) 인덱스
+ * - 검색어를 key(한글은 QWERTY 입력값, 나머지는 소문자)로 바꾼 뒤, key 앞 prefixLength 글자에서
+ *   최대 maxEditDistance 글자를 지운 문자열들의 hash를 (hash, 검색어 id) 정렬 배열에 보관
+ * - 조회할 때도 입력값에서 같은 방식으로 지운 문자열의 hash로 후보를 찾고,
+ *   후보만 Damerau-Levenshtein(OSA) 거리로 검증 → 사전 크기와 무관하게 조회 비용이 일정
+ * - 한글 오타도 QWERTY key 기준 편집 거리로 계산 (ex. 아이펀 → dkdlvjs, 아이폰 → dkdlvhs 거리 1)
+ * - 생성 후 변경하지 않으므로 여러 스레드에서 잠금 없이 조회 가능 (갱신은 새 인덱스로 교체)
+ */
+public final class SymSpellIndex {
+
+	private static final SymSpellIndex EMPTY = build(Map.of(), 2, 7);
+
+	private final String[] words;		// id -> 검색어
+	private final String[] keys;		// id -> 교정용 key
+	private final long[] counts;		// id -> 인기도(누적 검색 횟수)
+	private final long[] deletes;		// (delete hash << 32 | id) 정렬
+	private final int maxEditDistance;
+	private final int prefixLength;
+
+	private SymSpellIndex(String[] words, String[] keys, long[] counts, long[] deletes, int maxEditDistance,
+		int prefixLength) {
+		this.words = words;
+		this.keys = keys;
+		this.counts = counts;
+		this.deletes = deletes;
+		this.maxEditDistance = maxEditDistance;
+		this.prefixLength = prefixLength;
+	}
+
+	public static SymSpellIndex empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @param popularity {검색어, 인기도}
+	 * @param maxEditDistance 교정 가능한 최대 편집 거리 (1 ~ 2)
+	 * @param prefixLength delete를 만드는 key 앞부분 길이 (길수록 정확하지만 메모리 증가)
+	 */
+	public static SymSpellIndex build(Map<String, Long> popularity, int maxEditDistance, int prefixLength) {
+		// key가 같은 검색어(ex. iPhone, iphone)는 인기도가 높은 쪽만 유지
+		Map<String, Map.Entry<String, Long>> byKey = new HashMap<>();
+		for (Map.Entry<String, Long> entry : popularity.entrySet()) {
+			String key = toKey(entry.getKey());
+			if (key.isEmpty()) {
+				continue;
+			}
+			byKey.merge(key, entry, (a, b) -> a.getValue() >= b.getValue() ? a : b);
+		}
+
+		int size = byKey.size();
+		String[] words = new String[size];
+		String[] keys = new String[size];
+		long[] counts = new long[size];
+		long[] deletes = new long[size * 8];
+		int deleteCount = 0;
+
+		int id = 0;
+		for (Map.Entry<String, Map.Entry<String, Long>> entry : byKey.entrySet()) {
+			String key = entry.getKey();
+			words[id] = entry.getValue().getKey();
+			keys[id] = key;
+			counts[id] = entry.getValue().getValue();
+
+			for (String delete : generateDeletes(key, maxEditDistance, prefixLength)) {
+				if (deleteCount == deletes.length) {
+					deletes = Arrays.copyOf(deletes, deletes.length * 2);
+				}
+				deletes[deleteCount++] = (long)hash(delete) << 32 | id;
+			}
+			id++;
+		}
+
+		long[] sorted = Arrays.copyOf(deletes, deleteCount);
+		Arrays.sort(sorted);
+		return new SymSpellIndex(words, keys, counts, sorted, maxEditDistance, prefixLength);
+	}
+
+	/**
+	 * 입력값과 편집 거리가 가까운 검색어를 (거리 오름차순, 인기도 내림차순)으로 limit 개 조회
+	 * - 입력이 짧을수록 허용 거리를 줄임 (key 2글자 이하: 교정 안 함, 5글자 이하: 1, 그 이상: maxEditDistance)
+	 * - 입력과 같은 검색어가 있으면 거리 0으로 가장 앞에 포함
+	 */
+	public List<Correction> lookup(String input, int limit) {
+		String key = toKey(input);
+		int maxDistance = Math.min(maxEditDistance, key.length() <= 2 ? 0 : key.length() <= 5 ? 1 : 2);
+		if (key.isEmpty() || words.length == 0) {
+			return List.of();
+		}
+
+		Set<Integer> visited = new HashSet<>();
+		List<Correction> corrections = new ArrayList<>();
+
+		for (String delete : generateDeletes(key, maxDistance, prefixLength)) {
+			int hash = hash(delete);
+			for (int i = lowerBound((long)hash << 32); i < deletes.length && (int)(deletes[i] >>> 32) == hash; i++) {
+				int id = (int)deletes[i];
+				if (!visited.add(id) || Math.abs(keys[id].length() - key.length()) > maxDistance) {
+					continue;
+				}
+
+				int distance = distance(key, keys[id], maxDistance);
+				if (distance <= maxDistance) {
+					corrections.add(new Correction(words[id], distance, counts[id]));
+				}
+			}
+		}
+
+		corrections.sort(Comparator.comparingInt(Correction::distance)
+			.thenComparing(Comparator.comparingLong(Correction::count).reversed()));
+		return corrections.size() > limit ? List.copyOf(corrections.subList(0, limit)) : corrections;
+	}
+
+	public int size() {
+		return words.length;
+	}
+
+	/**
+	 * 교정 결과
+	 * @param word 교정된 검색어
+	 * @param distance 입력값과의 편집 거리 (QWERTY key 기준)
+	 * @param count 인기도
+	 */
+	public record Correction(String word, int distance, long count) {
+	}
+
+	static String toKey(String word) {
+		String trimmed = word.trim();
+		return containsHangul(trimmed)
+			? PrefixConverter.convertToQwertyInput(trimmed)
+			: trimmed.toLowerCase(Locale.ROOT);
+	}
+
+	// key 앞 prefixLength 글자에서 0 ~ maxDistance 글자를 지운 문자열 (자기 자신 포함)
+	private static Set<String> generateDeletes(String key, int maxDistance, int prefixLength) {
+		Set<String> result = new HashSet<>();
+		String prefix = key.length() > prefixLength ? key.substring(0, prefixLength) : key;
+		result.add(prefix);
+
+		List<String> frontier = List.of(prefix);
+		for (int depth = 0; depth < maxDistance; depth++) {
+			List<String> next = new ArrayList<>();
+			for (String word : frontier) {
+				for (int i = 0; i < word.length(); i++) {
+					String delete = word.substring(0, i) + word.substring(i + 1);
+					if (result.add(delete)) {
+						next.add(delete);
+					}
+				}
+			}
+			frontier = next;
+		}
+		return result;
+	}
+
+	// Damerau-Levenshtein(인접 문자 교환 포함, OSA), maxDistance를 넘으면 maxDistance + 1 반환
+	static int distance(String a, String b, int maxDistance) {
+		int n = a.length();
+		int m = b.length();
+		int[] prevPrev = new int[m + 1];
+		int[] prev = new int[m + 1];
+		int[] current = new int[m + 1];
+
+		for (int j = 0; j <= m; j++) {
+			prev[j] = j;
+		}
+
+		for (int i = 1; i <= n; i++) {
+			current[0] = i;
+			int rowMin = current[0];
+			for (int j = 1; j <= m; j++) {
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				int value = Math.min(Math.min(prev[j] + 1, current[j - 1] + 1), prev[j - 1] + cost);
+				if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+					value = Math.min(value, prevPrev[j - 2] + 1);
+				}
+				current[j] = value;
+				rowMin = Math.min(rowMin, value);
+			}
+			if (rowMin > maxDistance) {
+				return maxDistance + 1;
+			}
+
+			int[] recycled = prevPrev;
+			prevPrev = prev;
+			prev = current;
+			current = recycled;
+		}
+		return Math.min(prev[m], maxDistance + 1);
+	}
+
+	private static boolean containsHangul(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if ((ch >= 0xAC00 && ch <= 0xD7A3) || (ch >= 0x3131 && ch <= 0x318E)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int hash(String value) {
+		int hash = 0x811C9DC5;
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * 0x01000193;
+		}
+		return hash;
+	}
+
+	private int lowerBound(long target) {
+		int low = 0;
+		int high = deletes.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (deletes[mid] < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
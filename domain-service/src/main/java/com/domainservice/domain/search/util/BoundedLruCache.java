@@ -0,0 +1,53 @@
+package com.domainservice.domain.search.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 최대 크기가 정해진 로컬 LRU 캐시
+ * - access-ordered LinkedHashMap: 조회/갱신한 항목은 맨 뒤로 이동하고, 최대 크기를 넘으면 가장 오래 쓰지 않은 항목 1개를 바로 제거
+ *   (넘칠 때마다 전체를 정렬하지 않으므로 추가/제거 모두 O(1))
+ * - 만료 시간은 값에 담아서 호출하는 쪽이 판단 (만료된 항목도 쓰이지 않으면 LRU 순서로 밀려나서 제거됨)
+ * - 모든 연산은 캐시 단위 lock으로 동기화, compute 함수 안에서 오래 걸리는 작업(조회 등)은 하지 않아야 함
+ */
+public class BoundedLruCache<K, V> {
+
+	private final Map<K, V> entries;
+
+	public BoundedLruCache(int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+		}
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, value);
+	}
+
+	public synchronized V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		return entries.compute(key, remappingFunction);
+	}
+
+	public synchronized V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		return entries.computeIfPresent(key, remappingFunction);
+	}
+
+	public synchronized boolean remove(K key, V value) {
+		return entries.remove(key, value);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+}
@@ -17,6 +17,14 @@ public final class TimeUtils {
 		return LocalDateTime.parse(dateStr, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
 	}
 
+	public static String convertDateTimeToMinuteKey(LocalDateTime dateTime) {
+		return dateTime.format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+	}
+
+	public static LocalDateTime convertFromMinuteKeyToDateTime(String minuteKey) {
+		return LocalDateTime.parse(minuteKey, DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+	}
+
 	public static String getCurrentDateForRedisKey() {
 		return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ":";
 	}
@@ -0,0 +1,35 @@
+-- KEYS[1] : 버킷 인덱스 ZSET 키 (member: yyyyMMddHHmm, score: yyyyMMddHHmm)
+-- ARGV[1] : 버킷 해시 키 prefix
+-- ARGV[2] : drain 대상 최대 분(yyyyMMddHHmm, 포함)
+-- return  : [minute1, member1, count1, minute1, member2, count2, ...]
+
+local indexKey   = KEYS[1]
+local prefix     = ARGV[1]
+local maxMinute  = ARGV[2]
+
+local result = {}
+
+-- 1) 인덱스에서 drain 대상 버킷 목록 조회 (키 SCAN 없이 버킷 수만큼만 접근)
+local minutes = redis.call('ZRANGEBYSCORE', indexKey, '-inf', maxMinute)
+
+for _, minute in ipairs(minutes) do
+    local bucketKey = prefix .. minute
+
+    -- 2) 버킷(검색어 -> count) 읽기
+    local entries = redis.call('HGETALL', bucketKey)
+    for i = 1, #entries, 2 do
+        result[#result + 1] = minute
+        result[#result + 1] = entries[i]
+        result[#result + 1] = entries[i + 1]
+    end
+
+    -- 3) 읽은 버킷 제거 (읽기와 삭제가 같은 스크립트 안에서 원자적으로 수행됨)
+    redis.call('DEL', bucketKey)
+end
+
+-- 4) 인덱스 회전: drain한 버킷 제거
+if #minutes > 0 then
+    redis.call('ZREMRANGEBYSCORE', indexKey, '-inf', maxMinute)
+end
+
+return result
@@ -0,0 +1,14 @@
+-- KEYS    : 검색어별 고유 검색자 HyperLogLog 키 목록
+-- return  : KEYS 순서대로 [count1, count2, ...]
+
+local result = {}
+
+for i, key in ipairs(KEYS) do
+    -- 1) 고유 검색자 수 추정 (키가 없으면 0)
+    result[i] = redis.call('PFCOUNT', key)
+
+    -- 2) 집계한 HLL 제거 (조회와 삭제가 원자적으로 수행되어 그 사이 PFADD가 유실되지 않음)
+    redis.call('DEL', key)
+end
+
+return result
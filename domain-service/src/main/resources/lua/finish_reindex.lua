@@ -0,0 +1,12 @@
+-- KEYS[1] : 재색인 active key (값은 재색인 중인 새 인덱스 이름)
+-- KEYS[2] : 재색인 중 변경된 상품 id SET
+-- ARGV[1] : 종료하려는 재색인의 새 인덱스 이름
+-- return  : 종료했으면 1, 다른 재색인이 active key를 가지고 있으면 0
+-- lock ttl이 지나 다른 재색인이 시작된 경우 그 재색인의 lock과 변경 기록을 지우지 않도록 값 비교 후 삭제
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1], KEYS[2])
+return 1
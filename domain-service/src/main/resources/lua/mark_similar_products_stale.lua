@@ -0,0 +1,18 @@
+-- KEYS    : 유사 상품 목록 키 목록 ("{계산 시각(ms)}:{id},{id},...")
+-- return  : stale로 표시한 목록 수
+-- 목록은 그대로 두고 계산 시각만 0으로 바꿔서 다음 조회 때 백그라운드에서 다시 계산되도록 함 (남은 ttl 유지)
+
+local marked = 0
+
+for _, key in ipairs(KEYS) do
+    local value = redis.call('GET', key)
+    if value then
+        local delimiter = string.find(value, ':', 1, true)
+        if delimiter then
+            redis.call('SET', key, '0' .. string.sub(value, delimiter), 'KEEPTTL')
+            marked = marked + 1
+        end
+    end
+end
+
+return marked
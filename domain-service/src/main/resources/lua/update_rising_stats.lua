@@ -0,0 +1,63 @@
+-- KEYS[1] : 급상승 검색어 ZSET 키 (member: 검색어, score: z-score)
+-- ARGV[1] : 검색어별 통계 해시 키 prefix ({prefix}{검색어} -> mean, var, interval)
+-- ARGV[2] : EWMA 가중치 alpha (0 < alpha <= 1)
+-- ARGV[3] : 현재 관측 구간 번호 (epochMillis / intervalMillis)
+-- ARGV[4] : 급상승으로 판단할 최소 z-score
+-- ARGV[5] : 급상승으로 판단할 최소 검색 횟수
+-- ARGV[6] : 통계 해시 만료 시간(초)
+-- ARGV[7..] : keyword1, count1, keyword2, count2, ...
+-- return  : 급상승 검색어 수
+
+local risingKey   = KEYS[1]
+local prefix      = ARGV[1]
+local alpha       = tonumber(ARGV[2])
+local interval    = tonumber(ARGV[3])
+local zThreshold  = tonumber(ARGV[4])
+local minCount    = tonumber(ARGV[5])
+local ttl         = tonumber(ARGV[6])
+local decay       = 1 - alpha
+
+-- 급상승 목록은 이번 구간 기준으로 새로 계산
+redis.call('DEL', risingKey)
+
+local risen = 0
+
+for i = 7, #ARGV, 2 do
+    local keyword  = ARGV[i]
+    local x        = tonumber(ARGV[i + 1])
+    local statsKey = prefix .. keyword
+
+    local state = redis.call('HMGET', statsKey, 'mean', 'var', 'interval')
+    local mean  = tonumber(state[1]) or 0
+    local var   = tonumber(state[2]) or 0
+    local last  = tonumber(state[3]) or (interval - 1)
+
+    -- 1) 검색되지 않았던 구간(missed개)은 관측값 0으로 간주하여 평균/분산 감쇠 (구간 수와 무관하게 O(1))
+    --    관측값 0을 k번 반영한 결과의 닫힌 형태 (d = 1 - alpha)
+    --    mean_k = d^k * mean
+    --    var_k  = d^k * (var + mean^2 * (1 - d^k))
+    local missed = math.max(interval - last - 1, 0)
+    if missed > 0 then
+        local factor = decay ^ missed
+        var  = factor * (var + mean * mean * (1 - factor))
+        mean = factor * mean
+    end
+
+    -- 2) 갱신 전 기준선으로 z-score 계산 (분산이 0인 경우를 위해 +1)
+    local z = (x - mean) / math.sqrt(var + 1)
+    if x >= minCount and z >= zThreshold then
+        redis.call('ZADD', risingKey, z, keyword)
+        risen = risen + 1
+    end
+
+    -- 3) 지수 가중 평균/분산 갱신 (검색어당 O(1))
+    local diff = x - mean
+    local incr = alpha * diff
+    mean = mean + incr
+    var  = (1 - alpha) * (var + diff * incr)
+
+    redis.call('HSET', statsKey, 'mean', tostring(mean), 'var', tostring(var), 'interval', tostring(interval))
+    redis.call('EXPIRE', statsKey, ttl)
+end
+
+return risen
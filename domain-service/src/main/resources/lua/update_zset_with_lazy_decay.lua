@@ -0,0 +1,63 @@
+-- KEYS[1] : ZSET 키
+-- KEYS[2] : 기준 시각(reference epoch) 저장 키
+-- ARGV[1] : tauMillis
+-- ARGV[2] : nowMillis
+-- ARGV[3] : epsilon
+-- ARGV[4] : 재정규화 임계 지수 (now - epoch) / tau
+-- ARGV[5..] : [member1, incScore1, member2, incScore2, ...]
+--
+-- 저장 점수 = 실제 점수 * exp((now - epoch) / tau)
+-- 모든 멤버가 같은 비율로 감쇠하므로 순위는 저장 점수만으로 결정되고,
+-- 매 배치마다 전체 멤버를 다시 쓰지 않고 이번 배치에 변경된 검색어만 ZINCRBY 한다.
+
+local zsetKey     = KEYS[1]
+local epochKey    = KEYS[2]
+local tauMillis   = tonumber(ARGV[1])
+local nowMillis   = tonumber(ARGV[2])
+local epsilon     = tonumber(ARGV[3])
+local maxExponent = tonumber(ARGV[4])
+
+-- 1) 기준 시각 조회 (없으면 현재 시각으로 초기화)
+local epoch = tonumber(redis.call('GET', epochKey))
+if epoch == nil then
+    epoch = nowMillis
+    redis.call('SET', epochKey, epoch)
+end
+
+local exponent = (nowMillis - epoch) / tauMillis
+
+-- 2) 가끔씩만 재정규화: 저장 점수가 너무 커지기 전에 기준 시각을 현재로 옮김
+if exponent > maxExponent then
+    local factor = math.exp(-exponent)
+    local members = redis.call('ZRANGE', zsetKey, 0, -1, 'WITHSCORES')
+    for i = 1, #members, 2 do
+        local decayed = tonumber(members[i + 1]) * factor
+        if decayed < epsilon then
+            redis.call('ZREM', zsetKey, members[i])
+        else
+            redis.call('ZADD', zsetKey, decayed, members[i])
+        end
+    end
+
+    epoch = nowMillis
+    redis.call('SET', epochKey, epoch)
+    exponent = 0
+end
+
+local growth = math.exp(exponent)
+
+-- 3) 이번 배치에서 변경된 검색어만 증가분 반영 (증가분도 기준 시각 스케일로 환산)
+local argLen = #ARGV
+local i = 5
+while i <= argLen do
+    local inc = tonumber(ARGV[i + 1])
+    if inc ~= nil and inc > 0 then
+        redis.call('ZINCRBY', zsetKey, inc * growth, ARGV[i])
+    end
+    i = i + 2
+end
+
+-- 4) 실제 점수가 epsilon 미만인 멤버 제거 (점수 범위 삭제 한 번으로 처리)
+redis.call('ZREMRANGEBYSCORE', zsetKey, '-inf', '(' .. (epsilon * growth))
+
+return 1
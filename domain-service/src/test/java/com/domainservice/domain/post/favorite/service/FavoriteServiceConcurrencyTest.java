@@ -17,12 +17,14 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.common.model.vo.ProductStatus;
 import com.common.model.vo.TradeStatus;
 import com.domainservice.domain.post.favorite.repository.FavoriteRepository;
+import com.domainservice.domain.post.kafka.handler.ProductPostCounterEventBuffer;
 import com.domainservice.domain.post.post.model.entity.ProductPost;
 import com.domainservice.domain.post.post.repository.ProductPostRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -42,6 +44,9 @@ class FavoriteServiceConcurrencyTest {
 	@Autowired
 	private ProductPostRepository productPostRepository;
 
+	@MockitoBean
+	private ProductPostCounterEventBuffer counterEventBuffer;
+
 	private ProductPost testProductPost;
 
 	@TestConfiguration
@@ -28,6 +28,7 @@ import com.domainservice.domain.post.favorite.model.dto.FavoriteProductResponse;
 import com.domainservice.domain.post.favorite.model.dto.FavoriteStatusResponse;
 import com.domainservice.domain.post.favorite.model.entity.FavoriteProduct;
 import com.domainservice.domain.post.favorite.repository.FavoriteRepository;
+import com.domainservice.domain.post.kafka.handler.ProductPostCounterEventBuffer;
 import com.domainservice.domain.post.post.exception.ProductPostException;
 import com.domainservice.domain.post.post.model.entity.ProductPost;
 import com.domainservice.domain.post.post.repository.ProductPostRepository;
@@ -44,6 +45,9 @@ class FavoriteServiceTest {
 	@Mock
 	private ProductPostRepository productPostRepository;
 
+	@Mock
+	private ProductPostCounterEventBuffer counterEventBuffer;
+
 	/**
 	 * 리플렉션을 사용하여 BaseEntity를 상속받은 엔티티의 id 필드(부모 필드)를 강제로 설정하는 유틸 메서드
 	 * @param entity ID를 설정할 엔티티 객체
@@ -92,6 +96,7 @@ class FavoriteServiceTest {
 
 		verify(productPostRepository).findById(productPostId);
 		verify(favoriteRepository).saveAndFlush(any(FavoriteProduct.class));
+		verify(counterEventBuffer).markChanged(productPostId);
 	}
 
 	@DisplayName("이미 찜한 상품을 다시 누르면 찜 목록에서 삭제된다.")
@@ -124,6 +129,7 @@ class FavoriteServiceTest {
 		assertThat(result.isFavorite()).isFalse();
 
 		verify(favoriteRepository).delete(favoriteProduct);
+		verify(counterEventBuffer).markChanged(productPostId);
 	}
 
 
@@ -0,0 +1,144 @@
+package com.domainservice.domain.post.kafka.handler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.domainservice.domain.post.post.repository.ProductPostRepository;
+import com.domainservice.domain.post.post.repository.ProductPostRepository.ProductPostCounters;
+
+/**
+ * 좋아요/조회수 카운터 이벤트 버퍼 테스트 (batch-size 2)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPostCounterEventBufferTest {
+
+	@Mock
+	private ProductPostRepository productPostRepository;
+
+	@Mock
+	private ProductPostEventProducer eventProducer;
+
+	private ProductPostCounterEventBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new ProductPostCounterEventBuffer(productPostRepository, eventProducer, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 변경되면 commit 후에만 발행 대상이 된다")
+	void markAfterCommit() {
+		given(productPostRepository.findCountersByIdIn(List.of("p1"))).willReturn(List.of(counters("p1", 1L)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		buffer.markChanged("p1");
+
+		buffer.flush();
+		then(productPostRepository).shouldHaveNoInteractions();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		buffer.flush();
+
+		then(eventProducer).should().sendCountersChangedEvent(new ProductPostCountersChangedEvent("p1", 3L, 7L, 1L));
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 rollback되면 아무것도 발행하지 않는다")
+	void nothingOnRollback() {
+		TransactionSynchronizationManager.initSynchronization();
+		buffer.markChanged("p1");
+
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		buffer.flush();
+
+		then(productPostRepository).shouldHaveNoInteractions();
+		then(eventProducer).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("모아둔 상품을 batch-size 개씩 나눠서 조회/발행한다")
+	void drainInBatches() {
+		Map<String, ProductPostCounters> rows = Map.of(
+			"p1", counters("p1", 1L), "p2", counters("p2", 1L), "p3", counters("p3", 1L));
+		List<List<String>> batches = new ArrayList<>();
+		given(productPostRepository.findCountersByIdIn(anyCollection())).willAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			batches.add(List.copyOf(ids));
+			return ids.stream().map(rows::get).toList();
+		});
+
+		buffer.markChanged("p1");
+		buffer.markChanged("p2");
+		buffer.markChanged("p3");
+		buffer.flush();
+
+		assertThat(batches).extracting(List::size).containsExactly(2, 1);
+		assertThat(batches.stream().flatMap(List::stream)).containsExactlyInAnyOrder("p1", "p2", "p3");
+		then(eventProducer).should(times(3)).sendCountersChangedEvent(any());
+	}
+
+	@Test
+	@DisplayName("카운터 조회에 실패하면 다음 주기에 같은 상품을 다시 발행한다")
+	void requeueWhenFindFails() {
+		given(productPostRepository.findCountersByIdIn(List.of("p1")))
+			.willThrow(new IllegalStateException("db down"))
+			.willReturn(List.of(counters("p1", 2L)));
+
+		buffer.markChanged("p1");
+		buffer.flush();
+		then(eventProducer).shouldHaveNoInteractions();
+
+		buffer.flush();
+		then(eventProducer).should().sendCountersChangedEvent(new ProductPostCountersChangedEvent("p1", 3L, 7L, 2L));
+	}
+
+	@Test
+	@DisplayName("이벤트 발행에 실패하면 다음 주기에 같은 상품을 다시 발행한다")
+	void requeueWhenSendFails() {
+		given(productPostRepository.findCountersByIdIn(List.of("p1"))).willReturn(List.of(counters("p1", 2L)));
+		ProductPostCountersChangedEvent event = new ProductPostCountersChangedEvent("p1", 3L, 7L, 2L);
+		willThrow(new IllegalStateException("kafka down")).willDoNothing()
+			.given(eventProducer).sendCountersChangedEvent(event);
+
+		buffer.markChanged("p1");
+		buffer.flush();
+		buffer.flush();
+
+		then(productPostRepository).should(times(2)).findCountersByIdIn(List.of("p1"));
+		then(eventProducer).should(times(2)).sendCountersChangedEvent(event);
+	}
+
+	private static ProductPostCounters counters(String id, Long counterVersion) {
+		ProductPostCounters counters = mock(ProductPostCounters.class);
+		given(counters.getId()).willReturn(id);
+		given(counters.getLikedCount()).willReturn(3);
+		given(counters.getViewCount()).willReturn(7);
+		given(counters.getCounterVersion()).willReturn(counterVersion);
+		return counters;
+	}
+}
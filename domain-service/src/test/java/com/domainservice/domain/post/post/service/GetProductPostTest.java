@@ -21,6 +21,7 @@ import com.domainservice.common.configuration.feign.client.UserFeignClient;
 import com.domainservice.common.configuration.feign.exception.UserClientException;
 import com.domainservice.domain.post.category.model.entity.Category;
 import com.domainservice.domain.post.category.repository.CategoryRepository;
+import com.domainservice.domain.post.kafka.handler.ProductPostCounterEventBuffer;
 import com.domainservice.domain.post.post.exception.ProductPostException;
 import com.domainservice.domain.post.post.model.dto.response.ProductPostDescription;
 import com.domainservice.domain.post.post.model.entity.ProductPost;
@@ -47,6 +48,9 @@ class GetProductPostTest {
 	@Mock
 	private RecentlyViewedService recentlyViewedService;
 
+	@Mock
+	private ProductPostCounterEventBuffer counterEventBuffer;
+
 	private static final int MAX_COUNT = 10;
 
 	private void setViewCount(ProductPost productPost, int viewCount) throws Exception {
@@ -0,0 +1,99 @@
+package com.domainservice.domain.search.api;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.domainservice.domain.search.service.SearchWordElasticService;
+import com.domainservice.domain.search.service.SearchWordRedisService;
+
+/**
+ * 검색어 저장 시 고유 검색자 중복 제거 기준(비로그인 사용자 IP) 테스트 (신뢰하는 proxy: 10.0.0.0/8)
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+
+	private static final String GATEWAY = "10.0.0.2";
+	private static final String CLIENT = "203.0.113.7";
+
+	@Mock
+	private SearchWordElasticService searchWordElasticService;
+
+	@Mock
+	private SearchWordRedisService searchWordRedisService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		SearchController controller = new SearchController(searchWordElasticService, searchWordRedisService,
+			new ClientIpResolver(List.of("10.0.0.0/8")));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	@DisplayName("gateway를 거친 요청은 X-Forwarded-For에서 gateway가 마지막에 추가한 IP를 사용한다 (클라이언트가 보낸 앞쪽 값은 무시)")
+	void lastHopAddedByGateway() throws Exception {
+		mockMvc.perform(saveSearchWord(GATEWAY).header("X-Forwarded-For", "1.1.1.1, " + CLIENT))
+			.andExpect(status().isCreated());
+
+		then(searchWordRedisService).should().saveSearchWord("노트북", null, CLIENT);
+	}
+
+	@Test
+	@DisplayName("같은 클라이언트가 X-Forwarded-For 앞쪽 값을 바꿔 보내도 같은 IP로 집계된다")
+	void spoofedHeaderKeepsSameKey() throws Exception {
+		mockMvc.perform(saveSearchWord(GATEWAY).header("X-Forwarded-For", "1.1.1.1, " + CLIENT));
+		mockMvc.perform(saveSearchWord(GATEWAY).header("X-Forwarded-For", "2.2.2.2, " + CLIENT));
+
+		then(searchWordRedisService).should(times(2)).saveSearchWord("노트북", null, CLIENT);
+	}
+
+	@Test
+	@DisplayName("신뢰하는 proxy가 여러 개면 proxy가 아닌 가장 오른쪽 IP를 사용한다")
+	void skipTrustedProxies() throws Exception {
+		mockMvc.perform(saveSearchWord(GATEWAY).header("X-Forwarded-For", CLIENT + ", 10.0.0.3"));
+
+		then(searchWordRedisService).should().saveSearchWord("노트북", null, CLIENT);
+	}
+
+	@Test
+	@DisplayName("신뢰하지 않는 상대가 직접 보낸 X-Forwarded-For는 무시하고 연결한 IP를 사용한다")
+	void ignoreHeaderFromUntrustedPeer() throws Exception {
+		mockMvc.perform(saveSearchWord(CLIENT).header("X-Forwarded-For", "1.1.1.1"));
+
+		then(searchWordRedisService).should().saveSearchWord("노트북", null, CLIENT);
+	}
+
+	@Test
+	@DisplayName("X-Forwarded-For가 없으면 연결한 IP를 사용한다")
+	void remoteAddrWithoutHeader() throws Exception {
+		mockMvc.perform(saveSearchWord(GATEWAY));
+
+		then(searchWordRedisService).should().saveSearchWord("노트북", null, GATEWAY);
+	}
+
+	private static MockHttpServletRequestBuilder saveSearchWord(String remoteAddr) {
+		return post("/api/searches")
+			.contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+			.content("노트북".getBytes(StandardCharsets.UTF_8))
+			.with(request -> {
+				request.setRemoteAddr(remoteAddr);
+				return request;
+			});
+	}
+}
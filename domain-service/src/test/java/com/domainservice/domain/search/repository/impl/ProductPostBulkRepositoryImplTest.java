@@ -0,0 +1,121 @@
+package com.domainservice.domain.search.repository.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository.BulkWriteResult;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateOperation;
+import co.elastic.clients.util.ObjectBuilder;
+
+/**
+ * product-posts bulk 쓰기 테스트 (카운터 부분 업데이트 요청 형태, 항목별 결과 분류)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPostBulkRepositoryImplTest {
+
+	@Mock
+	private ElasticsearchClient elasticsearchClient;
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Captor
+	private ArgumentCaptor<Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>>> request;
+
+	private ProductPostBulkRepositoryImpl bulkRepository;
+
+	@BeforeEach
+	void setUp() {
+		bulkRepository = new ProductPostBulkRepositoryImpl(elasticsearchClient, elasticsearchOperations);
+
+		given(elasticsearchOperations.getIndexCoordinatesFor(ProductPostDocumentEntity.class))
+			.willReturn(IndexCoordinates.of("product-posts"));
+	}
+
+	@Test
+	@DisplayName("없는 문서에 대한 카운터 update/delete의 404는 성공, 429는 재시도, 그 외 오류는 실패로 분류한다")
+	void classifyItems() throws IOException {
+		given(elasticsearchClient.bulk(request.capture())).willReturn(BulkResponse.of(response -> response
+			.errors(true)
+			.took(1)
+			.items(List.of(
+				item(OperationType.Update, "p1", 404),
+				item(OperationType.Update, "p2", 429),
+				item(OperationType.Update, "p3", 400),
+				item(OperationType.Delete, "p4", 404)
+			))));
+
+		BulkWriteResult result = bulkRepository.bulkWrite(List.of(), List.of(
+			new ProductPostCountersChangedEvent("p1", 1L, 1L, 1L),
+			new ProductPostCountersChangedEvent("p2", 1L, 1L, 1L),
+			new ProductPostCountersChangedEvent("p3", 1L, 1L, 1L)
+		), List.of("p4"));
+
+		assertThat(result.succeededIds()).isEqualTo(Set.of("p1", "p4"));
+		assertThat(result.retryableIds()).isEqualTo(Set.of("p2"));
+		assertThat(result.failedIds()).isEqualTo(Set.of("p3"));
+	}
+
+	@Test
+	@DisplayName("카운터 이벤트는 counter_version을 비교하는 script update로 보내고, 값이 없는 이벤트는 보내지 않는다")
+	void scriptedCounterUpdate() throws IOException {
+		given(elasticsearchClient.bulk(request.capture())).willReturn(BulkResponse.of(response -> response
+			.errors(false)
+			.took(1)
+			.items(List.of())));
+
+		bulkRepository.bulkWrite(List.of(), List.of(
+			new ProductPostCountersChangedEvent("p1", 5L, null, 9L),
+			new ProductPostCountersChangedEvent("p2", null, null, 3L)
+		), List.of());
+
+		List<BulkOperation> operations = request.getValue().apply(new BulkRequest.Builder()).build().operations();
+		assertThat(operations).hasSize(1);
+
+		UpdateOperation<?, ?> update = operations.getFirst().update();
+		assertThat(update.id()).isEqualTo("p1");
+		assertThat(update.retryOnConflict()).isEqualTo(3);
+
+		Script script = update.action().script();
+		assertThat(script.source()).contains("ctx._source.counter_version >= params.counter_version");
+		assertThat(script.params()).containsOnlyKeys("liked_count", "counter_version");
+		assertThat(script.params().get("counter_version").to(Long.class)).isEqualTo(9L);
+		assertThat(update.action().doc()).isNull();
+	}
+
+	private static BulkResponseItem item(OperationType operationType, String id, int status) {
+		return BulkResponseItem.of(item -> item
+			.operationType(operationType)
+			.index("product-posts")
+			.id(id)
+			.status(status)
+			.error(ErrorCause.of(error -> error.type("error").reason("status " + status))));
+	}
+}
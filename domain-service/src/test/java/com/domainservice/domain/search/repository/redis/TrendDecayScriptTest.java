@@ -0,0 +1,140 @@
+package com.domainservice.domain.search.repository.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.domainservice.domain.search.configuration.RedisLuaConfiguration;
+
+/**
+ * 실시간 트렌드 ZSET 감쇠 스크립트 결과 비교 (Docker가 없으면 건너뜀, 실행 시간 비교는 jmh의 TrendDecayBenchmark)
+ * - eager: update_zset_with_decay.lua (배치마다 전체 멤버 재계산)
+ * - lazy : update_zset_with_lazy_decay.lua (변경된 검색어만 갱신, 점수는 기준 시각 스케일로 저장)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TrendDecayScriptTest {
+
+	private static final String EAGER_KEY = "search:test:eager";
+	private static final String LAZY_KEY = "search:test:lazy";
+	private static final String LAZY_EPOCH_KEY = LAZY_KEY + ":epoch";
+
+	private static final double TAU_MILLIS = 20 * 60 * 1000.0;
+	private static final long INTERVAL_MILLIS = 5 * 60 * 1000L;
+	private static final double EPSILON = 0.01;
+	private static final int BATCH_COUNT = 40;
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine"))
+		.withExposedPorts(6379);
+
+	static LettuceConnectionFactory connectionFactory;
+	static StringRedisTemplate redisTemplate;
+
+	private final RedisLuaConfiguration redisLuaConfiguration = new RedisLuaConfiguration();
+	private final RedisScript<Long> updateZSetWithDecayScript = redisLuaConfiguration.updateZSetWithDecayScript();
+	private final RedisScript<Long> updateZSetWithLazyDecayScript = redisLuaConfiguration.updateZSetWithLazyDecayScript();
+
+	@BeforeAll
+	static void setUpConnection() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void tearDownConnection() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.delete(List.of(EAGER_KEY, LAZY_KEY, LAZY_EPOCH_KEY));
+	}
+
+	@Test
+	@DisplayName("lazy 감쇠는 기준 시각 이동(재정규화)을 거쳐도 eager 감쇠와 같은 멤버, 순위, 실제 점수를 유지한다")
+	void lazyMatchesEager() {
+		Random random = new Random(11L);
+		long now = 1_700_000_000_000L;
+
+		for (int batch = 0; batch < BATCH_COUNT; batch++) {
+			if (batch > 0) {
+				now += INTERVAL_MILLIS;
+			}
+			List<String> increments = randomIncrements(random, 500, 50);
+
+			List<String> eagerArgs = new ArrayList<>(List.of(
+				String.valueOf(TAU_MILLIS), String.valueOf(INTERVAL_MILLIS), String.valueOf(EPSILON)));
+			eagerArgs.addAll(increments);
+			redisTemplate.execute(updateZSetWithDecayScript, List.of(EAGER_KEY), eagerArgs.toArray());
+
+			// 재정규화 임계 지수 1.0 → 지수가 배치마다 0.25씩 커지므로 5배치마다 기준 시각 이동
+			List<String> lazyArgs = new ArrayList<>(List.of(
+				String.valueOf(TAU_MILLIS), String.valueOf(now), String.valueOf(EPSILON), "1.0"));
+			lazyArgs.addAll(increments);
+			redisTemplate.execute(updateZSetWithLazyDecayScript, List.of(LAZY_KEY, LAZY_EPOCH_KEY), lazyArgs.toArray());
+		}
+
+		long epoch = Long.parseLong(redisTemplate.opsForValue().get(LAZY_EPOCH_KEY));
+		Map<String, Double> eager = scores(EAGER_KEY, 1.0);
+		Map<String, Double> lazy = scores(LAZY_KEY, Math.exp(-(now - epoch) / TAU_MILLIS));
+
+		assertThat(epoch).isGreaterThan(1_700_000_000_000L);
+		assertThat(lazy.keySet()).isEqualTo(eager.keySet());
+		eager.forEach((member, score) -> assertThat(lazy.get(member)).as(member).isCloseTo(score, within(EPSILON)));
+		assertThat(redisTemplate.opsForZSet().reverseRange(LAZY_KEY, 0, 9))
+			.containsExactlyElementsOf(redisTemplate.opsForZSet().reverseRange(EAGER_KEY, 0, 9));
+	}
+
+	@Test
+	@DisplayName("lazy 감쇠는 실제 점수가 epsilon 아래로 내려간 멤버를 제거한다")
+	void lazyRemovesBelowEpsilon() {
+		long now = 1_700_000_000_000L;
+		redisTemplate.execute(updateZSetWithLazyDecayScript, List.of(LAZY_KEY, LAZY_EPOCH_KEY),
+			String.valueOf(TAU_MILLIS), String.valueOf(now), String.valueOf(EPSILON), "20.0", "old", "1", "hot", "1000");
+
+		// 10 tau 뒤: old = 1 * e^-10 < epsilon, hot = 1000 * e^-10 ≈ 0.045, new = 1
+		now += (long)(10 * TAU_MILLIS);
+		redisTemplate.execute(updateZSetWithLazyDecayScript, List.of(LAZY_KEY, LAZY_EPOCH_KEY),
+			String.valueOf(TAU_MILLIS), String.valueOf(now), String.valueOf(EPSILON), "20.0", "new", "1");
+
+		assertThat(redisTemplate.opsForZSet().reverseRange(LAZY_KEY, 0, -1)).containsExactly("new", "hot");
+	}
+
+	private static List<String> randomIncrements(Random random, int memberCount, int changedCount) {
+		List<String> args = new ArrayList<>();
+		for (int i = 0; i < changedCount; i++) {
+			args.add("keyword-" + random.nextInt(memberCount));
+			args.add(String.valueOf(1 + random.nextInt(50)));
+		}
+		return args;
+	}
+
+	// 저장 점수 * scale = 실제 점수
+	private static Map<String, Double> scores(String key, double scale) {
+		Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+		Map<String, Double> scores = new HashMap<>();
+		tuples.forEach(tuple -> scores.put(tuple.getValue(), tuple.getScore() * scale));
+		return scores;
+	}
+}
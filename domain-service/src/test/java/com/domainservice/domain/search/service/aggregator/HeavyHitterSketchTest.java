@@ -0,0 +1,66 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterSketchTest {
+
+	@Test
+	@DisplayName("Count-Min Sketch는 실제 빈도 이상으로 추정하고, 병합하면 셀 단위로 합산된다")
+	void countMinSketchEstimateAndMerge() {
+		CountMinSketch first = new CountMinSketch(4, 256);
+		CountMinSketch second = new CountMinSketch(4, 256);
+
+		for (int i = 0; i < 500; i++) {
+			first.add("long-tail-" + i, 1);
+		}
+		first.add("아이폰", 100);
+		second.add("아이폰", 50);
+
+		assertTrue(first.estimate("아이폰") >= 100);
+
+		first.merge(second);
+		assertTrue(first.estimate("아이폰") >= 150);
+
+		first.halve();
+		assertTrue(first.estimate("아이폰") >= 75);
+	}
+
+	@Test
+	@DisplayName("Count-Min Sketch 크기는 epsilon, delta로 계산하고 범위를 벗어난 값은 거부한다")
+	void countMinSketchDimensions() {
+		assertEquals(2719, CountMinSketch.widthFor(0.001));
+		assertEquals(4, CountMinSketch.depthFor(0.02));
+		assertEquals(5, CountMinSketch.depthFor(0.01));
+
+		assertThrows(IllegalArgumentException.class, () -> CountMinSketch.widthFor(0));
+		assertThrows(IllegalArgumentException.class, () -> CountMinSketch.depthFor(1));
+	}
+
+	@Test
+	@DisplayName("Space-Saving은 capacity 개만 추적하고, 추정 빈도가 최소 카운터 이하인 신규 검색어는 받지 않는다")
+	void spaceSavingKeepsHeavyHitters() {
+		SpaceSavingTopK topK = new SpaceSavingTopK(3);
+
+		assertTrue(topK.offer("아이폰", 50, 50));
+		assertTrue(topK.offer("갤럭시", 30, 30));
+		assertTrue(topK.offer("맥북", 20, 20));
+
+		// 최소 카운터(20) 이하 추정치 → 거절
+		assertFalse(topK.offer("오타검색어", 1, 1));
+		assertFalse(topK.contains("오타검색어"));
+
+		// 최소 카운터보다 큰 추정치 → 최소 카운터 교체
+		assertTrue(topK.offer("아이패드", 25, 25));
+		assertFalse(topK.contains("맥북"));
+		assertEquals(3, topK.size());
+
+		List<SpaceSavingTopK.Counter> top = topK.top(3);
+		assertEquals("아이폰", top.get(0).key());
+		assertEquals(45, top.stream().filter(c -> c.key().equals("아이패드")).findFirst().orElseThrow().count());
+	}
+}
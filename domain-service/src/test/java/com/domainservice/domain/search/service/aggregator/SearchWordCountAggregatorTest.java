@@ -0,0 +1,143 @@
+package com.domainservice.domain.search.service.aggregator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.domainservice.domain.search.repository.redis.HeavyHitterRedisRepository;
+import com.domainservice.domain.search.repository.redis.PopularSearchWordRedisRepository;
+
+/**
+ * 검색어 카운트 집계기 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchWordCountAggregatorTest {
+
+	private static final int THREADS = 8;
+	private static final int INCREMENTS_PER_THREAD = 20_000;
+	private static final int KEYWORDS = 40;
+
+	@Mock
+	private PopularSearchWordRedisRepository popularSearchWordRedisRepository;
+
+	@Mock
+	private HeavyHitterTracker heavyHitterTracker;
+
+	@Mock
+	private HeavyHitterRedisRepository heavyHitterRedisRepository;
+
+	@Test
+	@DisplayName("검색 요청과 flush가 동시에 실행되어도 모든 카운트가 빠짐없이 한 번씩 반영된다")
+	void concurrentIncrementAndFlush() throws Exception {
+		Map<String, Long> flushed = new ConcurrentHashMap<>();
+		given(heavyHitterTracker.offer(anyMap())).willAnswer(invocation -> invocation.getArgument(0));
+		willAnswer(invocation -> {
+			Map<String, Long> counts = invocation.getArgument(0);
+			counts.forEach((keyword, count) -> flushed.merge(keyword, count, Long::sum));
+			return null;
+		}).given(popularSearchWordRedisRepository).incrementSearchCounts(anyMap(), anyMap(), any());
+
+		SearchWordCountAggregator aggregator =
+			new SearchWordCountAggregator(popularSearchWordRedisRepository, heavyHitterTracker);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		AtomicBoolean running = new AtomicBoolean(true);
+
+		// 검색어마다 사용 구간이 달라서 flush 중에 카운트가 0이 된 adder가 맵에서 빠지는 경로도 함께 실행됨
+		for (int t = 0; t < THREADS; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+					aggregator.increment("keyword-" + (i * KEYWORDS / INCREMENTS_PER_THREAD), null);
+				}
+				done.countDown();
+			});
+		}
+		executor.submit(() -> {
+			while (running.get()) {
+				aggregator.flush();
+			}
+		});
+
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		running.set(false);
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		// 마지막 주기에 맵에서 뺀 adder의 늦은 증가분까지 회수
+		aggregator.flush();
+		aggregator.flush();
+
+		assertThat(flushed.values().stream().mapToLong(Long::longValue).sum())
+			.isEqualTo((long)THREADS * INCREMENTS_PER_THREAD);
+		assertThat(flushed).hasSize(KEYWORDS)
+			.allSatisfy((keyword, count) -> assertThat(count).isEqualTo((long)THREADS * INCREMENTS_PER_THREAD / KEYWORDS));
+	}
+
+	@Test
+	@DisplayName("Redis 반영에 실패한 후보는 다음 flush에 그대로 재전송하고 sketch에는 다시 더하지 않는다")
+	void retryFailedCandidatesWithoutRecounting() {
+		HeavyHitterTracker tracker = new HeavyHitterTracker(heavyHitterRedisRepository, 1000, 300_000L, 0.001, 0.02);
+		SearchWordCountAggregator aggregator = new SearchWordCountAggregator(popularSearchWordRedisRepository, tracker);
+		willThrow(new IllegalStateException("redis down"))
+			.willDoNothing()
+			.given(popularSearchWordRedisRepository).incrementSearchCounts(anyMap(), anyMap(), any());
+		given(heavyHitterRedisRepository.findSketch(anyLong(), anyInt()))
+			.willAnswer(invocation -> new long[invocation.<Integer>getArgument(1)]);
+
+		for (int i = 0; i < 3; i++) {
+			aggregator.increment("아이폰", null);
+		}
+		aggregator.flush();		// 실패 → 재시도 맵에 보관
+		aggregator.flush();		// 새 카운트 없이 재전송
+
+		then(popularSearchWordRedisRepository).should(times(2))
+			.incrementSearchCounts(eq(Map.of("아이폰", 3L)), anyMap(), any());
+
+		// 이번 주기 sketch 증가분: 재시도 전후 합쳐서 3번만 반영
+		tracker.rotate();
+		ArgumentCaptor<long[]> cells = ArgumentCaptor.forClass(long[].class);
+		then(heavyHitterRedisRepository).should().mergeSketch(anyLong(), cells.capture());
+		CountMinSketch pending = CountMinSketch.fromCells(CountMinSketch.depthFor(0.02), CountMinSketch.widthFor(0.001),
+			cells.getValue());
+		assertThat(pending.estimate("아이폰")).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("같은 검색자의 반복 검색은 고유 검색자 순위를 사용할 때만 한 번으로 카운트한다")
+	void dedupeOnlyForUniqueSearcherRanking() {
+		given(heavyHitterTracker.offer(anyMap())).willAnswer(invocation -> invocation.getArgument(0));
+		SearchWordCountAggregator aggregator =
+			new SearchWordCountAggregator(popularSearchWordRedisRepository, heavyHitterTracker);
+		ReflectionTestUtils.setField(aggregator, "dedupeWindowMillis", 60_000L);
+
+		aggregator.increment("아이폰", "127.0.0.1");
+		aggregator.increment("아이폰", "127.0.0.1");
+		aggregator.flush();
+
+		ReflectionTestUtils.setField(aggregator, "uniqueSearcherRankingEnabled", true);
+		aggregator.increment("갤럭시", "127.0.0.1");
+		aggregator.increment("갤럭시", "127.0.0.1");
+		aggregator.flush();
+
+		then(popularSearchWordRedisRepository).should().incrementSearchCounts(eq(Map.of("아이폰", 2L)), anyMap(), any());
+		then(popularSearchWordRedisRepository).should().incrementSearchCounts(eq(Map.of("갤럭시", 1L)), anyMap(), any());
+	}
+}
@@ -0,0 +1,76 @@
+package com.domainservice.domain.search.service.analyzer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EnglishLexiconTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("스냅샷에 저장한 단어만 사전에 있는 단어로 판단한다 (대소문자 무시)")
+	void containsWord() throws IOException {
+		EnglishLexicon lexicon = write(List.of("phone", "iPhone", "apple", "ice cream", "café"));
+
+		assertTrue(lexicon.contains("phone"));
+		assertTrue(lexicon.contains("iphone"));
+		assertTrue(lexicon.contains("APPLE"));
+		assertFalse(lexicon.contains("phon"));
+		assertFalse(lexicon.contains("dkssud"));
+		assertFalse(lexicon.contains("ice cream"));	// 영문자가 아닌 문자가 있는 lemma는 저장하지 않음
+		assertFalse(lexicon.contains("café"));
+		assertEquals(3, lexicon.size());
+	}
+
+	@Test
+	@DisplayName("저장한 단어의 모든 prefix는 bloom filter에서 항상 true다")
+	void prefixWithoutFalseNegative() throws IOException {
+		List<String> words = List.of("galaxy", "keyboard", "monitor", "laptop", "tablet");
+		EnglishLexicon lexicon = write(words);
+
+		for (String word : words) {
+			for (int i = 1; i <= word.length(); i++) {
+				assertTrue(lexicon.mightBePrefix(word.substring(0, i)), word.substring(0, i));
+			}
+		}
+		assertFalse(lexicon.mightBePrefix("한글"));
+		assertFalse(lexicon.mightBePrefix(""));
+	}
+
+	@Test
+	@DisplayName("빈 사전은 모든 입력을 영단어가 아닌 것으로 판단한다")
+	void emptyLexicon() {
+		assertFalse(EnglishLexicon.empty().contains("phone"));
+		assertFalse(EnglishLexicon.empty().mightBePrefix("ph"));
+	}
+
+	@Test
+	@DisplayName("잘리거나 헤더가 깨진 스냅샷은 열 때 거부한다")
+	void rejectCorruptSnapshot() throws IOException {
+		Path path = tempDir.resolve("lexicon.bin");
+		EnglishLexicon.write(List.of("phone", "apple"), path);
+		byte[] bytes = Files.readAllBytes(path);
+
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+		assertThrows(IllegalArgumentException.class, () -> EnglishLexicon.open(path));
+
+		Files.write(path, new byte[] {1, 2, 3});
+		assertThrows(IllegalArgumentException.class, () -> EnglishLexicon.open(path));
+	}
+
+	private EnglishLexicon write(List<String> words) throws IOException {
+		Path path = tempDir.resolve("lexicon.bin");
+		EnglishLexicon.write(words, path);
+		return EnglishLexicon.open(path);
+	}
+}
@@ -0,0 +1,117 @@
+package com.domainservice.domain.search.service.analyzer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.dictionary.Dictionary;
+
+@ExtendWith(MockitoExtension.class)
+class PrefixAnalyzerTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	ObjectProvider<Dictionary> dictionaryProvider;
+
+	@Mock
+	Dictionary dictionary;
+
+	@Test
+	@DisplayName("스냅샷이 있으면 WordNet 사전을 로드하지 않는다")
+	void openExistingSnapshot() throws IOException {
+		Path path = tempDir.resolve("lexicon.bin");
+		EnglishLexicon.write(List.of("keyboard"), path);
+
+		PrefixAnalyzer analyzer = new PrefixAnalyzer(dictionaryProvider, path);
+
+		assertThat(analyzer.existsInDictionary("keyboard")).isTrue();
+		then(dictionaryProvider).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("손상된 스냅샷은 WordNet에서 다시 만든다")
+	void rebuildCorruptSnapshot() throws IOException, JWNLException {
+		Path path = tempDir.resolve("lexicon.bin");
+		Files.write(path, new byte[] {1, 2, 3});
+		givenDictionary(List.of("keyboard", "monitor"));
+
+		PrefixAnalyzer analyzer = new PrefixAnalyzer(dictionaryProvider, path);
+
+		assertThat(analyzer.existsInDictionary("monitor")).isTrue();
+		assertThat(analyzer.existsInDictionary("dkssud")).isFalse();
+		assertThat(EnglishLexicon.open(path).size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("스냅샷을 다시 만들 수 없으면 빈 사전으로 시작하지 않고 기동에 실패한다")
+	void failWhenRebuildFails() throws IOException, JWNLException {
+		Path path = tempDir.resolve("lexicon.bin");
+		Files.write(path, new byte[] {1, 2, 3});
+		given(dictionaryProvider.getObject()).willReturn(dictionary);
+		given(dictionary.getIndexWordIterator(any())).willThrow(new JWNLException("dictionary not found"));
+
+		assertThatThrownBy(() -> new PrefixAnalyzer(dictionaryProvider, path))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("한글 자판 입력과 겹치는 짧은 입력은 영단어로 보지 않는다")
+	void ignoreShortInput() throws IOException {
+		Path path = tempDir.resolve("lexicon.bin");
+		EnglishLexicon.write(List.of("rk", "keyboard"), path);
+
+		PrefixAnalyzer analyzer = new PrefixAnalyzer(dictionaryProvider, path);
+
+		assertThat(analyzer.existsInDictionary("rk")).isFalse();
+		assertThat(analyzer.existsInDictionary(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("입력 중인 영단어 prefix는 영어 입력으로 보고, 짧은 prefix와 한글 자판 입력은 제외한다")
+	void detectEnglishPrefix() throws IOException {
+		Path path = tempDir.resolve("lexicon.bin");
+		EnglishLexicon.write(List.of("keyboard", "monitor"), path);
+
+		PrefixAnalyzer analyzer = new PrefixAnalyzer(dictionaryProvider, path);
+
+		assertThat(analyzer.isLikelyEnglishPrefix("keyb")).isTrue();
+		assertThat(analyzer.isEnglishInput("monit")).isTrue();
+		assertThat(analyzer.isEnglishInput("keyboard")).isTrue();
+		assertThat(analyzer.isLikelyEnglishPrefix("key")).isFalse();
+		assertThat(analyzer.isEnglishInput("dkssud")).isFalse();
+		assertThat(analyzer.isEnglishInput(null)).isFalse();
+	}
+
+	private void givenDictionary(List<String> nouns) throws JWNLException {
+		List<IndexWord> indexWords = nouns.stream()
+			.map(this::indexWord)
+			.toList();
+		given(dictionaryProvider.getObject()).willReturn(dictionary);
+		given(dictionary.getIndexWordIterator(POS.NOUN)).willReturn(indexWords.iterator());
+		given(dictionary.getIndexWordIterator(POS.ADVERB)).willReturn(Collections.emptyIterator());
+	}
+
+	private IndexWord indexWord(String lemma) {
+		IndexWord indexWord = mock(IndexWord.class);
+		given(indexWord.getLemma()).willReturn(lemma);
+		return indexWord;
+	}
+}
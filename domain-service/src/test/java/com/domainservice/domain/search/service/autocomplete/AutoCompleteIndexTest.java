@@ -0,0 +1,137 @@
+package com.domainservice.domain.search.service.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.service.converter.PrefixConverter;
+
+class AutoCompleteIndexTest {
+
+	private final AutoCompleteIndex index = AutoCompleteIndex.build(Map.of(
+		"아이폰", 100L,
+		"아이패드", 300L,
+		"아이폰 케이스", 50L,
+		"맥북 에어", 200L,
+		"iphone", 10L
+	));
+
+	@Test
+	@DisplayName("prefix로 시작하는 검색어를 인기도 내림차순으로 반환한다")
+	void suggestOrderedByPopularity() {
+		List<String> words = words(index.suggest("아이", "dkdl", 10));
+
+		assertEquals(List.of("아이패드", "아이폰", "아이폰 케이스"), words);
+	}
+
+	@Test
+	@DisplayName("조합 중인 한글은 QWERTY prefix로 매칭된다")
+	void suggestByQwertyPrefix() {
+		// "아이ㅍ" 입력 → QWERTY "dkdlv"
+		List<String> words = words(index.suggest("아이ㅍ", "dkdlv", 10));
+
+		assertEquals(List.of("아이패드", "아이폰", "아이폰 케이스"), words);
+	}
+
+	@Test
+	@DisplayName("원문과 QWERTY key가 모두 매칭되어도 검색어는 한 번만 반환한다")
+	void suggestWithoutDuplicates() {
+		List<String> words = words(index.suggest("아이폰", "dkdlvhs", 10));
+
+		assertEquals(List.of("아이폰", "아이폰 케이스"), words);
+	}
+
+	@Test
+	@DisplayName("자음만 입력하면 초성 prefix로 매칭된다")
+	void suggestByChoseongPrefix() {
+		assertEquals(List.of("아이패드", "아이폰", "아이폰 케이스"), words(index.suggest("ㅇㅇㅍ", "ddv", 10)));
+		assertEquals(List.of("아이폰 케이스"), words(index.suggest("ㅇㅇㅍㅋ", "ddvz", 10)));
+		assertEquals(List.of("맥북 에어"), words(index.suggest("ㅁㅂㅇ", "aqd", 10)));
+	}
+
+	@Test
+	@DisplayName("limit 개수만큼만 반환하고, 매칭이 없으면 빈 리스트를 반환한다")
+	void suggestLimitAndMiss() {
+		assertEquals(List.of("아이패드"), words(index.suggest("아이", "dkdl", 1)));
+		assertTrue(index.suggest("갤럭시", "rofjrtl", 10).isEmpty());
+		assertTrue(AutoCompleteIndex.empty().suggest("아이", "dkdl", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("인기도만 바꾸면 기존 인덱스는 그대로 두고 새 인덱스의 순서만 바뀐다")
+	void updateWeightOnly() {
+		AutoCompleteIndex updated = index.update(Map.of("아이폰 케이스", 1_000L), Set.of());
+
+		assertEquals(List.of("아이폰 케이스", "아이패드", "아이폰"), words(updated.suggest("아이", "dkdl", 10)));
+		assertEquals(1_000L, updated.maxWeight());
+		assertEquals(List.of("아이패드", "아이폰", "아이폰 케이스"), words(index.suggest("아이", "dkdl", 10)));
+	}
+
+	@Test
+	@DisplayName("검색어를 추가/삭제하면 모든 key(원문, QWERTY, 초성)에 반영된다")
+	void updateAddAndRemove() {
+		AutoCompleteIndex updated = index.update(Map.of("아이맥", 150L, "아이폰", 120L), Set.of("아이패드"));
+
+		assertEquals(List.of("아이맥", "아이폰", "아이폰 케이스"), words(updated.suggest("아이", "dkdl", 10)));
+		assertEquals(List.of("아이맥"), words(updated.suggest("ㅇㅇㅁ", "dda", 10)));
+		assertFalse(updated.contains("아이패드"));
+		assertEquals(0L, updated.weightOf("아이패드"));
+		assertEquals(5, updated.size());
+	}
+
+	@Test
+	@DisplayName("증가분을 여러 번 반영한 인덱스는 같은 인기도로 새로 만든 인덱스와 같은 결과를 반환한다")
+	void updateMatchesRebuild() {
+		List<String> vocabulary = List.of("아이폰", "아이패드", "아이맥", "아이폰 케이스", "아이스크림", "맥북", "맥북 에어",
+			"iphone", "ipad", "imac", "갤럭시", "갤럭시 탭", "ㅇㅇ", "키보드", "키링");
+		Random random = new Random(3L);
+		Map<String, Long> popularity = new HashMap<>();
+		AutoCompleteIndex updated = AutoCompleteIndex.empty();
+
+		for (int round = 0; round < 200; round++) {
+			Map<String, Long> changed = new HashMap<>();
+			for (int i = 0; i < 3; i++) {
+				String word = vocabulary.get(random.nextInt(vocabulary.size()));
+				changed.put(word, popularity.getOrDefault(word, 0L) + random.nextInt(50) + 1);
+			}
+			Set<String> removed = new HashSet<>();
+			if (random.nextInt(4) == 0) {
+				removed.add(vocabulary.get(random.nextInt(vocabulary.size())));
+			}
+
+			updated = updated.update(changed, removed);
+			popularity.putAll(changed);
+			popularity.keySet().removeAll(removed);
+
+			AutoCompleteIndex rebuilt = AutoCompleteIndex.build(popularity);
+			assertEquals(rebuilt.size(), updated.size());
+			assertEquals(rebuilt.maxWeight(), updated.maxWeight());
+			for (String prefix : List.of("아이", "ㅇㅇ", "맥", "i", "갤", "키")) {
+				String qwerty = PrefixConverter.convertToQwertyInput(prefix);
+				assertEquals(weights(rebuilt, rebuilt.suggest(prefix, qwerty, 5)),
+					weights(updated, updated.suggest(prefix, qwerty, 5)), prefix);
+			}
+		}
+	}
+
+	// 같은 인기도끼리의 순서는 정하지 않으므로 인기도 순서로 비교
+	private List<Long> weights(AutoCompleteIndex target, List<SearchWordResponse> responses) {
+		List<Long> weights = new ArrayList<>();
+		responses.forEach(response -> weights.add(target.weightOf(response.word())));
+		return weights;
+	}
+
+	private List<String> words(List<SearchWordResponse> responses) {
+		return responses.stream().map(SearchWordResponse::word).toList();
+	}
+}
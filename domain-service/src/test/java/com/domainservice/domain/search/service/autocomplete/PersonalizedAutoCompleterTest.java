@@ -0,0 +1,101 @@
+package com.domainservice.domain.search.service.autocomplete;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.domainservice.domain.search.model.dto.response.SearchWordResponse;
+import com.domainservice.domain.search.model.vo.RecentSearchWord;
+import com.domainservice.domain.search.repository.redis.SearchLogRedisRepository;
+
+/**
+ * 개인화 자동완성 병합 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PersonalizedAutoCompleterTest {
+
+	private static final long HOUR = 3_600_000L;
+
+	@Mock
+	private SearchLogRedisRepository searchLogRedisRepository;
+
+	@Mock
+	private AutoCompleteIndexManager autoCompleteIndexManager;
+
+	private PersonalizedAutoCompleter completer;
+
+	@BeforeEach
+	void setUp() {
+		completer = new PersonalizedAutoCompleter(
+			searchLogRedisRepository, autoCompleteIndexManager, 50, 600_000L, 100, 72 * HOUR, 2.0
+		);
+		given(autoCompleteIndexManager.maxPopularity()).willReturn(1000L);
+	}
+
+	@Test
+	@DisplayName("최근에 검색한 검색어가 전역 인기 검색어보다 앞에 오고, 전역 후보로 남은 자리를 채운다")
+	void mergePersonalAndGlobal() {
+		long now = System.currentTimeMillis();
+		given(searchLogRedisRepository.findRecentWithSearchedAt("user-1", 50)).willReturn(List.of(
+			new RecentSearchWord("아이폰 케이스", now - HOUR),
+			new RecentSearchWord("맥북", now - 2 * HOUR)
+		));
+		given(autoCompleteIndexManager.suggest("아이", "dkdl", 3)).willReturn(List.of(
+			response("아이패드"), response("아이폰 케이스"), response("아이폰")
+		));
+		given(autoCompleteIndexManager.popularityOf(anyString())).willReturn(0L);
+		given(autoCompleteIndexManager.popularityOf("아이패드")).willReturn(1000L);
+		given(autoCompleteIndexManager.popularityOf("아이폰")).willReturn(100L);
+
+		List<String> words = words(completer.suggest("user-1", "아이", "dkdl", 3));
+
+		assertThat(words).containsExactly("아이폰 케이스", "아이패드", "아이폰");
+	}
+
+	@Test
+	@DisplayName("최근 검색어로 limit을 모두 채우면 전역 인덱스를 조회하지 않고, Redis는 세션 동안 한 번만 조회한다")
+	void personalOnlyWithoutGlobalLookup() {
+		long now = System.currentTimeMillis();
+		given(searchLogRedisRepository.findRecentWithSearchedAt("user-1", 50)).willReturn(List.of(
+			new RecentSearchWord("아이폰", now),
+			new RecentSearchWord("아이패드", now - HOUR)
+		));
+
+		List<String> first = words(completer.suggest("user-1", "ㅇㅇ", "dd", 2));
+		List<String> second = words(completer.suggest("user-1", "dkdl", "dkdl", 2));
+
+		assertThat(first).containsExactly("아이폰", "아이패드");
+		assertThat(second).containsExactly("아이폰", "아이패드");
+		then(autoCompleteIndexManager).should(never()).suggest(anyString(), anyString(), anyInt());
+		then(searchLogRedisRepository).should(times(1)).findRecentWithSearchedAt("user-1", 50);
+	}
+
+	@Test
+	@DisplayName("방금 저장한 검색어는 캐시에 바로 반영된다")
+	void recordUpdatesCachedHistory() {
+		given(searchLogRedisRepository.findRecentWithSearchedAt("user-1", 50)).willReturn(List.of());
+		given(autoCompleteIndexManager.suggest("갤", "ro", 5)).willReturn(List.of());
+		completer.suggest("user-1", "갤", "ro", 5);
+
+		completer.record("user-1", "갤럭시 S25");
+
+		assertThat(words(completer.suggest("user-1", "갤", "ro", 5))).containsExactly("갤럭시 S25");
+	}
+
+	private SearchWordResponse response(String word) {
+		return new SearchWordResponse(word, word);
+	}
+
+	private List<String> words(List<SearchWordResponse> responses) {
+		return responses.stream().map(SearchWordResponse::word).toList();
+	}
+}
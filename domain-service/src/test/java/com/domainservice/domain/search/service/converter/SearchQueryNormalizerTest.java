@@ -0,0 +1,100 @@
+package com.domainservice.domain.search.service.converter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchQueryNormalizerTest {
+
+	@Test
+	@DisplayName("실제로 입력되는 같은 검색어의 여러 표기가 하나로 정규화된다")
+	void normalizeRealWorldVariants() {
+		List<String> iphoneVariants = List.of(
+			"아이폰",
+			"아이폰 ",
+			"  아이폰",
+			"\t아이폰\n",
+			"\u00A0아이폰\u3000",					// NBSP, 전각 공백
+			"아이\u200B폰",						// zero width space
+			"\uFEFF아이폰",						// BOM
+			"아\u200D이\u200C폰",					// zero width joiner / non-joiner
+			Normalizer.normalize("아이폰", Normalizer.Form.NFD)	// 자모 분리 (macOS 입력 등)
+		);
+		List<String> englishVariants = List.of(
+			"iphone", "iPhone", "IPHONE", "ＩＰＨＯＮＥ", "ｉＰｈｏｎｅ", " iPhone\r\n"
+		);
+		List<String> spacedVariants = List.of(
+			"아이폰 15 프로", "아이폰  15   프로", "아이폰\t15\u00A0프로", "아이폰\u3000１５\u3000프로", " 아이폰 15 프로 "
+		);
+
+		assertThat(normalizeAll(iphoneVariants)).containsExactly("아이폰");
+		assertThat(normalizeAll(englishVariants)).containsExactly("iphone");
+		assertThat(normalizeAll(spacedVariants)).containsExactly("아이폰 15 프로");
+	}
+
+	@Test
+	@DisplayName("전각 문자는 반각으로, 호환 자모(초성 입력)는 그대로 유지한다")
+	void foldFullWidthButKeepCompatibilityJamo() {
+		assertThat(SearchQueryNormalizer.normalize("ｇａｌａｘｙ\u3000Ｓ２４！")).isEqualTo("galaxy s24!");
+		assertThat(SearchQueryNormalizer.normalize("ㅇㅇㅍ")).isEqualTo("ㅇㅇㅍ");
+		assertThat(SearchQueryNormalizer.normalize("ㅇㅇㅍ ㅍㄹ")).isEqualTo("ㅇㅇㅍ ㅍㄹ");
+	}
+
+	@Test
+	@DisplayName("자동완성용 정규화는 QWERTY 쌍자음 구분을 위해 대소문자를 유지한다")
+	void keepCaseForQwertyInput() {
+		assertThat(SearchQueryNormalizer.normalizeKeepingCase(" Rhc\u200B ")).isEqualTo("Rhc");
+		assertThat(PrefixConverter.convertToKoreanWord(SearchQueryNormalizer.normalizeKeepingCase("Ｒｈｃ")))
+			.isEqualTo("꽃");
+		assertThat(SearchQueryNormalizer.normalize("Rhc")).isEqualTo("rhc");
+	}
+
+	@Test
+	@DisplayName("null, 공백, 제어 문자만 있는 입력은 빈 문자열이 된다")
+	void normalizeBlankInput() {
+		assertThat(SearchQueryNormalizer.normalize(null)).isEmpty();
+		assertThat(SearchQueryNormalizer.normalize("")).isEmpty();
+		assertThat(SearchQueryNormalizer.normalize(" \t\u00A0\u3000 ")).isEmpty();
+		assertThat(SearchQueryNormalizer.normalize("\u200B\uFEFF\u0000\u0007")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("최대 길이를 넘는 검색어는 code point 기준으로 잘리고, 뒤 공백이나 반쪽 surrogate가 남지 않는다")
+	void capLength() {
+		String longWord = "가".repeat(SearchQueryNormalizer.MAX_LENGTH + 20);
+		assertThat(SearchQueryNormalizer.normalize(longWord)).hasSize(SearchQueryNormalizer.MAX_LENGTH);
+
+		String spaceAtLimit = "가".repeat(SearchQueryNormalizer.MAX_LENGTH - 1) + " 나다";
+		assertThat(SearchQueryNormalizer.normalize(spaceAtLimit))
+			.isEqualTo("가".repeat(SearchQueryNormalizer.MAX_LENGTH - 1));
+
+		String emojis = "😀".repeat(SearchQueryNormalizer.MAX_LENGTH + 1);
+		String normalized = SearchQueryNormalizer.normalize(emojis);
+		assertThat(normalized.codePointCount(0, normalized.length())).isEqualTo(SearchQueryNormalizer.MAX_LENGTH);
+		assertThat(Character.isHighSurrogate(normalized.charAt(normalized.length() - 1))).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 정규화된 검색어는 같은 인스턴스를 반환하고, 정규화는 여러 번 적용해도 결과가 같다")
+	void normalizeIsIdempotent() {
+		String canonical = "아이폰 15 프로";
+		assertThat(SearchQueryNormalizer.normalize(canonical)).isSameAs(canonical);
+
+		for (String raw : List.of(" ＩＰＨＯＮＥ\u200B ", Normalizer.normalize("맥북 에어", Normalizer.Form.NFD), "A\t\tB")) {
+			String once = SearchQueryNormalizer.normalize(raw);
+			assertThat(SearchQueryNormalizer.normalize(once)).isEqualTo(once);
+		}
+	}
+
+	private Set<String> normalizeAll(List<String> variants) {
+		return variants.stream()
+			.map(SearchQueryNormalizer::normalize)
+			.collect(Collectors.toSet());
+	}
+}
@@ -2,11 +2,16 @@ package com.domainservice.domain.search.service.converter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class SearchWordConverterTest {
 
+	private static final char HANGUL_BASE = 0xAC00;
+	private static final int SYLLABLE_COUNT = 11_172;
+
 	@Test
 	@DisplayName("한글을 키보드 영타 입력값으로 변환할 수 있다")
 	void testConvertToKoreanWord() {
@@ -22,4 +27,68 @@ class SearchWordConverterTest {
 		assertEquals("zjavbxj", PrefixConverter.convertToQwertyInput("컴퓨터"));
 		assertEquals("gkstjd zlqhem k50", PrefixConverter.convertToQwertyInput("한성 키보드 k50"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("받침 ㅊ, ㅋ, ㅌ, ㅍ, ㅎ도 두벌식 키로 변환한다")
+	void testConvertFinalConsonant() {
+		assertEquals("Rhc", PrefixConverter.convertToQwertyInput("꽃"));
+		assertEquals("qndjz", PrefixConverter.convertToQwertyInput("부엌"));
+		assertEquals("rkx", PrefixConverter.convertToQwertyInput("같"));
+		assertEquals("dkv", PrefixConverter.convertToQwertyInput("앞"));
+		assertEquals("whg", PrefixConverter.convertToQwertyInput("좋"));
+	}
+
+	@Test
+	@DisplayName("조합 중인 자모는 입력한 키 그대로 변환하고, 모음 없는 자음은 자모로 되돌린다")
+	void testConvertCompatibilityJamo() {
+		assertEquals("dkdlv", PrefixConverter.convertToQwertyInput("아이ㅍ"));
+		assertEquals("rt", PrefixConverter.convertToQwertyInput("ㄳ"));
+		assertEquals("ㄱ", PrefixConverter.convertToKoreanWord("r"));
+		assertEquals("ㅇㅇ", PrefixConverter.convertToKoreanWord("dd"));
+	}
+
+	@Test
+	@DisplayName("초성은 단어 단위로 추출하고, 자음만 입력했는지 판별한다")
+	void testExtractChoseong() {
+		assertEquals("ㅇㅇㅍ 15 ㅍㄹ", PrefixConverter.extractChoseong("아이폰 15 프로"));
+		assertEquals("ㄱㅊ ㅇㅇㅍ", PrefixConverter.extractChoseong("[급처] 아이폰!!"));
+		assertEquals("ㅁㅂ air", PrefixConverter.extractChoseong("맥북 AIR"));
+		assertEquals("ㅇㅇㅍ", PrefixConverter.extractChoseong("ㅇㅇㅍ"));
+
+		assertTrue(PrefixConverter.isChoseongOnly("ㅇㅇㅍ"));
+		assertTrue(PrefixConverter.isChoseongOnly("ㄱㅅ ㅍㄷ"));
+		assertFalse(PrefixConverter.isChoseongOnly("아이ㅍ"));
+		assertFalse(PrefixConverter.isChoseongOnly("ㅇㅏ"));
+		assertFalse(PrefixConverter.isChoseongOnly(" "));
+	}
+
+	@Test
+	@DisplayName("모든 한글 음절(11,172자)은 QWERTY 변환 후 다시 같은 음절로 복원된다")
+	void testRoundTripAllSyllables() {
+		for (int i = 0; i < SYLLABLE_COUNT; i++) {
+			String syllable = String.valueOf((char)(HANGUL_BASE + i));
+			String qwerty = PrefixConverter.convertToQwertyInput(syllable);
+
+			assertEquals(syllable, PrefixConverter.convertToKoreanWord(qwerty), () -> syllable + " -> " + qwerty);
+		}
+	}
+
+	@Test
+	@DisplayName("임의의 음절 조합도 QWERTY 변환 후 같은 문자열로 복원된다")
+	void testRoundTripRandomWords() {
+		Random random = new Random(20_240_601L);
+
+		for (int n = 0; n < 100_000; n++) {
+			StringBuilder word = new StringBuilder();
+			int length = 2 + random.nextInt(5);
+			for (int i = 0; i < length; i++) {
+				word.append((char)(HANGUL_BASE + random.nextInt(SYLLABLE_COUNT)));
+			}
+
+			String expected = word.toString();
+			String qwerty = PrefixConverter.convertToQwertyInput(expected);
+
+			assertEquals(expected, PrefixConverter.convertToKoreanWord(qwerty), () -> expected + " -> " + qwerty);
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package com.domainservice.domain.search.service.kafka.consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.common.event.productPost.EventType;
+import com.common.event.productPost.ProductPostCountersChangedEvent;
+import com.common.event.productPost.ProductPostDeletedEvent;
+import com.common.event.productPost.ProductPostUpsertedEvent;
+import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository.BulkWriteResult;
+import com.domainservice.domain.search.repository.ProductPostElasticRepository;
+import com.domainservice.domain.search.repository.redis.ReindexChangeLogRedisRepository;
+import com.domainservice.domain.search.repository.redis.SearchResultVersionRedisRepository;
+import com.domainservice.domain.search.service.search.similar.SimilarProductService;
+
+/**
+ * 상품 이벤트 batch 소비 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPostEventConsumerTest {
+
+	@Mock
+	private ProductPostElasticRepository productPostElasticRepository;
+
+	@Mock
+	private ProductPostBulkRepository productPostBulkRepository;
+
+	@Mock
+	private SearchResultVersionRedisRepository searchResultVersionRedisRepository;
+
+	@Mock
+	private SimilarProductService similarProductService;
+
+	@Mock
+	private ReindexChangeLogRedisRepository reindexChangeLogRedisRepository;
+
+	@Mock
+	private Acknowledgment ack;
+
+	@InjectMocks
+	private ProductPostEventConsumer consumer;
+
+	@Test
+	@DisplayName("같은 상품 이벤트는 마지막 상태만 bulk 요청 1회로 반영하고, 성공 후에 commit 한다")
+	void coalescePerProduct() {
+		given(productPostBulkRepository.bulkWrite(anyCollection(), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("p1", "p2"), Set.of(), Set.of()));
+
+		consumer.handleEvents(records(
+			upserted("p1", "SELLING", 1L),
+			upserted("p2", "SELLING", 1L),
+			upserted("p1", "SELLING", 2L),
+			upserted("p1", "RESERVED", 3L),
+			null
+		), ack);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<ProductPostDocumentEntity>> documents = ArgumentCaptor.forClass(Collection.class);
+		then(productPostBulkRepository).should().bulkWrite(documents.capture(), anyCollection(), eq(Set.of()));
+		assertThat(documents.getValue())
+			.extracting(ProductPostDocumentEntity::getId, ProductPostDocumentEntity::getTradeStatus,
+				ProductPostDocumentEntity::getLikedCount)
+			.containsExactly(tuple("p1", "RESERVED", 3L), tuple("p2", "SELLING", 1L));
+
+		then(searchResultVersionRedisRepository).should(times(1)).bump("digital");
+		then(ack).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("upsert 후 delete 된 상품은 삭제만 반영하고, 삭제 전 카테고리로 캐시를 무효화한다")
+	void honorDeletes() {
+		given(productPostElasticRepository.findAllById(Set.of("p1")))
+			.willReturn(List.of(ProductPostDocumentEntity.builder().id("p1").categoryName("book").build()));
+		given(productPostBulkRepository.bulkWrite(anyCollection(), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("p1"), Set.of(), Set.of()));
+
+		consumer.handleEvents(records(
+			upserted("p1", "SELLING", 1L),
+			new ProductPostDeletedEvent("p1", EventType.DELETE)
+		), ack);
+
+		then(productPostBulkRepository).should().bulkWrite(eq(List.of()), anyCollection(), eq(Set.of("p1")));
+		then(reindexChangeLogRedisRepository).should().recordIfActive(Set.of("p1"));
+		then(searchResultVersionRedisRepository).should().bump("book");
+		then(similarProductService).should().onDeleted("p1");
+		then(ack).should().acknowledge();
+	}
+
+	@Test
+	@DisplayName("일시적인 오류로 실패한 항목이 있으면 commit 하지 않고 예외를 던져 batch를 다시 처리한다")
+	void retryWithoutCommit() {
+		given(productPostBulkRepository.bulkWrite(anyCollection(), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("p1"), Set.of("p2"), Set.of()));
+
+		assertThatThrownBy(() -> consumer.handleEvents(records(
+			upserted("p1", "SELLING", 1L),
+			upserted("p2", "SELLING", 1L)
+		), ack)).isInstanceOf(ElasticSearchException.class);
+
+		then(similarProductService).should().onUpserted("p1");
+		then(similarProductService).should(never()).onUpserted("p2");
+		then(ack).should(never()).acknowledge();
+	}
+
+	@Test
+	@DisplayName("같은 batch를 다시 받으면 앞에서 반영된 상품은 다시 색인하거나 캐시를 무효화하지 않는다")
+	void skipSettledOnRetry() {
+		given(productPostBulkRepository.bulkWrite(anyCollection(), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("p1"), Set.of("p2"), Set.of("p3")))
+			.willReturn(new BulkWriteResult(Set.of("p2"), Set.of(), Set.of()));
+		List<ConsumerRecord<String, Object>> records = records(
+			upserted("p1", "SELLING", 1L),
+			upserted("p2", "SELLING", 1L),
+			upserted("p3", "SELLING", 1L)
+		);
+
+		assertThatThrownBy(() -> consumer.handleEvents(records, ack)).isInstanceOf(ElasticSearchException.class);
+		consumer.handleEvents(records, ack);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<ProductPostDocumentEntity>> documents = ArgumentCaptor.forClass(Collection.class);
+		then(productPostBulkRepository).should(times(2)).bulkWrite(documents.capture(), anyCollection(), anyCollection());
+		assertThat(documents.getAllValues().get(1))
+			.extracting(ProductPostDocumentEntity::getId)
+			.containsExactly("p2");
+
+		then(similarProductService).should(times(1)).onUpserted("p1");
+		then(similarProductService).should(times(1)).onUpserted("p2");
+		then(similarProductService).should(never()).onUpserted("p3");
+		then(searchResultVersionRedisRepository).should(times(2)).bump("digital");
+		then(ack).should(times(1)).acknowledge();
+	}
+
+	@Test
+	@DisplayName("카운터만 바뀐 상품은 버전이 가장 큰 값으로 부분 업데이트하고, 같은 batch의 upsert가 있으면 문서에 합친다")
+	void partialUpdateCounters() {
+		given(productPostBulkRepository.bulkWrite(anyCollection(), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("p1", "p2"), Set.of(), Set.of()));
+
+		consumer.handleEvents(records(
+			upserted("p1", "SELLING", 1L),
+			new ProductPostCountersChangedEvent("p1", 5L, 10L, 3L),
+			new ProductPostCountersChangedEvent("p2", 2L, 7L, 5L),
+			// 늦게 도착한 이전 버전은 무시
+			new ProductPostCountersChangedEvent("p2", 2L, 3L, 4L)
+		), ack);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<ProductPostDocumentEntity>> documents = ArgumentCaptor.forClass(Collection.class);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<ProductPostCountersChangedEvent>> counters = ArgumentCaptor.forClass(Collection.class);
+		then(productPostBulkRepository).should().bulkWrite(documents.capture(), counters.capture(), eq(Set.of()));
+
+		assertThat(documents.getValue())
+			.extracting(ProductPostDocumentEntity::getId, ProductPostDocumentEntity::getLikedCount,
+				ProductPostDocumentEntity::getViewCount)
+			.containsExactly(tuple("p1", 5L, 10L));
+		assertThat(counters.getValue()).containsExactly(new ProductPostCountersChangedEvent("p2", 2L, 7L, 5L));
+
+		// 카운터만 바뀐 상품으로는 검색 결과 캐시를 무효화하지 않음
+		then(searchResultVersionRedisRepository).should(times(1)).bump("digital");
+		then(similarProductService).should(never()).onUpserted("p2");
+		then(ack).should().acknowledge();
+	}
+
+	private static List<ConsumerRecord<String, Object>> records(Object... events) {
+		List<ConsumerRecord<String, Object>> records = new ArrayList<>();
+		long offset = 0;
+		for (Object event : Arrays.asList(events)) {
+			records.add(new ConsumerRecord<>("product-post-events", 0, offset++, null, event));
+		}
+		return records;
+	}
+
+	private static ProductPostUpsertedEvent upserted(String id, String tradeStatus, Long likedCount) {
+		return ProductPostUpsertedEvent.builder()
+			.id(id)
+			.title("title-" + id)
+			.categoryName("digital")
+			.likedCount(likedCount)
+			.tradeStatus(tradeStatus)
+			.deleteStatus("N")
+			.eventType(EventType.UPDATE)
+			.build();
+	}
+}
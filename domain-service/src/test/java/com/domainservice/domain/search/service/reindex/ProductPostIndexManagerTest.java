@@ -0,0 +1,104 @@
+package com.domainservice.domain.search.service.reindex;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.util.ObjectBuilder;
+
+/**
+ * product-posts alias 교체 요청 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPostIndexManagerTest {
+
+	@Mock
+	private ElasticsearchClient elasticsearchClient;
+
+	@Mock
+	private ElasticsearchIndicesClient indicesClient;
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Captor
+	private ArgumentCaptor<Function<UpdateAliasesRequest.Builder, ObjectBuilder<UpdateAliasesRequest>>> request;
+
+	private ProductPostIndexManager indexManager;
+
+	@BeforeEach
+	void setUp() {
+		indexManager = new ProductPostIndexManager(elasticsearchClient, elasticsearchOperations);
+
+		given(elasticsearchOperations.getIndexCoordinatesFor(ProductPostDocumentEntity.class))
+			.willReturn(IndexCoordinates.of("product-posts"));
+		given(elasticsearchClient.indices()).willReturn(indicesClient);
+	}
+
+	@Test
+	@DisplayName("alias 도입 전 같은 이름의 실제 인덱스는 remove_index 후 새 인덱스에 alias를 추가한다")
+	void swapFromLegacyConcreteIndex() throws IOException {
+		indexManager.swapAlias("product-posts-v2", List.of("product-posts"));
+
+		List<Action> actions = capturedActions();
+		assertThat(actions).hasSize(2);
+		assertThat(actions.get(0).isRemoveIndex()).isTrue();
+		assertThat(actions.get(0).removeIndex().index()).isEqualTo("product-posts");
+		assertAddWriteAlias(actions.get(1), "product-posts-v2");
+	}
+
+	@Test
+	@DisplayName("기존 alias는 이전 버전 인덱스에서 remove 후 새 인덱스에 add (한 번의 _aliases 요청)")
+	void swapFromExistingAlias() throws IOException {
+		indexManager.swapAlias("product-posts-v2", List.of("product-posts-v1"));
+
+		List<Action> actions = capturedActions();
+		assertThat(actions).hasSize(2);
+		assertThat(actions.get(0).isRemove()).isTrue();
+		assertThat(actions.get(0).remove().index()).isEqualTo("product-posts-v1");
+		assertThat(actions.get(0).remove().alias()).isEqualTo("product-posts");
+		assertAddWriteAlias(actions.get(1), "product-posts-v2");
+	}
+
+	@Test
+	@DisplayName("서비스 중인 인덱스가 없으면 새 인덱스에 alias만 추가한다")
+	void swapWithoutServingIndex() throws IOException {
+		indexManager.swapAlias("product-posts-v2", List.of());
+
+		List<Action> actions = capturedActions();
+		assertThat(actions).hasSize(1);
+		assertAddWriteAlias(actions.getFirst(), "product-posts-v2");
+	}
+
+	private List<Action> capturedActions() throws IOException {
+		then(indicesClient).should().updateAliases(request.capture());
+		return request.getValue().apply(new UpdateAliasesRequest.Builder()).build().actions();
+	}
+
+	private static void assertAddWriteAlias(Action action, String index) {
+		assertThat(action.isAdd()).isTrue();
+		assertThat(action.add().index()).isEqualTo(index);
+		assertThat(action.add().alias()).isEqualTo("product-posts");
+		assertThat(action.add().isWriteIndex()).isTrue();
+	}
+}
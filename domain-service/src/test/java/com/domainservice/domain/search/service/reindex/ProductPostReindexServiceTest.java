@@ -0,0 +1,195 @@
+package com.domainservice.domain.search.service.reindex;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.common.event.productPost.ProductPostUpsertedEvent;
+import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository;
+import com.domainservice.domain.search.repository.ProductPostBulkRepository.BulkWriteResult;
+import com.domainservice.domain.search.repository.ProductPostSourceRepository;
+import com.domainservice.domain.search.repository.redis.ReindexChangeLogRedisRepository;
+
+/**
+ * 상품 전체 재색인 테스트 (executor는 호출 스레드에서 바로 실행, slice 크기 2 / batch 크기 2)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPostReindexServiceTest {
+
+	private static final String NEW_INDEX = "product-posts-v20260101000000";
+	private static final BulkWriteResult SUCCEEDED = new BulkWriteResult(Set.of(), Set.of(), Set.of());
+
+	@Mock
+	private ProductPostSourceRepository productPostSourceRepository;
+
+	@Mock
+	private ProductPostBulkRepository productPostBulkRepository;
+
+	@Mock
+	private ProductPostIndexManager productPostIndexManager;
+
+	@Mock
+	private ReindexChangeLogRedisRepository reindexChangeLogRedisRepository;
+
+	private ProductPostReindexService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new ProductPostReindexService(productPostSourceRepository, productPostBulkRepository,
+			productPostIndexManager, reindexChangeLogRedisRepository, Runnable::run,
+			2, 2, 2, 1, "1s", 60_000L, 0, 3, 1, 0L);
+
+		given(productPostIndexManager.nextVersionedIndexName()).willReturn(NEW_INDEX);
+	}
+
+	@Test
+	@DisplayName("다른 재색인이 진행 중이면 새 인덱스를 만들지 않고 409 예외를 던진다")
+	void lockBeforeCreatingIndex() {
+		given(reindexChangeLogRedisRepository.tryStart(eq(NEW_INDEX), any(Duration.class))).willReturn(false);
+
+		assertThatThrownBy(() -> service.startReindex()).isInstanceOf(ElasticSearchException.class);
+		then(productPostIndexManager).should(never()).createVersionedIndex(any());
+		then(productPostIndexManager).should(never()).deleteIndex(any());
+		then(reindexChangeLogRedisRepository).should(never()).finish(any());
+	}
+
+	@Test
+	@DisplayName("상품이 없으면 열린 구간 1개만 조회하고 빈 인덱스로 alias를 교체한다")
+	void emptyTable() {
+		startSucceeds();
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of());
+
+		assertThat(service.startReindex()).isEqualTo(NEW_INDEX);
+
+		then(productPostIndexManager).should().createVersionedIndex(NEW_INDEX);
+		then(productPostSourceRepository).should().findPage("", null, 2);
+		then(productPostBulkRepository).shouldHaveNoInteractions();
+		then(productPostIndexManager).should().swapAlias(NEW_INDEX, List.of());
+		then(reindexChangeLogRedisRepository).should().finish(NEW_INDEX);
+	}
+
+	@Test
+	@DisplayName("상품 수가 slice 크기의 배수여도 마지막 경계 이후의 열린 구간까지 조회해서 모든 상품을 한 번씩 적재한다")
+	void exactMultipleOfSliceSize() {
+		startSucceeds();
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of("b", "d"));
+		given(productPostSourceRepository.findPage("", "b", 2)).willReturn(List.of(event("a"), event("b")));
+		given(productPostSourceRepository.findPage("b", "d", 2)).willReturn(List.of(event("c"), event("d")));
+		given(productPostBulkRepository.bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection()))
+			.willReturn(SUCCEEDED);
+
+		service.startReindex();
+
+		// 각 구간은 마지막 id 이후를 한 번 더 조회해서 비어 있으면 종료
+		then(productPostSourceRepository).should().findPage("b", "b", 2);
+		then(productPostSourceRepository).should().findPage("d", "d", 2);
+		then(productPostSourceRepository).should().findPage("d", null, 2);
+		then(productPostBulkRepository).should().bulkWrite(eq(NEW_INDEX), argThat(ids("a", "b")), eq(List.of()));
+		then(productPostBulkRepository).should().bulkWrite(eq(NEW_INDEX), argThat(ids("c", "d")), eq(List.of()));
+		then(productPostBulkRepository).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("마지막 열린 구간에 남은 상품도 적재한다")
+	void lastOpenSlice() {
+		startSucceeds();
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of("b"));
+		given(productPostSourceRepository.findPage("", "b", 2)).willReturn(List.of(event("a"), event("b")));
+		given(productPostSourceRepository.findPage("b", null, 2)).willReturn(List.of(event("c")));
+		given(productPostBulkRepository.bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection()))
+			.willReturn(SUCCEEDED);
+
+		service.startReindex();
+
+		then(productPostSourceRepository).should().findPage("c", null, 2);
+		then(productPostBulkRepository).should().bulkWrite(eq(NEW_INDEX), argThat(ids("c")), eq(List.of()));
+	}
+
+	@Test
+	@DisplayName("적재 중 변경된 상품은 현재 상태로 다시 반영하고, 없거나 삭제 처리된 상품은 새 인덱스에서 삭제한다")
+	void replayMissingAsDelete() {
+		startSucceeds();
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of());
+		given(reindexChangeLogRedisRepository.drain(2)).willReturn(List.of("a", "b"), List.of());
+		// 삭제 처리된 상품은 원본 조회 결과에서 빠짐
+		given(productPostSourceRepository.findAllByIds(List.of("a", "b"))).willReturn(List.of(event("a")));
+		given(productPostBulkRepository.bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection()))
+			.willReturn(SUCCEEDED);
+
+		service.startReindex();
+
+		then(productPostBulkRepository).should()
+			.bulkWrite(eq(NEW_INDEX), argThat(ids("a")), argThat(deletedIds -> Set.copyOf(deletedIds).equals(Set.of("b"))));
+	}
+
+	@Test
+	@DisplayName("일시적인 오류로 실패한 항목만 다시 쓴다")
+	void retryOnlyRetryableItems() {
+		startSucceeds();
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of());
+		given(reindexChangeLogRedisRepository.drain(2)).willReturn(List.of("a", "b", "c"), List.of());
+		given(productPostSourceRepository.findAllByIds(List.of("a", "b", "c")))
+			.willReturn(List.of(event("a"), event("b")));
+		given(productPostBulkRepository.bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of("a"), Set.of("b", "c"), Set.of()), SUCCEEDED);
+
+		service.startReindex();
+
+		then(productPostBulkRepository).should().bulkWrite(eq(NEW_INDEX), argThat(ids("b")), eq(List.of("c")));
+		then(productPostIndexManager).should().swapAlias(eq(NEW_INDEX), any());
+	}
+
+	@Test
+	@DisplayName("재시도 후에도 실패하면 재색인을 중단하고 새 인덱스를 삭제한다 (alias는 교체하지 않음)")
+	void abortAfterMaxRetries() {
+		given(reindexChangeLogRedisRepository.tryStart(eq(NEW_INDEX), any(Duration.class))).willReturn(true);
+		given(productPostSourceRepository.findSliceBoundaries(2)).willReturn(List.of());
+		given(productPostSourceRepository.findPage("", null, 2)).willReturn(List.of(event("a")));
+		given(productPostBulkRepository.bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection()))
+			.willReturn(new BulkWriteResult(Set.of(), Set.of("a"), Set.of()));
+
+		assertThat(service.startReindex()).isEqualTo(NEW_INDEX);
+
+		then(productPostBulkRepository).should(times(4)).bulkWrite(eq(NEW_INDEX), anyCollection(), anyCollection());
+		then(productPostIndexManager).should(never()).swapAlias(any(), any());
+		then(productPostIndexManager).should().deleteIndex(NEW_INDEX);
+		then(reindexChangeLogRedisRepository).should().finish(NEW_INDEX);
+	}
+
+	private void startSucceeds() {
+		given(reindexChangeLogRedisRepository.tryStart(eq(NEW_INDEX), any(Duration.class))).willReturn(true);
+		given(reindexChangeLogRedisRepository.finish(NEW_INDEX)).willReturn(true);
+		given(productPostIndexManager.findServingIndices()).willReturn(List.of());
+	}
+
+	private static ArgumentMatcher<Collection<ProductPostDocumentEntity>> ids(String... ids) {
+		return documents -> documents.stream().map(ProductPostDocumentEntity::getId).toList().equals(List.of(ids));
+	}
+
+	private static ProductPostUpsertedEvent event(String id) {
+		return ProductPostUpsertedEvent.builder()
+			.id(id)
+			.title("title " + id)
+			.likedCount(0L)
+			.viewCount(0L)
+			.counterVersion(0L)
+			.tradeStatus("SELLING")
+			.deleteStatus("N")
+			.build();
+	}
+}
@@ -0,0 +1,75 @@
+package com.domainservice.domain.search.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.domainservice.domain.search.exception.ElasticSearchException;
+import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+
+class SearchCursorTest {
+
+	private static final String PIT_ID = "46ToAwMDaWR5BXV1aWQyKwZub2RlXzMAAAAAAAAAACoBYwADaWR4BXV1aWQxAgZub2RlXzEAAAAAAAAAAAEBYQ==";
+
+	@Test
+	@DisplayName("커서는 PIT id, 정렬 값, 검색 조건 hash를 그대로 복원한다")
+	void roundTrip() {
+		SearchCursor cursor = new SearchCursor(PIT_ID, Arrays.asList(12.75d, 1_700_000_000_000L, 3, "post-uuid-1234", null, true), 42L);
+
+		SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+		assertThat(decoded.pitId()).isEqualTo(PIT_ID);
+		assertThat(decoded.paramsHash()).isEqualTo(42L);
+		assertThat(decoded.searchAfter()).containsExactly(12.75d, 1_700_000_000_000L, 3L, "post-uuid-1234", null, true);
+	}
+
+	@Test
+	@DisplayName("인코딩된 커서는 URL에 그대로 넣을 수 있다")
+	void urlSafe() {
+		String encoded = new SearchCursor(PIT_ID, List.of("한글 id", 0.5d), -1L).encode();
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	@DisplayName("형식이 올바르지 않은 커서는 거부한다")
+	void rejectMalformedCursor() {
+		String encoded = new SearchCursor(PIT_ID, List.of("post-uuid-1234"), 42L).encode();
+
+		assertThatThrownBy(() -> SearchCursor.decode("not a cursor!"))
+			.isInstanceOf(ElasticSearchException.class);
+		assertThatThrownBy(() -> SearchCursor.decode(encoded.substring(0, encoded.length() - 4)))
+			.isInstanceOf(ElasticSearchException.class);
+		assertThatThrownBy(() -> SearchCursor.decode(encoded + "AAAA"))
+			.isInstanceOf(ElasticSearchException.class);
+	}
+
+	@Test
+	@DisplayName("검색 조건 hash는 JVM과 무관하게 검색 조건 값으로만 정해진다")
+	void paramsHashIsStable() {
+		postSearchParams params = new postSearchParams("아이폰", "모바일/태블릿", 1000L, 50000L, "미개봉, 무료배송", "NEW",
+			"SELLING", "price_asc");
+
+		// 정규화 문자열 "3:아이폰|7:모바일/태블릿|4:1000|5:50000|8:미개봉,무료배송|3:NEW|7:SELLING|9:price_asc|"의 SHA-256 앞 8바이트
+		assertThat(SearchCursor.paramsHash(params)).isEqualTo(-7_090_439_711_493_484_130L);
+		assertThat(SearchCursor.paramsHash(new postSearchParams(" 아이폰 ", "모바일/태블릿", 1000L, 50000L, "미개봉,무료배송",
+			"NEW", "SELLING", "price_asc"))).isEqualTo(SearchCursor.paramsHash(params));
+	}
+
+	@Test
+	@DisplayName("검색 조건이 다르면 hash도 다르다 (구분자가 포함된 값끼리 섞이지 않음)")
+	void paramsHashDistinguishesParams() {
+		long base = SearchCursor.paramsHash(new postSearchParams("아이폰", null, null, null, null, null, null, null));
+
+		assertThat(SearchCursor.paramsHash(new postSearchParams("아이폰", null, null, null, null, null, null, "newest")))
+			.isNotEqualTo(base);
+		assertThat(SearchCursor.paramsHash(new postSearchParams("아이폰", "", null, null, null, null, null, null)))
+			.isNotEqualTo(base);
+		assertThat(SearchCursor.paramsHash(new postSearchParams("a|b", "c", null, null, null, null, null, null)))
+			.isNotEqualTo(SearchCursor.paramsHash(new postSearchParams("a", "b|c", null, null, null, null, null, null)));
+	}
+}
@@ -0,0 +1,174 @@
+package com.domainservice.domain.search.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.model.entity.dto.request.postSearchParams;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.repository.redis.SearchResultVersionRedisRepository;
+
+/**
+ * 상품 검색 결과 캐시 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+	@Mock
+	private SearchResultVersionRedisRepository versionRepository;
+
+	private SearchResultCache cache;
+
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		cache = new SearchResultCache(versionRepository, true, 60_000L, 1, 100, 5_000L);
+	}
+
+	@Test
+	@DisplayName("정규화 후 같은 검색 조건의 첫 페이지는 Elasticsearch를 한 번만 조회한다")
+	void cacheFirstPageByNormalizedQuery() {
+		given(versionRepository.findVersion(null)).willReturn(1L);
+
+		var first = cache.getOrLoad(params(" 아이폰 ", null), PageRequest.of(0, 20), this::load);
+		var second = cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load);
+
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("버전이 바뀌면 이전 캐시를 사용하지 않고, 카테고리 필터가 있으면 카테고리 버전을 사용한다")
+	void reloadWhenVersionBumped() {
+		given(versionRepository.findVersion("모바일/태블릿")).willReturn(1L, 1L, 2L);
+
+		cache.getOrLoad(params("아이폰", "모바일/태블릿"), PageRequest.of(0, 20), this::load);
+		cache.getOrLoad(params("아이폰", "모바일/태블릿"), PageRequest.of(0, 20), this::load);
+		cache.getOrLoad(params("아이폰", "모바일/태블릿"), PageRequest.of(0, 20), this::load);
+
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("첫 페이지 이후는 캐싱하지 않고, 버전 조회에 실패하면 캐시 없이 조회한다")
+	void bypassCache() {
+		cache.getOrLoad(params("아이폰", null), PageRequest.of(1, 20), this::load);
+		cache.getOrLoad(params("아이폰", null), PageRequest.of(1, 20), this::load);
+
+		given(versionRepository.findVersion(null)).willThrow(new IllegalStateException("redis down"));
+		cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load);
+		cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load);
+
+		assertThat(loadCount).hasValue(4);
+	}
+
+	@Test
+	@DisplayName("같은 검색 조건을 동시에 요청하면 한 요청만 조회하고 나머지는 결과를 기다린다")
+	void singleFlight() throws Exception {
+		given(versionRepository.findVersion(null)).willReturn(1L);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			Future<?> loader = executor.submit(() -> cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), () -> {
+				loading.countDown();
+				await(release);
+				return load();
+			}));
+			loading.await(5, TimeUnit.SECONDS);
+
+			List<Future<PageResponse<List<ProductPostSearchResponse>>>> waiters = new ArrayList<>();
+			for (int i = 0; i < 7; i++) {
+				waiters.add(executor.submit(() -> cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load)));
+			}
+			release.countDown();
+
+			loader.get(5, TimeUnit.SECONDS);
+			for (Future<PageResponse<List<ProductPostSearchResponse>>> waiter : waiters) {
+				assertThat(waiter.get(5, TimeUnit.SECONDS).contents()).isEmpty();
+			}
+			assertThat(loadCount).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("먼저 시작한 조회가 대기 시간 안에 끝나지 않으면 기다리던 요청은 직접 조회한다")
+	void fallBackWhenWaitTimesOut() throws Exception {
+		cache = new SearchResultCache(versionRepository, true, 60_000L, 1, 100, 50L);
+		given(versionRepository.findVersion(null)).willReturn(1L);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> loader = executor.submit(() -> cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), () -> {
+				loading.countDown();
+				await(release);
+				return load();
+			}));
+			loading.await(5, TimeUnit.SECONDS);
+
+			var waited = cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load);
+
+			assertThat(waited.contents()).isEmpty();
+			assertThat(loadCount).hasValue(1);
+			release.countDown();
+			loader.get(5, TimeUnit.SECONDS);
+			assertThat(loadCount).hasValue(2);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("조회에 실패한 결과는 캐싱하지 않는다")
+	void doNotCacheFailure() {
+		given(versionRepository.findVersion(null)).willReturn(1L);
+
+		assertThatThrownBy(() -> cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), () -> {
+			throw new IllegalStateException("es timeout");
+		})).isInstanceOf(IllegalStateException.class);
+
+		cache.getOrLoad(params("아이폰", null), PageRequest.of(0, 20), this::load);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	private PageResponse<List<ProductPostSearchResponse>> load() {
+		loadCount.incrementAndGet();
+		return new PageResponse<>(0, 1, 20, false, List.of());
+	}
+
+	private postSearchParams params(String q, String category) {
+		return new postSearchParams(q, category, null, null, null, null, null, null);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
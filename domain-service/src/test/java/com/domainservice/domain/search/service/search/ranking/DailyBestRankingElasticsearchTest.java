@@ -0,0 +1,190 @@
+package com.domainservice.domain.search.service.search.ranking;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.service.search.query.DailyProductQueryBuilder;
+import com.domainservice.domain.search.service.search.query.ProductListProjection;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.Candidate;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.RankedProduct;
+
+/**
+ * DailyProductQueryBuilder의 function_score 쿼리를 실제 Elasticsearch에서 실행한 순위와
+ * DailyBestRanking으로 미리 계산한 순위가 같은지 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DailyBestRankingElasticsearchTest {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("daily-best-ranking-test");
+	private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+	private static final List<String> CATEGORIES = List.of("Digital", "digital", "Fashion", "Book", "Sports");
+	private static final int DATASET_SIZE = 2_000;
+
+	// 쿼리에 쓰이는 필드만 운영 인덱스(product-posts-settings.json, ProductPostDocumentEntity)와 같은 타입으로 매핑
+	// (nori 플러그인이 없는 공식 이미지를 사용하므로 text 분석기는 기본값)
+	private static final String SETTINGS = """
+		{
+		  "number_of_shards": 1,
+		  "number_of_replicas": 0,
+		  "analysis": {
+		    "normalizer": {
+		      "lowercase_normalizer": { "type": "custom", "filter": ["lowercase"] }
+		    }
+		  }
+		}
+		""";
+
+	private static final String MAPPING = """
+		{
+		  "properties": {
+		    "id": { "type": "keyword" },
+		    "category_name": {
+		      "type": "text",
+		      "fields": { "keyword": { "type": "keyword", "normalizer": "lowercase_normalizer" } }
+		    },
+		    "liked_count": { "type": "long" },
+		    "view_count": { "type": "long" },
+		    "trade_status": { "type": "keyword" },
+		    "delete_status": { "type": "keyword" },
+		    "created_at": {
+		      "type": "date",
+		      "format": "uuuu-MM-dd'T'HH:mm:ss.SSSSSS||uuuu-MM-dd'T'HH:mm:ss.SSS||uuuu-MM-dd'T'HH:mm:ss"
+		    }
+		  }
+		}
+		""";
+
+	@Container
+	static final ElasticsearchContainer ELASTICSEARCH = new ElasticsearchContainer(
+		DockerImageName.parse("docker.elastic.co/elasticsearch/elasticsearch:9.1.3"))
+		.withEnv("xpack.security.enabled", "false")
+		.withEnv("ES_JAVA_OPTS", "-Xms512m -Xmx512m");
+
+	static ElasticsearchTemplate template;
+	static DailyProductQueryBuilder dailyProductQueryBuilder;
+
+	@BeforeAll
+	static void setUp() {
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(
+			ClientConfiguration.create(ELASTICSEARCH.getHttpHostAddress())));
+		dailyProductQueryBuilder = new DailyProductQueryBuilder(new ProductListProjection(10_000));
+
+		IndexOperations indexOperations = template.indexOps(INDEX);
+		indexOperations.create(Document.parse(SETTINGS), Document.parse(MAPPING));
+		template.bulkIndex(dataset(DATASET_SIZE, 7L), INDEX);
+		indexOperations.refresh();
+	}
+
+	@Test
+	@DisplayName("미리 계산한 순위가 Elasticsearch function_score 쿼리 결과와 점수, 순서 모두 같다")
+	void sameOrderAsFunctionScoreQuery() {
+		List<Candidate> candidates = findCandidates();
+		Map<String, List<RankedProduct>> rankings = DailyBestRanking.rank(candidates, DATASET_SIZE);
+
+		assertThat(candidates).hasSize(DATASET_SIZE);
+		for (String category : List.of("ALL", "digital", "fashion", "book", "sports")) {
+			assertThat(rankings.get(category))
+				.as(category)
+				.containsExactlyElementsOf(searchFunctionScore(category));
+		}
+	}
+
+	@Test
+	@DisplayName("순위 계산 대상은 최근 72시간 내 등록된 판매중 상품만 포함한다")
+	void candidatesFollowFilter() {
+		assertThat(findCandidates())
+			.extracting(Candidate::id)
+			.doesNotContain("deleted", "sold", "old");
+	}
+
+	// 배치와 같은 쿼리(buildCandidates)로 순위 계산 대상 조회
+	private static List<Candidate> findCandidates() {
+		List<Candidate> candidates = new ArrayList<>();
+		try (SearchHitsIterator<ProductPostDocumentEntity> hits = template.searchForStream(
+			dailyProductQueryBuilder.buildCandidates(500), ProductPostDocumentEntity.class, INDEX)) {
+			hits.forEachRemaining(hit -> candidates.add(new Candidate(
+				hit.getContent().getId(),
+				hit.getContent().getCategoryName(),
+				hit.getContent().getLikedCount(),
+				hit.getContent().getViewCount()
+			)));
+		}
+		return candidates;
+	}
+
+	// 조회 API와 같은 function_score 쿼리 결과 (같은 점수의 순서는 Elasticsearch가 정하지 않으므로 id 내림차순으로 맞춤)
+	private static List<RankedProduct> searchFunctionScore(String category) {
+		List<SearchHit<ProductPostDocumentEntity>> hits = template.search(
+			dailyProductQueryBuilder.build(category, PageRequest.of(0, DATASET_SIZE)),
+			ProductPostDocumentEntity.class,
+			INDEX
+		).getSearchHits();
+
+		List<Float> scores = hits.stream().map(SearchHit::getScore).toList();
+		assertThat(scores).isSortedAccordingTo(Comparator.reverseOrder());
+
+		return hits.stream()
+			.map(hit -> new RankedProduct(hit.getId(), hit.getScore()))
+			.sorted(Comparator.comparing(RankedProduct::score, Comparator.reverseOrder())
+				.thenComparing(RankedProduct::id, Comparator.reverseOrder()))
+			.toList();
+	}
+
+	// 좋아요/조회수가 한쪽으로 몰린 분포, 값이 없는 상품과 같은 점수 상품 + 필터에서 제외되어야 하는 상품
+	private static List<IndexQuery> dataset(int size, long seed) {
+		Random random = new Random(seed);
+		LocalDateTime recent = LocalDateTime.now(ZoneOffset.UTC).minusHours(1);
+		List<IndexQuery> queries = new ArrayList<>(size + 3);
+		for (int i = 0; i < size; i++) {
+			Long liked = random.nextInt(20) == 0 ? null : (long)(Math.pow(random.nextDouble(), 3) * 300);
+			Long view = random.nextInt(20) == 0 ? null : (long)(Math.pow(random.nextDouble(), 2) * 5_000);
+			String category = random.nextInt(50) == 0 ? null : CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+			queries.add(indexQuery("post-" + i, category, liked, view, "SELLING", "N", recent));
+		}
+		queries.add(indexQuery("deleted", "Digital", 10_000L, 10_000L, "SELLING", "Y", recent));
+		queries.add(indexQuery("sold", "Digital", 10_000L, 10_000L, "SOLDOUT", "N", recent));
+		queries.add(indexQuery("old", "Digital", 10_000L, 10_000L, "SELLING", "N", recent.minusHours(100)));
+		return queries;
+	}
+
+	private static IndexQuery indexQuery(String id, String category, Long liked, Long view, String tradeStatus,
+		String deleteStatus, LocalDateTime createdAt) {
+		Document source = Document.create();
+		source.put("id", id);
+		source.put("category_name", category);
+		source.put("liked_count", liked);
+		source.put("view_count", view);
+		source.put("trade_status", tradeStatus);
+		source.put("delete_status", deleteStatus);
+		source.put("created_at", CREATED_AT.format(createdAt));
+		return new IndexQueryBuilder().withId(id).withSource(source.toJson()).build();
+	}
+}
@@ -0,0 +1,56 @@
+package com.domainservice.domain.search.service.search.ranking;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.Candidate;
+import com.domainservice.domain.search.service.search.ranking.DailyBestRanking.RankedProduct;
+
+class DailyBestRankingTest {
+
+	@Test
+	@DisplayName("점수는 factor를 먼저 곱한 뒤 modifier를 적용하고, log1p는 상용로그를 사용한다")
+	void scoreFollowsFieldValueFactor() {
+		assertThat(DailyBestRanking.score(20L, 33L)).isEqualTo((float)(10.0 + 2.0));
+		assertThat(DailyBestRanking.score(null, null)).isZero();
+		assertThat(DailyBestRanking.score(0L, 0L)).isZero();
+	}
+
+	@Test
+	@DisplayName("카테고리는 category_name.keyword와 같이 소문자로 묶고, 카테고리가 없는 상품은 전체 순위에만 포함한다")
+	void categoryKey() {
+		List<Candidate> candidates = List.of(
+			new Candidate("a", "Digital", 10L, 0L),
+			new Candidate("b", "DIGITAL", 5L, 0L),
+			new Candidate("c", null, 100L, 0L),
+			new Candidate("d", " ", 1L, 0L)
+		);
+
+		Map<String, List<RankedProduct>> rankings = DailyBestRanking.rank(candidates, 10);
+
+		assertThat(rankings).containsOnlyKeys("ALL", "digital");
+		assertThat(ids(rankings.get("digital"))).containsExactly("a", "b");
+		assertThat(ids(rankings.get("ALL"))).containsExactly("c", "a", "b", "d");
+	}
+
+	@Test
+	@DisplayName("같은 점수는 상품 id 내림차순으로 정렬한다 (Redis ZREVRANGE 순서)")
+	void tieBreakById() {
+		List<Candidate> candidates = List.of(
+			new Candidate("post-1", "book", 4L, 9L),
+			new Candidate("post-3", "book", 4L, 9L),
+			new Candidate("post-2", "book", 4L, 9L)
+		);
+
+		assertThat(ids(DailyBestRanking.rank(candidates, 2).get("book"))).containsExactly("post-3", "post-2");
+	}
+
+	private static List<String> ids(List<RankedProduct> ranked) {
+		return ranked.stream().map(RankedProduct::id).toList();
+	}
+}
@@ -0,0 +1,170 @@
+package com.domainservice.domain.search.service.search.similar;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import com.common.model.web.PageResponse;
+import com.domainservice.domain.search.model.entity.dto.document.ProductPostDocumentEntity;
+import com.domainservice.domain.search.model.entity.dto.response.ProductPostSearchResponse;
+import com.domainservice.domain.search.repository.ProductPostElasticRepository;
+import com.domainservice.domain.search.repository.redis.SimilarProductRedisRepository;
+import com.domainservice.domain.search.repository.redis.SimilarProductRedisRepository.SimilarProducts;
+import com.domainservice.domain.search.service.search.ProductListLoader;
+import com.domainservice.domain.search.service.search.query.SimilarProductQueryBuilder;
+
+/**
+ * 유사 상품 목록 미리 계산 테스트 (executor는 호출 스레드에서 바로 실행)
+ */
+@ExtendWith(MockitoExtension.class)
+class SimilarProductServiceTest {
+
+	private static final long HOUR = 3_600_000L;
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Mock
+	private SimilarProductQueryBuilder similarProductQueryBuilder;
+
+	@Mock
+	private ProductPostElasticRepository productPostElasticRepository;
+
+	@Mock
+	private SimilarProductRedisRepository similarProductRedisRepository;
+
+	@Mock
+	private ProductListLoader productListLoader;
+
+	private SimilarProductService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new SimilarProductService(elasticsearchOperations, similarProductQueryBuilder,
+			productPostElasticRepository, similarProductRedisRepository, productListLoader, Runnable::run,
+			true, 6, HOUR, 24 * HOUR, 60_000L, 2);
+	}
+
+	@Test
+	@DisplayName("계산된 목록이 있으면 More Like This 쿼리 없이 해당 페이지 id만 조회한다")
+	void servePageFromPrecomputedList() {
+		List<String> ids = List.of("p1", "p2", "p3", "p4", "p5", "p6");
+		given(similarProductRedisRepository.find("base"))
+			.willReturn(Optional.of(new SimilarProducts(ids, System.currentTimeMillis())));
+		Pageable pageable = PageRequest.of(1, 2);
+		PageResponse<List<ProductPostSearchResponse>> page = new PageResponse<>(1, 3, 2, true, List.of(), "6");
+		given(productListLoader.toPageResponse(List.of("p3", "p4"), 6, pageable)).willReturn(page);
+
+		assertThat(service.findPage("base", pageable)).containsSame(page);
+		then(elasticsearchOperations).shouldHaveNoInteractions();
+		then(productPostElasticRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("top-k 밖의 페이지는 목록만으로 응답하지 않는다")
+	void pageBeyondTopK() {
+		given(similarProductRedisRepository.find("base")).willReturn(Optional.of(
+			new SimilarProducts(List.of("p1", "p2", "p3", "p4", "p5", "p6"), System.currentTimeMillis())));
+
+		assertThat(service.findPage("base", PageRequest.of(1, 4))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("목록이 없으면 More Like This 쿼리 1번으로 top-k 목록을 계산해서 저장하고, 그 목록으로 응답한다")
+	@SuppressWarnings("unchecked")
+	void computeOnceOnMiss() {
+		ProductPostDocumentEntity base = ProductPostDocumentEntity.builder().id("base").build();
+		NativeQuery query = mock(NativeQuery.class);
+		SearchHits<ProductPostDocumentEntity> hits = mock(SearchHits.class);
+		given(hits.getSearchHits()).willReturn(List.of(hit("p1"), hit("p2"), hit("p3")));
+
+		given(similarProductRedisRepository.find("base")).willReturn(Optional.empty());
+		given(productPostElasticRepository.findById("base")).willReturn(Optional.of(base));
+		given(similarProductQueryBuilder.build(base, PageRequest.of(0, 6))).willReturn(query);
+		given(elasticsearchOperations.search(query, ProductPostDocumentEntity.class)).willReturn(hits);
+
+		Pageable pageable = PageRequest.of(0, 2);
+		PageResponse<List<ProductPostSearchResponse>> page = new PageResponse<>(0, 2, 2, true, List.of(), "3");
+		given(productListLoader.toPageResponse(List.of("p1", "p2"), 3, pageable)).willReturn(page);
+
+		assertThat(service.findPage("base", pageable)).containsSame(page);
+		then(elasticsearchOperations).should(times(1)).search(query, ProductPostDocumentEntity.class);
+		then(similarProductRedisRepository).should()
+			.save(eq("base"), argThat(saved -> saved.ids().equals(List.of("p1", "p2", "p3"))), eq(List.of()), any());
+	}
+
+	@Test
+	@DisplayName("목록이 없고 기준 상품도 없으면 empty를 반환한다")
+	void missWithoutBaseProduct() {
+		given(similarProductRedisRepository.find("base")).willReturn(Optional.empty());
+		given(productPostElasticRepository.findById("base")).willReturn(Optional.empty());
+
+		assertThat(service.findPage("base", PageRequest.of(0, 6))).isEmpty();
+		then(similarProductRedisRepository).should().delete("base");
+		then(elasticsearchOperations).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("최근에 계산되어 건너뛴 목록과 상한을 넘는 참조 목록은 삭제하지 않고 stale로 표시하며, 역참조는 유지한다")
+	void refreshReferrersWithinLimit() {
+		long now = System.currentTimeMillis();
+		given(similarProductRedisRepository.findReferrers("p1"))
+			.willReturn(new LinkedHashSet<>(List.of("a", "b", "c")));
+		given(similarProductRedisRepository.find("p1"))
+			.willReturn(Optional.of(new SimilarProducts(List.of(), now)));
+		given(similarProductRedisRepository.find("a"))
+			.willReturn(Optional.of(new SimilarProducts(List.of("p1"), now)));
+		given(similarProductRedisRepository.find("b"))
+			.willReturn(Optional.of(new SimilarProducts(List.of("p1"), now - HOUR)));
+		given(productPostElasticRepository.findById("b")).willReturn(Optional.empty());
+
+		service.onUpserted("p1");
+
+		then(productPostElasticRepository).should().findById("b");
+		then(productPostElasticRepository).shouldHaveNoMoreInteractions();
+		then(similarProductRedisRepository).should().markStale(List.of("p1"));
+		then(similarProductRedisRepository).should().markStale(List.of("a"));
+		then(similarProductRedisRepository).should().markStale(List.of("c"));
+		then(similarProductRedisRepository).should().delete("b");
+		then(similarProductRedisRepository).should(never()).delete("a");
+		then(similarProductRedisRepository).should(never()).delete("c");
+	}
+
+	@Test
+	@DisplayName("삭제된 상품은 역참조를 읽어 참조 목록을 갱신한 뒤에 목록과 역참조를 삭제한다")
+	void deleteAfterReadingReferrers() {
+		given(similarProductRedisRepository.findReferrers("p1")).willReturn(Set.of());
+
+		service.onDeleted("p1");
+
+		InOrder inOrder = inOrder(similarProductRedisRepository);
+		inOrder.verify(similarProductRedisRepository).findReferrers("p1");
+		inOrder.verify(similarProductRedisRepository).delete("p1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static SearchHit<ProductPostDocumentEntity> hit(String id) {
+		SearchHit<ProductPostDocumentEntity> hit = mock(SearchHit.class);
+		given(hit.getId()).willReturn(id);
+		return hit;
+	}
+}
@@ -0,0 +1,63 @@
+package com.domainservice.domain.search.service.spelling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SymSpellIndexTest {
+
+	private final SymSpellIndex index = SymSpellIndex.build(Map.of(
+		"아이폰", 100L,
+		"아이패드", 300L,
+		"갤럭시 탭", 80L,
+		"keyboard", 50L,
+		"Keyboard", 10L,
+		"monitor", 40L
+	), 2, 7);
+
+	@Test
+	@DisplayName("한글 오타는 QWERTY 입력값 기준 편집 거리로 교정한다")
+	void correctKoreanTypo() {
+		assertEquals("아이폰", first("아이펀"));		// ㅗ → ㅓ (h → j)
+		assertEquals("아이폰", first("dkdlvhs"));	// 영타 그대로 입력
+		assertEquals("아이패드", first("아이패든"));	// 받침 추가 (s)
+	}
+
+	@Test
+	@DisplayName("영문 오타는 삽입/삭제/교체/인접 문자 교환 모두 교정한다")
+	void correctEnglishTypo() {
+		assertEquals("keyboard", first("keybaord"));	// 교환
+		assertEquals("keyboard", first("keyborad"));	// 교환
+		assertEquals("monitor", first("monitr"));		// 삭제
+		assertEquals("monitor", first("monittor"));	// 삽입
+		assertEquals("monitor", first("monotor"));		// 교체
+	}
+
+	@Test
+	@DisplayName("거리가 같으면 인기도 순, 정확히 일치하면 거리 0으로 가장 앞에 온다")
+	void rankByDistanceAndPopularity() {
+		List<SymSpellIndex.Correction> corrections = index.lookup("keyboard", 5);
+
+		assertEquals(new SymSpellIndex.Correction("keyboard", 0, 50L), corrections.getFirst());
+		assertEquals(1, corrections.size());		// 대소문자만 다른 검색어는 인기도가 높은 쪽만 유지
+	}
+
+	@Test
+	@DisplayName("짧은 입력은 허용 거리를 줄이고, 거리를 넘으면 교정하지 않는다")
+	void noCorrectionBeyondDistance() {
+		assertTrue(index.lookup("ke", 5).isEmpty());
+		assertTrue(index.lookup("mouse", 5).isEmpty());
+		assertTrue(index.lookup("kxyxoaxd", 5).isEmpty());	// 편집 거리 3
+		assertTrue(SymSpellIndex.empty().lookup("아이폰", 5).isEmpty());
+	}
+
+	private String first(String input) {
+		List<SymSpellIndex.Correction> corrections = index.lookup(input, 1);
+		assertFalse(corrections.isEmpty(), input);
+		return corrections.getFirst().word();
+	}
+}
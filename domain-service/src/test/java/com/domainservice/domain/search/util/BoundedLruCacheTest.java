@@ -0,0 +1,43 @@
+package com.domainservice.domain.search.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedLruCacheTest {
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 항목만 제거한다")
+	void evictLeastRecentlyUsed() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(3);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+
+		// a 조회 → b가 가장 오래 쓰지 않은 항목
+		cache.get("a");
+		cache.put("d", 4);
+
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo(1);
+		assertThat(cache.get("c")).isEqualTo(3);
+		assertThat(cache.get("d")).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("compute로 추가해도 최대 크기를 유지하고, 갱신한 항목은 최근 사용으로 취급한다")
+	void computeKeepsBound() {
+		BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2);
+		cache.compute("a", (key, existing) -> 1);
+		cache.compute("b", (key, existing) -> 2);
+		cache.computeIfPresent("a", (key, existing) -> existing + 10);
+		cache.compute("c", (key, existing) -> 3);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo(11);
+		assertThat(cache.computeIfPresent("b", (key, existing) -> 0)).isNull();
+	}
+}